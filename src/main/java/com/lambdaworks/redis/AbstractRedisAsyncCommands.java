@@ -1760,6 +1760,32 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashesAsy
         return dispatch(new AsyncCommand<>(new Command<>(type, output, args)));
     }
 
+    // command factories for subclasses dispatching commands as batch, RedisCommandBuilder is internal to this package
+
+    protected Command<K, V, Long> delCommand(Iterable<K> keys) {
+        return commandBuilder.del(keys);
+    }
+
+    protected Command<K, V, Long> unlinkCommand(Iterable<K> keys) {
+        return commandBuilder.unlink(keys);
+    }
+
+    protected Command<K, V, List<V>> mgetCommand(Iterable<K> keys) {
+        return commandBuilder.mget(keys);
+    }
+
+    protected Command<K, V, Long> mgetCommand(ValueStreamingChannel<V> channel, Iterable<K> keys) {
+        return commandBuilder.mget(channel, keys);
+    }
+
+    protected Command<K, V, String> msetCommand(Map<K, V> map) {
+        return commandBuilder.mset(map);
+    }
+
+    protected Command<K, V, Boolean> msetnxCommand(Map<K, V> map) {
+        return commandBuilder.msetnx(map);
+    }
+
     public <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> cmd) {
         AsyncCommand<K, V, T> asyncCommand = new AsyncCommand<>(cmd);
         RedisCommand<K, V, T> dispatched = connection.dispatch(asyncCommand);
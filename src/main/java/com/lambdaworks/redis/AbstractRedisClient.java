@@ -7,13 +7,19 @@ import java.net.SocketAddress;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import com.google.common.base.Supplier;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.JdkFutureAdapters;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.lambdaworks.redis.protocol.CommandHandler;
 import com.lambdaworks.redis.pubsub.PubSubCommandHandler;
 
@@ -28,6 +34,7 @@ import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.Future;
@@ -210,45 +217,200 @@ public abstract class AbstractRedisClient {
         EpollProvider.checkForEpollLibrary();
     }
 
-    @SuppressWarnings("unchecked")
     protected <K, V, T extends RedisChannelHandler<K, V>> T initializeChannel(ConnectionBuilder connectionBuilder) {
+        return getConnection(this.<K, V, T> initializeChannelAsync(connectionBuilder));
+    }
 
-        RedisChannelHandler<?, ?> connection = connectionBuilder.connection();
-        SocketAddress redisAddress = connectionBuilder.socketAddress();
+    /**
+     * Connect and initialize the channel without blocking the caller. The socket address is obtained from the
+     * {@link ConnectionBuilder#socketAddress() socket address supplier}.
+     *
+     * @param connectionBuilder the connection builder
+     * @param <K> Key type
+     * @param <V> Value type
+     * @param <T> Connection type
+     * @return future that completes with the connection once the channel is initialized.
+     * @since 4.2
+     */
+    protected <K, V, T extends RedisChannelHandler<K, V>> CompletableFuture<T> initializeChannelAsync(
+            ConnectionBuilder connectionBuilder) {
+
+        SocketAddress redisAddress;
         try {
+            redisAddress = connectionBuilder.socketAddress();
+        } catch (RuntimeException e) {
+            return failed(e);
+        }
 
-            logger.debug("Connecting to Redis at {}", redisAddress);
+        return initializeChannelAsync(connectionBuilder, redisAddress);
+    }
 
+    /**
+     * Connect to {@code redisAddress} and initialize the channel without blocking the caller. The connection is completed
+     * from the connect and channel initialization callbacks and fails with a {@link RedisConnectionException} if the channel
+     * cannot be initialized within the connection timeout.
+     *
+     * @param connectionBuilder the connection builder
+     * @param redisAddress the address to connect to
+     * @param <K> Key type
+     * @param <V> Value type
+     * @param <T> Connection type
+     * @return future that completes with the connection once the channel is initialized.
+     * @since 4.2
+     */
+    @SuppressWarnings("unchecked")
+    protected <K, V, T extends RedisChannelHandler<K, V>> CompletableFuture<T> initializeChannelAsync(
+            ConnectionBuilder connectionBuilder, SocketAddress redisAddress) {
+
+        RedisChannelHandler<?, ?> connection = connectionBuilder.connection();
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        logger.debug("Connecting to Redis at {}", redisAddress);
+
+        RedisChannelInitializer initializer;
+        ChannelFuture connectFuture;
+        try {
             Bootstrap redisBootstrap = connectionBuilder.bootstrap();
-            RedisChannelInitializer initializer = connectionBuilder.build();
+            initializer = connectionBuilder.build();
             redisBootstrap.handler(initializer);
-            ChannelFuture connectFuture = redisBootstrap.connect(redisAddress);
+            connectFuture = redisBootstrap.connect(redisAddress);
+        } catch (RuntimeException e) {
+            connectionBuilder.commandHandler().initialState();
+            return failed(e instanceof RedisException ? e : new RedisConnectionException("Unable to connect to "
+                    + redisAddress, e));
+        }
+
+        result.whenComplete((c, throwable) -> {
+            if (throwable != null) {
+                connectionBuilder.commandHandler().initialState();
+            }
+        });
 
-            connectFuture.await();
+        connectFuture.addListener(future -> {
 
-            if (!connectFuture.isSuccess()) {
-                if (connectFuture.cause() instanceof Exception) {
-                    throw (Exception) connectFuture.cause();
+            if (!future.isSuccess()) {
+                result.completeExceptionally(new RedisConnectionException("Unable to connect to " + redisAddress, future
+                        .cause()));
+                return;
+            }
+
+            ListenableFuture<Boolean> initializedFuture = JdkFutureAdapters.listenInPoolThread(
+                    initializer.channelInitialized(), genericWorkerPool);
+            Timeout timeout = timer.newTimeout(t -> {
+                if (!initializedFuture.isDone()) {
+                    result.completeExceptionally(new RedisConnectionException("Could not initialize channel within "
+                            + connectionBuilder.getTimeout() + " " + connectionBuilder.getTimeUnit()));
+                    connectFuture.channel().close();
                 }
-                connectFuture.get();
+            }, connectionBuilder.getTimeout(), connectionBuilder.getTimeUnit());
+
+            initializedFuture.addListener(() -> {
+
+                timeout.cancel();
+
+                try {
+                    initializedFuture.get();
+                    connection.registerCloseables(closeableResources, connection, connectionBuilder.commandHandler());
+                    if (!result.complete((T) connection)) {
+                        genericWorkerPool.submit(connection::close);
+                    }
+                } catch (ExecutionException e) {
+                    result.completeExceptionally(new RedisConnectionException("Unable to connect to " + redisAddress, e
+                            .getCause()));
+                } catch (Exception e) {
+                    result.completeExceptionally(new RedisConnectionException("Unable to connect to " + redisAddress, e));
+                }
+            }, MoreExecutors.directExecutor());
+        });
+
+        return result;
+    }
+
+    /**
+     * Await the completion of a connection future. Unwraps {@link RedisException}s that failed the future.
+     *
+     * @param connectionFuture the connection future
+     * @param <T> Connection type
+     * @return the connection.
+     * @since 4.2
+     */
+    protected static <T> T getConnection(CompletableFuture<T> connectionFuture) {
+
+        try {
+            return connectionFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        } catch (ExecutionException e) {
+
+            if (e.getCause() instanceof RedisException) {
+                throw (RedisException) e.getCause();
             }
 
-            try {
-                initializer.channelInitialized().get(connectionBuilder.getTimeout(), connectionBuilder.getTimeUnit());
-            } catch (TimeoutException e) {
-                throw new RedisConnectionException("Could not initialize channel within " + connectionBuilder.getTimeout()
-                        + " " + connectionBuilder.getTimeUnit(), e);
+            throw new RedisConnectionException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Apply a timeout to {@code future}. The returned future fails with a {@link RedisCommandTimeoutException} if
+     * {@code future} does not complete within the {@code timeout}.
+     *
+     * @param future the future
+     * @param timeout the timeout value
+     * @param unit the timeout unit
+     * @param <T> Result type
+     * @return future that completes with the outcome of {@code future} or fails on timeout.
+     * @since 4.2
+     */
+    protected <T> CompletableFuture<T> withTimeout(CompletionStage<T> future, long timeout, TimeUnit unit) {
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Timeout timer = this.timer.newTimeout(t -> result.completeExceptionally(new RedisCommandTimeoutException()),
+                timeout, unit);
+
+        future.whenComplete((value, throwable) -> {
+
+            timer.cancel();
+
+            if (throwable != null) {
+                result.completeExceptionally(unwrap(throwable));
+            } else {
+                result.complete(value);
             }
-            connection.registerCloseables(closeableResources, connection, connectionBuilder.commandHandler());
+        });
 
-            return (T) connection;
-        } catch (RedisException e) {
-            connectionBuilder.commandHandler().initialState();
-            throw e;
-        } catch (Exception e) {
-            connectionBuilder.commandHandler().initialState();
-            throw new RedisConnectionException("Unable to connect to " + redisAddress, e);
+        return result;
+    }
+
+    /**
+     * Create a {@link CompletableFuture} that is completed exceptionally with {@code throwable}.
+     *
+     * @param throwable the cause
+     * @param <T> Result type
+     * @return the failed future.
+     * @since 4.2
+     */
+    protected static <T> CompletableFuture<T> failed(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Unwrap the cause of a {@link CompletableFuture} completion.
+     *
+     * @param throwable the throwable passed to a completion callback
+     * @return the cause.
+     * @since 4.2
+     */
+    protected static Throwable unwrap(Throwable throwable) {
+
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+
+        return cause;
     }
 
     /**
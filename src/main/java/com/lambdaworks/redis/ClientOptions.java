@@ -1,5 +1,7 @@
 package com.lambdaworks.redis;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.io.Serializable;
 
 /**
@@ -15,6 +17,12 @@ public class ClientOptions implements Serializable {
     public static final boolean DEFAULT_SUSPEND_RECONNECT_PROTO_FAIL = false;
     public static final int DEFAULT_REQUEST_QUEUE_SIZE = Integer.MAX_VALUE;
     public static final DisconnectedBehavior DEFAULT_DISCONNECTED_BEHAVIOR = DisconnectedBehavior.DEFAULT;
+    public static final boolean DEFAULT_ZERO_COPY_DECODING = false;
+    public static final boolean DEFAULT_FLUSH_CONSOLIDATION = false;
+    public static final int DEFAULT_FLUSH_CONSOLIDATION_MAX_COMMANDS = 256;
+    public static final int DEFAULT_FLUSH_CONSOLIDATION_MAX_BYTES = 64 * 1024;
+    public static final ReadBalancing DEFAULT_READ_BALANCING = ReadBalancing.FIRST;
+    public static final TimeoutOptions DEFAULT_TIMEOUT_OPTIONS = TimeoutOptions.create();
 
     private final boolean pingBeforeActivateConnection;
     private final boolean autoReconnect;
@@ -22,6 +30,12 @@ public class ClientOptions implements Serializable {
     private final boolean suspendReconnectOnProtocolFailure;
     private final int requestQueueSize;
     private final DisconnectedBehavior disconnectedBehavior;
+    private final boolean zeroCopyDecoding;
+    private final boolean flushConsolidation;
+    private final int flushConsolidationMaxCommands;
+    private final int flushConsolidationMaxBytes;
+    private final ReadBalancing readBalancing;
+    private final TimeoutOptions timeoutOptions;
 
     /**
      * Create a copy of {@literal options}
@@ -40,6 +54,12 @@ public class ClientOptions implements Serializable {
         suspendReconnectOnProtocolFailure = builder.suspendReconnectOnProtocolFailure;
         requestQueueSize = builder.requestQueueSize;
         disconnectedBehavior = builder.disconnectedBehavior;
+        zeroCopyDecoding = builder.zeroCopyDecoding;
+        flushConsolidation = builder.flushConsolidation;
+        flushConsolidationMaxCommands = builder.flushConsolidationMaxCommands;
+        flushConsolidationMaxBytes = builder.flushConsolidationMaxBytes;
+        readBalancing = builder.readBalancing;
+        timeoutOptions = builder.timeoutOptions;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -49,6 +69,12 @@ public class ClientOptions implements Serializable {
         this.suspendReconnectOnProtocolFailure = original.suspendReconnectOnProtocolFailure;
         this.requestQueueSize = original.requestQueueSize;
         this.disconnectedBehavior = original.disconnectedBehavior;
+        this.zeroCopyDecoding = original.zeroCopyDecoding;
+        this.flushConsolidation = original.flushConsolidation;
+        this.flushConsolidationMaxCommands = original.flushConsolidationMaxCommands;
+        this.flushConsolidationMaxBytes = original.flushConsolidationMaxBytes;
+        this.readBalancing = original.readBalancing;
+        this.timeoutOptions = original.timeoutOptions;
     }
 
     /**
@@ -71,6 +97,12 @@ public class ClientOptions implements Serializable {
         private boolean suspendReconnectOnProtocolFailure = DEFAULT_SUSPEND_RECONNECT_PROTO_FAIL;
         private int requestQueueSize = DEFAULT_REQUEST_QUEUE_SIZE;
         private DisconnectedBehavior disconnectedBehavior = DEFAULT_DISCONNECTED_BEHAVIOR;
+        private boolean zeroCopyDecoding = DEFAULT_ZERO_COPY_DECODING;
+        private boolean flushConsolidation = DEFAULT_FLUSH_CONSOLIDATION;
+        private int flushConsolidationMaxCommands = DEFAULT_FLUSH_CONSOLIDATION_MAX_COMMANDS;
+        private int flushConsolidationMaxBytes = DEFAULT_FLUSH_CONSOLIDATION_MAX_BYTES;
+        private ReadBalancing readBalancing = DEFAULT_READ_BALANCING;
+        private TimeoutOptions timeoutOptions = DEFAULT_TIMEOUT_OPTIONS;
 
         /**
          * Sets the {@literal PING} before activate connection flag. Defaults to {@literal false}. See
@@ -147,6 +179,84 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Enables zero-copy decoding of bulk replies. Bulk strings are passed as slices of the connection read buffer to
+         * {@link com.lambdaworks.redis.output.CommandOutput#setSlice(io.netty.buffer.ByteBuf)} instead of being copied into an
+         * intermediate buffer first. Defaults to {@literal false}. See {@link #DEFAULT_ZERO_COPY_DECODING}.
+         *
+         * @param zeroCopyDecoding true/false
+         * @return {@code this}
+         */
+        public Builder zeroCopyDecoding(boolean zeroCopyDecoding) {
+            this.zeroCopyDecoding = zeroCopyDecoding;
+            return this;
+        }
+
+        /**
+         * Enables flush consolidation. Commands are written to the transport immediately but flushed once per event loop turn,
+         * so commands issued concurrently by multiple threads or from within callbacks share a single flush (and system call).
+         * A flush is forced earlier once the number of unflushed commands or their estimated size reaches the limits set by
+         * {@link #flushConsolidationLimits(int, int)}. Defaults to {@literal false}. See {@link #DEFAULT_FLUSH_CONSOLIDATION}.
+         *
+         * @param flushConsolidation true/false
+         * @return {@code this}
+         */
+        public Builder flushConsolidation(boolean flushConsolidation) {
+            this.flushConsolidation = flushConsolidation;
+            return this;
+        }
+
+        /**
+         * Sets the limits that force a flush when {@link #flushConsolidation(boolean) flush consolidation} is enabled. Defaults
+         * to {@link #DEFAULT_FLUSH_CONSOLIDATION_MAX_COMMANDS} commands and {@link #DEFAULT_FLUSH_CONSOLIDATION_MAX_BYTES}
+         * bytes.
+         *
+         * @param maxCommands maximal number of unflushed commands, must be greater than zero.
+         * @param maxBytes maximal estimated size of unflushed commands in bytes, must be greater than zero.
+         * @return {@code this}
+         */
+        public Builder flushConsolidationLimits(int maxCommands, int maxBytes) {
+
+            checkArgument(maxCommands > 0, "maxCommands must be greater than zero");
+            checkArgument(maxBytes > 0, "maxBytes must be greater than zero");
+
+            this.flushConsolidationMaxCommands = maxCommands;
+            this.flushConsolidationMaxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ReadBalancing} strategy to distribute read operations across the candidates selected by
+         * {@link ReadFrom}. Applies to Master/Slave and Redis Cluster connections. Defaults to {@link ReadBalancing#FIRST}.
+         * See {@link #DEFAULT_READ_BALANCING}.
+         *
+         * @param readBalancing the read balancing strategy, must not be {@literal null}
+         * @return {@code this}
+         */
+        public Builder readBalancing(ReadBalancing readBalancing) {
+
+            checkArgument(readBalancing != null, "readBalancing must not be null");
+
+            this.readBalancing = readBalancing;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TimeoutOptions} to time out commands of the asynchronous and reactive API. Command timeouts are
+         * disabled by default. See {@link #DEFAULT_TIMEOUT_OPTIONS}.
+         *
+         * @param timeoutOptions the timeout options, must not be {@literal null}
+         * @return {@code this}
+         * @since 4.2
+         */
+        public Builder timeoutOptions(TimeoutOptions timeoutOptions) {
+
+            checkArgument(timeoutOptions != null, "timeoutOptions must not be null");
+
+            this.timeoutOptions = timeoutOptions;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          * 
@@ -222,6 +332,68 @@ public class ClientOptions implements Serializable {
         return disconnectedBehavior;
     }
 
+    /**
+     * Zero-copy decoding of bulk replies. If {@literal true} (default is {@literal false}), bulk strings are handed to the
+     * command output as slices of the connection read buffer. Codecs implementing
+     * {@link com.lambdaworks.redis.codec.ByteBufDecoder} decode directly from the slice, all other codecs receive a
+     * {@link java.nio.ByteBuffer} view of the slice. See {@link #DEFAULT_ZERO_COPY_DECODING}.
+     *
+     * @return {@literal true} if zero-copy decoding is enabled.
+     */
+    public boolean isZeroCopyDecoding() {
+        return zeroCopyDecoding;
+    }
+
+    /**
+     * Flush consolidation. If {@literal true} (default is {@literal false}), commands are written immediately but flushed once
+     * per event loop turn or when the {@link #getFlushConsolidationMaxCommands() command} or
+     * {@link #getFlushConsolidationMaxBytes() size} limit is reached. See {@link #DEFAULT_FLUSH_CONSOLIDATION}.
+     *
+     * @return {@literal true} if flush consolidation is enabled.
+     */
+    public boolean isFlushConsolidation() {
+        return flushConsolidation;
+    }
+
+    /**
+     * Number of unflushed commands that forces a flush if {@link #isFlushConsolidation() flush consolidation} is enabled. See
+     * {@link #DEFAULT_FLUSH_CONSOLIDATION_MAX_COMMANDS}.
+     *
+     * @return the maximal number of unflushed commands.
+     */
+    public int getFlushConsolidationMaxCommands() {
+        return flushConsolidationMaxCommands;
+    }
+
+    /**
+     * Estimated size in bytes of unflushed commands that forces a flush if {@link #isFlushConsolidation() flush consolidation}
+     * is enabled. See {@link #DEFAULT_FLUSH_CONSOLIDATION_MAX_BYTES}.
+     *
+     * @return the maximal estimated size of unflushed commands in bytes.
+     */
+    public int getFlushConsolidationMaxBytes() {
+        return flushConsolidationMaxBytes;
+    }
+
+    /**
+     * Strategy to distribute read operations across the candidates selected by {@link ReadFrom}.
+     *
+     * @return the {@link ReadBalancing} strategy.
+     */
+    public ReadBalancing getReadBalancing() {
+        return readBalancing;
+    }
+
+    /**
+     * Options to time out commands of the asynchronous and reactive API. Command timeouts are disabled by default.
+     *
+     * @return the {@link TimeoutOptions}.
+     * @since 4.2
+     */
+    public TimeoutOptions getTimeoutOptions() {
+        return timeoutOptions;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
@@ -11,6 +11,7 @@ import com.google.common.collect.Lists;
 import com.lambdaworks.redis.protocol.CommandEncoder;
 import com.lambdaworks.redis.protocol.CommandHandler;
 import com.lambdaworks.redis.protocol.ConnectionWatchdog;
+import com.lambdaworks.redis.protocol.ReconnectionListener;
 import com.lambdaworks.redis.resource.ClientResources;
 
 import io.netty.bootstrap.Bootstrap;
@@ -39,6 +40,7 @@ public class ConnectionBuilder {
     private TimeUnit timeUnit;
     private ClientResources clientResources;
     private char[] password;
+    private ReconnectionListener reconnectionListener = ReconnectionListener.NO_OP;
 
     public static ConnectionBuilder connectionBuilder() {
         return new ConnectionBuilder();
@@ -118,6 +120,11 @@ public class ConnectionBuilder {
         return this;
     }
 
+    public ConnectionBuilder reconnectionListener(ReconnectionListener reconnectionListener) {
+        this.reconnectionListener = reconnectionListener;
+        return this;
+    }
+
     protected List<ChannelHandler> buildHandlers() {
         checkState(channelGroup != null, "channelGroup must be set");
         checkState(connectionEvents != null, "connectionEvents must be set");
@@ -131,16 +138,17 @@ public class ConnectionBuilder {
             checkState(socketAddressSupplier != null, "socketAddressSupplier must be set for autoReconnect=true");
 
             ConnectionWatchdog watchdog = new ConnectionWatchdog(clientOptions, bootstrap, timer, workerPool,
-                    socketAddressSupplier);
+                    socketAddressSupplier, reconnectionListener);
 
             watchdog.setListenOnChannelInactive(true);
             handlers.add(watchdog);
         }
 
+        connection.setClientResources(clientResources);
         connection.setOptions(clientOptions);
 
         handlers.add(new ChannelGroupListener(channelGroup));
-        handlers.add(new CommandEncoder());
+        handlers.add(new CommandEncoder(commandHandler.getMetricsRecorder()));
         handlers.add(commandHandler);
         handlers.add(connection);
         handlers.add(new ConnectionEventTrigger(connectionEvents, connection, clientResources.eventBus()));
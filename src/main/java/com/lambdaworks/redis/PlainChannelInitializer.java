@@ -4,8 +4,8 @@ import static com.lambdaworks.redis.ConnectionEventTrigger.local;
 import static com.lambdaworks.redis.ConnectionEventTrigger.remote;
 
 import java.util.List;
-import java.util.concurrent.Future;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.event.EventBus;
@@ -49,7 +49,7 @@ class PlainChannelInitializer extends io.netty.channel.ChannelInitializer<Channe
                 private AsyncCommand<?, ?, ?> pingCommand;
 
                 @Override
-                public Future<Boolean> channelInitialized() {
+                public ListenableFuture<Boolean> channelInitialized() {
                     return initializedFuture;
                 }
 
@@ -132,7 +132,7 @@ class PlainChannelInitializer extends io.netty.channel.ChannelInitializer<Channe
     }
 
     @Override
-    public Future<Boolean> channelInitialized() {
+    public ListenableFuture<Boolean> channelInitialized() {
         return initializedFuture;
     }
 
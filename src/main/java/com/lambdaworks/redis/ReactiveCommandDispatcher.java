@@ -4,19 +4,26 @@ import static com.google.common.base.Preconditions.*;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import rx.Observable;
+import rx.Producer;
 import rx.Subscriber;
+import rx.internal.operators.BackpressureUtils;
+import rx.subscriptions.Subscriptions;
 
 import com.lambdaworks.redis.api.StatefulConnection;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.output.StreamingOutput;
 import com.lambdaworks.redis.protocol.CommandWrapper;
+import com.lambdaworks.redis.protocol.DemandAware;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
 /**
- * Reactive command dispatcher.
+ * Reactive command dispatcher. Commands with a {@link StreamingOutput} emit elements while the response is decoded. Streamed
+ * elements honor the demand of the {@link Subscriber}: decoding pauses and the connection stops reading once all requested
+ * elements are emitted and resumes as soon as the subscriber requests more elements.
  *
  * @author Mark Paluch
  */
@@ -72,7 +79,10 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
                 streamingOutput.setSubscriber(new DelegatingWrapper<T>(
                         Arrays.asList(new ObservableSubscriberWrapper<>(subscriber), streamingOutput.getSubscriber())));
             } else {
-                streamingOutput.setSubscriber(new ObservableSubscriberWrapper<>(subscriber));
+                ObservableSubscriberWrapper<T> wrapper = new ObservableSubscriberWrapper<>(subscriber);
+                subscriber.add(Subscriptions.create(wrapper::requestMore));
+                subscriber.setProducer(wrapper);
+                streamingOutput.setSubscriber(wrapper);
             }
         }
 
@@ -153,9 +163,15 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
         }
     }
 
-    static class ObservableSubscriberWrapper<T> implements StreamingOutput.Subscriber<T> {
+    /**
+     * Demand-aware {@link StreamingOutput.Subscriber} that emits decoded elements to a {@link Subscriber}. Elements are only
+     * decoded while the subscriber has outstanding demand, so the wrapper does not buffer elements.
+     */
+    static class ObservableSubscriberWrapper<T> implements StreamingOutput.Subscriber<T>, DemandAware.Sink, Producer {
 
-        private Subscriber<? super T> subscriber;
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile DemandAware.Source source;
 
         public ObservableSubscriberWrapper(Subscriber<? super T> subscriber) {
             this.subscriber = subscriber;
@@ -163,8 +179,43 @@ public class ReactiveCommandDispatcher<K, V, T> implements Observable.OnSubscrib
 
         @Override
         public void onNext(T t) {
+
+            if (subscriber.isUnsubscribed()) {
+                return;
+            }
+
+            if (requested.get() != Long.MAX_VALUE) {
+                requested.decrementAndGet();
+            }
+
             subscriber.onNext(t);
         }
+
+        @Override
+        public void request(long n) {
+
+            if (n > 0 && BackpressureUtils.getAndAddRequest(requested, n) == 0) {
+                requestMore();
+            }
+        }
+
+        @Override
+        public boolean hasDemand() {
+            return requested.get() > 0 || subscriber.isUnsubscribed();
+        }
+
+        @Override
+        public void setSource(DemandAware.Source source) {
+            this.source = source;
+        }
+
+        void requestMore() {
+
+            DemandAware.Source source = this.source;
+            if (source != null) {
+                source.requestMore();
+            }
+        }
     }
 
     static class DelegatingWrapper<T> implements StreamingOutput.Subscriber<T> {
@@ -0,0 +1,132 @@
+package com.lambdaworks.redis;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Strategy to distribute read operations across the read candidates selected by {@link ReadFrom}. {@link ReadFrom} determines
+ * the eligible nodes, {@link ReadBalancing} picks the node for an individual read operation. Nodes whose connection is not
+ * available are skipped. Balancing applies to {@link ReadFrom#isDynamic() static} {@link ReadFrom} settings, dynamic settings
+ * determine the node for each read operation themselves.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public enum ReadBalancing {
+
+    /**
+     * Read from the first available candidate in the order determined by {@link ReadFrom}.
+     */
+    FIRST {
+        @Override
+        int start(int size, AtomicIntegerArray sequences, int sequence) {
+            return 0;
+        }
+    },
+
+    /**
+     * Read from the candidates in turn. The turn is tracked per sequence (per slot for Redis Cluster).
+     */
+    ROUND_ROBIN {
+        @Override
+        int start(int size, AtomicIntegerArray sequences, int sequence) {
+            return Math.floorMod(sequences.getAndIncrement(sequence), size);
+        }
+    },
+
+    /**
+     * Read from a random candidate.
+     */
+    RANDOM {
+        @Override
+        int start(int size, AtomicIntegerArray sequences, int sequence) {
+            return ThreadLocalRandom.current().nextInt(size);
+        }
+    },
+
+    /**
+     * Pick two random candidates and read from the one with fewer outstanding commands. Spreads load evenly and shifts reads
+     * away from overloaded nodes without tracking a global order.
+     */
+    POWER_OF_TWO_CHOICES {
+        @Override
+        int start(int size, AtomicIntegerArray sequences, int sequence) {
+            return ThreadLocalRandom.current().nextInt(size);
+        }
+
+        @Override
+        public <T> T select(T[] candidates, Predicate<? super T> available, ToIntFunction<? super T> load,
+                AtomicIntegerArray sequences, int sequence) {
+
+            if (candidates.length < 2) {
+                return super.select(candidates, available, load, sequences, sequence);
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(candidates.length);
+            int second = random.nextInt(candidates.length - 1);
+            if (second >= first) {
+                second++;
+            }
+
+            boolean firstAvailable = available.test(candidates[first]);
+            boolean secondAvailable = available.test(candidates[second]);
+
+            if (firstAvailable && secondAvailable) {
+                return load.applyAsInt(candidates[second]) < load.applyAsInt(candidates[first]) ? candidates[second]
+                        : candidates[first];
+            }
+
+            if (firstAvailable) {
+                return candidates[first];
+            }
+
+            if (secondAvailable) {
+                return candidates[second];
+            }
+
+            return firstAvailable(candidates, available, first);
+        }
+    };
+
+    /**
+     * Determine the candidate index to start the lookup for an available candidate.
+     *
+     * @param size number of candidates, greater than zero
+     * @param sequences per-sequence counters
+     * @param sequence the sequence index
+     * @return the start index.
+     */
+    abstract int start(int size, AtomicIntegerArray sequences, int sequence);
+
+    /**
+     * Select a candidate for a read operation. Falls back to the initially chosen candidate if no candidate is available.
+     *
+     * @param candidates the read candidates, must not be empty
+     * @param available predicate to determine whether a candidate is available
+     * @param load function to determine the number of outstanding commands of a candidate
+     * @param sequences per-sequence counters used by {@link #ROUND_ROBIN}
+     * @param sequence the sequence index within {@code sequences}
+     * @param <T> candidate type
+     * @return the selected candidate.
+     */
+    public <T> T select(T[] candidates, Predicate<? super T> available, ToIntFunction<? super T> load,
+            AtomicIntegerArray sequences, int sequence) {
+        return firstAvailable(candidates, available, start(candidates.length, sequences, sequence));
+    }
+
+    private static <T> T firstAvailable(T[] candidates, Predicate<? super T> available, int start) {
+
+        for (int i = 0; i < candidates.length; i++) {
+
+            T candidate = candidates[(start + i) % candidates.length];
+            if (available.test(candidate)) {
+                return candidate;
+            }
+        }
+
+        return candidates[start];
+    }
+}
@@ -32,6 +32,15 @@ public abstract class ReadFrom {
      */
     public final static ReadFrom NEAREST = new ReadFromImpl.ReadFromNearest();
 
+    /**
+     * Setting to read from the node with the lowest load. Nodes are ranked by their live command latency (exponentially
+     * weighted moving average) and the number of outstanding commands. Nodes without statistics are tried first to obtain
+     * statistics. The selection is evaluated for each read operation so reads shift away from a slow node within seconds.
+     *
+     * @since 4.2
+     */
+    public final static ReadFrom LOWEST_LATENCY = new ReadFromImpl.ReadFromLowestLatency();
+
     /**
      * Chooses the nodes from the matching Redis nodes that match this read selector.
      * 
@@ -40,6 +49,17 @@ public abstract class ReadFrom {
      */
     public abstract List<RedisNodeDescription> select(Nodes nodes);
 
+    /**
+     * Returns whether the selection depends on {@link NodeStatistics live node statistics}. Static settings are evaluated once
+     * per topology and the selection is cached, dynamic settings are evaluated for each read operation.
+     *
+     * @return {@literal true} if the selection must be evaluated for each read operation.
+     * @since 4.2
+     */
+    public boolean isDynamic() {
+        return false;
+    }
+
     /**
      * Retrieve the {@link ReadFrom} preset by name.
      * 
@@ -68,6 +88,10 @@ public abstract class ReadFrom {
             return NEAREST;
         }
 
+        if (name.equalsIgnoreCase("lowestLatency")) {
+            return LOWEST_LATENCY;
+        }
+
         throw new IllegalArgumentException("ReadFrom " + name + " not supported");
     }
 
@@ -83,6 +107,42 @@ public abstract class ReadFrom {
          * 
          */
         List<RedisNodeDescription> getNodes();
+
+        /**
+         * Returns the live statistics of the connection to {@code node}.
+         *
+         * @param node the node
+         * @return the statistics or {@literal null} if no statistics are available.
+         * @since 4.2
+         */
+        default NodeStatistics getStatistics(RedisNodeDescription node) {
+            return null;
+        }
+    }
+
+    /**
+     * Live statistics of the connection to a node.
+     *
+     * @since 4.2
+     */
+    public interface NodeStatistics {
+
+        /**
+         * Returns the exponentially weighted moving average of the command latency. Recent latency peaks are reflected
+         * immediately, the average decays towards lower latencies within seconds.
+         *
+         * @return the average latency in {@link java.util.concurrent.TimeUnit#NANOSECONDS} or {@literal -1} if no recent
+         *         latency is available.
+         */
+        long getAverageLatency();
+
+        /**
+         * Returns the number of commands that were issued and did not complete yet. Implementations may cap the number to
+         * bound the cost of counting.
+         *
+         * @return number of outstanding commands.
+         */
+        int getQueueSize();
     }
 
 }
@@ -1,5 +1,6 @@
 package com.lambdaworks.redis;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -78,4 +79,72 @@ class ReadFromImpl {
             return nodes.getNodes();
         }
     }
+
+    /**
+     * Read from the node with the lowest load. Nodes are ranked by {@code latency * (queueSize + 1)}. Nodes without a recent
+     * latency are assumed to be as fast as the fastest known node so they are probed again, nodes without statistics rank
+     * first.
+     */
+    static final class ReadFromLowestLatency extends ReadFrom {
+
+        @Override
+        public List<RedisNodeDescription> select(Nodes nodes) {
+
+            List<RedisNodeDescription> candidates = nodes.getNodes();
+            int size = candidates.size();
+
+            if (size < 2) {
+                return candidates;
+            }
+
+            RedisNodeDescription[] selection = candidates.toArray(new RedisNodeDescription[size]);
+            NodeStatistics[] statistics = new NodeStatistics[size];
+            double[] scores = new double[size];
+            long minLatency = Long.MAX_VALUE;
+
+            for (int i = 0; i < size; i++) {
+                statistics[i] = nodes.getStatistics(selection[i]);
+                if (statistics[i] != null && statistics[i].getAverageLatency() >= 0) {
+                    minLatency = Math.min(minLatency, statistics[i].getAverageLatency());
+                }
+            }
+
+            for (int i = 0; i < size; i++) {
+                scores[i] = score(statistics[i], minLatency == Long.MAX_VALUE ? 0 : minLatency);
+            }
+
+            // insertion sort, the number of candidates is small and the sort is stable
+            for (int i = 1; i < size; i++) {
+
+                RedisNodeDescription node = selection[i];
+                double score = scores[i];
+                int j = i - 1;
+
+                for (; j >= 0 && scores[j] > score; j--) {
+                    selection[j + 1] = selection[j];
+                    scores[j + 1] = scores[j];
+                }
+
+                selection[j + 1] = node;
+                scores[j + 1] = score;
+            }
+
+            return Arrays.asList(selection);
+        }
+
+        private static double score(NodeStatistics statistics, long defaultLatency) {
+
+            if (statistics == null) {
+                return 0;
+            }
+
+            long latency = statistics.getAverageLatency();
+            return ((latency >= 0 ? latency : defaultLatency) + 1d) * (statistics.getQueueSize() + 1d);
+        }
+
+        @Override
+        public boolean isDynamic() {
+            return true;
+        }
+    }
 }
@@ -10,7 +10,9 @@ import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.protocol.CommandExpiry;
 import com.lambdaworks.redis.protocol.RedisCommand;
+import com.lambdaworks.redis.resource.ClientResources;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
@@ -37,6 +39,8 @@ public abstract class RedisChannelHandler<K, V> extends ChannelInboundHandlerAda
     private final RedisChannelWriter<K, V> channelWriter;
     private boolean active = true;
     private ClientOptions clientOptions;
+    private ClientResources clientResources;
+    private volatile CommandExpiry commandExpiry;
     
     // If DEBUG level logging has been enabled at startup.
     private final boolean debugEnabled;
@@ -115,10 +119,25 @@ public abstract class RedisChannelHandler<K, V> extends ChannelInboundHandlerAda
         if(debugEnabled) {
             logger.debug("dispatching command {}", cmd);
         }
-        
+
+        scheduleTimeout(cmd);
         return channelWriter.write(cmd);
     }
 
+    /**
+     * Schedule the command timeout for {@code command} if command timeouts are enabled through
+     * {@link TimeoutOptions}.
+     * 
+     * @param command the command
+     */
+    protected void scheduleTimeout(RedisCommand<K, V, ?> command) {
+
+        CommandExpiry commandExpiry = this.commandExpiry;
+        if (commandExpiry != null) {
+            commandExpiry.schedule(command, timeout, unit);
+        }
+    }
+
     /**
      * Register Closeable resources. Internal access only.
      * 
@@ -204,9 +223,40 @@ public abstract class RedisChannelHandler<K, V> extends ChannelInboundHandlerAda
         checkArgument(clientOptions != null, "clientOptions must not be null");
         synchronized (this) {
             this.clientOptions = clientOptions;
+            updateCommandExpiry();
+        }
+    }
+
+    public ClientResources getClientResources() {
+        return clientResources;
+    }
+
+    /**
+     * Set the {@link ClientResources} of this connection. The {@link ClientResources#timer() timer} is used to schedule
+     * command timeouts.
+     * 
+     * @param clientResources the client resources
+     * @since 4.2
+     */
+    public void setClientResources(ClientResources clientResources) {
+        checkArgument(clientResources != null, "clientResources must not be null");
+        synchronized (this) {
+            this.clientResources = clientResources;
+            updateCommandExpiry();
         }
     }
 
+    private void updateCommandExpiry() {
+
+        if (clientOptions == null || clientResources == null || clientResources.timer() == null
+                || !clientOptions.getTimeoutOptions().isTimeoutCommands()) {
+            commandExpiry = null;
+            return;
+        }
+
+        commandExpiry = new CommandExpiry(clientResources.timer(), clientOptions.getTimeoutOptions());
+    }
+
     public long getTimeout() {
         return timeout;
     }
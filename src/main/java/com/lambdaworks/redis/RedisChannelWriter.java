@@ -1,6 +1,9 @@
 package com.lambdaworks.redis;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -25,6 +28,24 @@ public interface RedisChannelWriter<K, V> extends Closeable {
      */
     <T, C extends RedisCommand<K, V, T>> C write(C command);
 
+    /**
+     * Write multiple commands on the channel. Commands may be changed/wrapped during write. Writers that support batching write
+     * and flush the commands together. The default implementation writes each command using
+     * {@link #write(RedisCommand)}.
+     *
+     * @param commands the redis commands
+     * @return the written redis commands
+     * @since 4.2
+     */
+    default Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        List<RedisCommand<K, V, ?>> written = new ArrayList<>(commands.size());
+        for (RedisCommand<K, V, ?> command : commands) {
+            written.add(write(command));
+        }
+        return written;
+    }
+
     @Override
     void close();
 
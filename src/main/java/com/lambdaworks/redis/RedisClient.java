@@ -7,10 +7,10 @@ import static com.google.common.base.Preconditions.checkState;
 import static com.lambdaworks.redis.LettuceStrings.isEmpty;
 import static com.lambdaworks.redis.LettuceStrings.isNotEmpty;
 
-import java.net.ConnectException;
 import java.net.SocketAddress;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -413,7 +413,22 @@ public class RedisClient extends AbstractRedisClient {
         return connect(codec, redisURI).async();
     }
 
-    private <K, V> StatefulRedisConnection<K, V> connectStandalone(RedisCodec<K, V> codec, RedisURI redisURI) {
+    /**
+     * Open a new connection to a Redis server using the supplied {@link RedisURI} and the supplied {@link RedisCodec codec} to
+     * encode/decode keys without blocking the caller. Sentinel lookup, connect and channel initialization are performed
+     * asynchronously. The returned future fails with a {@link RedisConnectionException} if the connection cannot be
+     * established.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that completes with the connection.
+     * @since 4.2
+     */
+    public <K, V> CompletableFuture<StatefulRedisConnection<K, V>> connectStatefulAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI) {
+
         assertNotNull(codec);
         assertNotNull(redisURI);
 
@@ -422,12 +437,15 @@ public class RedisClient extends AbstractRedisClient {
         CommandHandler<K, V> handler = new CommandHandler<>(clientOptions, clientResources, queue);
 
         StatefulRedisConnectionImpl<K, V> connection = newStatefulRedisConnection(handler, codec);
-        connectStateful(handler, connection, redisURI);
-        return connection;
+        return connectStatefulAsync(handler, connection, redisURI).thenApply(c -> c);
     }
 
-    private <K, V> void connectStateful(CommandHandler<K, V> handler, StatefulRedisConnectionImpl<K, V> connection,
-            RedisURI redisURI) {
+    private <K, V> StatefulRedisConnection<K, V> connectStandalone(RedisCodec<K, V> codec, RedisURI redisURI) {
+        return getConnection(connectStatefulAsync(codec, redisURI));
+    }
+
+    private <K, V, T extends StatefulRedisConnectionImpl<K, V>> CompletableFuture<T> connectStatefulAsync(
+            CommandHandler<K, V> handler, T connection, RedisURI redisURI) {
 
         ConnectionBuilder connectionBuilder;
         if (redisURI.isSsl()) {
@@ -442,16 +460,20 @@ public class RedisClient extends AbstractRedisClient {
         connectionBuilder.clientResources(clientResources);
         connectionBuilder(handler, connection, getSocketAddressSupplier(redisURI), connectionBuilder, redisURI);
         channelType(connectionBuilder, redisURI);
-        initializeChannel(connectionBuilder);
 
-        if (redisURI.getPassword() != null && redisURI.getPassword().length != 0) {
-            connection.async().auth(new String(redisURI.getPassword()));
-        }
+        return getSocketAddressAsync(redisURI).thenCompose(
+                redisAddress -> this.<K, V, T> initializeChannelAsync(connectionBuilder, redisAddress)).thenApply(c -> {
 
-        if (redisURI.getDatabase() != 0) {
-            connection.async().select(redisURI.getDatabase());
-        }
+            if (redisURI.getPassword() != null && redisURI.getPassword().length != 0) {
+                c.async().auth(new String(redisURI.getPassword()));
+            }
+
+            if (redisURI.getDatabase() != 0) {
+                c.async().select(redisURI.getDatabase());
+            }
 
+            return c;
+        });
     }
 
     /**
@@ -500,6 +522,22 @@ public class RedisClient extends AbstractRedisClient {
      * @return A new connection
      */
     public <K, V> StatefulRedisPubSubConnection<K, V> connectPubSub(RedisCodec<K, V> codec, RedisURI redisURI) {
+        return getConnection(connectPubSubAsync(codec, redisURI));
+    }
+
+    /**
+     * Open a new pub/sub connection to the Redis server using the supplied {@link RedisURI} and use the supplied
+     * {@link RedisCodec codec} to encode/decode keys and values without blocking the caller.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the redis server to connect to, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that completes with the connection.
+     * @since 4.2
+     */
+    public <K, V> CompletableFuture<StatefulRedisPubSubConnection<K, V>> connectPubSubAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI) {
 
         assertNotNull(codec);
         assertNotNull(redisURI);
@@ -508,9 +546,7 @@ public class RedisClient extends AbstractRedisClient {
         PubSubCommandHandler<K, V> handler = new PubSubCommandHandler<>(clientOptions, clientResources, queue, codec);
         StatefulRedisPubSubConnectionImpl<K, V> connection = newStatefulRedisPubSubConnection(handler, codec);
 
-        connectStateful(handler, connection, redisURI);
-
-        return connection;
+        return connectStatefulAsync(handler, connection, redisURI).thenApply(c -> c);
     }
 
     /**
@@ -619,7 +655,30 @@ public class RedisClient extends AbstractRedisClient {
         return connectSentinelImpl(codec, redisURI).async();
     }
 
+    /**
+     * Open a connection to a Redis Sentinel using the supplied {@link RedisURI} and use the supplied {@link RedisCodec codec}
+     * to encode/decode keys and values without blocking the caller. The sentinels of {@code redisURI} are tried in order
+     * until a connection is established.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that completes with the connection.
+     * @since 4.2
+     */
+    public <K, V> CompletableFuture<StatefulRedisSentinelConnection<K, V>> connectSentinelStatefulAsync(
+            RedisCodec<K, V> codec, RedisURI redisURI) {
+        return connectSentinelImplAsync(codec, redisURI);
+    }
+
     private <K, V> StatefulRedisSentinelConnection<K, V> connectSentinelImpl(RedisCodec<K, V> codec, RedisURI redisURI) {
+        return getConnection(connectSentinelImplAsync(codec, redisURI));
+    }
+
+    private <K, V> CompletableFuture<StatefulRedisSentinelConnection<K, V>> connectSentinelImplAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI) {
+
         assertNotNull(codec);
         assertNotNull(redisURI);
 
@@ -639,37 +698,53 @@ public class RedisClient extends AbstractRedisClient {
 
         if (redisURI.getSentinels().isEmpty() && (isNotEmpty(redisURI.getHost()) || !isEmpty(redisURI.getSocket()))) {
             channelType(connectionBuilder, redisURI);
-            initializeChannel(connectionBuilder);
-        } else {
-            boolean connected = false;
-            boolean first = true;
-            Exception causingException = null;
+            return this.<K, V, StatefulRedisSentinelConnectionImpl<K, V>> initializeChannelAsync(connectionBuilder)
+                    .thenApply(c -> c);
+        }
+
+        try {
             validateUrisAreOfSameConnectionType(redisURI.getSentinels());
-            for (RedisURI uri : redisURI.getSentinels()) {
-                if (first) {
-                    channelType(connectionBuilder, uri);
-                    first = false;
-                }
-                connectionBuilder.socketAddressSupplier(getSocketAddressSupplier(uri));
-                logger.debug("Connecting to Sentinel, address: " + uri.getResolvedAddress());
-                try {
-                    initializeChannel(connectionBuilder);
-                    connected = true;
-                    break;
-                } catch (Exception e) {
-                    logger.warn("Cannot connect sentinel at " + uri + ": " + e.toString());
-                    causingException = e;
-                    if (e instanceof ConnectException) {
-                        continue;
-                    }
-                }
-            }
-            if (!connected) {
-                throw new RedisConnectionException("Cannot connect to a sentinel: " + redisURI.getSentinels(), causingException);
-            }
+        } catch (RedisException e) {
+            return failed(e);
         }
 
-        return connection;
+        if (redisURI.getSentinels().isEmpty()) {
+            return failed(new RedisConnectionException("Cannot connect to a sentinel: " + redisURI.getSentinels()));
+        }
+
+        channelType(connectionBuilder, redisURI.getSentinels().get(0));
+
+        CompletableFuture<StatefulRedisSentinelConnection<K, V>> result = new CompletableFuture<>();
+        connectSentinel(connectionBuilder, redisURI, 0, null, result);
+        return result;
+    }
+
+    private <K, V> void connectSentinel(ConnectionBuilder connectionBuilder, RedisURI redisURI, int index,
+            Throwable causingException, CompletableFuture<StatefulRedisSentinelConnection<K, V>> result) {
+
+        List<RedisURI> sentinels = redisURI.getSentinels();
+        if (index >= sentinels.size()) {
+            result.completeExceptionally(new RedisConnectionException("Cannot connect to a sentinel: " + sentinels,
+                    causingException));
+            return;
+        }
+
+        RedisURI uri = sentinels.get(index);
+        connectionBuilder.socketAddressSupplier(getSocketAddressSupplier(uri));
+        logger.debug("Connecting to Sentinel, address: " + uri);
+
+        this.<K, V, StatefulRedisSentinelConnectionImpl<K, V>> initializeChannelAsync(connectionBuilder).whenComplete(
+                (connection, throwable) -> {
+
+                    if (throwable == null) {
+                        result.complete(connection);
+                        return;
+                    }
+
+                    Throwable cause = unwrap(throwable);
+                    logger.warn("Cannot connect sentinel at " + uri + ": " + cause.toString());
+                    connectSentinel(connectionBuilder, redisURI, index + 1, cause, result);
+                });
     }
 
     /**
@@ -758,33 +833,62 @@ public class RedisClient extends AbstractRedisClient {
 
     protected SocketAddress getSocketAddress(RedisURI redisURI) throws InterruptedException, TimeoutException,
             ExecutionException {
-        SocketAddress redisAddress;
 
-        if (redisURI.getSentinelMasterId() != null && !redisURI.getSentinels().isEmpty()) {
-            logger.debug("Connecting to Redis using Sentinels {}, MasterId {}", redisURI.getSentinels(), redisURI.getSentinelMasterId());
-            redisAddress = lookupRedis(redisURI);
+        try {
+            return getSocketAddressAsync(redisURI).get();
+        } catch (ExecutionException e) {
 
-            if (redisAddress == null) {
-                throw new RedisConnectionException("Cannot provide redisAddress using sentinel for masterId "
-                        + redisURI.getSentinelMasterId());
+            if (e.getCause() instanceof RedisException) {
+                throw (RedisException) e.getCause();
             }
 
-        } else {
-            redisAddress = redisURI.getResolvedAddress();
+            throw e;
         }
-        return redisAddress;
     }
 
-    private SocketAddress lookupRedis(RedisURI sentinelUri) throws InterruptedException, TimeoutException,
-            ExecutionException {
-        RedisSentinelAsyncCommands<String, String> connection = connectSentinel(sentinelUri).async();
+    /**
+     * Resolve the {@link SocketAddress} of {@code redisURI} without blocking the caller. Performs a Sentinel lookup if
+     * {@code redisURI} specifies a sentinel master id.
+     *
+     * @param redisURI the Redis server
+     * @return future that completes with the resolved {@link SocketAddress}.
+     * @since 4.2
+     */
+    protected CompletableFuture<SocketAddress> getSocketAddressAsync(RedisURI redisURI) {
+
+        if (redisURI.getSentinelMasterId() != null && !redisURI.getSentinels().isEmpty()) {
+            logger.debug("Connecting to Redis using Sentinels {}, MasterId {}", redisURI.getSentinels(),
+                    redisURI.getSentinelMasterId());
+
+            return lookupRedisAsync(redisURI).thenApply(redisAddress -> {
+
+                if (redisAddress == null) {
+                    throw new RedisConnectionException("Cannot provide redisAddress using sentinel for masterId "
+                            + redisURI.getSentinelMasterId());
+                }
+
+                return redisAddress;
+            });
+        }
+
         try {
-            return connection.getMasterAddrByName(sentinelUri.getSentinelMasterId()).get(timeout, unit);
-        } finally {
-            connection.close();
+            return CompletableFuture.completedFuture(redisURI.getResolvedAddress());
+        } catch (RuntimeException e) {
+            return failed(e);
         }
     }
 
+    private CompletableFuture<SocketAddress> lookupRedisAsync(RedisURI sentinelUri) {
+
+        return connectSentinelImplAsync(newStringStringCodec(), sentinelUri).thenCompose(connection -> {
+
+            CompletableFuture<SocketAddress> lookup = withTimeout(
+                    connection.async().getMasterAddrByName(sentinelUri.getSentinelMasterId()), timeout, unit);
+
+            return lookup.whenComplete((address, throwable) -> genericWorkerPool.submit(connection::close));
+        });
+    }
+
     private void checkValidRedisURI(RedisURI redisURI) {
         checkArgument(redisURI != null && isNotEmpty(redisURI.getHost()), "A valid RedisURI with a host is needed");
     }
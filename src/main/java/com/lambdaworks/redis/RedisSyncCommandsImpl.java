@@ -0,0 +1,84 @@
+package com.lambdaworks.redis;
+
+import java.util.List;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+
+/**
+ * A synchronous and thread-safe API for a Redis connection. Commands are dispatched to the asynchronous API and awaited
+ * within the connection timeout. Command results are {@literal null} while the connection is in a transaction.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class RedisSyncCommandsImpl<K, V> extends AbstractRedisClusterSyncCommands<K, V> implements RedisCommands<K, V> {
+
+    private final StatefulRedisConnection<K, V> connection;
+    private final RedisAsyncCommands<K, V> asyncCommands;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on
+     * @param asyncCommands the asynchronous API of {@code connection}
+     */
+    public RedisSyncCommandsImpl(StatefulRedisConnection<K, V> connection, RedisAsyncCommands<K, V> asyncCommands) {
+        super(asyncCommands);
+        this.connection = connection;
+        this.asyncCommands = asyncCommands;
+    }
+
+    @Override
+    protected <T> T await(RedisFuture<T> future) {
+
+        if (connection.isMulti()) {
+            return null;
+        }
+
+        return awaitOrCancel(future);
+    }
+
+    private <T> T awaitOrCancel(RedisFuture<T> future) {
+        return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());
+    }
+
+    @Override
+    public String select(int db) {
+        return asyncCommands.select(db);
+    }
+
+    @Override
+    public StatefulRedisConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+
+    @Override
+    public String multi() {
+        return awaitOrCancel(asyncCommands.multi());
+    }
+
+    @Override
+    public List<Object> exec() {
+        return awaitOrCancel(asyncCommands.exec());
+    }
+
+    @Override
+    public String discard() {
+        return await(asyncCommands.discard());
+    }
+
+    @Override
+    public String watch(K... keys) {
+        return await(asyncCommands.watch(keys));
+    }
+
+    @Override
+    public String unwatch() {
+        return await(asyncCommands.unwatch());
+    }
+
+}
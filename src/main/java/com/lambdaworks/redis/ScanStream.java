@@ -0,0 +1,476 @@
+package com.lambdaworks.redis;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+import rx.Subscription;
+import rx.internal.operators.BackpressureUtils;
+import rx.subscriptions.SerialSubscription;
+
+import com.lambdaworks.redis.api.rx.RedisHashReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisKeyReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisSetReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisSortedSetReactiveCommands;
+import com.lambdaworks.redis.cluster.api.rx.RedisAdvancedClusterReactiveCommands;
+
+/**
+ * Streaming variants of the {@literal SCAN} family for the reactive API. A {@link ScanStream} emits the particular keys,
+ * values, key-value pairs or scored values of all pages of a {@literal SCAN}/{@literal SSCAN}/{@literal HSCAN}/{@literal ZSCAN}
+ * iteration and completes once the cursor is finished.
+ * <p>
+ * Pages are requested on demand: the next page is only requested if the elements of the previous page are emitted and the
+ * subscriber requests more elements. At most one page is retained in memory, or two pages if prefetching is enabled. With
+ * prefetching the next page is requested as soon as a page is received so the subscriber does not wait for a page roundtrip.
+ * </p>
+ * <p>
+ * Streams are cold. Each subscription starts a new iteration. {@link #scan(RedisKeyReactiveCommands)} continues transparently
+ * across all masters when used with the reactive Redis Cluster API.
+ * {@link #scan(RedisAdvancedClusterReactiveCommands, ScanArgs, int)} scans multiple masters concurrently.
+ * </p>
+ *
+ * <pre class="code">
+ * ScanStream.scan(redis.reactive(), ScanArgs.Builder.matches(&quot;user:*&quot;)).subscribe(key -&gt; ...);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class ScanStream {
+
+    private ScanStream() {
+        // no instances
+    }
+
+    /**
+     * Sequentially iterate over keys in the keyspace.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all keys.
+     */
+    public static <K, V> Observable<K> scan(RedisKeyReactiveCommands<K, V> commands) {
+        return scan(commands, null, false);
+    }
+
+    /**
+     * Sequentially iterate over keys in the keyspace.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all keys.
+     */
+    public static <K, V> Observable<K> scan(RedisKeyReactiveCommands<K, V> commands, ScanArgs scanArgs) {
+        return scan(commands, scanArgs, false);
+    }
+
+    /**
+     * Sequentially iterate over keys in the keyspace.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param prefetch {@literal true} to request the next page while the current page is emitted
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all keys.
+     */
+    public static <K, V> Observable<K> scan(RedisKeyReactiveCommands<K, V> commands, ScanArgs scanArgs, boolean prefetch) {
+
+        checkArgument(commands != null, "RedisKeyCommands must not be null");
+
+        return Observable.create(new ScanOnSubscribe<KeyScanCursor<K>, K>(cursor -> {
+
+            if (cursor == null) {
+                return scanArgs != null ? commands.scan(scanArgs) : commands.scan();
+            }
+            return scanArgs != null ? commands.scan(cursor, scanArgs) : commands.scan(cursor);
+        }, KeyScanCursor::getKeys, prefetch));
+    }
+
+    /**
+     * Iterate over keys in the keyspace of the whole Cluster, scanning up to {@code parallelism} nodes concurrently. Each page
+     * contains the keys of up to {@code parallelism} nodes.
+     *
+     * @param commands the cluster commands interface, must not be {@literal null}
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param parallelism number of nodes to scan concurrently, must be greater {@literal 0}
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all keys.
+     * @see RedisAdvancedClusterReactiveCommands#scanParallel(ScanCursor, ScanArgs, int)
+     */
+    public static <K, V> Observable<K> scan(RedisAdvancedClusterReactiveCommands<K, V> commands, ScanArgs scanArgs,
+            int parallelism) {
+        return scan(commands, scanArgs, parallelism, false);
+    }
+
+    /**
+     * Iterate over keys in the keyspace of the whole Cluster, scanning up to {@code parallelism} nodes concurrently. Each page
+     * contains the keys of up to {@code parallelism} nodes.
+     *
+     * @param commands the cluster commands interface, must not be {@literal null}
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param parallelism number of nodes to scan concurrently, must be greater {@literal 0}
+     * @param prefetch {@literal true} to request the next page while the current page is emitted
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all keys.
+     * @see RedisAdvancedClusterReactiveCommands#scanParallel(ScanCursor, ScanArgs, int)
+     */
+    public static <K, V> Observable<K> scan(RedisAdvancedClusterReactiveCommands<K, V> commands, ScanArgs scanArgs,
+            int parallelism, boolean prefetch) {
+
+        checkArgument(commands != null, "RedisAdvancedClusterCommands must not be null");
+        checkArgument(parallelism > 0, "Parallelism must be greater 0");
+
+        return Observable.create(new ScanOnSubscribe<KeyScanCursor<K>, K>(
+                cursor -> commands.scanParallel(cursor == null ? ScanCursor.INITIAL : cursor, scanArgs, parallelism),
+                KeyScanCursor::getKeys, prefetch));
+    }
+
+    /**
+     * Sequentially iterate over entries in a hash identified by {@code key}.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param key the hash to scan
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all key-value pairs of the hash.
+     */
+    public static <K, V> Observable<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key) {
+        return hscan(commands, key, null, false);
+    }
+
+    /**
+     * Sequentially iterate over entries in a hash identified by {@code key}.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param key the hash to scan
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all key-value pairs of the hash.
+     */
+    public static <K, V> Observable<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key, ScanArgs scanArgs) {
+        return hscan(commands, key, scanArgs, false);
+    }
+
+    /**
+     * Sequentially iterate over entries in a hash identified by {@code key}.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param key the hash to scan
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param prefetch {@literal true} to request the next page while the current page is emitted
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all key-value pairs of the hash.
+     */
+    public static <K, V> Observable<KeyValue<K, V>> hscan(RedisHashReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            boolean prefetch) {
+
+        checkArgument(commands != null, "RedisHashCommands must not be null");
+        checkArgument(key != null, "Key must not be null");
+
+        return Observable.create(new ScanOnSubscribe<MapScanCursor<K, V>, KeyValue<K, V>>(cursor -> {
+
+            if (cursor == null) {
+                return scanArgs != null ? commands.hscan(key, scanArgs) : commands.hscan(key);
+            }
+            return scanArgs != null ? commands.hscan(key, cursor, scanArgs) : commands.hscan(key, cursor);
+        }, ScanStream::toKeyValues, prefetch));
+    }
+
+    /**
+     * Sequentially iterate over elements in a set identified by {@code key}.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param key the set to scan
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all members of the set.
+     */
+    public static <K, V> Observable<V> sscan(RedisSetReactiveCommands<K, V> commands, K key) {
+        return sscan(commands, key, null, false);
+    }
+
+    /**
+     * Sequentially iterate over elements in a set identified by {@code key}.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param key the set to scan
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all members of the set.
+     */
+    public static <K, V> Observable<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs) {
+        return sscan(commands, key, scanArgs, false);
+    }
+
+    /**
+     * Sequentially iterate over elements in a set identified by {@code key}.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param key the set to scan
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param prefetch {@literal true} to request the next page while the current page is emitted
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all members of the set.
+     */
+    public static <K, V> Observable<V> sscan(RedisSetReactiveCommands<K, V> commands, K key, ScanArgs scanArgs,
+            boolean prefetch) {
+
+        checkArgument(commands != null, "RedisSetCommands must not be null");
+        checkArgument(key != null, "Key must not be null");
+
+        return Observable.create(new ScanOnSubscribe<ValueScanCursor<V>, V>(cursor -> {
+
+            if (cursor == null) {
+                return scanArgs != null ? commands.sscan(key, scanArgs) : commands.sscan(key);
+            }
+            return scanArgs != null ? commands.sscan(key, cursor, scanArgs) : commands.sscan(key, cursor);
+        }, ValueScanCursor::getValues, prefetch));
+    }
+
+    /**
+     * Sequentially iterate over elements in a sorted set identified by {@code key}.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param key the sorted set to scan
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all scored values of the sorted set.
+     */
+    public static <K, V> Observable<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key) {
+        return zscan(commands, key, null, false);
+    }
+
+    /**
+     * Sequentially iterate over elements in a sorted set identified by {@code key}.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param key the sorted set to scan
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all scored values of the sorted set.
+     */
+    public static <K, V> Observable<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key,
+            ScanArgs scanArgs) {
+        return zscan(commands, key, scanArgs, false);
+    }
+
+    /**
+     * Sequentially iterate over elements in a sorted set identified by {@code key}.
+     *
+     * @param commands the commands interface, must not be {@literal null}
+     * @param key the sorted set to scan
+     * @param scanArgs the scan arguments, may be {@literal null}
+     * @param prefetch {@literal true} to request the next page while the current page is emitted
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Observable} emitting all scored values of the sorted set.
+     */
+    public static <K, V> Observable<ScoredValue<V>> zscan(RedisSortedSetReactiveCommands<K, V> commands, K key,
+            ScanArgs scanArgs, boolean prefetch) {
+
+        checkArgument(commands != null, "RedisSortedSetCommands must not be null");
+        checkArgument(key != null, "Key must not be null");
+
+        return Observable.create(new ScanOnSubscribe<ScoredValueScanCursor<V>, ScoredValue<V>>(cursor -> {
+
+            if (cursor == null) {
+                return scanArgs != null ? commands.zscan(key, scanArgs) : commands.zscan(key);
+            }
+            return scanArgs != null ? commands.zscan(key, cursor, scanArgs) : commands.zscan(key, cursor);
+        }, ScoredValueScanCursor::getValues, prefetch));
+    }
+
+    private static <K, V> Collection<KeyValue<K, V>> toKeyValues(MapScanCursor<K, V> cursor) {
+
+        Collection<KeyValue<K, V>> keyValues = new ArrayDeque<>(cursor.getMap().size());
+        for (Map.Entry<K, V> entry : cursor.getMap().entrySet()) {
+            keyValues.add(new KeyValue<>(entry.getKey(), entry.getValue()));
+        }
+        return keyValues;
+    }
+
+    /**
+     * {@link rx.Observable.OnSubscribe} that requests scan pages on demand and emits the elements of each page.
+     *
+     * @param <C> Cursor type.
+     * @param <T> Element type.
+     */
+    static class ScanOnSubscribe<C extends ScanCursor, T> implements Observable.OnSubscribe<T> {
+
+        private final Function<C, Observable<C>> scanFunction;
+        private final Function<C, Collection<T>> elementFunction;
+        private final boolean prefetch;
+
+        /**
+         * @param scanFunction function to request a page, called with {@literal null} for the initial page
+         * @param elementFunction function to extract the elements from a page
+         * @param prefetch {@literal true} to request the next page while the current page is emitted
+         */
+        ScanOnSubscribe(Function<C, Observable<C>> scanFunction, Function<C, Collection<T>> elementFunction, boolean prefetch) {
+            this.scanFunction = scanFunction;
+            this.elementFunction = elementFunction;
+            this.prefetch = prefetch;
+        }
+
+        @Override
+        public void call(Subscriber<? super T> subscriber) {
+
+            ScanProducer<C, T> producer = new ScanProducer<>(subscriber, scanFunction, elementFunction, prefetch);
+            subscriber.add(producer.pageSubscription);
+            subscriber.setProducer(producer);
+        }
+    }
+
+    /**
+     * Emits elements of scan pages and requests pages on demand. State is mutated within {@link #drain()} only, which is
+     * serialized through {@link #wip}.
+     */
+    static class ScanProducer<C extends ScanCursor, T> implements Producer {
+
+        private final Subscriber<? super T> subscriber;
+        private final Function<C, Observable<C>> scanFunction;
+        private final Function<C, Collection<T>> elementFunction;
+        private final boolean prefetch;
+        private final int maxPages;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Queue<C> receivedPages = new ConcurrentLinkedQueue<>();
+        private final SerialSubscription pageSubscription = new SerialSubscription();
+        private volatile Throwable error;
+
+        // confined to drain()
+        private final Queue<Iterator<T>> pages = new ArrayDeque<>(2);
+        private C cursor;
+        private boolean pageInFlight;
+        private boolean terminated;
+
+        ScanProducer(Subscriber<? super T> subscriber, Function<C, Observable<C>> scanFunction,
+                Function<C, Collection<T>> elementFunction, boolean prefetch) {
+            this.subscriber = subscriber;
+            this.scanFunction = scanFunction;
+            this.elementFunction = elementFunction;
+            this.prefetch = prefetch;
+            this.maxPages = prefetch ? 2 : 1;
+        }
+
+        @Override
+        public void request(long n) {
+
+            if (n > 0) {
+                BackpressureUtils.getAndAddRequest(requested, n);
+                drain();
+            }
+        }
+
+        private void drain() {
+
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+
+                if (terminated || subscriber.isUnsubscribed()) {
+                    return;
+                }
+
+                C page;
+                while ((page = receivedPages.poll()) != null) {
+
+                    pageInFlight = false;
+                    cursor = page;
+                    Collection<T> elements = elementFunction.apply(page);
+                    if (elements != null && !elements.isEmpty()) {
+                        pages.add(elements.iterator());
+                    }
+                }
+
+                if (error != null) {
+                    terminated = true;
+                    subscriber.onError(error);
+                    return;
+                }
+
+                long r = requested.get();
+                long emitted = 0;
+
+                while (emitted != r && !pages.isEmpty()) {
+
+                    Iterator<T> iterator = pages.peek();
+                    if (!iterator.hasNext()) {
+                        pages.poll();
+                        continue;
+                    }
+
+                    subscriber.onNext(iterator.next());
+                    emitted++;
+
+                    if (subscriber.isUnsubscribed()) {
+                        return;
+                    }
+                }
+
+                while (!pages.isEmpty() && !pages.peek().hasNext()) {
+                    pages.poll();
+                }
+
+                if (emitted != 0 && r != Long.MAX_VALUE) {
+                    r = requested.addAndGet(-emitted);
+                }
+
+                boolean finished = cursor != null && cursor.isFinished();
+
+                if (finished && !pageInFlight && pages.isEmpty()) {
+                    terminated = true;
+                    subscriber.onCompleted();
+                    return;
+                }
+
+                if (!finished && !pageInFlight && pages.size() < maxPages && (r > 0 || prefetch)) {
+                    requestPage();
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void requestPage() {
+
+            pageInFlight = true;
+
+            Subscription subscription = scanFunction.apply(cursor).subscribe(page -> {
+                receivedPages.add(page);
+                drain();
+            }, throwable -> {
+                error = throwable;
+                drain();
+            });
+
+            pageSubscription.set(subscription);
+        }
+    }
+}
@@ -8,13 +8,13 @@ import static com.lambdaworks.redis.PlainChannelInitializer.pingBeforeActivate;
 import static com.lambdaworks.redis.PlainChannelInitializer.removeIfExists;
 
 import java.util.List;
-import java.util.concurrent.Future;
 
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLHandshakeException;
 import javax.net.ssl.SSLParameters;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import com.lambdaworks.redis.event.EventBus;
 import com.lambdaworks.redis.event.connection.ConnectedEvent;
@@ -127,7 +127,7 @@ public class SslConnectionBuilder extends ConnectionBuilder {
                     private AsyncCommand<?, ?, ?> pingCommand;
 
                     @Override
-                    public Future<Boolean> channelInitialized() {
+                    public ListenableFuture<Boolean> channelInitialized() {
                         return initializedFuture;
                     }
 
@@ -200,7 +200,7 @@ public class SslConnectionBuilder extends ConnectionBuilder {
         }
 
         @Override
-        public Future<Boolean> channelInitialized() {
+        public ListenableFuture<Boolean> channelInitialized() {
             return initializedFuture;
         }
     }
@@ -15,7 +15,6 @@ import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.api.async.RedisAsyncCommands;
 import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
 import com.lambdaworks.redis.api.sync.RedisCommands;
-import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.output.MultiOutput;
 import com.lambdaworks.redis.protocol.CompleteableCommand;
@@ -106,11 +105,20 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
 
     public RedisCommands<K, V> sync() {
         if (sync == null) {
-            sync = syncHandler(async(), RedisCommands.class, RedisClusterCommands.class);
+            sync = newRedisSyncCommandsImpl();
         }
         return sync;
     }
 
+    /**
+     * Create a new instance of {@link RedisSyncCommandsImpl}. Can be overriden to extend.
+     * 
+     * @return a new instance
+     */
+    protected RedisSyncCommandsImpl<K, V> newRedisSyncCommandsImpl() {
+        return new RedisSyncCommandsImpl<>(this, async());
+    }
+
     @Override
     public boolean isMulti() {
         return multi != null;
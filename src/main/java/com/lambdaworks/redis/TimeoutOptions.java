@@ -0,0 +1,183 @@
+package com.lambdaworks.redis;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.protocol.ProtocolKeyword;
+
+/**
+ * Options to control command timeouts of the asynchronous and reactive API. Command timeouts are scheduled on the
+ * {@link com.lambdaworks.redis.resource.ClientResources#timer() timer} of the client resources and complete commands
+ * exceptionally with a {@link RedisCommandTimeoutException} if no response was received within the timeout. Command timeouts
+ * are disabled by default, the synchronous API awaits command results within the connection timeout regardless of these
+ * options.
+ * <p>
+ * The timeout applies to the time between dispatching the command and receiving its response and defaults to the connection
+ * timeout. Timeouts can be overridden per {@link ProtocolKeyword command type}, a timeout of {@literal 0} disables the timeout
+ * for the particular command type (e.g. for blocking commands such as {@literal BLPOP}).
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class TimeoutOptions implements Serializable {
+
+    public static final boolean DEFAULT_TIMEOUT_COMMANDS = false;
+
+    private final boolean timeoutCommands;
+    private final long fixedTimeout;
+    private final TimeUnit fixedTimeoutUnit;
+    private final Map<String, Long> commandTimeouts;
+
+    protected TimeoutOptions(Builder builder) {
+        this.timeoutCommands = builder.timeoutCommands;
+        this.fixedTimeout = builder.fixedTimeout;
+        this.fixedTimeoutUnit = builder.fixedTimeoutUnit;
+        this.commandTimeouts = Collections.unmodifiableMap(new HashMap<>(builder.commandTimeouts));
+    }
+
+    /**
+     * Create a new instance of {@link TimeoutOptions} with default settings. Command timeouts are disabled.
+     *
+     * @return a new instance of {@link TimeoutOptions} with default settings
+     */
+    public static TimeoutOptions create() {
+        return new Builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link TimeoutOptions} with command timeouts enabled. Commands time out after the connection
+     * timeout.
+     *
+     * @return a new instance of {@link TimeoutOptions} with command timeouts enabled
+     */
+    public static TimeoutOptions enabled() {
+        return new Builder().timeoutCommands().build();
+    }
+
+    /**
+     * Create a new instance of {@link TimeoutOptions} with command timeouts enabled. Commands time out after {@code timeout}.
+     *
+     * @param timeout the timeout, must be greater than zero
+     * @param unit the unit of {@code timeout}, must not be {@literal null}
+     * @return a new instance of {@link TimeoutOptions} with command timeouts enabled
+     */
+    public static TimeoutOptions enabled(long timeout, TimeUnit unit) {
+        return new Builder().fixedTimeout(timeout, unit).build();
+    }
+
+    /**
+     * Builder for {@link TimeoutOptions}.
+     */
+    public static class Builder {
+
+        private boolean timeoutCommands = DEFAULT_TIMEOUT_COMMANDS;
+        private long fixedTimeout = -1;
+        private TimeUnit fixedTimeoutUnit;
+        private Map<String, Long> commandTimeouts = new HashMap<>();
+
+        /**
+         * Enable command timeouts. Commands time out after the connection timeout unless a
+         * {@link #fixedTimeout(long, TimeUnit) fixed timeout} is set.
+         *
+         * @return {@code this}
+         */
+        public Builder timeoutCommands() {
+            return timeoutCommands(true);
+        }
+
+        /**
+         * Enables or disables command timeouts. Defaults to {@literal false}. See {@link #DEFAULT_TIMEOUT_COMMANDS}.
+         *
+         * @param timeoutCommands true/false
+         * @return {@code this}
+         */
+        public Builder timeoutCommands(boolean timeoutCommands) {
+            this.timeoutCommands = timeoutCommands;
+            return this;
+        }
+
+        /**
+         * Set a fixed timeout for all commands instead of the connection timeout and enable command timeouts.
+         *
+         * @param timeout the timeout, must be greater than zero
+         * @param unit the unit of {@code timeout}, must not be {@literal null}
+         * @return {@code this}
+         */
+        public Builder fixedTimeout(long timeout, TimeUnit unit) {
+
+            checkArgument(timeout > 0, "timeout must be greater than zero");
+            checkArgument(unit != null, "unit must not be null");
+
+            this.fixedTimeout = timeout;
+            this.fixedTimeoutUnit = unit;
+            return timeoutCommands();
+        }
+
+        /**
+         * Set the timeout for a particular command type and enable command timeouts. A timeout of {@literal 0} disables the
+         * timeout for {@code commandType}.
+         *
+         * @param commandType the command type, must not be {@literal null}
+         * @param timeout the timeout, must not be negative
+         * @param unit the unit of {@code timeout}, must not be {@literal null}
+         * @return {@code this}
+         */
+        public Builder timeout(ProtocolKeyword commandType, long timeout, TimeUnit unit) {
+
+            checkArgument(commandType != null, "commandType must not be null");
+            checkArgument(timeout >= 0, "timeout must not be negative");
+            checkArgument(unit != null, "unit must not be null");
+
+            this.commandTimeouts.put(commandType.name(), unit.toNanos(timeout));
+            return timeoutCommands();
+        }
+
+        /**
+         * Create a new instance of {@link TimeoutOptions}.
+         *
+         * @return new instance of {@link TimeoutOptions}
+         */
+        public TimeoutOptions build() {
+            return new TimeoutOptions(this);
+        }
+    }
+
+    /**
+     * Flag, whether commands of the asynchronous and reactive API time out. Defaults to {@literal false}.
+     *
+     * @return {@literal true} if command timeouts are enabled.
+     */
+    public boolean isTimeoutCommands() {
+        return timeoutCommands;
+    }
+
+    /**
+     * Determine the timeout for a command of {@code commandType}.
+     *
+     * @param commandType the command type
+     * @param connectionTimeout the connection timeout
+     * @param connectionTimeoutUnit the unit of {@code connectionTimeout}
+     * @return the timeout in {@link TimeUnit#NANOSECONDS}. Zero or a negative value if the command does not time out.
+     */
+    public long getTimeoutNanos(ProtocolKeyword commandType, long connectionTimeout, TimeUnit connectionTimeoutUnit) {
+
+        if (!commandTimeouts.isEmpty()) {
+            Long timeout = commandTimeouts.get(commandType.name());
+            if (timeout != null) {
+                return timeout;
+            }
+        }
+
+        if (fixedTimeoutUnit != null) {
+            return fixedTimeoutUnit.toNanos(fixedTimeout);
+        }
+
+        return connectionTimeoutUnit.toNanos(connectionTimeout);
+    }
+}
@@ -1,5 +1,8 @@
 package com.lambdaworks.redis.api;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.ClientOptions;
@@ -45,6 +48,24 @@ public interface StatefulConnection<K, V> extends AutoCloseable {
      */
     <T, C extends RedisCommand<K, V, T>> C dispatch(C command);
 
+    /**
+     * Dispatch multiple commands. Write the commands on the channel. Commands may be changed/wrapped during write. Connections
+     * that support batching write and flush the commands together. This method does not wait until the commands complete. The
+     * default implementation dispatches each command using {@link #dispatch(RedisCommand)}.
+     *
+     * @param commands the Redis commands
+     * @return the written redis commands
+     * @since 4.2
+     */
+    default Collection<RedisCommand<K, V, ?>> dispatch(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        List<RedisCommand<K, V, ?>> dispatched = new ArrayList<>(commands.size());
+        for (RedisCommand<K, V, ?> command : commands) {
+            dispatched.add(dispatch(command));
+        }
+        return dispatched;
+    }
+
     /**
      * Close the connection. The connection will become not usable anymore as soon as this method was called.
      */
@@ -0,0 +1,1526 @@
+package com.lambdaworks.redis.cluster;
+
+import com.lambdaworks.redis.BitFieldArgs;
+import com.lambdaworks.redis.GeoArgs;
+import com.lambdaworks.redis.GeoCoordinates;
+import com.lambdaworks.redis.GeoRadiusStoreArgs;
+import com.lambdaworks.redis.GeoWithin;
+import com.lambdaworks.redis.KeyScanCursor;
+import com.lambdaworks.redis.KeyValue;
+import com.lambdaworks.redis.KillArgs;
+import com.lambdaworks.redis.MapScanCursor;
+import com.lambdaworks.redis.MigrateArgs;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.ScanArgs;
+import com.lambdaworks.redis.ScanCursor;
+import com.lambdaworks.redis.ScoredValue;
+import com.lambdaworks.redis.ScoredValueScanCursor;
+import com.lambdaworks.redis.ScriptOutputType;
+import com.lambdaworks.redis.SetArgs;
+import com.lambdaworks.redis.SortArgs;
+import com.lambdaworks.redis.StreamScanCursor;
+import com.lambdaworks.redis.ValueScanCursor;
+import com.lambdaworks.redis.ZAddArgs;
+import com.lambdaworks.redis.ZStoreArgs;
+import com.lambdaworks.redis.cluster.api.async.AsyncExecutions;
+import com.lambdaworks.redis.cluster.api.async.BaseNodeSelectionAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionGeoAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionHLLAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionHashAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionKeyAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionListAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionScriptingAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionServerAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionSetAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionSortedSetAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionStringAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+import com.lambdaworks.redis.output.KeyValueStreamingChannel;
+import com.lambdaworks.redis.output.ScoredValueStreamingChannel;
+import com.lambdaworks.redis.output.ValueStreamingChannel;
+import com.lambdaworks.redis.protocol.CommandType;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Asynchronous executed commands on a node selection. Every command is dispatched to the asynchronous API and
+ * completed through {@link #execute(Function)}.
+ * 
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ * @generated by com.lambdaworks.apigenerator.CreateApiImplementations
+ */
+abstract class AbstractNodeSelectionAsyncCommands<K, V> implements NodeSelectionHashAsyncCommands<K, V>,
+        NodeSelectionHLLAsyncCommands<K, V>, NodeSelectionKeyAsyncCommands<K, V>, NodeSelectionListAsyncCommands<K, V>,
+        NodeSelectionScriptingAsyncCommands<K, V>, NodeSelectionServerAsyncCommands<K, V>, NodeSelectionSetAsyncCommands<K, V>,
+        NodeSelectionSortedSetAsyncCommands<K, V>, NodeSelectionStringAsyncCommands<K, V>, BaseNodeSelectionAsyncCommands<K, V>,
+        NodeSelectionGeoAsyncCommands<K, V> {
+
+    /**
+     * Invoke {@code function} on the asynchronous API of every node of the selection.
+     *
+     * @param function the command to invoke
+     * @param <T> result type
+     * @return the executions.
+     */
+    protected abstract <T> AsyncExecutions<T> execute(Function<RedisClusterAsyncCommands<K, V>, RedisFuture<T>> function);
+
+    @Override
+    public AsyncExecutions<Long> hdel(K key, K... fields) {
+        return execute(commands -> commands.hdel(key, fields));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> hexists(K key, K field) {
+        return execute(commands -> commands.hexists(key, field));
+    }
+
+    @Override
+    public AsyncExecutions<V> hget(K key, K field) {
+        return execute(commands -> commands.hget(key, field));
+    }
+
+    @Override
+    public AsyncExecutions<Long> hincrby(K key, K field, long amount) {
+        return execute(commands -> commands.hincrby(key, field, amount));
+    }
+
+    @Override
+    public AsyncExecutions<Double> hincrbyfloat(K key, K field, double amount) {
+        return execute(commands -> commands.hincrbyfloat(key, field, amount));
+    }
+
+    @Override
+    public AsyncExecutions<Map<K, V>> hgetall(K key) {
+        return execute(commands -> commands.hgetall(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> hgetall(KeyValueStreamingChannel<K, V> channel, K key) {
+        return execute(commands -> commands.hgetall(channel, key));
+    }
+
+    @Override
+    public AsyncExecutions<List<K>> hkeys(K key) {
+        return execute(commands -> commands.hkeys(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> hkeys(KeyStreamingChannel<K> channel, K key) {
+        return execute(commands -> commands.hkeys(channel, key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> hlen(K key) {
+        return execute(commands -> commands.hlen(key));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> hmget(K key, K... fields) {
+        return execute(commands -> commands.hmget(key, fields));
+    }
+
+    @Override
+    public AsyncExecutions<Long> hmget(ValueStreamingChannel<V> channel, K key, K... fields) {
+        return execute(commands -> commands.hmget(channel, key, fields));
+    }
+
+    @Override
+    public AsyncExecutions<String> hmset(K key, Map<K, V> map) {
+        return execute(commands -> commands.hmset(key, map));
+    }
+
+    @Override
+    public AsyncExecutions<MapScanCursor<K, V>> hscan(K key) {
+        return execute(commands -> commands.hscan(key));
+    }
+
+    @Override
+    public AsyncExecutions<MapScanCursor<K, V>> hscan(K key, ScanArgs scanArgs) {
+        return execute(commands -> commands.hscan(key, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<MapScanCursor<K, V>> hscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(commands -> commands.hscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<MapScanCursor<K, V>> hscan(K key, ScanCursor scanCursor) {
+        return execute(commands -> commands.hscan(key, scanCursor));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key) {
+        return execute(commands -> commands.hscan(channel, key));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanArgs scanArgs) {
+        return execute(commands -> commands.hscan(channel, key, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return execute(commands -> commands.hscan(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor) {
+        return execute(commands -> commands.hscan(channel, key, scanCursor));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> hset(K key, K field, V value) {
+        return execute(commands -> commands.hset(key, field, value));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> hsetnx(K key, K field, V value) {
+        return execute(commands -> commands.hsetnx(key, field, value));
+    }
+
+    @Override
+    public AsyncExecutions<Long> hstrlen(K key, K field) {
+        return execute(commands -> commands.hstrlen(key, field));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> hvals(K key) {
+        return execute(commands -> commands.hvals(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> hvals(ValueStreamingChannel<V> channel, K key) {
+        return execute(commands -> commands.hvals(channel, key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> pfadd(K key, V... values) {
+        return execute(commands -> commands.pfadd(key, values));
+    }
+
+    @Override
+    public AsyncExecutions<String> pfmerge(K destkey, K... sourcekeys) {
+        return execute(commands -> commands.pfmerge(destkey, sourcekeys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> pfcount(K... keys) {
+        return execute(commands -> commands.pfcount(keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> del(K... keys) {
+        return execute(commands -> commands.del(keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> unlink(K... keys) {
+        return execute(commands -> commands.unlink(keys));
+    }
+
+    @Override
+    public AsyncExecutions<byte[]> dump(K key) {
+        return execute(commands -> commands.dump(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> exists(K... keys) {
+        return execute(commands -> commands.exists(keys));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> expire(K key, long seconds) {
+        return execute(commands -> commands.expire(key, seconds));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> expireat(K key, Date timestamp) {
+        return execute(commands -> commands.expireat(key, timestamp));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> expireat(K key, long timestamp) {
+        return execute(commands -> commands.expireat(key, timestamp));
+    }
+
+    @Override
+    public AsyncExecutions<List<K>> keys(K pattern) {
+        return execute(commands -> commands.keys(pattern));
+    }
+
+    @Override
+    public AsyncExecutions<Long> keys(KeyStreamingChannel<K> channel, K pattern) {
+        return execute(commands -> commands.keys(channel, pattern));
+    }
+
+    @Override
+    public AsyncExecutions<String> migrate(String host, int port, K key, int db, long timeout) {
+        return execute(commands -> commands.migrate(host, port, key, db, timeout));
+    }
+
+    @Override
+    public AsyncExecutions<String> migrate(String host, int port, int db, long timeout, MigrateArgs<K> migrateArgs) {
+        return execute(commands -> commands.migrate(host, port, db, timeout, migrateArgs));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> move(K key, int db) {
+        return execute(commands -> commands.move(key, db));
+    }
+
+    @Override
+    public AsyncExecutions<String> objectEncoding(K key) {
+        return execute(commands -> commands.objectEncoding(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> objectIdletime(K key) {
+        return execute(commands -> commands.objectIdletime(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> objectRefcount(K key) {
+        return execute(commands -> commands.objectRefcount(key));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> persist(K key) {
+        return execute(commands -> commands.persist(key));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> pexpire(K key, long milliseconds) {
+        return execute(commands -> commands.pexpire(key, milliseconds));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> pexpireat(K key, Date timestamp) {
+        return execute(commands -> commands.pexpireat(key, timestamp));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> pexpireat(K key, long timestamp) {
+        return execute(commands -> commands.pexpireat(key, timestamp));
+    }
+
+    @Override
+    public AsyncExecutions<Long> pttl(K key) {
+        return execute(commands -> commands.pttl(key));
+    }
+
+    @Override
+    public AsyncExecutions<V> randomkey() {
+        return execute(commands -> commands.randomkey());
+    }
+
+    @Override
+    public AsyncExecutions<String> rename(K key, K newKey) {
+        return execute(commands -> commands.rename(key, newKey));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> renamenx(K key, K newKey) {
+        return execute(commands -> commands.renamenx(key, newKey));
+    }
+
+    @Override
+    public AsyncExecutions<String> restore(K key, long ttl, byte[] value) {
+        return execute(commands -> commands.restore(key, ttl, value));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> sort(K key) {
+        return execute(commands -> commands.sort(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> sort(ValueStreamingChannel<V> channel, K key) {
+        return execute(commands -> commands.sort(channel, key));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> sort(K key, SortArgs sortArgs) {
+        return execute(commands -> commands.sort(key, sortArgs));
+    }
+
+    @Override
+    public AsyncExecutions<Long> sort(ValueStreamingChannel<V> channel, K key, SortArgs sortArgs) {
+        return execute(commands -> commands.sort(channel, key, sortArgs));
+    }
+
+    @Override
+    public AsyncExecutions<Long> sortStore(K key, SortArgs sortArgs, K destination) {
+        return execute(commands -> commands.sortStore(key, sortArgs, destination));
+    }
+
+    @Override
+    public AsyncExecutions<Long> ttl(K key) {
+        return execute(commands -> commands.ttl(key));
+    }
+
+    @Override
+    public AsyncExecutions<String> type(K key) {
+        return execute(commands -> commands.type(key));
+    }
+
+    @Override
+    public AsyncExecutions<KeyScanCursor<K>> scan() {
+        return execute(commands -> commands.scan());
+    }
+
+    @Override
+    public AsyncExecutions<KeyScanCursor<K>> scan(ScanArgs scanArgs) {
+        return execute(commands -> commands.scan(scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<KeyScanCursor<K>> scan(ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(commands -> commands.scan(scanCursor, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<KeyScanCursor<K>> scan(ScanCursor scanCursor) {
+        return execute(commands -> commands.scan(scanCursor));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> scan(KeyStreamingChannel<K> channel) {
+        return execute(commands -> commands.scan(channel));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanArgs scanArgs) {
+        return execute(commands -> commands.scan(channel, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(commands -> commands.scan(channel, scanCursor, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor) {
+        return execute(commands -> commands.scan(channel, scanCursor));
+    }
+
+    @Override
+    public AsyncExecutions<KeyValue<K, V>> blpop(long timeout, K... keys) {
+        return execute(commands -> commands.blpop(timeout, keys));
+    }
+
+    @Override
+    public AsyncExecutions<KeyValue<K, V>> brpop(long timeout, K... keys) {
+        return execute(commands -> commands.brpop(timeout, keys));
+    }
+
+    @Override
+    public AsyncExecutions<V> brpoplpush(long timeout, K source, K destination) {
+        return execute(commands -> commands.brpoplpush(timeout, source, destination));
+    }
+
+    @Override
+    public AsyncExecutions<V> lindex(K key, long index) {
+        return execute(commands -> commands.lindex(key, index));
+    }
+
+    @Override
+    public AsyncExecutions<Long> linsert(K key, boolean before, V pivot, V value) {
+        return execute(commands -> commands.linsert(key, before, pivot, value));
+    }
+
+    @Override
+    public AsyncExecutions<Long> llen(K key) {
+        return execute(commands -> commands.llen(key));
+    }
+
+    @Override
+    public AsyncExecutions<V> lpop(K key) {
+        return execute(commands -> commands.lpop(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> lpush(K key, V... values) {
+        return execute(commands -> commands.lpush(key, values));
+    }
+
+    @Override
+    public AsyncExecutions<Long> lpushx(K key, V value) {
+        return execute(commands -> commands.lpushx(key, value));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> lrange(K key, long start, long stop) {
+        return execute(commands -> commands.lrange(key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<Long> lrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(commands -> commands.lrange(channel, key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<Long> lrem(K key, long count, V value) {
+        return execute(commands -> commands.lrem(key, count, value));
+    }
+
+    @Override
+    public AsyncExecutions<String> lset(K key, long index, V value) {
+        return execute(commands -> commands.lset(key, index, value));
+    }
+
+    @Override
+    public AsyncExecutions<String> ltrim(K key, long start, long stop) {
+        return execute(commands -> commands.ltrim(key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<V> rpop(K key) {
+        return execute(commands -> commands.rpop(key));
+    }
+
+    @Override
+    public AsyncExecutions<V> rpoplpush(K source, K destination) {
+        return execute(commands -> commands.rpoplpush(source, destination));
+    }
+
+    @Override
+    public AsyncExecutions<Long> rpush(K key, V... values) {
+        return execute(commands -> commands.rpush(key, values));
+    }
+
+    @Override
+    public AsyncExecutions<Long> rpushx(K key, V value) {
+        return execute(commands -> commands.rpushx(key, value));
+    }
+
+    @Override
+    public <T> AsyncExecutions<T> eval(String script, ScriptOutputType type, K... keys) {
+        return execute(commands -> commands.eval(script, type, keys));
+    }
+
+    @Override
+    public <T> AsyncExecutions<T> eval(String script, ScriptOutputType type, K[] keys, V... values) {
+        return execute(commands -> commands.eval(script, type, keys, values));
+    }
+
+    @Override
+    public <T> AsyncExecutions<T> evalsha(String digest, ScriptOutputType type, K... keys) {
+        return execute(commands -> commands.evalsha(digest, type, keys));
+    }
+
+    @Override
+    public <T> AsyncExecutions<T> evalsha(String digest, ScriptOutputType type, K[] keys, V... values) {
+        return execute(commands -> commands.evalsha(digest, type, keys, values));
+    }
+
+    @Override
+    public AsyncExecutions<List<Boolean>> scriptExists(String... digests) {
+        return execute(commands -> commands.scriptExists(digests));
+    }
+
+    @Override
+    public AsyncExecutions<String> scriptFlush() {
+        return execute(commands -> commands.scriptFlush());
+    }
+
+    @Override
+    public AsyncExecutions<String> scriptKill() {
+        return execute(commands -> commands.scriptKill());
+    }
+
+    @Override
+    public AsyncExecutions<String> scriptLoad(V script) {
+        return execute(commands -> commands.scriptLoad(script));
+    }
+
+    @Override
+    public AsyncExecutions<String> bgrewriteaof() {
+        return execute(commands -> commands.bgrewriteaof());
+    }
+
+    @Override
+    public AsyncExecutions<String> bgsave() {
+        return execute(commands -> commands.bgsave());
+    }
+
+    @Override
+    public AsyncExecutions<K> clientGetname() {
+        return execute(commands -> commands.clientGetname());
+    }
+
+    @Override
+    public AsyncExecutions<String> clientSetname(K name) {
+        return execute(commands -> commands.clientSetname(name));
+    }
+
+    @Override
+    public AsyncExecutions<String> clientKill(String addr) {
+        return execute(commands -> commands.clientKill(addr));
+    }
+
+    @Override
+    public AsyncExecutions<Long> clientKill(KillArgs killArgs) {
+        return execute(commands -> commands.clientKill(killArgs));
+    }
+
+    @Override
+    public AsyncExecutions<String> clientPause(long timeout) {
+        return execute(commands -> commands.clientPause(timeout));
+    }
+
+    @Override
+    public AsyncExecutions<String> clientList() {
+        return execute(commands -> commands.clientList());
+    }
+
+    @Override
+    public AsyncExecutions<List<Object>> command() {
+        return execute(commands -> commands.command());
+    }
+
+    @Override
+    public AsyncExecutions<List<Object>> commandInfo(String... commands) {
+        return execute(api -> api.commandInfo(commands));
+    }
+
+    @Override
+    public AsyncExecutions<List<Object>> commandInfo(CommandType... commands) {
+        return execute(api -> api.commandInfo(commands));
+    }
+
+    @Override
+    public AsyncExecutions<Long> commandCount() {
+        return execute(commands -> commands.commandCount());
+    }
+
+    @Override
+    public AsyncExecutions<List<String>> configGet(String parameter) {
+        return execute(commands -> commands.configGet(parameter));
+    }
+
+    @Override
+    public AsyncExecutions<String> configResetstat() {
+        return execute(commands -> commands.configResetstat());
+    }
+
+    @Override
+    public AsyncExecutions<String> configRewrite() {
+        return execute(commands -> commands.configRewrite());
+    }
+
+    @Override
+    public AsyncExecutions<String> configSet(String parameter, String value) {
+        return execute(commands -> commands.configSet(parameter, value));
+    }
+
+    @Override
+    public AsyncExecutions<Long> dbsize() {
+        return execute(commands -> commands.dbsize());
+    }
+
+    @Override
+    public AsyncExecutions<String> debugCrashAndRecover(Long delay) {
+        return execute(commands -> commands.debugCrashAndRecover(delay));
+    }
+
+    @Override
+    public AsyncExecutions<String> debugHtstats(int db) {
+        return execute(commands -> commands.debugHtstats(db));
+    }
+
+    @Override
+    public AsyncExecutions<String> debugObject(K key) {
+        return execute(commands -> commands.debugObject(key));
+    }
+
+    @Override
+    public AsyncExecutions<String> debugReload() {
+        return execute(commands -> commands.debugReload());
+    }
+
+    @Override
+    public AsyncExecutions<String> debugRestart(Long delay) {
+        return execute(commands -> commands.debugRestart(delay));
+    }
+
+    @Override
+    public AsyncExecutions<String> debugSdslen(K key) {
+        return execute(commands -> commands.debugSdslen(key));
+    }
+
+    @Override
+    public AsyncExecutions<String> flushall() {
+        return execute(commands -> commands.flushall());
+    }
+
+    @Override
+    public AsyncExecutions<String> flushallAsync() {
+        return execute(commands -> commands.flushallAsync());
+    }
+
+    @Override
+    public AsyncExecutions<String> flushdb() {
+        return execute(commands -> commands.flushdb());
+    }
+
+    @Override
+    public AsyncExecutions<String> flushdbAsync() {
+        return execute(commands -> commands.flushdbAsync());
+    }
+
+    @Override
+    public AsyncExecutions<String> info() {
+        return execute(commands -> commands.info());
+    }
+
+    @Override
+    public AsyncExecutions<String> info(String section) {
+        return execute(commands -> commands.info(section));
+    }
+
+    @Override
+    public AsyncExecutions<Date> lastsave() {
+        return execute(commands -> commands.lastsave());
+    }
+
+    @Override
+    public AsyncExecutions<String> save() {
+        return execute(commands -> commands.save());
+    }
+
+    @Override
+    public AsyncExecutions<String> slaveof(String host, int port) {
+        return execute(commands -> commands.slaveof(host, port));
+    }
+
+    @Override
+    public AsyncExecutions<String> slaveofNoOne() {
+        return execute(commands -> commands.slaveofNoOne());
+    }
+
+    @Override
+    public AsyncExecutions<List<Object>> slowlogGet() {
+        return execute(commands -> commands.slowlogGet());
+    }
+
+    @Override
+    public AsyncExecutions<List<Object>> slowlogGet(int count) {
+        return execute(commands -> commands.slowlogGet(count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> slowlogLen() {
+        return execute(commands -> commands.slowlogLen());
+    }
+
+    @Override
+    public AsyncExecutions<String> slowlogReset() {
+        return execute(commands -> commands.slowlogReset());
+    }
+
+    @Override
+    public AsyncExecutions<String> sync() {
+        return execute(commands -> commands.sync());
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> time() {
+        return execute(commands -> commands.time());
+    }
+
+    @Override
+    public AsyncExecutions<Long> sadd(K key, V... members) {
+        return execute(commands -> commands.sadd(key, members));
+    }
+
+    @Override
+    public AsyncExecutions<Long> scard(K key) {
+        return execute(commands -> commands.scard(key));
+    }
+
+    @Override
+    public AsyncExecutions<Set<V>> sdiff(K... keys) {
+        return execute(commands -> commands.sdiff(keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> sdiff(ValueStreamingChannel<V> channel, K... keys) {
+        return execute(commands -> commands.sdiff(channel, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> sdiffstore(K destination, K... keys) {
+        return execute(commands -> commands.sdiffstore(destination, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Set<V>> sinter(K... keys) {
+        return execute(commands -> commands.sinter(keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> sinter(ValueStreamingChannel<V> channel, K... keys) {
+        return execute(commands -> commands.sinter(channel, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> sinterstore(K destination, K... keys) {
+        return execute(commands -> commands.sinterstore(destination, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> sismember(K key, V member) {
+        return execute(commands -> commands.sismember(key, member));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> smove(K source, K destination, V member) {
+        return execute(commands -> commands.smove(source, destination, member));
+    }
+
+    @Override
+    public AsyncExecutions<Set<V>> smembers(K key) {
+        return execute(commands -> commands.smembers(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> smembers(ValueStreamingChannel<V> channel, K key) {
+        return execute(commands -> commands.smembers(channel, key));
+    }
+
+    @Override
+    public AsyncExecutions<V> spop(K key) {
+        return execute(commands -> commands.spop(key));
+    }
+
+    @Override
+    public AsyncExecutions<V> srandmember(K key) {
+        return execute(commands -> commands.srandmember(key));
+    }
+
+    @Override
+    public AsyncExecutions<Set<V>> srandmember(K key, long count) {
+        return execute(commands -> commands.srandmember(key, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> srandmember(ValueStreamingChannel<V> channel, K key, long count) {
+        return execute(commands -> commands.srandmember(channel, key, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> srem(K key, V... members) {
+        return execute(commands -> commands.srem(key, members));
+    }
+
+    @Override
+    public AsyncExecutions<Set<V>> sunion(K... keys) {
+        return execute(commands -> commands.sunion(keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> sunion(ValueStreamingChannel<V> channel, K... keys) {
+        return execute(commands -> commands.sunion(channel, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> sunionstore(K destination, K... keys) {
+        return execute(commands -> commands.sunionstore(destination, keys));
+    }
+
+    @Override
+    public AsyncExecutions<ValueScanCursor<V>> sscan(K key) {
+        return execute(commands -> commands.sscan(key));
+    }
+
+    @Override
+    public AsyncExecutions<ValueScanCursor<V>> sscan(K key, ScanArgs scanArgs) {
+        return execute(commands -> commands.sscan(key, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<ValueScanCursor<V>> sscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(commands -> commands.sscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<ValueScanCursor<V>> sscan(K key, ScanCursor scanCursor) {
+        return execute(commands -> commands.sscan(key, scanCursor));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key) {
+        return execute(commands -> commands.sscan(channel, key));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return execute(commands -> commands.sscan(channel, key, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return execute(commands -> commands.sscan(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return execute(commands -> commands.sscan(channel, key, scanCursor));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zadd(K key, double score, V member) {
+        return execute(commands -> commands.zadd(key, score, member));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zadd(K key, Object... scoresAndValues) {
+        return execute(commands -> commands.zadd(key, scoresAndValues));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zadd(K key, ScoredValue<V>... scoredValues) {
+        return execute(commands -> commands.zadd(key, scoredValues));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zadd(K key, ZAddArgs zAddArgs, double score, V member) {
+        return execute(commands -> commands.zadd(key, zAddArgs, score, member));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zadd(K key, ZAddArgs zAddArgs, Object... scoresAndValues) {
+        return execute(commands -> commands.zadd(key, zAddArgs, scoresAndValues));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zadd(K key, ZAddArgs zAddArgs, ScoredValue<V>... scoredValues) {
+        return execute(commands -> commands.zadd(key, zAddArgs, scoredValues));
+    }
+
+    @Override
+    public AsyncExecutions<Double> zaddincr(K key, double score, V member) {
+        return execute(commands -> commands.zaddincr(key, score, member));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zcard(K key) {
+        return execute(commands -> commands.zcard(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zcount(K key, double min, double max) {
+        return execute(commands -> commands.zcount(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zcount(K key, String min, String max) {
+        return execute(commands -> commands.zcount(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<Double> zincrby(K key, double amount, K member) {
+        return execute(commands -> commands.zincrby(key, amount, member));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zinterstore(K destination, K... keys) {
+        return execute(commands -> commands.zinterstore(destination, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zinterstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return execute(commands -> commands.zinterstore(destination, storeArgs, keys));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrange(K key, long start, long stop) {
+        return execute(commands -> commands.zrange(key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrangeWithScores(K key, long start, long stop) {
+        return execute(commands -> commands.zrangeWithScores(key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrangebyscore(K key, double min, double max) {
+        return execute(commands -> commands.zrangebyscore(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrangebyscore(K key, String min, String max) {
+        return execute(commands -> commands.zrangebyscore(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrangebyscore(K key, double min, double max, long offset, long count) {
+        return execute(commands -> commands.zrangebyscore(key, min, max, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrangebyscore(K key, String min, String max, long offset, long count) {
+        return execute(commands -> commands.zrangebyscore(key, min, max, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, double min, double max) {
+        return execute(commands -> commands.zrangebyscoreWithScores(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, String min, String max) {
+        return execute(commands -> commands.zrangebyscoreWithScores(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, double min, double max, long offset,
+            long count) {
+        return execute(commands -> commands.zrangebyscoreWithScores(key, min, max, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrangebyscoreWithScores(K key, String min, String max, long offset,
+            long count) {
+        return execute(commands -> commands.zrangebyscoreWithScores(key, min, max, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(commands -> commands.zrange(channel, key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(commands -> commands.zrangeWithScores(channel, key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max) {
+        return execute(commands -> commands.zrangebyscore(channel, key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max) {
+        return execute(commands -> commands.zrangebyscore(channel, key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max, long offset,
+            long count) {
+        return execute(commands -> commands.zrangebyscore(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max, long offset,
+            long count) {
+        return execute(commands -> commands.zrangebyscore(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min,
+            double max) {
+        return execute(commands -> commands.zrangebyscoreWithScores(channel, key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min,
+            String max) {
+        return execute(commands -> commands.zrangebyscoreWithScores(channel, key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max,
+            long offset, long count) {
+        return execute(commands -> commands.zrangebyscoreWithScores(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min, String max,
+            long offset, long count) {
+        return execute(commands -> commands.zrangebyscoreWithScores(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrank(K key, V member) {
+        return execute(commands -> commands.zrank(key, member));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrem(K key, V... members) {
+        return execute(commands -> commands.zrem(key, members));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zremrangebyrank(K key, long start, long stop) {
+        return execute(commands -> commands.zremrangebyrank(key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zremrangebyscore(K key, double min, double max) {
+        return execute(commands -> commands.zremrangebyscore(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zremrangebyscore(K key, String min, String max) {
+        return execute(commands -> commands.zremrangebyscore(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrevrange(K key, long start, long stop) {
+        return execute(commands -> commands.zrevrange(key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrevrangeWithScores(K key, long start, long stop) {
+        return execute(commands -> commands.zrevrangeWithScores(key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrevrangebyscore(K key, double max, double min) {
+        return execute(commands -> commands.zrevrangebyscore(key, max, min));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrevrangebyscore(K key, String max, String min) {
+        return execute(commands -> commands.zrevrangebyscore(key, max, min));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrevrangebyscore(K key, double max, double min, long offset, long count) {
+        return execute(commands -> commands.zrevrangebyscore(key, max, min, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrevrangebyscore(K key, String max, String min, long offset, long count) {
+        return execute(commands -> commands.zrevrangebyscore(key, max, min, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, double max, double min) {
+        return execute(commands -> commands.zrevrangebyscoreWithScores(key, max, min));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, String max, String min) {
+        return execute(commands -> commands.zrevrangebyscoreWithScores(key, max, min));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, double max, double min, long offset,
+            long count) {
+        return execute(commands -> commands.zrevrangebyscoreWithScores(key, max, min, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<List<ScoredValue<V>>> zrevrangebyscoreWithScores(K key, String max, String min, long offset,
+            long count) {
+        return execute(commands -> commands.zrevrangebyscoreWithScores(key, max, min, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(commands -> commands.zrevrange(channel, key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return execute(commands -> commands.zrevrangeWithScores(channel, key, start, stop));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min) {
+        return execute(commands -> commands.zrevrangebyscore(channel, key, max, min));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min) {
+        return execute(commands -> commands.zrevrangebyscore(channel, key, max, min));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min, long offset,
+            long count) {
+        return execute(commands -> commands.zrevrangebyscore(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min, long offset,
+            long count) {
+        return execute(commands -> commands.zrevrangebyscore(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max,
+            double min) {
+        return execute(commands -> commands.zrevrangebyscoreWithScores(channel, key, max, min));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max,
+            String min) {
+        return execute(commands -> commands.zrevrangebyscoreWithScores(channel, key, max, min));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max,
+            double min, long offset, long count) {
+        return execute(commands -> commands.zrevrangebyscoreWithScores(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max,
+            String min, long offset, long count) {
+        return execute(commands -> commands.zrevrangebyscoreWithScores(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zrevrank(K key, V member) {
+        return execute(commands -> commands.zrevrank(key, member));
+    }
+
+    @Override
+    public AsyncExecutions<Double> zscore(K key, V member) {
+        return execute(commands -> commands.zscore(key, member));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zunionstore(K destination, K... keys) {
+        return execute(commands -> commands.zunionstore(destination, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zunionstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return execute(commands -> commands.zunionstore(destination, storeArgs, keys));
+    }
+
+    @Override
+    public AsyncExecutions<ScoredValueScanCursor<V>> zscan(K key) {
+        return execute(commands -> commands.zscan(key));
+    }
+
+    @Override
+    public AsyncExecutions<ScoredValueScanCursor<V>> zscan(K key, ScanArgs scanArgs) {
+        return execute(commands -> commands.zscan(key, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<ScoredValueScanCursor<V>> zscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return execute(commands -> commands.zscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<ScoredValueScanCursor<V>> zscan(K key, ScanCursor scanCursor) {
+        return execute(commands -> commands.zscan(key, scanCursor));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key) {
+        return execute(commands -> commands.zscan(channel, key));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return execute(commands -> commands.zscan(channel, key, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return execute(commands -> commands.zscan(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public AsyncExecutions<StreamScanCursor> zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return execute(commands -> commands.zscan(channel, key, scanCursor));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zlexcount(K key, String min, String max) {
+        return execute(commands -> commands.zlexcount(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<Long> zremrangebylex(K key, String min, String max) {
+        return execute(commands -> commands.zremrangebylex(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrangebylex(K key, String min, String max) {
+        return execute(commands -> commands.zrangebylex(key, min, max));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> zrangebylex(K key, String min, String max, long offset, long count) {
+        return execute(commands -> commands.zrangebylex(key, min, max, offset, count));
+    }
+
+    @Override
+    public AsyncExecutions<Long> append(K key, V value) {
+        return execute(commands -> commands.append(key, value));
+    }
+
+    @Override
+    public AsyncExecutions<Long> bitcount(K key) {
+        return execute(commands -> commands.bitcount(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> bitcount(K key, long start, long end) {
+        return execute(commands -> commands.bitcount(key, start, end));
+    }
+
+    @Override
+    public AsyncExecutions<List<Long>> bitfield(K key, BitFieldArgs bitFieldArgs) {
+        return execute(commands -> commands.bitfield(key, bitFieldArgs));
+    }
+
+    @Override
+    public AsyncExecutions<Long> bitpos(K key, boolean state) {
+        return execute(commands -> commands.bitpos(key, state));
+    }
+
+    @Override
+    public AsyncExecutions<Long> bitpos(K key, boolean state, long start, long end) {
+        return execute(commands -> commands.bitpos(key, state, start, end));
+    }
+
+    @Override
+    public AsyncExecutions<Long> bitopAnd(K destination, K... keys) {
+        return execute(commands -> commands.bitopAnd(destination, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> bitopNot(K destination, K source) {
+        return execute(commands -> commands.bitopNot(destination, source));
+    }
+
+    @Override
+    public AsyncExecutions<Long> bitopOr(K destination, K... keys) {
+        return execute(commands -> commands.bitopOr(destination, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> bitopXor(K destination, K... keys) {
+        return execute(commands -> commands.bitopXor(destination, keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> decr(K key) {
+        return execute(commands -> commands.decr(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> decrby(K key, long amount) {
+        return execute(commands -> commands.decrby(key, amount));
+    }
+
+    @Override
+    public AsyncExecutions<V> get(K key) {
+        return execute(commands -> commands.get(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> getbit(K key, long offset) {
+        return execute(commands -> commands.getbit(key, offset));
+    }
+
+    @Override
+    public AsyncExecutions<V> getrange(K key, long start, long end) {
+        return execute(commands -> commands.getrange(key, start, end));
+    }
+
+    @Override
+    public AsyncExecutions<V> getset(K key, V value) {
+        return execute(commands -> commands.getset(key, value));
+    }
+
+    @Override
+    public AsyncExecutions<Long> incr(K key) {
+        return execute(commands -> commands.incr(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> incrby(K key, long amount) {
+        return execute(commands -> commands.incrby(key, amount));
+    }
+
+    @Override
+    public AsyncExecutions<Double> incrbyfloat(K key, double amount) {
+        return execute(commands -> commands.incrbyfloat(key, amount));
+    }
+
+    @Override
+    public AsyncExecutions<List<V>> mget(K... keys) {
+        return execute(commands -> commands.mget(keys));
+    }
+
+    @Override
+    public AsyncExecutions<Long> mget(ValueStreamingChannel<V> channel, K... keys) {
+        return execute(commands -> commands.mget(channel, keys));
+    }
+
+    @Override
+    public AsyncExecutions<String> mset(Map<K, V> map) {
+        return execute(commands -> commands.mset(map));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> msetnx(Map<K, V> map) {
+        return execute(commands -> commands.msetnx(map));
+    }
+
+    @Override
+    public AsyncExecutions<String> set(K key, V value) {
+        return execute(commands -> commands.set(key, value));
+    }
+
+    @Override
+    public AsyncExecutions<String> set(K key, V value, SetArgs setArgs) {
+        return execute(commands -> commands.set(key, value, setArgs));
+    }
+
+    @Override
+    public AsyncExecutions<Long> setbit(K key, long offset, int value) {
+        return execute(commands -> commands.setbit(key, offset, value));
+    }
+
+    @Override
+    public AsyncExecutions<String> setex(K key, long seconds, V value) {
+        return execute(commands -> commands.setex(key, seconds, value));
+    }
+
+    @Override
+    public AsyncExecutions<String> psetex(K key, long milliseconds, V value) {
+        return execute(commands -> commands.psetex(key, milliseconds, value));
+    }
+
+    @Override
+    public AsyncExecutions<Boolean> setnx(K key, V value) {
+        return execute(commands -> commands.setnx(key, value));
+    }
+
+    @Override
+    public AsyncExecutions<Long> setrange(K key, long offset, V value) {
+        return execute(commands -> commands.setrange(key, offset, value));
+    }
+
+    @Override
+    public AsyncExecutions<Long> strlen(K key) {
+        return execute(commands -> commands.strlen(key));
+    }
+
+    @Override
+    public AsyncExecutions<Long> publish(K channel, V message) {
+        return execute(commands -> commands.publish(channel, message));
+    }
+
+    @Override
+    public AsyncExecutions<List<K>> pubsubChannels() {
+        return execute(commands -> commands.pubsubChannels());
+    }
+
+    @Override
+    public AsyncExecutions<List<K>> pubsubChannels(K channel) {
+        return execute(commands -> commands.pubsubChannels(channel));
+    }
+
+    @Override
+    public AsyncExecutions<Map<K, Long>> pubsubNumsub(K... channels) {
+        return execute(commands -> commands.pubsubNumsub(channels));
+    }
+
+    @Override
+    public AsyncExecutions<Long> pubsubNumpat() {
+        return execute(commands -> commands.pubsubNumpat());
+    }
+
+    @Override
+    public AsyncExecutions<V> echo(V msg) {
+        return execute(commands -> commands.echo(msg));
+    }
+
+    @Override
+    public AsyncExecutions<List<Object>> role() {
+        return execute(commands -> commands.role());
+    }
+
+    @Override
+    public AsyncExecutions<String> ping() {
+        return execute(commands -> commands.ping());
+    }
+
+    @Override
+    public AsyncExecutions<String> quit() {
+        return execute(commands -> commands.quit());
+    }
+
+    @Override
+    public AsyncExecutions<Long> waitForReplication(int replicas, long timeout) {
+        return execute(commands -> commands.waitForReplication(replicas, timeout));
+    }
+
+    @Override
+    public AsyncExecutions<Long> geoadd(K key, double longitude, double latitude, V member) {
+        return execute(commands -> commands.geoadd(key, longitude, latitude, member));
+    }
+
+    @Override
+    public AsyncExecutions<Long> geoadd(K key, Object... lngLatMember) {
+        return execute(commands -> commands.geoadd(key, lngLatMember));
+    }
+
+    @Override
+    public AsyncExecutions<Set<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
+        return execute(commands -> commands.georadius(key, longitude, latitude, distance, unit));
+    }
+
+    @Override
+    public AsyncExecutions<List<GeoWithin<V>>> georadius(K key, double longitude, double latitude, double distance,
+            GeoArgs.Unit unit, GeoArgs geoArgs) {
+        return execute(commands -> commands.georadius(key, longitude, latitude, distance, unit, geoArgs));
+    }
+
+    @Override
+    public AsyncExecutions<Long> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return execute(commands -> commands.georadius(key, longitude, latitude, distance, unit, geoRadiusStoreArgs));
+    }
+
+    @Override
+    public AsyncExecutions<Set<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit) {
+        return execute(commands -> commands.georadiusbymember(key, member, distance, unit));
+    }
+
+    @Override
+    public AsyncExecutions<List<GeoWithin<V>>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit,
+            GeoArgs geoArgs) {
+        return execute(commands -> commands.georadiusbymember(key, member, distance, unit, geoArgs));
+    }
+
+    @Override
+    public AsyncExecutions<Long> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return execute(commands -> commands.georadiusbymember(key, member, distance, unit, geoRadiusStoreArgs));
+    }
+
+    @Override
+    public AsyncExecutions<List<GeoCoordinates>> geopos(K key, V... members) {
+        return execute(commands -> commands.geopos(key, members));
+    }
+
+    @Override
+    public AsyncExecutions<Double> geodist(K key, V from, V to, GeoArgs.Unit unit) {
+        return execute(commands -> commands.geodist(key, from, to, unit));
+    }
+}
@@ -1,8 +1,16 @@
 package com.lambdaworks.redis.cluster;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.ReadBalancing;
+import com.lambdaworks.redis.TimeoutOptions;
 
 /**
  * Client Options to control the behavior of {@link RedisClusterClient}.
@@ -17,6 +25,14 @@ public class ClusterClientOptions extends ClientOptions {
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
     public static final boolean DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP = true;
     public static final int DEFAULT_MAX_REDIRECTS = 5;
+    public static final boolean DEFAULT_REUSE_TOPOLOGY_REFRESH_CONNECTIONS = false;
+    public static final int DEFAULT_TOPOLOGY_REFRESH_CONCURRENCY = Integer.MAX_VALUE;
+    public static final Set<RefreshTrigger> DEFAULT_ADAPTIVE_REFRESH_TRIGGERS = Collections.emptySet();
+    public static final long DEFAULT_ADAPTIVE_REFRESH_TIMEOUT = 30;
+    public static final TimeUnit DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_UNIT = TimeUnit.SECONDS;
+    public static final int DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS = 5;
+    public static final TopologySource DEFAULT_TOPOLOGY_SOURCE = TopologySource.CLUSTER_NODES;
+    public static final PrewarmConnections DEFAULT_PREWARM_CONNECTIONS = PrewarmConnections.NONE;
 
     private final boolean refreshClusterView;
     private final long refreshPeriod;
@@ -24,6 +40,14 @@ public class ClusterClientOptions extends ClientOptions {
     private final boolean closeStaleConnections;
     private final boolean validateClusterNodeMembership;
     private final int maxRedirects;
+    private final boolean reuseTopologyRefreshConnections;
+    private final int topologyRefreshConcurrency;
+    private final Set<RefreshTrigger> adaptiveRefreshTriggers;
+    private final long adaptiveRefreshTimeout;
+    private final TimeUnit adaptiveRefreshTimeoutUnit;
+    private final int refreshTriggersReconnectAttempts;
+    private final TopologySource topologySource;
+    private final PrewarmConnections prewarmConnections;
 
     protected ClusterClientOptions(Builder builder) {
         super(builder);
@@ -33,6 +57,14 @@ public class ClusterClientOptions extends ClientOptions {
         this.closeStaleConnections = builder.closeStaleConnections;
         this.validateClusterNodeMembership = builder.validateClusterNodeMembership;
         this.maxRedirects = builder.maxRedirects;
+        this.reuseTopologyRefreshConnections = builder.reuseTopologyRefreshConnections;
+        this.topologyRefreshConcurrency = builder.topologyRefreshConcurrency;
+        this.adaptiveRefreshTriggers = Collections.unmodifiableSet(EnumSet.copyOf(builder.adaptiveRefreshTriggers));
+        this.adaptiveRefreshTimeout = builder.adaptiveRefreshTimeout;
+        this.adaptiveRefreshTimeoutUnit = builder.adaptiveRefreshTimeoutUnit;
+        this.refreshTriggersReconnectAttempts = builder.refreshTriggersReconnectAttempts;
+        this.topologySource = builder.topologySource;
+        this.prewarmConnections = builder.prewarmConnections;
     }
 
     protected ClusterClientOptions(ClusterClientOptions original) {
@@ -43,6 +75,14 @@ public class ClusterClientOptions extends ClientOptions {
         this.closeStaleConnections = original.closeStaleConnections;
         this.validateClusterNodeMembership = original.validateClusterNodeMembership;
         this.maxRedirects = original.maxRedirects;
+        this.reuseTopologyRefreshConnections = original.reuseTopologyRefreshConnections;
+        this.topologyRefreshConcurrency = original.topologyRefreshConcurrency;
+        this.adaptiveRefreshTriggers = original.adaptiveRefreshTriggers;
+        this.adaptiveRefreshTimeout = original.adaptiveRefreshTimeout;
+        this.adaptiveRefreshTimeoutUnit = original.adaptiveRefreshTimeoutUnit;
+        this.refreshTriggersReconnectAttempts = original.refreshTriggersReconnectAttempts;
+        this.topologySource = original.topologySource;
+        this.prewarmConnections = original.prewarmConnections;
     }
 
     /**
@@ -66,6 +106,14 @@ public class ClusterClientOptions extends ClientOptions {
         private boolean closeStaleConnections = DEFAULT_CLOSE_STALE_CONNECTIONS;
         private boolean validateClusterNodeMembership = DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP;
         private int maxRedirects = DEFAULT_MAX_REDIRECTS;
+        private boolean reuseTopologyRefreshConnections = DEFAULT_REUSE_TOPOLOGY_REFRESH_CONNECTIONS;
+        private int topologyRefreshConcurrency = DEFAULT_TOPOLOGY_REFRESH_CONCURRENCY;
+        private Set<RefreshTrigger> adaptiveRefreshTriggers = EnumSet.noneOf(RefreshTrigger.class);
+        private long adaptiveRefreshTimeout = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT;
+        private TimeUnit adaptiveRefreshTimeoutUnit = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_UNIT;
+        private int refreshTriggersReconnectAttempts = DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS;
+        private TopologySource topologySource = DEFAULT_TOPOLOGY_SOURCE;
+        private PrewarmConnections prewarmConnections = DEFAULT_PREWARM_CONNECTIONS;
 
         /**
          * Enable regular cluster topology updates. The client starts updating the cluster topology in the intervals of
@@ -132,6 +180,116 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        /**
+         * Keep the connections used to retrieve the cluster topology open between topology refreshes. Connections are opened
+         * only for newly discovered nodes and closed once a node disappears from the topology. Disabling this option opens and
+         * closes connections to all nodes on every refresh. Defaults to {@literal false}. See
+         * {@link ClusterClientOptions#DEFAULT_REUSE_TOPOLOGY_REFRESH_CONNECTIONS}.
+         *
+         * @param reuseTopologyRefreshConnections {@literal true} to reuse topology refresh connections
+         * @return {@code this}
+         */
+        public Builder reuseTopologyRefreshConnections(boolean reuseTopologyRefreshConnections) {
+            this.reuseTopologyRefreshConnections = reuseTopologyRefreshConnections;
+            return this;
+        }
+
+        /**
+         * Maximal number of nodes that are queried concurrently when retrieving the cluster topology. Defaults to
+         * {@link Integer#MAX_VALUE} (unbounded). See {@link ClusterClientOptions#DEFAULT_TOPOLOGY_REFRESH_CONCURRENCY}.
+         *
+         * @param topologyRefreshConcurrency the maximal number of nodes queried concurrently, must be greater {@literal 0}
+         * @return {@code this}
+         */
+        public Builder topologyRefreshConcurrency(int topologyRefreshConcurrency) {
+            checkArgument(topologyRefreshConcurrency > 0, "topologyRefreshConcurrency must be greater than zero");
+            this.topologyRefreshConcurrency = topologyRefreshConcurrency;
+            return this;
+        }
+
+        /**
+         * Enable adaptive topology refreshing using one or more {@link RefreshTrigger triggers}. Adaptive refresh triggers
+         * initiate topology view updates based on events happening during Redis Cluster operations. Adaptive triggers lead to
+         * an immediate topology refresh and are rate-limited using {@link #adaptiveRefreshTriggersTimeout(long, TimeUnit)}.
+         * Adaptive refresh triggers are disabled by default. See {@link ClusterClientOptions#DEFAULT_ADAPTIVE_REFRESH_TRIGGERS}.
+         *
+         * @param refreshTrigger one or more {@link RefreshTrigger} to enable
+         * @return {@code this}
+         */
+        public Builder enableAdaptiveRefreshTrigger(RefreshTrigger... refreshTrigger) {
+            checkArgument(refreshTrigger != null, "RefreshTriggers must not be null");
+            this.adaptiveRefreshTriggers.addAll(Arrays.asList(refreshTrigger));
+            return this;
+        }
+
+        /**
+         * Enable all adaptive topology refresh triggers. See {@link #enableAdaptiveRefreshTrigger(RefreshTrigger...)}.
+         *
+         * @return {@code this}
+         */
+        public Builder enableAllAdaptiveRefreshTriggers() {
+            this.adaptiveRefreshTriggers.addAll(EnumSet.allOf(RefreshTrigger.class));
+            return this;
+        }
+
+        /**
+         * Set the minimal period between two topology refreshes caused by adaptive refresh triggers. Triggers within the
+         * period are coalesced into the previous refresh. Defaults to {@literal 30 SECONDS}. See
+         * {@link ClusterClientOptions#DEFAULT_ADAPTIVE_REFRESH_TIMEOUT} and
+         * {@link ClusterClientOptions#DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_UNIT}.
+         *
+         * @param timeout minimal period between adaptive topology refreshes
+         * @param unit unit for {@code timeout}
+         * @return {@code this}
+         */
+        public Builder adaptiveRefreshTriggersTimeout(long timeout, TimeUnit unit) {
+            checkArgument(unit != null, "TimeUnit must not be null");
+            this.adaptiveRefreshTimeout = timeout;
+            this.adaptiveRefreshTimeoutUnit = unit;
+            return this;
+        }
+
+        /**
+         * Set the number of reconnect attempts of a node connection after which the
+         * {@link RefreshTrigger#PERSISTENT_RECONNECTS} trigger fires. Defaults to {@literal 5}. See
+         * {@link ClusterClientOptions#DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS}.
+         *
+         * @param refreshTriggersReconnectAttempts number of reconnect attempts, must be greater {@literal 0}
+         * @return {@code this}
+         */
+        public Builder refreshTriggersReconnectAttempts(int refreshTriggersReconnectAttempts) {
+            checkArgument(refreshTriggersReconnectAttempts > 0, "refreshTriggersReconnectAttempts must be greater than zero");
+            this.refreshTriggersReconnectAttempts = refreshTriggersReconnectAttempts;
+            return this;
+        }
+
+        /**
+         * Set the command used to discover the cluster topology. Defaults to {@link TopologySource#CLUSTER_NODES}. See
+         * {@link ClusterClientOptions#DEFAULT_TOPOLOGY_SOURCE}.
+         *
+         * @param topologySource the topology source, must not be {@literal null}
+         * @return {@code this}
+         */
+        public Builder topologySource(TopologySource topologySource) {
+            checkArgument(topologySource != null, "TopologySource must not be null");
+            this.topologySource = topologySource;
+            return this;
+        }
+
+        /**
+         * Set the node connections to establish in the background when connecting to the cluster and after topology changes.
+         * Prewarmed connections are established in parallel so the first commands to a node do not wait for the connect.
+         * Defaults to {@link PrewarmConnections#NONE}. See {@link ClusterClientOptions#DEFAULT_PREWARM_CONNECTIONS}.
+         *
+         * @param prewarmConnections the connections to prewarm, must not be {@literal null}
+         * @return {@code this}
+         */
+        public Builder prewarmConnections(PrewarmConnections prewarmConnections) {
+            checkArgument(prewarmConnections != null, "PrewarmConnections must not be null");
+            this.prewarmConnections = prewarmConnections;
+            return this;
+        }
+
         @Override
         public Builder pingBeforeActivateConnection(boolean pingBeforeActivateConnection) {
             super.pingBeforeActivateConnection(pingBeforeActivateConnection);
@@ -168,6 +326,36 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder zeroCopyDecoding(boolean zeroCopyDecoding) {
+            super.zeroCopyDecoding(zeroCopyDecoding);
+            return this;
+        }
+
+        @Override
+        public Builder flushConsolidation(boolean flushConsolidation) {
+            super.flushConsolidation(flushConsolidation);
+            return this;
+        }
+
+        @Override
+        public Builder flushConsolidationLimits(int maxCommands, int maxBytes) {
+            super.flushConsolidationLimits(maxCommands, maxBytes);
+            return this;
+        }
+
+        @Override
+        public Builder readBalancing(ReadBalancing readBalancing) {
+            super.readBalancing(readBalancing);
+            return this;
+        }
+
+        @Override
+        public Builder timeoutOptions(TimeoutOptions timeoutOptions) {
+            super.timeoutOptions(timeoutOptions);
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -235,6 +423,147 @@ public class ClusterClientOptions extends ClientOptions {
         return maxRedirects;
     }
 
+    /**
+     * Flag, whether to keep the connections used to retrieve the cluster topology open between topology refreshes. Defaults
+     * to {@literal false}.
+     *
+     * @return {@literal true} if topology refresh connections are reused
+     */
+    public boolean isReuseTopologyRefreshConnections() {
+        return reuseTopologyRefreshConnections;
+    }
+
+    /**
+     * Maximal number of nodes that are queried concurrently when retrieving the cluster topology. Defaults to
+     * {@link Integer#MAX_VALUE}.
+     *
+     * @return the maximal number of nodes queried concurrently
+     */
+    public int getTopologyRefreshConcurrency() {
+        return topologyRefreshConcurrency;
+    }
+
+    /**
+     * Returns the set of {@link RefreshTrigger triggers} that initiate an adaptive topology refresh. Adaptive refresh triggers
+     * are disabled by default.
+     *
+     * @return the enabled adaptive refresh triggers
+     */
+    public Set<RefreshTrigger> getAdaptiveRefreshTriggers() {
+        return adaptiveRefreshTriggers;
+    }
+
+    /**
+     * Minimal period between two topology refreshes caused by adaptive refresh triggers. Defaults to {@literal 30}.
+     *
+     * @return the minimal period between adaptive topology refreshes
+     */
+    public long getAdaptiveRefreshTimeout() {
+        return adaptiveRefreshTimeout;
+    }
+
+    /**
+     * Unit for {@link #getAdaptiveRefreshTimeout()}. Defaults to {@link TimeUnit#SECONDS}.
+     *
+     * @return unit for {@link #getAdaptiveRefreshTimeout()}
+     */
+    public TimeUnit getAdaptiveRefreshTimeoutUnit() {
+        return adaptiveRefreshTimeoutUnit;
+    }
+
+    /**
+     * Number of reconnect attempts of a node connection after which the {@link RefreshTrigger#PERSISTENT_RECONNECTS} trigger
+     * fires. Defaults to {@literal 5}.
+     *
+     * @return number of reconnect attempts
+     */
+    public int getRefreshTriggersReconnectAttempts() {
+        return refreshTriggersReconnectAttempts;
+    }
+
+    /**
+     * Command used to discover the cluster topology. Defaults to {@link TopologySource#CLUSTER_NODES}.
+     *
+     * @return the topology source
+     */
+    public TopologySource getTopologySource() {
+        return topologySource;
+    }
+
+    /**
+     * Node connections established in the background when connecting to the cluster and after topology changes. Defaults to
+     * {@link PrewarmConnections#NONE}.
+     *
+     * @return the connections to prewarm
+     */
+    public PrewarmConnections getPrewarmConnections() {
+        return prewarmConnections;
+    }
+
+    /**
+     * Events that trigger an adaptive topology refresh.
+     */
+    public enum RefreshTrigger {
+
+        /**
+         * A command was redirected with {@literal -MOVED}. The slot is routed to the redirection target until the topology is
+         * refreshed.
+         */
+        MOVED_REDIRECT,
+
+        /**
+         * A command was redirected with {@literal -ASK}.
+         */
+        ASK_REDIRECT,
+
+        /**
+         * A node connection failed to reconnect for {@link ClusterClientOptions#getRefreshTriggersReconnectAttempts()}
+         * attempts.
+         */
+        PERSISTENT_RECONNECTS
+    }
+
+    /**
+     * Commands used to discover the cluster topology.
+     */
+    public enum TopologySource {
+
+        /**
+         * Discover the topology using {@literal CLUSTER NODES}. The topology contains all known nodes including failed nodes
+         * and nodes without slots.
+         */
+        CLUSTER_NODES,
+
+        /**
+         * Discover the topology using {@literal CLUSTER SLOTS}. The reply is a binary array that does not require text
+         * parsing. The topology contains only nodes serving slots and their replicas. Node ids and therefore the
+         * master/replica relation require Redis 3.2 or newer.
+         */
+        CLUSTER_SLOTS
+    }
+
+    /**
+     * Node connections to establish ahead of use.
+     */
+    public enum PrewarmConnections {
+
+        /**
+         * Connect to nodes on first use.
+         */
+        NONE,
+
+        /**
+         * Connect to all masters. Write commands and reads from masters do not wait for the connect.
+         */
+        MASTERS,
+
+        /**
+         * Connect to all masters and replicas. Reads from replicas using {@link com.lambdaworks.redis.ReadFrom} do not wait for
+         * the connect either.
+         */
+        MASTERS_AND_REPLICAS
+    }
+
     /**
      * Create a new {@link ClusterClientOptions} using default settings.
      *
@@ -108,6 +108,16 @@ interface ClusterConnectionProvider extends Closeable {
      */
     ReadFrom getReadFrom();
 
+    /**
+     * Route write operations for {@code slot} to the node at {@code host:port} until the next topology update. Used to apply
+     * a {@literal MOVED} redirection to the slot table so subsequent commands for the slot are sent directly to the new owner.
+     *
+     * @param slot the slot
+     * @param host the host of the node serving the slot
+     * @param port the port of the node serving the slot
+     */
+    void redirectSlot(int slot, String host, int port);
+
     enum Intent {
         READ, WRITE;
     }
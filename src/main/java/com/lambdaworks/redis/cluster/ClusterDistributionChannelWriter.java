@@ -3,14 +3,20 @@ package com.lambdaworks.redis.cluster;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.lambdaworks.redis.cluster.SlotHash.getSlot;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.google.common.base.Splitter;
 import com.google.common.net.HostAndPort;
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.metrics.ConnectionMetricsRecorder;
 import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandHandler;
 import com.lambdaworks.redis.protocol.CommandKeyword;
 import com.lambdaworks.redis.protocol.ProtocolKeyword;
 import com.lambdaworks.redis.protocol.RedisCommand;
@@ -27,6 +33,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
 
     private RedisChannelWriter<K, V> defaultWriter;
     private ClusterConnectionProvider clusterConnectionProvider;
+    private final ClusterEventListener clusterEventListener;
     private boolean closed = false;
     private int executionLimit = 5;
     
@@ -34,7 +41,13 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
     long p30, p31, p32, p33, p34, p35, p36, p37;
 
     public ClusterDistributionChannelWriter(ClientOptions clientOptions, RedisChannelWriter<K, V> defaultWriter) {
+        this(clientOptions, defaultWriter, ClusterEventListener.NO_OP);
+    }
+
+    ClusterDistributionChannelWriter(ClientOptions clientOptions, RedisChannelWriter<K, V> defaultWriter,
+            ClusterEventListener clusterEventListener) {
         this.defaultWriter = defaultWriter;
+        this.clusterEventListener = clusterEventListener;
 
         if (clientOptions instanceof ClusterClientOptions) {
             executionLimit = ((ClusterClientOptions) clientOptions).getMaxRedirects();
@@ -51,14 +64,81 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
             throw new RedisException("Connection is closed");
         }
 
-        RedisCommand<K, V, T> commandToSend = command;
-        CommandArgs<K, V> args = command.getArgs();
+        RedisCommand<K, V, T> commandToSend = prepare(command);
+        RedisChannelWriter<K, V> channelWriter = getChannelWriter(command, commandToSend);
+
+        if (channelWriter != defaultWriter) {
+            return channelWriter.write((C) commandToSend);
+        }
+
+        defaultWriter.write((C) commandToSend);
+
+        return command;
+    }
+
+    /**
+     * Write multiple commands. Commands are grouped by their target node and each group is written to the node connection as
+     * one batch so commands for the same node are pipelined and flushed together.
+     *
+     * @param commands the commands
+     * @return the written commands
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        checkArgument(commands != null, "commands must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        Map<RedisChannelWriter<K, V>, List<RedisCommand<K, V, ?>>> batches = new IdentityHashMap<>();
+
+        for (RedisCommand<K, V, ?> command : commands) {
+            addToBatch(batches, command);
+        }
+
+        for (Map.Entry<RedisChannelWriter<K, V>, List<RedisCommand<K, V, ?>>> entry : batches.entrySet()) {
+            entry.getKey().write(entry.getValue());
+        }
+
+        return (Collection<RedisCommand<K, V, ?>>) commands;
+    }
+
+    private <T> void addToBatch(Map<RedisChannelWriter<K, V>, List<RedisCommand<K, V, ?>>> batches,
+            RedisCommand<K, V, T> command) {
+
+        RedisCommand<K, V, T> commandToSend = prepare(command);
+        RedisChannelWriter<K, V> channelWriter = getChannelWriter(command, commandToSend);
+
+        List<RedisCommand<K, V, ?>> batch = batches.get(channelWriter);
+        if (batch == null) {
+            batch = new ArrayList<>();
+            batches.put(channelWriter, batch);
+        }
+        batch.add(commandToSend);
+    }
+
+    private <T> RedisCommand<K, V, T> prepare(RedisCommand<K, V, T> command) {
 
         if (!(command instanceof ClusterCommand)) {
-            RedisCommand<K, V, T> singleCommand = command;
-            commandToSend = new ClusterCommand<>(singleCommand, this, executionLimit);
+            return new ClusterCommand<>(command, this, executionLimit);
         }
 
+        return command;
+    }
+
+    /**
+     * Resolve the {@link RedisChannelWriter} for {@code commandToSend}. Follows MOVED/ASK redirections and routes commands by
+     * the slot of their first key.
+     *
+     * @return the node channel writer or the {@link #defaultWriter}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> RedisChannelWriter<K, V> getChannelWriter(RedisCommand<K, V, T> command, RedisCommand<K, V, T> commandToSend) {
+
+        CommandArgs<K, V> args = command.getArgs();
         RedisChannelWriter<K, V> channelWriter = null;
 
         if (commandToSend instanceof ClusterCommand && !commandToSend.isDone()) {
@@ -66,15 +146,21 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
             if (clusterCommand.isMoved() || clusterCommand.isAsk()) {
                 HostAndPort target;
                 if (clusterCommand.isMoved()) {
-                    target = getMoveTarget(clusterCommand.getError());
+                    List<String> movedMessageParts = getMovedMessageParts(clusterCommand.getError());
+                    target = HostAndPort.fromString(movedMessageParts.get(2));
+                    clusterConnectionProvider.redirectSlot(Integer.parseInt(movedMessageParts.get(1)),
+                            target.getHostText(), target.getPort());
+                    clusterEventListener.onMovedRedirection();
                 } else {
                     target = getAskTarget(clusterCommand.getError());
+                    clusterEventListener.onAskRedirection();
                 }
 
                 commandToSend.getOutput().setError((String) null);
                 RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider.getConnection(
                         ClusterConnectionProvider.Intent.WRITE, target.getHostText(), target.getPort());
                 channelWriter = connection.getChannelWriter();
+                recordRedirect(channelWriter);
 
                 if (clusterCommand.isAsk()) {
                     // set asking bit
@@ -99,17 +185,25 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
             channelWriter = writer.defaultWriter;
         }
 
-        if(command.getOutput() != null){
+        if (command.getOutput() != null) {
             commandToSend.getOutput().setError((String) null);
         }
 
         if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-            return channelWriter.write((C) commandToSend);
+            return channelWriter;
         }
 
-        defaultWriter.write((C) commandToSend);
+        return defaultWriter;
+    }
 
-        return command;
+    private void recordRedirect(RedisChannelWriter<K, V> channelWriter) {
+
+        if (channelWriter instanceof CommandHandler) {
+            ConnectionMetricsRecorder metrics = ((CommandHandler<K, V>) channelWriter).getMetricsRecorder();
+            if (metrics != null) {
+                metrics.recordRedirect();
+            }
+        }
     }
 
     private ClusterConnectionProvider.Intent getIntent(ProtocolKeyword type) {
@@ -122,7 +216,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         return ClusterConnectionProvider.Intent.WRITE;
     }
 
-    private HostAndPort getMoveTarget(String errorMessage) {
+    private List<String> getMovedMessageParts(String errorMessage) {
 
         checkArgument(LettuceStrings.isNotEmpty(errorMessage), "errorMessage must not be empty");
         checkArgument(errorMessage.startsWith(CommandKeyword.MOVED.name()), "errorMessage must start with "
@@ -131,7 +225,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         List<String> movedMessageParts = Splitter.on(' ').splitToList(errorMessage);
         checkArgument(movedMessageParts.size() >= 3, "errorMessage must consist of 3 tokens (" + movedMessageParts + ")");
 
-        return HostAndPort.fromString(movedMessageParts.get(2));
+        return movedMessageParts;
     }
 
     private HostAndPort getAskTarget(String errorMessage) {
@@ -0,0 +1,36 @@
+package com.lambdaworks.redis.cluster;
+
+/**
+ * Listener for events occurring during Redis Cluster operations that may indicate a changed cluster topology.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+interface ClusterEventListener {
+
+    /**
+     * Listener that does not react to any event.
+     */
+    ClusterEventListener NO_OP = new ClusterEventListener() {
+    };
+
+    /**
+     * Event callback if a command receives a {@literal ASK} redirection.
+     */
+    default void onAskRedirection() {
+    }
+
+    /**
+     * Event callback if a command receives a {@literal MOVED} redirection.
+     */
+    default void onMovedRedirection() {
+    }
+
+    /**
+     * Event callback if a connection tries to reconnect.
+     *
+     * @param attempt the number of the reconnect attempt, starting at {@literal 1}
+     */
+    default void onReconnection(int attempt) {
+    }
+}
@@ -1,11 +1,12 @@
 package com.lambdaworks.redis.cluster;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
 import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.RedisChannelWriter;
 import com.lambdaworks.redis.RedisException;
@@ -84,7 +85,7 @@ class ClusterNodeCommandHandler<K, V> extends CommandHandler<K, V> {
                 }
             }
 
-            Collection<RedisCommand<K, V, ?>> commands = shiftCommands(commandBuffer);
+            Collection<RedisCommand<K, V, ?>> commands = drainCommandBuffer();
             for (RedisCommand<K, V, ?> queuedCommand : commands) {
                 try {
                     clusterChannelWriter.write(queuedCommand);
@@ -98,20 +99,18 @@ class ClusterNodeCommandHandler<K, V> extends CommandHandler<K, V> {
     }
 
     /**
-     * Retrieve commands within a lock to prevent concurrent modification
+     * Remove all commands from {@code source}.
      */
-    private Collection<RedisCommand<K, V, ?>> shiftCommands(Collection<RedisCommand<K, V, ?>> source) {
-        
-        try {
-            lockWritersExclusive();
-            try {
-                return Lists.newArrayList(source);
-            } finally {
-                source.clear();
-            }
-        } finally {
-            unlockWritersExclusive();
+    private Collection<RedisCommand<K, V, ?>> shiftCommands(Queue<RedisCommand<K, V, ?>> source) {
+
+        List<RedisCommand<K, V, ?>> commands = new ArrayList<>(source.size());
+
+        RedisCommand<K, V, ?> command;
+        while ((command = source.poll()) != null) {
+            commands.add(command);
         }
+
+        return commands;
     }
 
     public boolean isAutoReconnect() {
@@ -1,8 +1,13 @@
 package com.lambdaworks.redis.cluster;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import rx.Observable;
@@ -14,7 +19,8 @@ import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
 
 /**
- * Methods to support a Cluster-wide SCAN operation over multiple hosts.
+ * Methods to support a Cluster-wide SCAN operation over multiple hosts. A sequential scan iterates the nodes one after
+ * another, a parallel scan advances the cursors of multiple nodes concurrently using a {@link CompositeScanCursor}.
  * 
  * @author Mark Paluch
  */
@@ -169,6 +175,86 @@ class ClusterScanSupport {
         return nodeIds;
     }
 
+    /**
+     * Retrieve the node cursors for a parallel scan.
+     *
+     * @param connection the cluster connection
+     * @param cursor {@link ScanCursor#INITIAL} or a {@link CompositeScanCursor}
+     * @return map of node Id to cursor position of all nodes that have not finished their scan.
+     */
+    static Map<String, String> getNodeCursors(StatefulRedisClusterConnection<?, ?> connection, ScanCursor cursor) {
+
+        if (ScanCursor.INITIAL.equals(cursor)) {
+
+            List<String> nodeIds = getNodeIds(connection);
+            assertHasNodes(nodeIds);
+
+            Map<String, String> nodeCursors = new LinkedHashMap<>();
+            for (String nodeId : nodeIds) {
+                nodeCursors.put(nodeId, ScanCursor.INITIAL.getCursor());
+            }
+            return nodeCursors;
+        }
+
+        if (!(cursor instanceof CompositeScanCursor)) {
+            throw new IllegalArgumentException(
+                    "A parallel scan in Redis Cluster mode requires to reuse the resulting cursor from the previous scan invocation");
+        }
+
+        if (cursor.isFinished()) {
+            throw new IllegalStateException("Cluster scan is finished");
+        }
+
+        return ((CompositeScanCursor) cursor).getNodeCursors();
+    }
+
+    /**
+     * Select the nodes to scan within the next parallel scan iteration. The first {@code parallelism} nodes that have not
+     * finished their scan are scanned so nodes join the iteration as soon as other nodes finish.
+     *
+     * @param nodeCursors map of node Id to cursor position
+     * @param parallelism number of nodes to scan concurrently
+     * @return map of node Id to the {@link ScanCursor} to continue the scan on the node.
+     */
+    static Map<String, ScanCursor> getParallelScanCursors(Map<String, String> nodeCursors, int parallelism) {
+
+        checkArgument(parallelism > 0, "Parallelism must be greater 0");
+
+        Map<String, ScanCursor> selection = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : nodeCursors.entrySet()) {
+
+            if (selection.size() == parallelism) {
+                break;
+            }
+
+            selection.put(entry.getKey(), ScanCursor.of(entry.getValue()));
+        }
+
+        return selection;
+    }
+
+    /**
+     * Advance the node cursors with the results of a parallel scan iteration. Nodes that finished their scan are removed.
+     *
+     * @param nodeCursors map of node Id to cursor position before the iteration
+     * @param results map of node Id to the scan result of the iteration
+     * @return the node cursors after the iteration.
+     */
+    static Map<String, String> advance(Map<String, String> nodeCursors, Map<String, ? extends ScanCursor> results) {
+
+        Map<String, String> advanced = new LinkedHashMap<>(nodeCursors);
+        for (Map.Entry<String, ? extends ScanCursor> entry : results.entrySet()) {
+
+            if (entry.getValue().isFinished()) {
+                advanced.remove(entry.getKey());
+            } else {
+                advanced.put(entry.getKey(), entry.getValue().getCursor());
+            }
+        }
+
+        return advanced;
+    }
+
     private static String getNodeIdForNextScanIteration(List<String> nodeIds, ClusterScanCursor clusterKeyScanCursor) {
         if (clusterKeyScanCursor.isScanOnCurrentNodeFinished()) {
             if (clusterKeyScanCursor.isFinished()) {
@@ -312,4 +398,64 @@ class ClusterScanSupport {
             return cursor.isFinished();
         }
     }
+
+    /**
+     * State object for a parallel cluster-wide SCAN using Key results.
+     *
+     * @param <K>
+     */
+    static class CompositeKeyScanCursor<K> extends KeyScanCursor<K> implements CompositeScanCursor {
+
+        private final Map<String, String> nodeCursors;
+
+        public CompositeKeyScanCursor(Map<String, String> nodeCursors) {
+
+            checkArgument(nodeCursors != null, "NodeCursors must not be null");
+
+            this.nodeCursors = Collections.unmodifiableMap(new LinkedHashMap<>(nodeCursors));
+            setCursor(toString(this.nodeCursors));
+            setFinished(this.nodeCursors.isEmpty());
+        }
+
+        @Override
+        public Map<String, String> getNodeCursors() {
+            return nodeCursors;
+        }
+
+        static String toString(Map<String, String> nodeCursors) {
+
+            if (nodeCursors.isEmpty()) {
+                return ScanCursor.FINISHED.getCursor();
+            }
+
+            StringBuilder builder = new StringBuilder();
+            for (Map.Entry<String, String> entry : nodeCursors.entrySet()) {
+                if (builder.length() != 0) {
+                    builder.append(',');
+                }
+                builder.append(entry.getKey()).append(':').append(entry.getValue());
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * State object for a parallel cluster-wide SCAN using streaming.
+     */
+    static class CompositeStreamScanCursor extends StreamScanCursor implements CompositeScanCursor {
+
+        private final Map<String, String> nodeCursors;
+
+        public CompositeStreamScanCursor(Map<String, String> nodeCursors) {
+
+            this.nodeCursors = Collections.unmodifiableMap(new LinkedHashMap<>(nodeCursors));
+            setCursor(CompositeKeyScanCursor.toString(this.nodeCursors));
+            setFinished(this.nodeCursors.isEmpty());
+        }
+
+        @Override
+        public Map<String, String> getNodeCursors() {
+            return nodeCursors;
+        }
+    }
 }
@@ -2,13 +2,17 @@ package com.lambdaworks.redis.cluster;
 
 import static com.lambdaworks.redis.cluster.RedisClusterClient.*;
 
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -24,6 +28,7 @@ import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.ArrayOutput;
 import com.lambdaworks.redis.output.StatusOutput;
 import com.lambdaworks.redis.protocol.AsyncCommand;
 import com.lambdaworks.redis.protocol.Command;
@@ -47,6 +52,9 @@ class ClusterTopologyRefresh {
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(ClusterTopologyRefresh.class);
     private final RedisClusterClient client;
 
+    // long-lived topology connections by host and port, used if topology refresh connections are reused.
+    private final Map<String, StatefulRedisConnection<String, String>> topologyConnections = new ConcurrentHashMap<>();
+
     public ClusterTopologyRefresh(RedisClusterClient client) {
         this.client = client;
     }
@@ -153,17 +161,25 @@ class ClusterTopologyRefresh {
     /**
      * Load partition views from a collection of {@link RedisURI}s and return the view per {@link RedisURI}. Partitions contain
      * an ordered list of {@link RedisClusterNode}s. The sort key is the latency. Nodes with lower latency come first.
+     * Connections are kept open across calls if {@link ClusterClientOptions#isReuseTopologyRefreshConnections()} is enabled.
      * 
      * @param seed collection of {@link RedisURI}s
      * @return mapping between {@link RedisURI} and {@link Partitions}
      */
     public Map<RedisURI, Partitions> loadViews(Iterable<RedisURI> seed) {
 
-        Map<RedisURI, StatefulRedisConnection<String, String>> connections = getConnections(seed);
-        Map<RedisURI, TimedAsyncCommand<String, String, String>> rawViews = requestViews(connections);
-        Map<RedisURI, AsyncCommand<String, String, String>> rawClients = requestClients(connections);
+        boolean reuseConnections = isReuseConnections();
+
+        if (!reuseConnections && !topologyConnections.isEmpty()) {
+            close(topologyConnections.keySet());
+        }
+
+        Map<RedisURI, StatefulRedisConnection<String, String>> connections = getConnections(seed, reuseConnections);
+        Map<RedisURI, TimedAsyncCommand<String, String, ?>> rawViews = Maps.newTreeMap(RedisUriComparator.INSTANCE);
+        Map<RedisURI, AsyncCommand<String, String, String>> rawClients = Maps.newHashMap();
 
         try {
+            requestTopology(connections, rawViews, rawClients);
             Map<RedisURI, Partitions> nodeSpecificViews = getNodeSpecificViews(rawViews, rawClients);
 
             Set<RedisURI> allKnownUris = nodeSpecificViews.values().stream().flatMap(Collection::stream)
@@ -175,24 +191,45 @@ class ClusterTopologyRefresh {
                 discoveredNodes.stream().forEach(redisURI -> applyUriConnectionSettings(firstUri, redisURI));
 
                 Map<RedisURI, StatefulRedisConnection<String, String>> discoveredNodesConnections = getConnections(
-                        discoveredNodes);
+                        discoveredNodes, reuseConnections);
                 connections.putAll(discoveredNodesConnections);
-                rawViews.putAll(requestViews(discoveredNodesConnections));
-                rawClients.putAll(requestClients(discoveredNodesConnections));
+                requestTopology(discoveredNodesConnections, rawViews, rawClients);
                 nodeSpecificViews = getNodeSpecificViews(rawViews, rawClients);
             }
 
+            if (reuseConnections && !nodeSpecificViews.isEmpty()) {
+                closeStaleConnections(nodeSpecificViews.values());
+            }
+
             return nodeSpecificViews;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RedisCommandInterruptedException(e);
         } finally {
-            close(connections);
+            if (!reuseConnections) {
+                close(connections);
+            }
         }
+    }
+
+    private boolean isReuseConnections() {
+        ClusterClientOptions options = client.getClusterClientOptions();
+        return options != null && options.isReuseTopologyRefreshConnections();
+    }
 
+    private ClusterClientOptions.TopologySource getTopologySource() {
+        ClusterClientOptions options = client.getClusterClientOptions();
+        return options != null ? options.getTopologySource() : ClusterClientOptions.DEFAULT_TOPOLOGY_SOURCE;
     }
 
-    protected Map<RedisURI, Partitions> getNodeSpecificViews(Map<RedisURI, TimedAsyncCommand<String, String, String>> rawViews,
+    private int getConcurrency() {
+        ClusterClientOptions options = client.getClusterClientOptions();
+        return options != null ? options.getTopologyRefreshConcurrency()
+                : ClusterClientOptions.DEFAULT_TOPOLOGY_REFRESH_CONCURRENCY;
+    }
+
+    protected Map<RedisURI, Partitions> getNodeSpecificViews(
+            Map<RedisURI, ? extends TimedAsyncCommand<String, String, ?>> rawViews,
             Map<RedisURI, AsyncCommand<String, String, String>> rawClients) throws InterruptedException {
         Map<RedisURI, Partitions> nodeSpecificViews = Maps.newTreeMap(RedisUriComparator.INSTANCE);
         List<RedisClusterNodeSnapshot> allNodes = Lists.newArrayList();
@@ -218,15 +255,17 @@ class ClusterTopologyRefresh {
             }
         }
 
-        for (Map.Entry<RedisURI, TimedAsyncCommand<String, String, String>> entry : rawViews.entrySet()) {
-            RedisFuture<String> future = entry.getValue();
+        for (Map.Entry<RedisURI, ? extends TimedAsyncCommand<String, String, ?>> entry : rawViews.entrySet()) {
+            RedisFuture<?> future = entry.getValue();
             if (!future.isDone() || future.isCancelled()) {
                 break;
             }
             try {
 
-                String raw = future.get();
-                Partitions partitions = ClusterPartitionParser.parse(raw);
+                Object raw = future.get();
+                boolean clusterSlots = raw instanceof List;
+                Partitions partitions = clusterSlots ? ClusterPartitionParser.parseClusterSlots((List<?>) raw)
+                        : ClusterPartitionParser.parse((String) raw);
                 List<RedisClusterNodeSnapshot> nodeWithStats = partitions.stream().map(n -> new RedisClusterNodeSnapshot(n))
                         .collect(Collectors.toList());
                 List<RedisClusterNodeSnapshot> badNodes = Lists.newArrayList();
@@ -235,7 +274,9 @@ class ClusterTopologyRefresh {
                     if (partition.getFlags().contains(RedisClusterNode.NodeFlag.NOADDR)) {
                         badNodes.add(partition);
                     }
-                    if (partition.getFlags().contains(RedisClusterNode.NodeFlag.MYSELF)) {
+                    // CLUSTER SLOTS does not report the MYSELF flag
+                    if (clusterSlots ? isSameEndpoint(partition.getUri(), entry.getKey()) : partition.getFlags().contains(
+                            RedisClusterNode.NodeFlag.MYSELF)) {
                         partition.setUri(entry.getKey());
 
                         // record latency for later partition ordering
@@ -249,8 +290,7 @@ class ClusterTopologyRefresh {
                 }
 
                 allNodes.addAll(nodeWithStats);
-                partitions.clear();
-                partitions.addAll(nodeWithStats);
+                partitions.reload(new ArrayList<>(nodeWithStats));
                 nodeSpecificViews.put(entry.getKey(), partitions);
             } catch (ExecutionException e) {
                 logger.warn("Cannot retrieve partition view from " + entry.getKey() + ", error: " + e.toString());
@@ -263,7 +303,9 @@ class ClusterTopologyRefresh {
         }
 
         for (Partitions redisClusterNodes : nodeSpecificViews.values()) {
-            Collections.sort(redisClusterNodes.getPartitions(), LatencyComparator.INSTANCE);
+            List<RedisClusterNode> sorted = new ArrayList<>(redisClusterNodes.getPartitions());
+            Collections.sort(sorted, LatencyComparator.INSTANCE);
+            redisClusterNodes.reload(sorted);
         }
 
         return nodeSpecificViews;
@@ -291,44 +333,71 @@ class ClusterTopologyRefresh {
         return waitTime;
     }
 
+    static boolean isSameEndpoint(RedisURI uri, RedisURI other) {
+
+        if (uri == null || uri.getHost() == null || other.getHost() == null || uri.getPort() != other.getPort()) {
+            return false;
+        }
+
+        if (uri.getHost().equalsIgnoreCase(other.getHost())) {
+            return true;
+        }
+
+        // a hostname seed and an IP address reported by CLUSTER SLOTS denote the same node when both resolve alike
+        InetSocketAddress address = new InetSocketAddress(uri.getHost(), uri.getPort());
+        InetSocketAddress otherAddress = new InetSocketAddress(other.getHost(), other.getPort());
+        return !address.isUnresolved() && address.equals(otherAddress);
+    }
+
     private int getClients(String rawClientsOutput) {
         return rawClientsOutput.trim().split("\\n").length;
     }
 
     /*
-     * Async request of CLUSTER NODES.
+     * Async request of CLUSTER NODES (or CLUSTER SLOTS) and CLIENT LIST. Limits the number of nodes with outstanding requests to the topology
+     * refresh concurrency.
      */
-    @SuppressWarnings("unchecked")
-    private Map<RedisURI, TimedAsyncCommand<String, String, String>> requestViews(
-            Map<RedisURI, StatefulRedisConnection<String, String>> connections) {
-        Map<RedisURI, TimedAsyncCommand<String, String, String>> rawViews = Maps.newTreeMap(RedisUriComparator.INSTANCE);
-        for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : connections.entrySet()) {
-
-            TimedAsyncCommand<String, String, String> timed = createClusterNodesCommand();
+    private void requestTopology(Map<RedisURI, StatefulRedisConnection<String, String>> connections,
+            Map<RedisURI, TimedAsyncCommand<String, String, ?>> rawViews,
+            Map<RedisURI, AsyncCommand<String, String, String>> rawClients) throws InterruptedException {
 
-            entry.getValue().dispatch(timed);
-            rawViews.put(entry.getKey(), timed);
-        }
-        return rawViews;
-    }
+        boolean clusterSlots = getTopologySource() == ClusterClientOptions.TopologySource.CLUSTER_SLOTS;
+        int concurrency = getConcurrency();
+        Semaphore permits = concurrency < connections.size() ? new Semaphore(concurrency) : null;
+        long timeout = client.getFirstUri().getUnit().toNanos(client.getFirstUri().getTimeout());
+        long deadline = System.nanoTime() + timeout;
 
-    /*
-     * Async request of CLIENT LIST.
-     */
-    @SuppressWarnings("unchecked")
-    private Map<RedisURI, AsyncCommand<String, String, String>> requestClients(
-            Map<RedisURI, StatefulRedisConnection<String, String>> connections) {
-        Map<RedisURI, AsyncCommand<String, String, String>> rawViews = Maps.newHashMap();
         for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : connections.entrySet()) {
 
+            if (permits != null && !permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                logger.warn("Cannot request topology from " + entry.getKey() + ", timeout waiting for outstanding requests");
+                break;
+            }
+
+            TimedAsyncCommand<String, String, ?> timed = clusterSlots ? createClusterSlotsCommand()
+                    : createClusterNodesCommand();
+
             CommandArgs<String, String> args = new CommandArgs<>(CODEC).add(CommandKeyword.LIST);
             Command<String, String, String> command = new Command<>(CommandType.CLIENT, new StatusOutput<>(CODEC), args);
-            AsyncCommand<String, String, String> async = new AsyncCommand<>(command);
+            AsyncCommand<String, String, String> clients = new AsyncCommand<>(command);
+
+            if (permits != null) {
+                // CLIENT LIST completes after the topology command as both are pipelined on the same connection
+                clients.whenComplete((result, throwable) -> permits.release());
+            }
 
-            entry.getValue().dispatch(async);
-            rawViews.put(entry.getKey(), async);
+            try {
+                entry.getValue().dispatch(timed);
+                entry.getValue().dispatch(clients);
+            } catch (RuntimeException e) {
+                // completing CLIENT LIST releases the permit; the failed views are skipped when collecting the results
+                timed.completeExceptionally(e);
+                clients.completeExceptionally(e);
+            }
+
+            rawViews.put(entry.getKey(), timed);
+            rawClients.put(entry.getKey(), clients);
         }
-        return rawViews;
     }
 
     protected TimedAsyncCommand<String, String, String> createClusterNodesCommand() {
@@ -337,19 +406,75 @@ class ClusterTopologyRefresh {
         return new TimedAsyncCommand<>(command);
     }
 
+    protected TimedAsyncCommand<String, String, List<Object>> createClusterSlotsCommand() {
+        CommandArgs<String, String> args = new CommandArgs<>(CODEC).add(CommandKeyword.SLOTS);
+        Command<String, String, List<Object>> command = new Command<>(CommandType.CLUSTER, new ArrayOutput<>(CODEC), args);
+        return new TimedAsyncCommand<>(command);
+    }
+
     private void close(Map<RedisURI, StatefulRedisConnection<String, String>> connections) {
         for (StatefulRedisConnection<String, String> connection : connections.values()) {
             connection.close();
         }
     }
 
+    private void close(Collection<String> topologyConnectionKeys) {
+        for (String key : new ArrayList<>(topologyConnectionKeys)) {
+            StatefulRedisConnection<String, String> connection = topologyConnections.remove(key);
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+
     /*
-     * Open connections where an address can be resolved.
+     * Close reused connections to nodes that are no longer part of any view.
      */
-    private Map<RedisURI, StatefulRedisConnection<String, String>> getConnections(Iterable<RedisURI> seed) {
+    private void closeStaleConnections(Collection<Partitions> views) {
+
+        Set<String> known = Sets.newHashSet();
+        for (Partitions view : views) {
+            for (RedisClusterNode node : view) {
+                known.add(getConnectionKey(node.getUri()));
+            }
+        }
+
+        close(Sets.newHashSet(Sets.difference(topologyConnections.keySet(), known)));
+    }
+
+    private static String getConnectionKey(RedisURI redisURI) {
+        return (redisURI.getHost() + ":" + redisURI.getPort()).toLowerCase();
+    }
+
+    /**
+     * Close all reused topology connections.
+     */
+    void close() {
+        close(topologyConnections.keySet());
+    }
+
+    /*
+     * Open connections where an address can be resolved. Reuses open connections if {@code reuseConnections} is enabled.
+     */
+    private Map<RedisURI, StatefulRedisConnection<String, String>> getConnections(Iterable<RedisURI> seed,
+            boolean reuseConnections) {
         Map<RedisURI, StatefulRedisConnection<String, String>> connections = Maps.newTreeMap(RedisUriComparator.INSTANCE);
 
         for (RedisURI redisURI : seed) {
+
+            String key = getConnectionKey(redisURI);
+            if (reuseConnections) {
+                StatefulRedisConnection<String, String> existing = topologyConnections.get(key);
+                if (existing != null && existing.isOpen()) {
+                    connections.put(redisURI, existing);
+                    continue;
+                }
+
+                if (existing != null && topologyConnections.remove(key, existing)) {
+                    existing.close();
+                }
+            }
+
             if (redisURI.getResolvedAddress() == null) {
                 continue;
             }
@@ -360,6 +485,15 @@ class ClusterTopologyRefresh {
                     connection.sync().auth(new String(redisURI.getPassword()));
                 }
                 connection.async().clientSetname("lettuce#ClusterTopologyRefresh");
+
+                if (reuseConnections) {
+                    StatefulRedisConnection<String, String> concurrent = topologyConnections.putIfAbsent(key, connection);
+                    if (concurrent != null) {
+                        connection.close();
+                        connection = concurrent;
+                    }
+                }
+
                 connections.put(redisURI, connection);
             } catch (RedisConnectionException e) {
                 if (logger.isDebugEnabled()) {
@@ -0,0 +1,82 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.lambdaworks.redis.cluster.ClusterClientOptions.RefreshTrigger;
+
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * {@link ClusterEventListener} that initiates a topology refresh of the {@link RedisClusterClient} if an enabled
+ * {@link RefreshTrigger adaptive refresh trigger} fires. Refreshes are rate-limited to one refresh per
+ * {@link ClusterClientOptions#getAdaptiveRefreshTimeout() adaptive refresh timeout}, events within the timeout are coalesced
+ * into the previous refresh.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class ClusterTopologyRefreshScheduler implements ClusterEventListener {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ClusterTopologyRefreshScheduler.class);
+
+    private final RedisClusterClient redisClusterClient;
+    private final AtomicLong lastRefresh = new AtomicLong();
+
+    ClusterTopologyRefreshScheduler(RedisClusterClient redisClusterClient) {
+        this.redisClusterClient = redisClusterClient;
+    }
+
+    @Override
+    public void onAskRedirection() {
+        trigger(RefreshTrigger.ASK_REDIRECT);
+    }
+
+    @Override
+    public void onMovedRedirection() {
+        trigger(RefreshTrigger.MOVED_REDIRECT);
+    }
+
+    @Override
+    public void onReconnection(int attempt) {
+
+        ClusterClientOptions options = redisClusterClient.getClusterClientOptions();
+        if (options != null && attempt >= options.getRefreshTriggersReconnectAttempts()) {
+            trigger(RefreshTrigger.PERSISTENT_RECONNECTS);
+        }
+    }
+
+    private void trigger(RefreshTrigger refreshTrigger) {
+
+        ClusterClientOptions options = redisClusterClient.getClusterClientOptions();
+        if (options == null || !options.getAdaptiveRefreshTriggers().contains(refreshTrigger)) {
+            return;
+        }
+
+        if (!acquireTimeout(options) || !redisClusterClient.isEventLoopActive()) {
+            return;
+        }
+
+        logger.debug("Adaptive topology refresh triggered by {}", refreshTrigger);
+        redisClusterClient.getResources().eventExecutorGroup().submit(redisClusterClient::refreshTopology);
+    }
+
+    /**
+     * Claim the rate limit slot for a refresh.
+     *
+     * @return {@literal true} if the previous adaptive refresh happened before the adaptive refresh timeout.
+     */
+    private boolean acquireTimeout(ClusterClientOptions options) {
+
+        long now = System.nanoTime();
+        long timeout = TimeUnit.NANOSECONDS.convert(options.getAdaptiveRefreshTimeout(), options.getAdaptiveRefreshTimeoutUnit());
+        long last = lastRefresh.get();
+
+        if (last != 0 && now - last < timeout) {
+            return false;
+        }
+
+        return lastRefresh.compareAndSet(last, now);
+    }
+}
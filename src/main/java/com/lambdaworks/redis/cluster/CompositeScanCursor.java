@@ -0,0 +1,37 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.Map;
+
+import com.lambdaworks.redis.ScanCursor;
+
+/**
+ * Cursor of a parallel cluster-wide {@literal SCAN}. The cursor captures the position of every node that has not finished
+ * its scan yet. Nodes are removed from the cursor once their scan is finished, the cursor is finished if no node remains. A
+ * cursor can be persisted using {@link #getNodeCursors()} and restored with {@link #of(Map)} to resume the scan later on.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see com.lambdaworks.redis.cluster.api.async.RedisAdvancedClusterAsyncCommands#scanParallel(ScanCursor,
+ *      com.lambdaworks.redis.ScanArgs, int)
+ */
+public interface CompositeScanCursor {
+
+    /**
+     * Retrieve the cursor positions of all nodes that have not finished their scan, in scan order. A node that was not
+     * scanned yet has the cursor position {@literal 0}.
+     *
+     * @return map of node Id to its cursor position.
+     */
+    Map<String, String> getNodeCursors();
+
+    /**
+     * Create a {@link ScanCursor} to resume a parallel cluster-wide {@literal SCAN} from previously captured
+     * {@link #getNodeCursors() node cursors}.
+     *
+     * @param nodeCursors map of node Id to its cursor position, must not be {@literal null}
+     * @return the {@link ScanCursor} to resume the scan.
+     */
+    static ScanCursor of(Map<String, String> nodeCursors) {
+        return new ClusterScanSupport.CompositeKeyScanCursor<>(nodeCursors);
+    }
+}
@@ -45,7 +45,7 @@ class DynamicAsyncNodeSelection<CMD, K, V> extends DynamicNodeSelection<RedisAsy
         return map;
     }
 
-    // This method is never called, the value is supplied by AOP magic.
+    // This method is never called, the value is supplied by the node selection commands implementation.
     @Override
     public CMD commands() {
         return null;
@@ -46,7 +46,7 @@ class DynamicSyncNodeSelection<CMD, K, V> extends DynamicNodeSelection<RedisComm
         return map;
     }
 
-    // This method is never called, the value is supplied by AOP magic.
+    // This method is never called, the value is supplied by the node selection commands implementation.
     @Override
     public CMD commands() {
         return null;
@@ -1,29 +1,27 @@
 package com.lambdaworks.redis.cluster;
 
-import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Predicate;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
-import com.lambdaworks.redis.RedisCommandInterruptedException;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisFuture;
-import com.lambdaworks.redis.api.StatefulConnection;
-import com.lambdaworks.redis.api.sync.RedisCommands;
-import com.lambdaworks.redis.cluster.api.NodeSelectionSupport;
-import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
-import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
-import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
-import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+import com.lambdaworks.redis.output.ValueStreamingChannel;
 
 /**
- * Utility to perform and synchronize command executions on multiple cluster nodes.
+ * Utility to perform and synchronize command executions on multiple cluster nodes. Results are folded incrementally as the
+ * node results arrive so no node result is retained longer than required to aggregate it.
  * 
  * @author Mark Paluch
  */
 class MultiNodeExecution {
+
     static <T> T execute(Callable<T> function) {
         try {
             return function.call();
@@ -39,17 +37,7 @@ class MultiNodeExecution {
      * @return future producing an aggregation result
      */
     protected static RedisFuture<Long> aggregateAsync(Map<?, RedisFuture<Long>> executions) {
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            AtomicLong result = new AtomicLong();
-            for (RedisFuture<Long> future : executions.values()) {
-                Long value = execute(() -> future.get());
-                if (value != null) {
-                    result.getAndAdd(value);
-                }
-            }
-
-            return result.get();
-        });
+        return foldAsync(executions, 0L, (sum, value) -> value != null ? sum + value : sum);
     }
 
     /**
@@ -60,16 +48,7 @@ class MultiNodeExecution {
      * @return future returning the first result.
      */
     protected static <T> RedisFuture<T> firstOfAsync(Map<?, RedisFuture<T>> executions) {
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            // make sure, that all futures are executed before returning the result.
-                for (RedisFuture<T> future : executions.values()) {
-                    execute(() -> future.get());
-                }
-                for (RedisFuture<T> future : executions.values()) {
-                    return execute(() -> future.get());
-                }
-                return null;
-            });
+        return MultiNodeExecution.<T, T> foldAsync(executions, null, (first, value) -> first != null ? first : value);
     }
 
     /**
@@ -79,19 +58,150 @@ class MultiNodeExecution {
      * @return future returning the first result.
      */
     protected static RedisFuture<String> alwaysOkOfAsync(Map<?, RedisFuture<String>> executions) {
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            // make sure, that all futures are executed before returning the result.
-                for (RedisFuture<String> future : executions.values()) {
+
+        List<CompletionStage<String>> completions = executions.values().stream()
+                .map(future -> future.handle((value, throwable) -> "OK")).collect(Collectors.toList());
+
+        return fold(completions, "OK", (ok, value) -> ok);
+    }
+
+    /**
+     * Concatenate the list results of the {@link RedisFuture}s in the order the futures complete.
+     *
+     * @param executions mapping of a key to the future
+     * @param <T> element type
+     * @return future producing the concatenated result.
+     */
+    protected static <T> RedisFuture<List<T>> concatAsync(Map<?, RedisFuture<List<T>>> executions) {
+        return foldAsync(executions, new ArrayList<>(), (result, values) -> {
+            if (values != null) {
+                result.addAll(values);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Fold the results of the {@link RedisFuture}s into a single result. Each result is folded as soon as its future
+     * completes. The resulting future completes once all futures are completed or exceptionally with the first failure.
+     *
+     * @param executions mapping of a key to the future
+     * @param identity the initial result
+     * @param accumulator function to fold a single result into the intermediate result
+     * @param <T> result type of the futures
+     * @param <R> result type of the fold
+     * @return future producing the fold result.
+     */
+    protected static <T, R> RedisFuture<R> foldAsync(Map<?, ? extends RedisFuture<T>> executions, R identity,
+            BiFunction<R, ? super T, R> accumulator) {
+        return fold(executions.values(), identity, accumulator);
+    }
+
+    /**
+     * Create a {@link KeyStreamingChannel} that serializes invocations of {@code channel}. Required when a channel receives
+     * keys from multiple nodes that are served by different I/O threads.
+     *
+     * @param channel the target channel
+     * @param <K> key type
+     * @return the synchronized channel.
+     */
+    protected static <K> KeyStreamingChannel<K> synchronizedChannel(KeyStreamingChannel<K> channel) {
+        return key -> {
+            synchronized (channel) {
+                channel.onKey(key);
+            }
+        };
+    }
+
+    /**
+     * Create a {@link ValueStreamingChannel} that serializes invocations of {@code channel}. Required when a channel receives
+     * values from multiple nodes that are served by different I/O threads.
+     *
+     * @param channel the target channel
+     * @param <V> value type
+     * @return the synchronized channel.
+     */
+    protected static <V> ValueStreamingChannel<V> synchronizedChannel(ValueStreamingChannel<V> channel) {
+        return value -> {
+            synchronized (channel) {
+                channel.onValue(value);
+            }
+        };
+    }
+
+    private static <T, R> RedisFuture<R> fold(Collection<? extends CompletionStage<T>> completions, R identity,
+            BiFunction<R, ? super T, R> accumulator) {
+
+        PipelinedRedisFuture<R> result = new PipelinedRedisFuture<>();
+
+        if (completions.isEmpty()) {
+            result.complete(identity);
+            return result;
+        }
+
+        Fold<T, R> fold = new Fold<>(result, identity, accumulator, completions.size());
+        for (CompletionStage<T> completion : completions) {
+            completion.whenComplete(fold::onComplete);
+        }
+
+        return result;
+    }
+
+    /**
+     * Incremental fold state. Folding is guarded by the instance monitor, the result is completed outside the lock.
+     */
+    private static class Fold<T, R> {
+
+        private final PipelinedRedisFuture<R> result;
+        private final BiFunction<R, ? super T, R> accumulator;
+        private R state;
+        private int remaining;
+
+        Fold(PipelinedRedisFuture<R> result, R identity, BiFunction<R, ? super T, R> accumulator, int count) {
+            this.result = result;
+            this.state = identity;
+            this.accumulator = accumulator;
+            this.remaining = count;
+        }
+
+        void onComplete(T value, Throwable throwable) {
+
+            Throwable failure = throwable;
+            boolean done;
+            R folded = null;
+
+            synchronized (this) {
+
+                if (remaining == 0) {
+                    return;
+                }
+
+                if (failure == null) {
                     try {
-                        future.get();
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new RedisCommandInterruptedException(e);
-                    } catch (ExecutionException e) {
-                        // swallow exceptions
+                        state = accumulator.apply(state, value);
+                    } catch (RuntimeException e) {
+                        failure = e;
+                    }
+                }
+
+                if (failure != null) {
+                    remaining = 0;
+                    state = null;
+                    done = false;
+                } else {
+                    done = --remaining == 0;
+                    if (done) {
+                        folded = state;
+                        state = null;
+                    }
+                }
+            }
+
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else if (done) {
+                result.complete(folded);
             }
         }
-        return "OK";
-    }   );
     }
 }
@@ -0,0 +1,413 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.ClusterConnectionProvider.Intent;
+import com.lambdaworks.redis.cluster.models.partitions.PartitionsSnapshot;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Concurrent table of node connections. Connections are identified by a {@link ConnectionKey} and created asynchronously
+ * using the connection factory. Concurrent requests for the same key share the pending connect, failed connects are not
+ * retained.
+ * <p>
+ * Lookups for nodes of the current {@link PartitionsSnapshot} are served from an array-indexed table that resolves the node
+ * identity (node id or host and port) to a node index. These lookups neither allocate a key nor lock. The index is bound to a
+ * snapshot and rebuilt lazily once the topology changes or a connection is removed.
+ * </p>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class NodeConnectionTable<K, V> {
+
+    private final ConcurrentMap<ConnectionKey, CompletableFuture<StatefulRedisConnection<K, V>>> connections = new ConcurrentHashMap<>();
+    private final Function<ConnectionKey, CompletableFuture<StatefulRedisConnection<K, V>>> connectionFactory;
+    private volatile NodeIndex<K, V> index;
+
+    /**
+     * Create a new {@link NodeConnectionTable}.
+     *
+     * @param connectionFactory function to connect to the node identified by a {@link ConnectionKey}
+     */
+    NodeConnectionTable(Function<ConnectionKey, CompletableFuture<StatefulRedisConnection<K, V>>> connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Lookup an established connection to the node with the {@code nodeId}.
+     *
+     * @param intent the connection intent
+     * @param nodeId the node id
+     * @param snapshot the current topology
+     * @return the connection or {@literal null} if there is no established connection or {@code nodeId} is not part of the
+     *         {@code snapshot}.
+     */
+    StatefulRedisConnection<K, V> getIfPresent(Intent intent, String nodeId, PartitionsSnapshot snapshot) {
+
+        NodeIndex<K, V> index = getIndex(snapshot);
+        int node = index.indexOf(nodeId);
+        return node == -1 ? null : index.connections.get(NodeIndex.position(node, intent, true));
+    }
+
+    /**
+     * Lookup an established connection to the node at {@code host} and {@code port}.
+     *
+     * @param intent the connection intent
+     * @param host the host
+     * @param port the port
+     * @param snapshot the current topology
+     * @return the connection or {@literal null} if there is no established connection or the node is not part of the
+     *         {@code snapshot}.
+     */
+    StatefulRedisConnection<K, V> getIfPresent(Intent intent, String host, int port, PartitionsSnapshot snapshot) {
+
+        NodeIndex<K, V> index = getIndex(snapshot);
+        int node = index.indexOf(host, port);
+        return node == -1 ? null : index.connections.get(NodeIndex.position(node, intent, false));
+    }
+
+    /**
+     * Lookup an established connection.
+     *
+     * @param key the connection key
+     * @return the connection or {@literal null} if there is no established connection.
+     */
+    StatefulRedisConnection<K, V> get(ConnectionKey key) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>> future = connections.get(key);
+        return future != null && isEstablished(future) ? future.join() : null;
+    }
+
+    /**
+     * Obtain the connection for {@code key}. Connects to the node if there is no established or pending connection.
+     *
+     * @param key the connection key
+     * @return future that completes with the connection.
+     */
+    CompletableFuture<StatefulRedisConnection<K, V>> getOrCreate(ConnectionKey key) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>> future = connections.get(key);
+
+        if (future == null) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> created = new CompletableFuture<>();
+            future = connections.putIfAbsent(key, created);
+
+            if (future == null) {
+                connect(key, created);
+                return created;
+            }
+        }
+
+        if (isEstablished(future)) {
+            cache(key, future);
+        }
+
+        return future;
+    }
+
+    private void connect(ConnectionKey key, CompletableFuture<StatefulRedisConnection<K, V>> target) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>> connectFuture;
+        try {
+            connectFuture = connectionFactory.apply(key);
+        } catch (RuntimeException e) {
+            connectFuture = new CompletableFuture<>();
+            connectFuture.completeExceptionally(e);
+        }
+
+        connectFuture.whenComplete((connection, throwable) -> {
+
+            if (throwable != null) {
+                connections.remove(key, target);
+                target.completeExceptionally(throwable);
+                return;
+            }
+
+            target.complete(connection);
+            cache(key, target);
+        });
+    }
+
+    private void cache(ConnectionKey key, CompletableFuture<StatefulRedisConnection<K, V>> future) {
+
+        NodeIndex<K, V> index = this.index;
+        if (index == null) {
+            return;
+        }
+
+        int node = key.nodeId != null ? index.indexOf(key.nodeId) : index.indexOf(key.host, key.port);
+        if (node == -1) {
+            return;
+        }
+
+        int position = NodeIndex.position(node, key.intent, key.nodeId != null);
+        StatefulRedisConnection<K, V> connection = future.join();
+        index.connections.set(position, connection);
+
+        // the connection was removed concurrently
+        if (connections.get(key) != future) {
+            index.connections.compareAndSet(position, connection, null);
+        }
+    }
+
+    private NodeIndex<K, V> getIndex(PartitionsSnapshot snapshot) {
+
+        NodeIndex<K, V> index = this.index;
+
+        if (index == null || index.snapshot != snapshot) {
+            index = new NodeIndex<>(snapshot);
+            this.index = index;
+        }
+
+        return index;
+    }
+
+    /**
+     *
+     * @param key the connection key
+     * @return {@literal true} if there is an established or pending connection for {@code key}.
+     */
+    boolean contains(ConnectionKey key) {
+        return connections.containsKey(key);
+    }
+
+    /**
+     * Remove the connection for {@code key}. The connection is not closed.
+     *
+     * @param key the connection key
+     * @return the future of the removed connection or {@literal null}.
+     */
+    CompletableFuture<StatefulRedisConnection<K, V>> remove(ConnectionKey key) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>> future = connections.remove(key);
+        if (future != null) {
+            index = null;
+        }
+        return future;
+    }
+
+    /**
+     * Remove all connections. Connections are not closed.
+     *
+     * @return the futures of the removed connections.
+     */
+    List<CompletableFuture<StatefulRedisConnection<K, V>>> clear() {
+
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> removed = new ArrayList<>();
+
+        for (ConnectionKey key : connections.keySet()) {
+            CompletableFuture<StatefulRedisConnection<K, V>> future = connections.remove(key);
+            if (future != null) {
+                removed.add(future);
+            }
+        }
+
+        index = null;
+        return removed;
+    }
+
+    /**
+     *
+     * @return keys of all established and pending connections.
+     */
+    Set<ConnectionKey> keys() {
+        return Collections.unmodifiableSet(connections.keySet());
+    }
+
+    /**
+     *
+     * @return all established connections.
+     */
+    List<StatefulRedisConnection<K, V>> getConnections() {
+
+        List<StatefulRedisConnection<K, V>> result = new ArrayList<>(connections.size());
+        for (CompletableFuture<StatefulRedisConnection<K, V>> future : connections.values()) {
+            if (isEstablished(future)) {
+                result.add(future.join());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Apply {@code action} to all established connections and to pending connections once they are established.
+     *
+     * @param action the action
+     */
+    void forEach(Consumer<? super StatefulRedisConnection<K, V>> action) {
+
+        for (CompletableFuture<StatefulRedisConnection<K, V>> future : connections.values()) {
+            future.thenAccept(action);
+        }
+    }
+
+    /**
+     *
+     * @return number of established connections.
+     */
+    int size() {
+
+        int size = 0;
+        for (CompletableFuture<StatefulRedisConnection<K, V>> future : connections.values()) {
+            if (isEstablished(future)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static boolean isEstablished(CompletableFuture<?> future) {
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    /**
+     * Array-indexed view of the connections to the nodes of a {@link PartitionsSnapshot}. Each node occupies
+     * {@link #POSITIONS_PER_NODE} positions for the combinations of {@link Intent} and node addressing (node id or host and
+     * port).
+     */
+    static class NodeIndex<K, V> {
+
+        static final int POSITIONS_PER_NODE = 4;
+
+        private final PartitionsSnapshot snapshot;
+        private final Map<String, Integer> nodeIds;
+        private final Map<String, HostNodes> hosts;
+        private final AtomicReferenceArray<StatefulRedisConnection<K, V>> connections;
+
+        NodeIndex(PartitionsSnapshot snapshot) {
+
+            List<RedisClusterNode> nodes = snapshot.getNodes();
+
+            this.snapshot = snapshot;
+            this.nodeIds = new HashMap<>(nodes.size() * 2);
+            this.connections = new AtomicReferenceArray<>(nodes.size() * POSITIONS_PER_NODE);
+
+            Map<String, SortedMap<Integer, Integer>> nodesByHost = new HashMap<>();
+
+            for (int i = 0; i < nodes.size(); i++) {
+
+                RedisClusterNode node = nodes.get(i);
+
+                if (node.getNodeId() != null) {
+                    nodeIds.putIfAbsent(node.getNodeId(), i);
+                }
+
+                RedisURI uri = node.getUri();
+                if (uri != null && uri.getHost() != null) {
+                    nodesByHost.computeIfAbsent(uri.getHost(), k -> new TreeMap<>()).putIfAbsent(uri.getPort(), i);
+                }
+            }
+
+            this.hosts = new HashMap<>(nodesByHost.size() * 2);
+            for (Map.Entry<String, SortedMap<Integer, Integer>> entry : nodesByHost.entrySet()) {
+                hosts.put(entry.getKey(), new HostNodes(entry.getValue()));
+            }
+        }
+
+        static int position(int node, Intent intent, boolean byNodeId) {
+            return node * POSITIONS_PER_NODE + (intent == Intent.WRITE ? 0 : 1) + (byNodeId ? 2 : 0);
+        }
+
+        int indexOf(String nodeId) {
+
+            Integer node = nodeIds.get(nodeId);
+            return node == null ? -1 : node;
+        }
+
+        int indexOf(String host, int port) {
+
+            HostNodes hostNodes = hosts.get(host);
+            if (hostNodes == null) {
+                return -1;
+            }
+
+            int index = Arrays.binarySearch(hostNodes.ports, port);
+            return index < 0 ? -1 : hostNodes.nodes[index];
+        }
+    }
+
+    /**
+     * Nodes sharing a host, ordered by port.
+     */
+    private static class HostNodes {
+
+        private final int[] ports;
+        private final int[] nodes;
+
+        HostNodes(SortedMap<Integer, Integer> nodesByPort) {
+
+            this.ports = new int[nodesByPort.size()];
+            this.nodes = new int[nodesByPort.size()];
+
+            int i = 0;
+            for (Map.Entry<Integer, Integer> entry : nodesByPort.entrySet()) {
+                ports[i] = entry.getKey();
+                nodes[i] = entry.getValue();
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Connection to identify a connection either by nodeId or host/port.
+     */
+    static class ConnectionKey {
+        final ClusterConnectionProvider.Intent intent;
+        final String nodeId;
+        final String host;
+        final int port;
+
+        public ConnectionKey(Intent intent, String nodeId) {
+            this.intent = intent;
+            this.nodeId = nodeId;
+            this.host = null;
+            this.port = 0;
+        }
+
+        public ConnectionKey(Intent intent, String host, int port) {
+            this.intent = intent;
+            this.host = host;
+            this.port = port;
+            this.nodeId = null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof ConnectionKey))
+                return false;
+
+            ConnectionKey key = (ConnectionKey) o;
+
+            if (port != key.port)
+                return false;
+            if (intent != key.intent)
+                return false;
+            if (nodeId != null ? !nodeId.equals(key.nodeId) : key.nodeId != null)
+                return false;
+            return !(host != null ? !host.equals(key.host) : key.host != null);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = intent != null ? intent.name().hashCode() : 0;
+            result = 31 * result + (nodeId != null ? nodeId.hashCode() : 0);
+            result = 31 * result + (host != null ? host.hashCode() : 0);
+            result = 31 * result + port;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import com.google.common.collect.Maps;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.AsyncExecutions;
+import com.lambdaworks.redis.cluster.api.async.AsyncNodeSelection;
+import com.lambdaworks.redis.cluster.api.async.NodeSelectionAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Asynchronous node selection. Commands are invoked on the asynchronous API of every selected node.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class NodeSelectionAsyncCommandsImpl<K, V> extends AbstractNodeSelectionAsyncCommands<K, V> implements
+        AsyncNodeSelection<K, V>, NodeSelectionAsyncCommands<K, V> {
+
+    private final AbstractNodeSelection<RedisAsyncCommands<K, V>, ?, K, V> selection;
+
+    public NodeSelectionAsyncCommandsImpl(AbstractNodeSelection<RedisAsyncCommands<K, V>, ?, K, V> selection) {
+        this.selection = selection;
+    }
+
+    @Override
+    protected <T> AsyncExecutions<T> execute(Function<RedisClusterAsyncCommands<K, V>, RedisFuture<T>> function) {
+
+        Map<RedisClusterNode, CompletionStage<T>> executions = Maps.newHashMap();
+        for (Map.Entry<RedisClusterNode, StatefulRedisConnection<K, V>> entry : selection.statefulMap().entrySet()) {
+            executions.put(entry.getKey(), function.apply(entry.getValue().async()));
+        }
+
+        return new AsyncExecutionsImpl<>(executions);
+    }
+
+    @Override
+    public int size() {
+        return selection.size();
+    }
+
+    @Override
+    public NodeSelectionAsyncCommands<K, V> commands() {
+        return this;
+    }
+
+    @Override
+    public RedisAsyncCommands<K, V> commands(int index) {
+        return selection.commands(index);
+    }
+
+    @Override
+    public RedisClusterNode node(int index) {
+        return selection.node(index);
+    }
+
+    @Override
+    public Map<RedisClusterNode, RedisAsyncCommands<K, V>> asMap() {
+        return selection.asMap();
+    }
+
+    @Override
+    public void close() {
+        // node connections are owned by the cluster connection.
+    }
+}
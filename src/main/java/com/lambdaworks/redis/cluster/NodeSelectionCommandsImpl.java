@@ -0,0 +1,209 @@
+package com.lambdaworks.redis.cluster;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.lambdaworks.redis.RedisCommandExecutionException;
+import com.lambdaworks.redis.RedisCommandInterruptedException;
+import com.lambdaworks.redis.RedisCommandTimeoutException;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
+import com.lambdaworks.redis.cluster.api.sync.Executions;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Synchronous node selection. Commands are invoked on the asynchronous API of every selected node and awaited within the
+ * timeout of the cluster connection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class NodeSelectionCommandsImpl<K, V> extends AbstractNodeSelectionCommands<K, V> implements NodeSelection<K, V>,
+        NodeSelectionCommands<K, V> {
+
+    private final AbstractNodeSelection<RedisCommands<K, V>, ?, K, V> selection;
+    private final long timeout;
+    private final TimeUnit unit;
+
+    public NodeSelectionCommandsImpl(AbstractNodeSelection<RedisCommands<K, V>, ?, K, V> selection, long timeout,
+            TimeUnit unit) {
+
+        checkArgument(timeout > 0, "timeout must be greater 0");
+        checkArgument(unit != null, "unit must not be null");
+
+        this.selection = selection;
+        this.timeout = timeout;
+        this.unit = unit;
+    }
+
+    @Override
+    protected <T> Executions<T> execute(Function<RedisClusterAsyncCommands<K, V>, RedisFuture<T>> function) {
+
+        Map<RedisClusterNode, CompletionStage<T>> executions = Maps.newHashMap();
+        for (Map.Entry<RedisClusterNode, StatefulRedisConnection<K, V>> entry : selection.statefulMap().entrySet()) {
+            executions.put(entry.getKey(), function.apply(entry.getValue().async()));
+        }
+
+        if (!awaitAll(timeout, unit, executions.values())) {
+            throw createTimeoutException(executions);
+        }
+
+        if (atLeastOneFailed(executions)) {
+            throw createExecutionException(executions);
+        }
+
+        try {
+            return new SyncExecutionsImpl<>(executions);
+        } catch (ExecutionException e) {
+            throw new RedisCommandExecutionException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return selection.size();
+    }
+
+    @Override
+    public NodeSelectionCommands<K, V> commands() {
+        return this;
+    }
+
+    @Override
+    public RedisCommands<K, V> commands(int index) {
+        return selection.commands(index);
+    }
+
+    @Override
+    public RedisClusterNode node(int index) {
+        return selection.node(index);
+    }
+
+    @Override
+    public Map<RedisClusterNode, RedisCommands<K, V>> asMap() {
+        return selection.asMap();
+    }
+
+    @Override
+    public void close() {
+        // node connections are owned by the cluster connection.
+    }
+
+    static boolean awaitAll(long timeout, TimeUnit unit, Collection<? extends CompletionStage<?>> futures) {
+        boolean complete;
+
+        try {
+            long nanos = unit.toNanos(timeout);
+            long time = System.nanoTime();
+
+            for (CompletionStage<?> f : futures) {
+                if (nanos < 0) {
+                    return false;
+                }
+                try {
+                    f.toCompletableFuture().get(nanos, TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    // ignore
+                }
+                long now = System.nanoTime();
+                nanos -= now - time;
+                time = now;
+            }
+
+            complete = true;
+        } catch (TimeoutException e) {
+            complete = false;
+        } catch (Exception e) {
+            throw new RedisCommandInterruptedException(e);
+        }
+
+        return complete;
+    }
+
+    private static boolean atLeastOneFailed(Map<RedisClusterNode, ? extends CompletionStage<?>> executions) {
+        return executions.values().stream()
+                .filter(completionStage -> completionStage.toCompletableFuture().isCompletedExceptionally()).findFirst()
+                .isPresent();
+    }
+
+    private static RedisCommandTimeoutException createTimeoutException(
+            Map<RedisClusterNode, ? extends CompletionStage<?>> executions) {
+
+        List<RedisClusterNode> notFinished = Lists.newArrayList();
+        executions.forEach((redisClusterNode, completionStage) -> {
+            if (!completionStage.toCompletableFuture().isDone()) {
+                notFinished.add(redisClusterNode);
+            }
+        });
+        String description = getNodeDescription(notFinished);
+        return new RedisCommandTimeoutException("Command timed out for node(s): " + description);
+    }
+
+    private static RedisCommandExecutionException createExecutionException(
+            Map<RedisClusterNode, ? extends CompletionStage<?>> executions) {
+
+        List<RedisClusterNode> failed = Lists.newArrayList();
+        executions.forEach((redisClusterNode, completionStage) -> {
+            if (completionStage.toCompletableFuture().isCompletedExceptionally()) {
+                failed.add(redisClusterNode);
+            }
+        });
+
+        RedisCommandExecutionException e = new RedisCommandExecutionException(
+                "Multi-node command execution failed on node(s): " + getNodeDescription(failed));
+
+        executions.forEach((redisClusterNode, completionStage) -> {
+            CompletableFuture<?> completableFuture = completionStage.toCompletableFuture();
+            if (completableFuture.isCompletedExceptionally()) {
+                try {
+                    completableFuture.get();
+                } catch (Exception innerException) {
+
+                    if (innerException instanceof ExecutionException) {
+                        e.addSuppressed(innerException.getCause());
+                    } else {
+                        e.addSuppressed(innerException);
+                    }
+                }
+            }
+        });
+        return e;
+    }
+
+    private static String getNodeDescription(List<RedisClusterNode> nodes) {
+        return String.join(", ", nodes.stream().map(NodeSelectionCommandsImpl::getDescriptor).collect(Collectors.toList()));
+    }
+
+    private static String getDescriptor(RedisClusterNode redisClusterNode) {
+        StringBuilder buffer = new StringBuilder(redisClusterNode.getNodeId());
+        buffer.append(" (");
+
+        if (redisClusterNode.getUri() != null) {
+            buffer.append(redisClusterNode.getUri().getHost()).append(':').append(redisClusterNode.getUri().getPort());
+        }
+
+        buffer.append(')');
+        return buffer.toString();
+    }
+}
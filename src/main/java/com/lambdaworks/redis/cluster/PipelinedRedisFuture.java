@@ -18,6 +18,9 @@ class PipelinedRedisFuture<V> extends CompletableFuture<V> implements RedisFutur
 
     private CountDownLatch latch = new CountDownLatch(1);
 
+    PipelinedRedisFuture() {
+    }
+
     public PipelinedRedisFuture(CompletionStage<V> completionStage, Function<V, V> converter) {
         completionStage.thenAccept(v -> complete(converter.apply(v)))
                 .exceptionally(throwable -> {
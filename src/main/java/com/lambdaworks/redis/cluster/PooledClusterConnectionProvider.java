@@ -3,19 +3,21 @@ package com.lambdaworks.redis.cluster;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.google.common.base.Supplier;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.*;
 import com.google.common.net.HostAndPort;
-import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.StatefulConnection;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.NodeConnectionTable.ConnectionKey;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.PartitionsSnapshot;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.models.role.RedisInstance;
@@ -25,7 +27,8 @@ import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
 /**
- * Connection provider with built-in connection caching.
+ * Connection provider with built-in connection caching. Node connections are held in a {@link NodeConnectionTable} that
+ * serves lookups for known nodes without locking and establishes connections asynchronously.
  * 
  * @param <K> Key type.
  * @param <V> Value type.
@@ -37,23 +40,25 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(PooledClusterConnectionProvider.class);
 
     // Contains NodeId-identified and HostAndPort-identified connections.
-    private final LoadingCache<ConnectionKey, StatefulRedisConnection<K, V>> connections;
+    private final NodeConnectionTable<K, V> connections;
     private final boolean debugEnabled;
-    private final StatefulRedisConnection<K, V> writers[] = new StatefulRedisConnection[SlotHash.SLOT_COUNT];
-    private final StatefulRedisConnection<K, V> readers[][] = new StatefulRedisConnection[SlotHash.SLOT_COUNT][];
     private final RedisClusterClient redisClusterClient;
-    private Partitions partitions;
+    private final RedisCodec<K, V> redisCodec;
+    private final RedisChannelWriter<K, V> clusterWriter;
+    private volatile Partitions partitions;
+    private volatile SlotConnections<K, V> slotConnections;
 
-    private boolean autoFlushCommands = true;
-    private Object stateLock = new Object();
-    private ReadFrom readFrom;
+    private volatile boolean autoFlushCommands = true;
+    private volatile ReadFrom readFrom;
+    private volatile boolean closed;
 
     public PooledClusterConnectionProvider(RedisClusterClient redisClusterClient, RedisChannelWriter<K, V> clusterWriter,
             RedisCodec<K, V> redisCodec) {
         this.redisClusterClient = redisClusterClient;
+        this.redisCodec = redisCodec;
+        this.clusterWriter = clusterWriter;
         this.debugEnabled = logger.isDebugEnabled();
-        this.connections = CacheBuilder.newBuilder().build(
-                new ConnectionFactory<K, V>(redisClusterClient, redisCodec, clusterWriter));
+        this.connections = new NodeConnectionTable<>(this::connectAsync);
     }
 
     @Override
@@ -70,21 +75,17 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             return getWriteConnection(slot);
         } catch (RedisException e) {
             throw e;
-        } catch (UncheckedExecutionException | ExecutionException e) {
-            throw new RedisException(e.getCause());
         } catch (RuntimeException e) {
             throw new RedisException(e);
         }
     }
 
-    protected StatefulRedisConnection<K, V> getWriteConnection(int slot) throws ExecutionException {
-        StatefulRedisConnection<K, V> writer;// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            writer = writers[slot];
-        }
+    protected StatefulRedisConnection<K, V> getWriteConnection(int slot) {
+        SlotConnections<K, V> slotConnections = getSlotConnections();
+        StatefulRedisConnection<K, V> writer = slotConnections.writers.get(slot);
 
         if (writer == null) {
-            RedisClusterNode partition = partitions.getPartitionBySlot(slot);
+            RedisClusterNode partition = slotConnections.snapshot.getMasterBySlot(slot);
             if (partition == null) {
                 throw new RedisException("Cannot determine a partition for slot " + slot + " (Partitions: " + partitions + ")");
             }
@@ -92,28 +93,31 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
             // host because the nodeId can be handled by a different host.
             RedisURI uri = partition.getUri();
-            ConnectionKey key = new ConnectionKey(Intent.WRITE, uri.getHost(), uri.getPort());
-            return writers[slot] = connections.get(key);
-
+            writer = getNodeConnection(Intent.WRITE, uri.getHost(), uri.getPort(), slotConnections.snapshot);
+            slotConnections.writers.set(slot, writer);
         }
         return writer;
     }
 
-    protected StatefulRedisConnection<K, V> getReadConnection(int slot) throws ExecutionException {
-        StatefulRedisConnection<K, V> readerCandidates[];// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            readerCandidates = readers[slot];
-        }
+    protected StatefulRedisConnection<K, V> getReadConnection(int slot) {
+        SlotConnections<K, V> slotConnections = getSlotConnections();
+        StatefulRedisConnection<K, V> readerCandidates[] = slotConnections.readers.get(slot);
 
         if (readerCandidates == null) {
-            RedisClusterNode master = partitions.getPartitionBySlot(slot);
-            if (master == null) {
+            List<RedisNodeDescription> candidates = Collections.unmodifiableList(slotConnections.snapshot
+                    .getReplicaSetBySlot(slot));
+            if (candidates.isEmpty()) {
                 throw new RedisException("Cannot determine a partition to read for slot " + slot + " (Partitions: "
                         + partitions + ")");
             }
 
-            List<RedisNodeDescription> candidates = getReadCandidates(master);
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
+            if (slotConnections.readFrom.isDynamic()) {
+                readerCandidates = getReadFromConnections(candidates, slotConnections.snapshot);
+                slotConnections.readers.set(slot, readerCandidates);
+                return selectReadConnection(candidates, readerCandidates, slotConnections.readFrom);
+            }
+
+            List<RedisNodeDescription> selection = slotConnections.readFrom.select(new ReadFrom.Nodes() {
                 @Override
                 public List<RedisNodeDescription> getNodes() {
                     return candidates;
@@ -130,24 +134,111 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                         + partitions + ") with setting " + readFrom);
             }
 
-            readerCandidates = getReadFromConnections(selection);
-            readers[slot] = readerCandidates;
+            readerCandidates = getReadFromConnections(selection, slotConnections.snapshot);
+            slotConnections.readers.set(slot, readerCandidates);
+        }
+
+        if (slotConnections.readFrom.isDynamic()) {
+            return selectReadConnection(slotConnections.snapshot.getReplicaSetBySlot(slot), readerCandidates,
+                    slotConnections.readFrom);
         }
 
-        // try working connections at first
-        for (StatefulRedisConnection<K, V> readerCandidate : readerCandidates) {
-            if (!readerCandidate.isOpen()) {
+        // prefer working connections, fall-back to the balanced choice for same behavior as writing
+        return getReadBalancing().select(readerCandidates, StatefulConnection::isOpen,
+                PooledClusterConnectionProvider::getQueueSize, slotConnections.sequences, slot);
+    }
+
+    private ReadBalancing getReadBalancing() {
+        ClusterClientOptions options = redisClusterClient.getClusterClientOptions();
+        return options == null ? ClientOptions.DEFAULT_READ_BALANCING : options.getReadBalancing();
+    }
+
+    private static int getQueueSize(StatefulConnection<?, ?> connection) {
+        ReadFrom.NodeStatistics statistics = getNodeStatistics(connection);
+        return statistics == null ? 0 : statistics.getQueueSize();
+    }
+
+    /**
+     * Select a read connection for each invocation using a {@link ReadFrom#isDynamic() dynamic} {@link ReadFrom} setting. The
+     * selection considers the {@link ReadFrom.NodeStatistics statistics} of the connections to {@code candidates}.
+     *
+     * @param candidates the nodes serving the slot
+     * @param connections connections to {@code candidates}, in the same order
+     * @param readFrom the read from setting
+     * @return the selected connection.
+     */
+    private StatefulRedisConnection<K, V> selectReadConnection(List<? extends RedisNodeDescription> candidates,
+            StatefulRedisConnection<K, V>[] connections, ReadFrom readFrom) {
+
+        List<RedisNodeDescription> nodes = Collections.unmodifiableList(candidates);
+        List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return nodes;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return nodes.iterator();
+            }
+
+            @Override
+            public ReadFrom.NodeStatistics getStatistics(RedisNodeDescription node) {
+                int index = indexOf(nodes, node);
+                return index == -1 ? null : getNodeStatistics(connections[index]);
+            }
+        });
+
+        if (selection.isEmpty()) {
+            throw new RedisException("Cannot determine a partition to read (Partitions: " + partitions + ") with setting "
+                    + readFrom);
+        }
+
+        StatefulRedisConnection<K, V> first = null;
+        for (RedisNodeDescription node : selection) {
+
+            int index = indexOf(nodes, node);
+            if (index == -1) {
                 continue;
             }
-            return readerCandidate;
+
+            StatefulRedisConnection<K, V> connection = connections[index];
+            if (connection.isOpen()) {
+                return connection;
+            }
+
+            if (first == null) {
+                first = connection;
+            }
         }
 
         // fall-back to the first connection for same behavior as writing
-        return readerCandidates[0];
+        return first != null ? first : connections[0];
     }
 
-    private StatefulRedisConnection<K, V>[] getReadFromConnections(List<RedisNodeDescription> selection)
-            throws ExecutionException {
+    private static int indexOf(List<RedisNodeDescription> nodes, RedisNodeDescription node) {
+
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i) == node) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static ReadFrom.NodeStatistics getNodeStatistics(StatefulConnection<?, ?> connection) {
+
+        if (connection instanceof RedisChannelHandler
+                && ((RedisChannelHandler<?, ?>) connection).getChannelWriter() instanceof ReadFrom.NodeStatistics) {
+            return (ReadFrom.NodeStatistics) ((RedisChannelHandler<?, ?>) connection).getChannelWriter();
+        }
+
+        return null;
+    }
+
+    private StatefulRedisConnection<K, V>[] getReadFromConnections(List<? extends RedisNodeDescription> selection,
+            PartitionsSnapshot snapshot) {
         StatefulRedisConnection<K, V>[] readerCandidates;
         // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
         // host because the nodeId can be handled by a different host.
@@ -158,24 +249,79 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             RedisNodeDescription redisClusterNode = selection.get(i);
 
             RedisURI uri = redisClusterNode.getUri();
-            ConnectionKey key = new ConnectionKey(redisClusterNode.getRole() == RedisInstance.Role.MASTER ? Intent.WRITE
-                    : Intent.READ, uri.getHost(), uri.getPort());
+            Intent intent = redisClusterNode.getRole() == RedisInstance.Role.MASTER ? Intent.WRITE : Intent.READ;
 
-            readerCandidates[i] = connections.get(key);
+            readerCandidates[i] = getNodeConnection(intent, uri.getHost(), uri.getPort(), snapshot);
         }
 
         return readerCandidates;
     }
 
-    private List<RedisNodeDescription> getReadCandidates(RedisClusterNode master) {
-        List<RedisNodeDescription> candidates = Lists.newArrayList();
+    /**
+     * Obtain a connection to the node at {@code host} and {@code port}. Established connections to nodes of the
+     * {@code snapshot} are resolved without allocation and without locking.
+     *
+     * @param intent the connection intent
+     * @param host the host
+     * @param port the port
+     * @param snapshot the current topology
+     * @return the connection.
+     */
+    private StatefulRedisConnection<K, V> getNodeConnection(Intent intent, String host, int port, PartitionsSnapshot snapshot) {
 
-        for (RedisClusterNode partition : partitions) {
-            if (master.getNodeId().equals(partition.getNodeId()) || master.getNodeId().equals(partition.getSlaveOf())) {
-                candidates.add(partition);
-            }
+        StatefulRedisConnection<K, V> connection = connections.getIfPresent(intent, host, port, snapshot);
+        if (connection != null) {
+            return connection;
+        }
+
+        return await(connections.getOrCreate(new ConnectionKey(intent, host, port)));
+    }
+
+    private static <K, V> StatefulRedisConnection<K, V> await(CompletableFuture<StatefulRedisConnection<K, V>> future) {
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        } catch (ExecutionException e) {
+            throw new RedisException(e.getCause());
+        }
+    }
+
+    /**
+     * Obtain the per-slot connection cache for the current {@link PartitionsSnapshot}. A new cache is created once the
+     * partitions publish a new snapshot so cached connections never outlive the topology they were resolved from.
+     *
+     * @return the per-slot connection cache.
+     */
+    private SlotConnections<K, V> getSlotConnections() {
+
+        PartitionsSnapshot snapshot = partitions.getSnapshot();
+        ReadFrom readFrom = this.readFrom;
+        SlotConnections<K, V> slotConnections = this.slotConnections;
+
+        if (slotConnections == null || slotConnections.snapshot != snapshot || slotConnections.readFrom != readFrom) {
+            slotConnections = new SlotConnections<>(snapshot, readFrom);
+            this.slotConnections = slotConnections;
+        }
+
+        return slotConnections;
+    }
+
+    @Override
+    public void redirectSlot(int slot, String host, int port) {
+
+        if (debugEnabled) {
+            logger.debug("redirectSlot(" + slot + ", " + host + ", " + port + ")");
+        }
+
+        try {
+            SlotConnections<K, V> slotConnections = getSlotConnections();
+            slotConnections.writers.set(slot, getNodeConnection(Intent.WRITE, host, port, slotConnections.snapshot));
+        } catch (RedisException e) {
+            logger.warn("Cannot redirect slot " + slot + " to " + HostAndPort.fromParts(host, port), e);
         }
-        return candidates;
     }
 
     @Override
@@ -184,12 +330,12 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             logger.debug("getConnection(" + intent + ", " + nodeId + ")");
         }
 
-        try {
-            ConnectionKey key = new ConnectionKey(intent, nodeId);
-            return connections.get(key);
-        } catch (UncheckedExecutionException | ExecutionException e) {
-            throw new RedisException(e.getCause());
+        StatefulRedisConnection<K, V> connection = connections.getIfPresent(intent, nodeId, partitions.getSnapshot());
+        if (connection != null) {
+            return connection;
         }
+
+        return await(connections.getOrCreate(new ConnectionKey(intent, nodeId)));
     }
 
     @Override
@@ -200,6 +346,12 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                 logger.debug("getConnection(" + intent + ", " + host + ", " + port + ")");
             }
 
+            // known nodes are members of the cluster view
+            StatefulRedisConnection<K, V> connection = connections.getIfPresent(intent, host, port, partitions.getSnapshot());
+            if (connection != null) {
+                return connection;
+            }
+
             if (validateClusterNodeMembership()) {
                 RedisClusterNode redisClusterNode = getPartition(host, port);
 
@@ -209,12 +361,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                 }
             }
 
-            ConnectionKey key = new ConnectionKey(intent, host, port);
-            return connections.get(key);
+            return await(connections.getOrCreate(new ConnectionKey(intent, host, port)));
         } catch (RedisException e) {
             throw e;
-        } catch (UncheckedExecutionException | ExecutionException e) {
-            throw new RedisException(e.getCause());
         } catch (RuntimeException e) {
             throw new RedisException(e);
         }
@@ -232,13 +381,15 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     @Override
     public void close() {
-        ImmutableMap<ConnectionKey, StatefulRedisConnection<K, V>> copy = ImmutableMap.copyOf(this.connections.asMap());
-        this.connections.invalidateAll();
+        closed = true;
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> copy = this.connections.clear();
         resetFastConnectionCache();
-        for (StatefulRedisConnection<K, V> kvRedisAsyncConnection : copy.values()) {
-            if (kvRedisAsyncConnection.isOpen()) {
-                kvRedisAsyncConnection.close();
-            }
+        for (CompletableFuture<StatefulRedisConnection<K, V>> future : copy) {
+            future.thenAccept(connection -> {
+                if (connection.isOpen()) {
+                    connection.close();
+                }
+            });
         }
     }
 
@@ -248,24 +399,77 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     /**
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Set the partitions. Slot lookups read the immutable {@link PartitionsSnapshot} of {@code partitions} without locking.
      * 
      * @param partitions the new partitions.
      */
     @Override
     public void setPartitions(Partitions partitions) {
-        boolean reconfigurePartitions = false;
-        
-        synchronized (stateLock) {
-            if (this.partitions != null) {
-                reconfigurePartitions = true;
+        boolean reconfigurePartitions = this.partitions != null;
+        this.partitions = partitions;
+
+        if (reconfigurePartitions) {
+            reconfigurePartitions();
+        }
+
+        prewarmConnections();
+    }
+
+    /**
+     * Establish connections to the cluster nodes in the background according to
+     * {@link ClusterClientOptions#getPrewarmConnections()}. Connections are created in parallel on the
+     * {@link com.lambdaworks.redis.resource.ClientResources#eventExecutorGroup() event executor group}. Callers requesting a
+     * connection while it is established share the pending connect instead of connecting again.
+     */
+    private void prewarmConnections() {
+
+        ClusterClientOptions options = redisClusterClient.getClusterClientOptions();
+        if (options == null || options.getPrewarmConnections() == ClusterClientOptions.PrewarmConnections.NONE || closed) {
+            return;
+        }
+
+        for (RedisClusterNode node : partitions.getPartitions()) {
+
+            if (node.getUri() == null || node.getFlags().contains(RedisClusterNode.NodeFlag.FAIL)
+                    || node.getFlags().contains(RedisClusterNode.NodeFlag.NOADDR)
+                    || node.getFlags().contains(RedisClusterNode.NodeFlag.HANDSHAKE)) {
+                continue;
+            }
+
+            boolean master = node.getRole() == RedisInstance.Role.MASTER;
+            if (!master && options.getPrewarmConnections() != ClusterClientOptions.PrewarmConnections.MASTERS_AND_REPLICAS) {
+                continue;
+            }
+
+            RedisURI uri = node.getUri();
+            ConnectionKey key = new ConnectionKey(master ? Intent.WRITE : Intent.READ, uri.getHost(), uri.getPort());
+
+            if (!connections.contains(key)) {
+                redisClusterClient.getResources().eventExecutorGroup().submit(() -> prewarmConnection(key));
             }
-            this.partitions = partitions;
         }
+    }
 
-        if(reconfigurePartitions){
-            reconfigurePartitions();
+    private void prewarmConnection(ConnectionKey key) {
+
+        if (closed) {
+            return;
         }
+
+        CompletableFuture<StatefulRedisConnection<K, V>> future = connections.getOrCreate(key);
+        future.whenComplete((connection, throwable) -> {
+
+            if (throwable != null) {
+                logger.warn("Cannot prewarm connection to " + key.host + ":" + key.port + ": " + unwrap(throwable));
+                return;
+            }
+
+            // the provider was closed while connecting
+            if (closed) {
+                connections.remove(key);
+                connection.close();
+            }
+        });
     }
 
     private void reconfigurePartitions() {
@@ -277,11 +481,11 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         Set<ConnectionKey> staleConnections = getStaleConnectionKeys();
 
         for (ConnectionKey key : staleConnections) {
-            StatefulRedisConnection<K, V> connection = connections.getIfPresent(key);
+            StatefulRedisConnection<K, V> connection = connections.get(key);
 
             RedisChannelHandler<K, V> redisChannelHandler = (RedisChannelHandler<K, V>) connection;
 
-            if (redisChannelHandler.getChannelWriter() instanceof ClusterNodeCommandHandler) {
+            if (redisChannelHandler != null && redisChannelHandler.getChannelWriter() instanceof ClusterNodeCommandHandler) {
                 ClusterNodeCommandHandler<?, ?> clusterNodeCommandHandler = (ClusterNodeCommandHandler<?, ?>) redisChannelHandler
                         .getChannelWriter();
                 clusterNodeCommandHandler.prepareClose();
@@ -302,10 +506,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         Set<ConnectionKey> stale = getStaleConnectionKeys();
 
         for (ConnectionKey connectionKey : stale) {
-            StatefulRedisConnection<K, V> connection = connections.getIfPresent(connectionKey);
+            CompletableFuture<StatefulRedisConnection<K, V>> connection = connections.remove(connectionKey);
             if (connection != null) {
-                connections.invalidate(connectionKey);
-                connection.close();
+                connection.thenAccept(StatefulConnection::close);
             }
         }
 
@@ -318,10 +521,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
      * @return Set of {@link ConnectionKey}s
      */
     private Set<ConnectionKey> getStaleConnectionKeys() {
-        Map<ConnectionKey, StatefulRedisConnection<K, V>> map = Maps.newHashMap(connections.asMap());
         Set<ConnectionKey> stale = Sets.newHashSet();
 
-        for (ConnectionKey connectionKey : map.keySet()) {
+        for (ConnectionKey connectionKey : connections.keys()) {
 
             if (connectionKey.nodeId != null && partitions.getPartitionByNodeId(connectionKey.nodeId) != null) {
                 continue;
@@ -336,22 +538,20 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     /**
-     * Set auto-flush on all commands. Synchronize on {@code stateLock} to initiate a happens-before relation and clear the
-     * thread caches of other threads.
+     * Set auto-flush on all commands. Pending connections apply the setting once they are established, connections created
+     * afterwards read the updated setting.
      * 
      * @param autoFlush state of autoFlush.
      */
     @Override
     public void setAutoFlushCommands(boolean autoFlush) {
-        synchronized (stateLock) {
-            this.autoFlushCommands = autoFlush;
-        }
+        this.autoFlushCommands = autoFlush;
 
-        allConnections().forEach(connection -> connection.setAutoFlushCommands(autoFlush));
+        connections.forEach(connection -> connection.setAutoFlushCommands(autoFlushCommands));
     }
 
     protected Collection<StatefulRedisConnection<K, V>> allConnections() {
-        return ImmutableList.copyOf(connections.asMap().values());
+        return connections.getConnections();
     }
 
     @Override
@@ -361,10 +561,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     @Override
     public void setReadFrom(ReadFrom readFrom) {
-        synchronized (stateLock) {
-            this.readFrom = readFrom;
-            Arrays.fill(readers, null);
-        }
+        this.readFrom = readFrom;
     }
 
     @Override
@@ -383,15 +580,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     /**
      * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
      * cache.
-     *
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
      */
     protected void resetFastConnectionCache() {
-        synchronized (stateLock) {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
-
-        }
+        this.slotConnections = null;
     }
 
     private RuntimeException invalidConnectionPoint(String message) {
@@ -413,62 +604,31 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     }
 
     protected SocketAddress getSocketAddress(String nodeId) {
-        for (RedisClusterNode partition : partitions) {
-            if (partition.getNodeId().equals(nodeId)) {
-                return partition.getUri().getResolvedAddress();
-            }
+        RedisClusterNode partition = partitions.getPartitionByNodeId(nodeId);
+        if (partition != null) {
+            return partition.getUri().getResolvedAddress();
         }
         return null;
     }
 
     /**
-     * Connection to identify a connection either by nodeId or host/port.
+     * Per-slot connection cache bound to a {@link PartitionsSnapshot} and {@link ReadFrom} setting. Caches are replaced as a
+     * whole and never cleared in place so readers do not require locking.
      */
-    private static class ConnectionKey {
-        private final ClusterConnectionProvider.Intent intent;
-        private final String nodeId;
-        private final String host;
-        private final int port;
-
-        public ConnectionKey(Intent intent, String nodeId) {
-            this.intent = intent;
-            this.nodeId = nodeId;
-            this.host = null;
-            this.port = 0;
-        }
-
-        public ConnectionKey(Intent intent, String host, int port) {
-            this.intent = intent;
-            this.host = host;
-            this.port = port;
-            this.nodeId = null;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o)
-                return true;
-            if (!(o instanceof ConnectionKey))
-                return false;
-
-            ConnectionKey key = (ConnectionKey) o;
-
-            if (port != key.port)
-                return false;
-            if (intent != key.intent)
-                return false;
-            if (nodeId != null ? !nodeId.equals(key.nodeId) : key.nodeId != null)
-                return false;
-            return !(host != null ? !host.equals(key.host) : key.host != null);
-        }
-
-        @Override
-        public int hashCode() {
-            int result = intent != null ? intent.name().hashCode() : 0;
-            result = 31 * result + (nodeId != null ? nodeId.hashCode() : 0);
-            result = 31 * result + (host != null ? host.hashCode() : 0);
-            result = 31 * result + port;
-            return result;
+    private static class SlotConnections<K, V> {
+
+        private final PartitionsSnapshot snapshot;
+        private final ReadFrom readFrom;
+        private final AtomicReferenceArray<StatefulRedisConnection<K, V>> writers = new AtomicReferenceArray<>(
+                SlotHash.SLOT_COUNT);
+        private final AtomicReferenceArray<StatefulRedisConnection<K, V>[]> readers = new AtomicReferenceArray<>(
+                SlotHash.SLOT_COUNT);
+        // round-robin position per slot
+        private final AtomicIntegerArray sequences = new AtomicIntegerArray(SlotHash.SLOT_COUNT);
+
+        SlotConnections(PartitionsSnapshot snapshot, ReadFrom readFrom) {
+            this.snapshot = snapshot;
+            this.readFrom = readFrom;
         }
     }
 
@@ -477,54 +637,62 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                 || redisClusterClient.getClusterClientOptions().isValidateClusterNodeMembership();
     }
 
-    private class ConnectionFactory<K, V> extends CacheLoader<ConnectionKey, StatefulRedisConnection<K, V>> {
-
-        private final RedisClusterClient redisClusterClient;
-        private final RedisCodec<K, V> redisCodec;
-        private final RedisChannelWriter<K, V> clusterWriter;
+    /**
+     * Connect to the node identified by {@code key}. Read connections are switched to {@code READONLY} before the
+     * connection is handed out.
+     *
+     * @param key the connection key
+     * @return future that completes with the connection.
+     */
+    private CompletableFuture<StatefulRedisConnection<K, V>> connectAsync(ConnectionKey key) {
 
-        public ConnectionFactory(RedisClusterClient redisClusterClient, RedisCodec<K, V> redisCodec,
-                RedisChannelWriter<K, V> clusterWriter) {
-            this.redisClusterClient = redisClusterClient;
-            this.redisCodec = redisCodec;
-            this.clusterWriter = clusterWriter;
-        }
+        CompletableFuture<StatefulRedisConnection<K, V>> future;
+        if (key.nodeId != null) {
+            if (partitions.getPartitionByNodeId(key.nodeId) == null) {
+                throw invalidConnectionPoint("node id " + key.nodeId);
+            }
 
-        @Override
-        public StatefulRedisConnection<K, V> load(ConnectionKey key) throws Exception {
+            // NodeId connections do not provide command recovery due to cluster reconfiguration
+            future = redisClusterClient.connectToNodeAsync(redisCodec, key.nodeId, null, getSocketAddressSupplier(key));
+        } else {
 
-            StatefulRedisConnection<K, V> connection = null;
-            if (key.nodeId != null) {
-                if (partitions.getPartitionByNodeId(key.nodeId) == null) {
-                    throw invalidConnectionPoint("node id " + key.nodeId);
+            if (validateClusterNodeMembership()) {
+                if (getPartition(key.host, key.port) == null) {
+                    throw invalidConnectionPoint(key.host + ":" + key.port);
                 }
-
-                // NodeId connections do not provide command recovery due to cluster reconfiguration
-                connection = redisClusterClient.connectToNode(redisCodec, key.nodeId, null, getSocketAddressSupplier(key));
             }
 
-            if (key.host != null) {
-
-                if (validateClusterNodeMembership()) {
-                    if (getPartition(key.host, key.port) == null) {
-                        throw invalidConnectionPoint(key.host + ":" + key.port);
-                    }
-                }
+            // Host and port connections do provide command recovery due to cluster reconfiguration
+            future = redisClusterClient.connectToNodeAsync(redisCodec, key.host + ":" + key.port, clusterWriter,
+                    getSocketAddressSupplier(key));
+        }
 
-                // Host and port connections do provide command recovery due to cluster reconfiguration
-                connection = redisClusterClient.connectToNode(redisCodec, key.host + ":" + key.port, clusterWriter,
-                        getSocketAddressSupplier(key));
-            }
+        if (key.intent == Intent.READ) {
+            future = future.thenCompose(connection -> redisClusterClient.withCommandTimeout(connection.async().readOnly())
+                    .handle((ok, throwable) -> {
 
-            if (key.intent == Intent.READ) {
-                connection.sync().readOnly();
-            }
+                        if (throwable != null) {
+                            redisClusterClient.getResources().eventExecutorGroup().submit(connection::close);
+                            throw new CompletionException(unwrap(throwable));
+                        }
 
-            synchronized (stateLock) {
-                connection.setAutoFlushCommands(autoFlushCommands);
-            }
+                        return connection;
+                    }));
+        }
 
+        return future.thenApply(connection -> {
+            connection.setAutoFlushCommands(autoFlushCommands);
             return connection;
+        });
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+
+        return cause;
     }
 }
@@ -4,8 +4,9 @@ import static com.lambdaworks.redis.cluster.ClusterScanSupport.asyncClusterKeySc
 import static com.lambdaworks.redis.cluster.ClusterScanSupport.asyncClusterStreamScanCursorMapper;
 import static com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag.MASTER;
 
-import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -13,7 +14,6 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.async.RedisAsyncCommands;
@@ -21,10 +21,8 @@ import com.lambdaworks.redis.api.async.RedisKeyAsyncCommands;
 import com.lambdaworks.redis.api.async.RedisScriptingAsyncCommands;
 import com.lambdaworks.redis.api.async.RedisServerAsyncCommands;
 import com.lambdaworks.redis.cluster.ClusterScanSupport.ScanCursorMapper;
-import com.lambdaworks.redis.cluster.api.NodeSelectionSupport;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
 import com.lambdaworks.redis.cluster.api.async.AsyncNodeSelection;
-import com.lambdaworks.redis.cluster.api.async.NodeSelectionAsyncCommands;
 import com.lambdaworks.redis.cluster.api.async.RedisAdvancedClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
@@ -36,6 +34,7 @@ import com.lambdaworks.redis.output.ValueStreamingChannel;
 import com.lambdaworks.redis.protocol.AsyncCommand;
 import com.lambdaworks.redis.protocol.Command;
 import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
 
 /**
  * An advanced asynchronous and thread-safe API for a Redis Cluster connection.
@@ -60,65 +59,50 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> del(K... keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, Arrays.asList(keys));
+        SlotPartition<K> partition = SlotPartition.partition(codec, Arrays.asList(keys));
 
-        if (partitioned.size() < 2) {
+        if (partition.size() < 2) {
             return super.del(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = Maps.newHashMap();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
-
+        Map<Integer, RedisFuture<Long>> executions = dispatch(partition, this::delCommand);
         return MultiNodeExecution.aggregateAsync(executions);
     }
 
     @Override
     public RedisFuture<Long> unlink(K... keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, Arrays.asList(keys));
+        SlotPartition<K> partition = SlotPartition.partition(codec, Arrays.asList(keys));
 
-        if (partitioned.size() < 2) {
+        if (partition.size() < 2) {
             return super.unlink(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = Maps.newHashMap();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
-        }
-
+        Map<Integer, RedisFuture<Long>> executions = dispatch(partition, this::unlinkCommand);
         return MultiNodeExecution.aggregateAsync(executions);
     }
 
     @Override
     public RedisFuture<List<V>> mget(K... keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, Arrays.asList(keys));
+        SlotPartition<K> partition = SlotPartition.partition(codec, Arrays.asList(keys));
 
-        if (partitioned.size() < 2) {
+        if (partition.size() < 2) {
             return super.mget(keys);
         }
 
-        Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<V>>> executions = Maps.newHashMap();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<V>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
-        }
+        List<RedisFuture<List<V>>> futures = new ArrayList<>(partition.size());
+        Map<Integer, RedisFuture<List<V>>> executions = dispatch(partition, this::mgetCommand, futures);
 
         // restore order of key
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<V> result = Lists.newArrayList();
-            for (K opKey : keys) {
-                int slot = slots.get(opKey);
 
-                int position = partitioned.get(slot).indexOf(opKey);
-                RedisFuture<List<V>> listRedisFuture = executions.get(slot);
-                result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
+            List<List<V>> results = new ArrayList<>(futures.size());
+            for (RedisFuture<List<V>> future : futures) {
+                results.add(MultiNodeExecution.execute(() -> future.get()));
+            }
+
+            List<V> result = new ArrayList<>(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                result.add(results.get(partition.getGroup(i)).get(partition.getPosition(i)));
             }
 
             return result;
@@ -127,73 +111,43 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisFuture<Long> mget(ValueStreamingChannel<V> channel, K... keys) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, Arrays.asList(keys));
+        SlotPartition<K> partition = SlotPartition.partition(codec, Arrays.asList(keys));
 
-        if (partitioned.size() < 2) {
+        if (partition.size() < 2) {
             return super.mget(channel, keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = Maps.newHashMap();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.mget(channel, entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
-
+        ValueStreamingChannel<V> synchronizedChannel = MultiNodeExecution.synchronizedChannel(channel);
+        Map<Integer, RedisFuture<Long>> executions = dispatch(partition,
+                slotKeys -> mgetCommand(synchronizedChannel, slotKeys));
         return MultiNodeExecution.aggregateAsync(executions);
     }
 
     @Override
     public RedisFuture<String> mset(Map<K, V> map) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
+        SlotPartition<K> partition = SlotPartition.partition(codec, new ArrayList<>(map.keySet()));
 
-        if (partitioned.size() < 2) {
+        if (partition.size() < 2) {
             return super.mset(map);
         }
 
-        Map<Integer, RedisFuture<String>> executions = Maps.newHashMap();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = Maps.newHashMap();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
-
+        Map<Integer, RedisFuture<String>> executions = dispatch(partition,
+                slotKeys -> msetCommand(subMap(map, slotKeys)));
         return MultiNodeExecution.firstOfAsync(executions);
     }
 
     @Override
     public RedisFuture<Boolean> msetnx(Map<K, V> map) {
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, map.keySet());
+        SlotPartition<K> partition = SlotPartition.partition(codec, new ArrayList<>(map.keySet()));
 
-        if (partitioned.size() < 2) {
+        if (partition.size() < 2) {
             return super.msetnx(map);
         }
 
-        Map<Integer, RedisFuture<Boolean>> executions = Maps.newHashMap();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+        Map<Integer, RedisFuture<Boolean>> executions = dispatch(partition,
+                slotKeys -> msetnxCommand(subMap(map, slotKeys)));
 
-            Map<K, V> op = Maps.newHashMap();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<Boolean> msetnx = super.msetnx(op);
-            executions.put(entry.getKey(), msetnx);
-        }
-
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            for (RedisFuture<Boolean> listRedisFuture : executions.values()) {
-                Boolean b = MultiNodeExecution.execute(() -> listRedisFuture.get());
-                if (b != null && b) {
-                    return true;
-                }
-            }
-
-            return false;
-        });
+        return MultiNodeExecution.foldAsync(executions, false, (result, b) -> result || (b != null && b));
     }
 
     @Override
@@ -283,19 +237,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<List<K>> keys(K pattern) {
         Map<String, RedisFuture<List<K>>> executions = executeOnMasters(commands -> commands.keys(pattern));
-
-        return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<K> result = Lists.newArrayList();
-            for (RedisFuture<List<K>> future : executions.values()) {
-                result.addAll(MultiNodeExecution.execute(() -> future.get()));
-            }
-            return result;
-        });
+        return MultiNodeExecution.concatAsync(executions);
     }
 
     @Override
     public RedisFuture<Long> keys(KeyStreamingChannel<K> channel, K pattern) {
-        Map<String, RedisFuture<Long>> executions = executeOnMasters(commands -> commands.keys(channel, pattern));
+        KeyStreamingChannel<K> synchronizedChannel = MultiNodeExecution.synchronizedChannel(channel);
+        Map<String, RedisFuture<Long>> executions = executeOnMasters(commands -> commands.keys(synchronizedChannel, pattern));
         return MultiNodeExecution.aggregateAsync(executions);
     }
 
@@ -351,6 +299,46 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         return executions;
     }
 
+    /**
+     * Create one command per slot group and dispatch all commands in a single batch. The cluster channel writer groups the
+     * batch by owning node so commands targeting the same node are written and flushed together.
+     *
+     * @param partition the keys partitioned by slot
+     * @param commandFactory function producing the command for the keys of a slot
+     * @param <T> result type
+     * @return map of slot and commands.
+     */
+    private <T> Map<Integer, RedisFuture<T>> dispatch(SlotPartition<K> partition,
+            Function<List<K>, RedisCommand<K, V, T>> commandFactory) {
+        return dispatch(partition, commandFactory, new ArrayList<>(partition.size()));
+    }
+
+    private <T> Map<Integer, RedisFuture<T>> dispatch(SlotPartition<K> partition,
+            Function<List<K>, RedisCommand<K, V, T>> commandFactory, List<RedisFuture<T>> futures) {
+
+        Map<Integer, RedisFuture<T>> executions = Maps.newHashMap();
+        List<RedisCommand<K, V, T>> commands = new ArrayList<>(partition.size());
+
+        for (int i = 0; i < partition.size(); i++) {
+            AsyncCommand<K, V, T> command = new AsyncCommand<>(commandFactory.apply(partition.getKeys(i)));
+            commands.add(command);
+            futures.add(command);
+            executions.put(partition.getSlot(i), command);
+        }
+
+        connection.dispatch(commands);
+        return executions;
+    }
+
+    private static <K, V> Map<K, V> subMap(Map<K, V> map, List<K> keys) {
+
+        Map<K, V> result = new LinkedHashMap<>(keys.size() * 2);
+        for (K key : keys) {
+            result.put(key, map.get(key));
+        }
+        return result;
+    }
+
     private RedisClusterAsyncCommands<K, V> findConnectionBySlot(int slot) {
         RedisClusterNode node = getStatefulConnection().getPartitions().getPartitionBySlot(slot);
         if (node != null) {
@@ -390,11 +378,10 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, dynamic);
     }
 
-    @SuppressWarnings("unchecked")
     protected AsyncNodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, ClusterConnectionProvider.Intent intent,
             boolean dynamic) {
 
-        NodeSelectionSupport<RedisAsyncCommands<K, V>, ?> selection;
+        AbstractNodeSelection<RedisAsyncCommands<K, V>, ?, K, V> selection;
 
         if (dynamic) {
             selection = new DynamicAsyncNodeSelection<>(getStatefulConnection(), predicate, intent);
@@ -402,9 +389,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             selection = new StaticAsyncNodeSelection<>(getStatefulConnection(), predicate, intent);
         }
 
-        NodeSelectionInvocationHandler h = new NodeSelectionInvocationHandler((AbstractNodeSelection<?, ?, ?, ?>) selection);
-        return (AsyncNodeSelection<K, V>) Proxy.newProxyInstance(NodeSelectionSupport.class.getClassLoader(), new Class<?>[] {
-                NodeSelectionAsyncCommands.class, AsyncNodeSelection.class }, h);
+        return new NodeSelectionAsyncCommandsImpl<>(selection);
     }
 
     @Override
@@ -453,6 +438,39 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
                 asyncClusterStreamScanCursorMapper());
     }
 
+    @Override
+    public RedisFuture<KeyScanCursor<K>> scanParallel(ScanCursor scanCursor, ScanArgs scanArgs, int parallelism) {
+
+        return parallelScan(scanCursor, parallelism,
+                (connection, cursor) -> scanArgs != null ? connection.scan(cursor, scanArgs) : connection.scan(cursor),
+                (nodeCursors, results) -> {
+
+                    KeyScanCursor<K> result = new ClusterScanSupport.CompositeKeyScanCursor<>(nodeCursors);
+                    for (KeyScanCursor<K> nodeResult : results.values()) {
+                        result.getKeys().addAll(nodeResult.getKeys());
+                    }
+                    return result;
+                });
+    }
+
+    @Override
+    public RedisFuture<StreamScanCursor> scanParallel(KeyStreamingChannel<K> channel, ScanCursor scanCursor,
+            ScanArgs scanArgs, int parallelism) {
+
+        KeyStreamingChannel<K> synchronizedChannel = MultiNodeExecution.synchronizedChannel(channel);
+
+        return parallelScan(scanCursor, parallelism, (connection, cursor) -> scanArgs != null ? connection.scan(
+                synchronizedChannel, cursor, scanArgs) : connection.scan(synchronizedChannel, cursor), (nodeCursors,
+                results) -> {
+
+            StreamScanCursor result = new ClusterScanSupport.CompositeStreamScanCursor(nodeCursors);
+            for (StreamScanCursor nodeResult : results.values()) {
+                result.setCount(result.getCount() + nodeResult.getCount());
+            }
+            return result;
+        });
+    }
+
     private <T extends ScanCursor> RedisFuture<T> clusterScan(ScanCursor cursor,
             BiFunction<RedisKeyAsyncCommands<K, V>, ScanCursor, RedisFuture<T>> scanFunction,
             ScanCursorMapper<RedisFuture<T>> resultMapper) {
@@ -476,4 +494,31 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         return mapper.map(nodeIds, currentNodeId, scanCursor);
     }
 
+    /**
+     * Perform a parallel SCAN in the cluster. Scans the selected nodes concurrently and merges the node results into one
+     * composite result once all nodes responded.
+     */
+    private <T extends ScanCursor> RedisFuture<T> parallelScan(ScanCursor cursor, int parallelism,
+            BiFunction<RedisKeyAsyncCommands<K, V>, ScanCursor, RedisFuture<T>> scanFunction,
+            BiFunction<Map<String, String>, Map<String, T>, T> resultMapper) {
+
+        Map<String, String> nodeCursors = ClusterScanSupport.getNodeCursors(getStatefulConnection(), cursor);
+        Map<String, ScanCursor> selection = ClusterScanSupport.getParallelScanCursors(nodeCursors, parallelism);
+
+        Map<String, RedisFuture<T>> executions = new LinkedHashMap<>();
+        for (Map.Entry<String, ScanCursor> entry : selection.entrySet()) {
+            executions.put(entry.getKey(),
+                    scanFunction.apply(getStatefulConnection().getConnection(entry.getKey()).async(), entry.getValue()));
+        }
+
+        return new PipelinedRedisFuture<>(executions, future -> {
+
+            Map<String, T> results = new LinkedHashMap<>();
+            for (Map.Entry<String, RedisFuture<T>> entry : executions.entrySet()) {
+                results.put(entry.getKey(), MultiNodeExecution.execute(() -> entry.getValue().get()));
+            }
+
+            return resultMapper.apply(ClusterScanSupport.advance(nodeCursors, results), results);
+        });
+    }
 }
@@ -4,7 +4,9 @@ import static com.lambdaworks.redis.cluster.ClusterScanSupport.reactiveClusterKe
 import static com.lambdaworks.redis.cluster.ClusterScanSupport.reactiveClusterStreamScanCursorMapper;
 import static com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag.MASTER;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -140,8 +142,9 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
 
         List<Observable<Long>> observables = Lists.newArrayList();
 
+        ValueStreamingChannel<V> synchronizedChannel = MultiNodeExecution.synchronizedChannel(channel);
         for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            observables.add(super.mget(channel, entry.getValue()));
+            observables.add(super.mget(synchronizedChannel, entry.getValue()));
         }
 
         return Observable.merge(observables).reduce((accu, next) -> accu + next);
@@ -227,7 +230,8 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
 
     @Override
     public Observable<Long> keys(KeyStreamingChannel<K> channel, K pattern) {
-        Map<String, Observable<Long>> observables = executeOnMasters(commands -> commands.keys(channel, pattern));
+        KeyStreamingChannel<K> synchronizedChannel = MultiNodeExecution.synchronizedChannel(channel);
+        Map<String, Observable<Long>> observables = executeOnMasters(commands -> commands.keys(synchronizedChannel, pattern));
         return Observable.merge(observables.values()).reduce((accu, next) -> accu + next);
     }
 
@@ -371,6 +375,39 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
                 reactiveClusterStreamScanCursorMapper());
     }
 
+    @Override
+    public Observable<KeyScanCursor<K>> scanParallel(ScanCursor scanCursor, ScanArgs scanArgs, int parallelism) {
+
+        return parallelScan(scanCursor, parallelism,
+                (connection, cursor) -> scanArgs != null ? connection.scan(cursor, scanArgs) : connection.scan(cursor),
+                (nodeCursors, results) -> {
+
+                    KeyScanCursor<K> result = new ClusterScanSupport.CompositeKeyScanCursor<>(nodeCursors);
+                    for (KeyScanCursor<K> nodeResult : results.values()) {
+                        result.getKeys().addAll(nodeResult.getKeys());
+                    }
+                    return result;
+                });
+    }
+
+    @Override
+    public Observable<StreamScanCursor> scanParallel(KeyStreamingChannel<K> channel, ScanCursor scanCursor,
+            ScanArgs scanArgs, int parallelism) {
+
+        KeyStreamingChannel<K> synchronizedChannel = MultiNodeExecution.synchronizedChannel(channel);
+
+        return parallelScan(scanCursor, parallelism, (connection, cursor) -> scanArgs != null ? connection.scan(
+                synchronizedChannel, cursor, scanArgs) : connection.scan(synchronizedChannel, cursor), (nodeCursors,
+                results) -> {
+
+            StreamScanCursor result = new ClusterScanSupport.CompositeStreamScanCursor(nodeCursors);
+            for (StreamScanCursor nodeResult : results.values()) {
+                result.setCount(result.getCount() + nodeResult.getCount());
+            }
+            return result;
+        });
+    }
+
     private <T extends ScanCursor> Observable<T> clusterScan(ScanCursor cursor,
             BiFunction<RedisKeyReactiveCommands<K, V>, ScanCursor, Observable<T>> scanFunction,
             ClusterScanSupport.ScanCursorMapper<Observable<T>> resultMapper) {
@@ -394,6 +431,28 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
         return mapper.map(nodeIds, currentNodeId, scanCursor);
     }
 
+    /**
+     * Perform a parallel SCAN in the cluster. Scans the selected nodes concurrently and merges the node results into one
+     * composite result once all nodes responded.
+     */
+    private <T extends ScanCursor> Observable<T> parallelScan(ScanCursor cursor, int parallelism,
+            BiFunction<RedisKeyReactiveCommands<K, V>, ScanCursor, Observable<T>> scanFunction,
+            BiFunction<Map<String, String>, Map<String, T>, T> resultMapper) {
+
+        Map<String, String> nodeCursors = ClusterScanSupport.getNodeCursors(getStatefulConnection(), cursor);
+        Map<String, ScanCursor> selection = ClusterScanSupport.getParallelScanCursors(nodeCursors, parallelism);
+
+        List<Observable<KeyValue<String, T>>> executions = new ArrayList<>(selection.size());
+        for (Map.Entry<String, ScanCursor> entry : selection.entrySet()) {
+
+            Observable<T> execution = scanFunction.apply(getConnection(entry.getKey()), entry.getValue());
+            executions.add(execution.map(result -> new KeyValue<>(entry.getKey(), result)));
+        }
+
+        return Observable.merge(executions).toMap(kv -> kv.key, kv -> kv.value, LinkedHashMap::new)
+                .map(results -> resultMapper.apply(ClusterScanSupport.advance(nodeCursors, results), results));
+    }
+
     private <T> Observable<T> pipeliningWithMap(Map<K, V> map, Function<Map<K, V>, Observable<T>> function,
             Function<Observable<T>, Observable<T>> resultFunction) {
 
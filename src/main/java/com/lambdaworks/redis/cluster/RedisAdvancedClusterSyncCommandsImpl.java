@@ -0,0 +1,134 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.lambdaworks.redis.AbstractRedisClusterSyncCommands;
+import com.lambdaworks.redis.KeyScanCursor;
+import com.lambdaworks.redis.LettuceFutures;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.ScanArgs;
+import com.lambdaworks.redis.ScanCursor;
+import com.lambdaworks.redis.StreamScanCursor;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
+import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+
+/**
+ * A synchronous and thread-safe API for a Redis Cluster connection. Commands are dispatched to the asynchronous API and
+ * awaited within the connection timeout.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+@SuppressWarnings("deprecation")
+public class RedisAdvancedClusterSyncCommandsImpl<K, V> extends AbstractRedisClusterSyncCommands<K, V> implements
+        RedisAdvancedClusterCommands<K, V>, RedisAdvancedClusterConnection<K, V> {
+
+    private final StatefulRedisClusterConnection<K, V> connection;
+    private final RedisAdvancedClusterAsyncCommandsImpl<K, V> asyncCommands;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on
+     * @param asyncCommands the asynchronous API of {@code connection}
+     */
+    public RedisAdvancedClusterSyncCommandsImpl(StatefulRedisClusterConnection<K, V> connection,
+            RedisAdvancedClusterAsyncCommandsImpl<K, V> asyncCommands) {
+        super(asyncCommands);
+        this.connection = connection;
+        this.asyncCommands = asyncCommands;
+    }
+
+    @Override
+    protected <T> T await(RedisFuture<T> future) {
+        return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String nodeId) {
+        return connection.getConnection(nodeId).sync();
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String host, int port) {
+        return connection.getConnection(host, port).sync();
+    }
+
+    @Override
+    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+
+    @Override
+    public NodeSelection<K, V> readonly(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.READ, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, boolean dynamic) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, dynamic);
+    }
+
+    @Override
+    public String multi() {
+        return await(asyncCommands.multi());
+    }
+
+    @Override
+    public List<Object> exec() {
+        return await(asyncCommands.exec());
+    }
+
+    @Override
+    public String discard() {
+        return await(asyncCommands.discard());
+    }
+
+    @Override
+    public String watch(K... keys) {
+        return await(asyncCommands.watch(keys));
+    }
+
+    @Override
+    public String unwatch() {
+        return await(asyncCommands.unwatch());
+    }
+
+    @Override
+    public KeyScanCursor<K> scanParallel(ScanCursor scanCursor, ScanArgs scanArgs, int parallelism) {
+        return await(asyncCommands.scanParallel(scanCursor, scanArgs, parallelism));
+    }
+
+    @Override
+    public StreamScanCursor scanParallel(KeyStreamingChannel<K> channel, ScanCursor scanCursor, ScanArgs scanArgs,
+            int parallelism) {
+        return await(asyncCommands.scanParallel(channel, scanCursor, scanArgs, parallelism));
+    }
+
+    protected NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, ClusterConnectionProvider.Intent intent,
+            boolean dynamic) {
+
+        AbstractNodeSelection<RedisCommands<K, V>, ?, K, V> selection;
+
+        if (dynamic) {
+            selection = new DynamicSyncNodeSelection<>(connection, predicate, intent);
+        } else {
+            selection = new StaticSyncNodeSelection<>(connection, predicate, intent);
+        }
+
+        return new NodeSelectionCommandsImpl<>(selection, connection.getTimeout(), connection.getTimeoutUnit());
+    }
+}
@@ -9,7 +9,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -23,7 +27,6 @@ import com.lambdaworks.redis.ConnectionBuilder;
 import com.lambdaworks.redis.ReadFrom;
 import com.lambdaworks.redis.RedisChannelHandler;
 import com.lambdaworks.redis.RedisChannelWriter;
-import com.lambdaworks.redis.RedisCommandExecutionException;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.SslConnectionBuilder;
@@ -124,6 +127,9 @@ public class RedisClusterClient extends AbstractRedisClient {
     protected AtomicBoolean clusterTopologyRefreshActivated = new AtomicBoolean(false);
 
     private ClusterTopologyRefresh refresh = new ClusterTopologyRefresh(this);
+    private final ClusterTopologyRefreshScheduler clusterTopologyRefreshScheduler = new ClusterTopologyRefreshScheduler(this);
+    private final AtomicBoolean topologyRefreshInProgress = new AtomicBoolean();
+    private final AtomicReference<CompletableFuture<Partitions>> initialPartitionsLoad = new AtomicReference<>();
     private Partitions partitions;
     private Iterable<RedisURI> initialUris = ImmutableSet.of();
 
@@ -378,6 +384,37 @@ public class RedisClusterClient extends AbstractRedisClient {
         return connectClusterPubSubImpl(codec);
     }
 
+    /**
+     * Connect to a Redis Cluster without blocking the caller. Use the supplied {@link RedisCodec codec} to encode/decode keys
+     * and values. The initial topology discovery runs on the {@link ClientResources#eventExecutorGroup() event executor
+     * group} if the topology was not yet loaded, the connect to the <i>default</i> node is non-blocking. Connections behave
+     * the same as connections obtained by {@link #connect(RedisCodec)}.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that completes with the connection.
+     * @since 4.2
+     */
+    public <K, V> CompletableFuture<StatefulRedisClusterConnection<K, V>> connectStatefulAsync(RedisCodec<K, V> codec) {
+        return connectClusterImplAsync(codec).thenApply(c -> c);
+    }
+
+    /**
+     * Connect to a Redis Cluster using pub/sub connections without blocking the caller. Use the supplied {@link RedisCodec
+     * codec} to encode/decode keys and values. Connections behave the same as connections obtained by
+     * {@link #connectPubSub(RedisCodec)}.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that completes with the connection.
+     * @since 4.2
+     */
+    public <K, V> CompletableFuture<StatefulRedisPubSubConnection<K, V>> connectPubSubAsync(RedisCodec<K, V> codec) {
+        return connectClusterPubSubImplAsync(codec).thenApply(c -> c);
+    }
+
     /**
      * Open a new synchronous connection to a Redis Cluster that treats keys and values as UTF-8 strings.
      *
@@ -455,6 +492,24 @@ public class RedisClusterClient extends AbstractRedisClient {
     <K, V> StatefulRedisConnection<K, V> connectToNode(RedisCodec<K, V> codec, String nodeId,
             RedisChannelWriter<K, V> clusterWriter, final Supplier<SocketAddress> socketAddressSupplier) {
 
+        return getConnection(connectToNodeAsync(codec, nodeId, clusterWriter, socketAddressSupplier));
+    }
+
+    /**
+     * Create a connection to a redis socket address without blocking the caller.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param nodeId the nodeId
+     * @param clusterWriter global cluster writer
+     * @param socketAddressSupplier supplier for the socket address
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that completes with the connection
+     */
+    <K, V> CompletableFuture<StatefulRedisConnection<K, V>> connectToNodeAsync(RedisCodec<K, V> codec, String nodeId,
+            RedisChannelWriter<K, V> clusterWriter, final Supplier<SocketAddress> socketAddressSupplier) {
+
         assertNotNull(codec);
         assertNotEmpty(initialUris);
 
@@ -467,16 +522,28 @@ public class RedisClusterClient extends AbstractRedisClient {
                 clusterWriter);
         StatefulRedisConnectionImpl<K, V> connection = new StatefulRedisConnectionImpl<K, V>(handler, codec, timeout, unit);
 
-        try {
-            connectStateful(handler, connection, getFirstUri(), socketAddressSupplier);
+        RedisURI connectionSettings = getFirstUri();
+        return connectStateful0Async(handler, connection, connectionSettings, socketAddressSupplier).thenApply(c -> {
 
-            connection.registerCloseables(closeableResources, connection);
-        } catch (RedisCommandExecutionException e) {
-            connection.close();
-            throw e;
-        }
+            if (connectionSettings.getPassword() != null && connectionSettings.getPassword().length != 0) {
+                c.async().auth(new String(connectionSettings.getPassword()));
+            }
 
-        return connection;
+            c.registerCloseables(closeableResources, c);
+            return c;
+        });
+    }
+
+    /**
+     * Apply the client command timeout to {@code future}.
+     *
+     * @param future the future
+     * @param <T> Result type
+     * @return future that fails with a {@link com.lambdaworks.redis.RedisCommandTimeoutException} if {@code future} does not
+     *         complete within the command timeout.
+     */
+    <T> CompletableFuture<T> withCommandTimeout(CompletionStage<T> future) {
+        return withTimeout(future, timeout, unit);
     }
 
     /**
@@ -493,51 +560,53 @@ public class RedisClusterClient extends AbstractRedisClient {
             initializePartitions();
         }
 
-        activateTopologyRefreshIfNeeded();
+        return getConnection(connectClusterImplAsync(codec));
+    }
 
-        logger.debug("connectCluster(" + initialUris + ")");
-        Queue<RedisCommand<K, V, ?>> queue = Factories.newConcurrentQueue();
+    /**
+     * Create a clustered connection with command distributor without blocking the caller.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that completes with the connection
+     */
+    <K, V> CompletableFuture<StatefulRedisClusterConnectionImpl<K, V>> connectClusterImplAsync(RedisCodec<K, V> codec) {
 
-        Supplier<SocketAddress> socketAddressSupplier = getSocketAddressSupplier(ClusterTopologyRefresh::sortByLatency);
+        return getPartitionsAsync().thenCompose(partitions -> {
 
-        CommandHandler<K, V> handler = new CommandHandler<K, V>(clientOptions, clientResources, queue);
+            activateTopologyRefreshIfNeeded();
 
-        ClusterDistributionChannelWriter<K, V> clusterWriter = new ClusterDistributionChannelWriter<K, V>(clientOptions,
-                handler);
-        PooledClusterConnectionProvider<K, V> pooledClusterConnectionProvider = new PooledClusterConnectionProvider<K, V>(this,
-                clusterWriter, codec);
+            logger.debug("connectCluster(" + initialUris + ")");
+            Queue<RedisCommand<K, V, ?>> queue = Factories.newConcurrentQueue();
 
-        clusterWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+            Supplier<SocketAddress> socketAddressSupplier = getSocketAddressSupplier(ClusterTopologyRefresh::sortByLatency);
 
-        StatefulRedisClusterConnectionImpl<K, V> connection = new StatefulRedisClusterConnectionImpl<>(clusterWriter, codec,
-                timeout, unit);
+            CommandHandler<K, V> handler = new CommandHandler<K, V>(clientOptions, clientResources, queue);
 
-        connection.setReadFrom(ReadFrom.MASTER);
-        connection.setPartitions(partitions);
+            ClusterDistributionChannelWriter<K, V> clusterWriter = new ClusterDistributionChannelWriter<K, V>(clientOptions,
+                    handler, clusterTopologyRefreshScheduler);
+            PooledClusterConnectionProvider<K, V> pooledClusterConnectionProvider = new PooledClusterConnectionProvider<K, V>(
+                    this, clusterWriter, codec);
 
-        boolean connected = false;
-        RedisException causingException = null;
-        int connectionAttempts = partitions.size();
+            clusterWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
 
-        for (int i = 0; i < connectionAttempts; i++) {
-            try {
-                connectStateful(handler, connection, getFirstUri(), socketAddressSupplier);
-                connected = true;
-                break;
-            } catch (RedisException e) {
-                logger.warn(e.getMessage());
-                causingException = e;
-            }
-        }
+            StatefulRedisClusterConnectionImpl<K, V> connection = new StatefulRedisClusterConnectionImpl<>(clusterWriter,
+                    codec, timeout, unit);
 
-        if (!connected) {
-            connection.close();
-            throw causingException;
-        }
+            connection.setReadFrom(ReadFrom.MASTER);
+            connection.setPartitions(partitions);
+
+            CompletableFuture<StatefulRedisClusterConnectionImpl<K, V>> result = new CompletableFuture<>();
 
-        connection.registerCloseables(closeableResources, connection, clusterWriter, pooledClusterConnectionProvider);
+            connectWithRetry(() -> connectStatefulAsync(handler, connection, getFirstUri(), socketAddressSupplier),
+                    connection, partitions.size(), null, result);
 
-        return connection;
+            return result.thenApply(c -> {
+                c.registerCloseables(closeableResources, c, clusterWriter, pooledClusterConnectionProvider);
+                return c;
+            });
+        });
     }
 
     /**
@@ -554,80 +623,100 @@ public class RedisClusterClient extends AbstractRedisClient {
             initializePartitions();
         }
 
-        activateTopologyRefreshIfNeeded();
+        return getConnection(connectClusterPubSubImplAsync(codec));
+    }
 
-        logger.debug("connectClusterPubSub(" + initialUris + ")");
-        Queue<RedisCommand<K, V, ?>> queue = Factories.newConcurrentQueue();
+    /**
+     * Create a clustered pub/sub connection with command distributor without blocking the caller.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that completes with the connection
+     */
+    <K, V> CompletableFuture<StatefulRedisPubSubConnectionImpl<K, V>> connectClusterPubSubImplAsync(RedisCodec<K, V> codec) {
 
-        Supplier<SocketAddress> socketAddressSupplier = getSocketAddressSupplier(ClusterTopologyRefresh::sortByClientCount);
+        return getPartitionsAsync().thenCompose(partitions -> {
 
-        PubSubCommandHandler<K, V> handler = new PubSubCommandHandler<K, V>(clientOptions, clientResources, queue, codec);
+            activateTopologyRefreshIfNeeded();
 
-        ClusterDistributionChannelWriter<K, V> clusterWriter = new ClusterDistributionChannelWriter<K, V>(clientOptions,
-                handler);
-        PooledClusterConnectionProvider<K, V> pooledClusterConnectionProvider = new PooledClusterConnectionProvider<K, V>(this,
-                clusterWriter, codec);
+            logger.debug("connectClusterPubSub(" + initialUris + ")");
+            Queue<RedisCommand<K, V, ?>> queue = Factories.newConcurrentQueue();
 
-        clusterWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
+            Supplier<SocketAddress> socketAddressSupplier = getSocketAddressSupplier(ClusterTopologyRefresh::sortByClientCount);
 
-        StatefulRedisPubSubConnectionImpl<K, V> connection = new StatefulRedisPubSubConnectionImpl<>(clusterWriter, codec,
-                timeout, unit);
+            PubSubCommandHandler<K, V> handler = new PubSubCommandHandler<K, V>(clientOptions, clientResources, queue, codec);
 
-        clusterWriter.setPartitions(partitions);
+            ClusterDistributionChannelWriter<K, V> clusterWriter = new ClusterDistributionChannelWriter<K, V>(clientOptions,
+                    handler, clusterTopologyRefreshScheduler);
+            PooledClusterConnectionProvider<K, V> pooledClusterConnectionProvider = new PooledClusterConnectionProvider<K, V>(
+                    this, clusterWriter, codec);
 
-        boolean connected = false;
-        RedisException causingException = null;
-        int connectionAttempts = partitions.size();
+            clusterWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
 
-        for (int i = 0; i < connectionAttempts; i++) {
-            try {
-                connectStateful(handler, connection, getFirstUri(), socketAddressSupplier);
-                connected = true;
-                break;
-            } catch (RedisException e) {
-                logger.warn(e.getMessage());
-                causingException = e;
-            }
-        }
+            StatefulRedisPubSubConnectionImpl<K, V> connection = new StatefulRedisPubSubConnectionImpl<>(clusterWriter, codec,
+                    timeout, unit);
 
-        if (!connected) {
-            connection.close();
-            throw causingException;
-        }
+            clusterWriter.setPartitions(partitions);
 
-        connection.registerCloseables(closeableResources, connection, clusterWriter, pooledClusterConnectionProvider);
+            CompletableFuture<StatefulRedisPubSubConnectionImpl<K, V>> result = new CompletableFuture<>();
 
-        if (getFirstUri().getPassword() != null) {
-            connection.async().auth(new String(getFirstUri().getPassword()));
-        }
+            connectWithRetry(() -> connectStateful0Async(handler, connection, getFirstUri(), socketAddressSupplier),
+                    connection, partitions.size(), null, result);
 
-        return connection;
+            return result.thenApply(c -> {
+
+                c.registerCloseables(closeableResources, c, clusterWriter, pooledClusterConnectionProvider);
+
+                if (getFirstUri().getPassword() != null) {
+                    c.async().auth(new String(getFirstUri().getPassword()));
+                }
+
+                return c;
+            });
+        });
     }
 
     /**
-     * Connect to a endpoint provided by {@code socketAddressSupplier} using connection settings (authentication, SSL) from
-     * {@code connectionSettings}.
+     * Attempt to connect up to {@code attempts} times. Each attempt obtains the next endpoint from the socket address
+     * supplier. Completes {@code result} with the connection or closes the connection and fails {@code result} with the
+     * failure of the last attempt.
      *
-     * @param handler
-     * @param connection
-     * @param connectionSettings
-     * @param socketAddressSupplier
-     * @param <K>
-     * @param <V>
+     * @param connect function to perform a connect attempt
+     * @param connection the connection
+     * @param attempts remaining attempts
+     * @param cause failure of the previous attempt
+     * @param result future to complete
+     * @param <T> Connection type
      */
-    private <K, V> void connectStateful(CommandHandler<K, V> handler, StatefulRedisConnectionImpl<K, V> connection,
-            RedisURI connectionSettings, Supplier<SocketAddress> socketAddressSupplier) {
+    private <T extends RedisChannelHandler<?, ?>> void connectWithRetry(Supplier<CompletableFuture<T>> connect, T connection,
+            int attempts, Throwable cause, CompletableFuture<T> result) {
+
+        if (attempts <= 0) {
+            genericWorkerPool.submit(() -> {
+                connection.close();
+                result.completeExceptionally(cause != null ? cause : new RedisException(
+                        "Cannot connect to cluster: no nodes available"));
+            });
+            return;
+        }
 
-        connectStateful0(handler, connection, connectionSettings, socketAddressSupplier);
+        connect.get().whenComplete((c, throwable) -> {
 
-        if (connectionSettings.getPassword() != null && connectionSettings.getPassword().length != 0) {
-            connection.async().auth(new String(connectionSettings.getPassword()));
-        }
+            if (throwable == null) {
+                result.complete(c);
+                return;
+            }
+
+            Throwable failure = unwrap(throwable);
+            logger.warn(failure.getMessage());
+            connectWithRetry(connect, connection, attempts - 1, failure, result);
+        });
     }
 
     /**
      * Connect to a endpoint provided by {@code socketAddressSupplier} using connection settings (authentication, SSL) from
-     * {@code connectionSettings}.
+     * {@code connectionSettings} without blocking the caller.
      *
      * @param handler
      * @param connection
@@ -635,20 +724,25 @@ public class RedisClusterClient extends AbstractRedisClient {
      * @param socketAddressSupplier
      * @param <K>
      * @param <V>
+     * @return future that completes with the connection
      */
-    private <K, V> void connectStateful(CommandHandler<K, V> handler, StatefulRedisClusterConnectionImpl<K, V> connection,
-            RedisURI connectionSettings, Supplier<SocketAddress> socketAddressSupplier) {
+    private <K, V> CompletableFuture<StatefulRedisClusterConnectionImpl<K, V>> connectStatefulAsync(
+            CommandHandler<K, V> handler, StatefulRedisClusterConnectionImpl<K, V> connection, RedisURI connectionSettings,
+            Supplier<SocketAddress> socketAddressSupplier) {
 
-        connectStateful0(handler, connection, connectionSettings, socketAddressSupplier);
+        return connectStateful0Async(handler, connection, connectionSettings, socketAddressSupplier).thenApply(c -> {
 
-        if (connectionSettings.getPassword() != null && connectionSettings.getPassword().length != 0) {
-            connection.async().auth(new String(connectionSettings.getPassword()));
-        }
+            if (connectionSettings.getPassword() != null && connectionSettings.getPassword().length != 0) {
+                c.async().auth(new String(connectionSettings.getPassword()));
+            }
+
+            return c;
+        });
     }
 
     /**
      * Connect to a endpoint provided by {@code socketAddressSupplier} using connection settings (SSL) from
-     * {@code connectionSettings}.
+     * {@code connectionSettings} without blocking the caller.
      *
      * @param handler
      * @param connection
@@ -656,9 +750,12 @@ public class RedisClusterClient extends AbstractRedisClient {
      * @param socketAddressSupplier
      * @param <K>
      * @param <V>
+     * @param <T>
+     * @return future that completes with the connection
      */
-    private <K, V> void connectStateful0(CommandHandler<K, V> handler, RedisChannelHandler<K, V> connection,
-            RedisURI connectionSettings, Supplier<SocketAddress> socketAddressSupplier) {
+    private <K, V, T extends RedisChannelHandler<K, V>> CompletableFuture<T> connectStateful0Async(
+            CommandHandler<K, V> handler, T connection, RedisURI connectionSettings,
+            Supplier<SocketAddress> socketAddressSupplier) {
 
         ConnectionBuilder connectionBuilder;
         if (connectionSettings.isSsl()) {
@@ -671,9 +768,10 @@ public class RedisClusterClient extends AbstractRedisClient {
 
         connectionBuilder.clientOptions(clientOptions);
         connectionBuilder.clientResources(clientResources);
+        connectionBuilder.reconnectionListener(clusterTopologyRefreshScheduler::onReconnection);
         connectionBuilder(handler, connection, socketAddressSupplier, connectionBuilder, connectionSettings);
         channelType(connectionBuilder, connectionSettings);
-        initializeChannel(connectionBuilder);
+        return initializeChannelAsync(connectionBuilder);
     }
 
     /**
@@ -692,8 +790,6 @@ public class RedisClusterClient extends AbstractRedisClient {
                 getResources().eventBus().publish(new ClusterTopologyChangedEvent(before, after));
             }
 
-            this.partitions.getPartitions().clear();
-            this.partitions.getPartitions().addAll(loadedPartitions.getPartitions());
             this.partitions.reload(loadedPartitions.getPartitions());
         }
 
@@ -713,6 +809,43 @@ public class RedisClusterClient extends AbstractRedisClient {
         this.partitions = loadedPartitions;
     }
 
+    /**
+     * Retrieve the cluster view without blocking the caller. The initial topology discovery runs on the
+     * {@link #genericWorkerPool}. Concurrent calls share the same topology discovery.
+     *
+     * @return future that completes with the partitions.
+     */
+    protected CompletableFuture<Partitions> getPartitionsAsync() {
+
+        if (partitions != null) {
+            return CompletableFuture.completedFuture(partitions);
+        }
+
+        CompletableFuture<Partitions> load = initialPartitionsLoad.get();
+        if (load != null) {
+            return load;
+        }
+
+        CompletableFuture<Partitions> created = new CompletableFuture<>();
+        if (!initialPartitionsLoad.compareAndSet(null, created)) {
+            return initialPartitionsLoad.get();
+        }
+
+        genericWorkerPool.submit(() -> {
+            try {
+                if (partitions == null) {
+                    initializePartitions();
+                }
+                created.complete(partitions);
+            } catch (Exception e) {
+                initialPartitionsLoad.compareAndSet(created, null);
+                created.completeExceptionally(e);
+            }
+        });
+
+        return created;
+    }
+
     /**
      * Retrieve the cluster view. Partitions are shared amongst all connections opened by this client instance.
      *
@@ -853,6 +986,13 @@ public class RedisClusterClient extends AbstractRedisClient {
         return null;
     }
 
+    @Override
+    public void shutdown(long quietPeriod, long timeout, TimeUnit timeUnit) {
+
+        refresh.close();
+        super.shutdown(quietPeriod, timeout, timeUnit);
+    }
+
     private class ClusterTopologyRefreshTask implements Runnable {
 
         public ClusterTopologyRefreshTask() {
@@ -871,9 +1011,25 @@ public class RedisClusterClient extends AbstractRedisClient {
                 return;
             }
 
+            refreshTopology();
+        }
+    }
+
+    /**
+     * Retrieve the topology views from the cluster nodes and apply a changed topology to the partitions and the connections.
+     * Concurrent calls are coalesced: a call that arrives while a refresh is in progress returns immediately.
+     */
+    void refreshTopology() {
+
+        if (!topologyRefreshInProgress.compareAndSet(false, true)) {
+            logger.debug("Topology refresh already in progress");
+            return;
+        }
+
+        try {
             Iterable<RedisURI> seed;
             if (partitions == null || partitions.size() == 0) {
-                seed = RedisClusterClient.this.initialUris;
+                seed = initialUris;
             } else {
                 List<RedisURI> uris = Lists.newArrayList();
                 for (RedisClusterNode partition : ClusterTopologyRefresh.sortByUri(partitions)) {
@@ -882,7 +1038,7 @@ public class RedisClusterClient extends AbstractRedisClient {
                 seed = uris;
             }
 
-            logger.debug("ClusterTopologyRefreshTask requesting partitions from {}", seed);
+            logger.debug("Requesting partitions from {}", seed);
             Map<RedisURI, Partitions> partitions = refresh.loadViews(seed);
             List<Partitions> values = Lists.newArrayList(partitions.values());
             if (!values.isEmpty() && ClusterTopologyRefresh.isChanged(getPartitions(), values.get(0))) {
@@ -900,6 +1056,8 @@ public class RedisClusterClient extends AbstractRedisClient {
                     genericWorkerPool.submit(new CloseStaleConnectionsTask());
                 }
             }
+        } finally {
+            topologyRefreshInProgress.set(false);
         }
     }
 
@@ -0,0 +1,123 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+
+/**
+ * Keys partitioned by their hash slot. In contrast to {@link SlotHash#partition(RedisCodec, Iterable)}, a
+ * {@link SlotPartition} retains the group and the position within the group for every key so results of the per-slot
+ * commands can be reassembled in the original key order without any lookups. Groups are ordered by ascending slot.
+ *
+ * @param <K> Key type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class SlotPartition<K> {
+
+    private final int[] slots;
+    private final List<List<K>> groups;
+    private final int[] group;
+    private final int[] position;
+
+    private SlotPartition(int[] slots, List<List<K>> groups, int[] group, int[] position) {
+        this.slots = slots;
+        this.groups = groups;
+        this.group = group;
+        this.position = position;
+    }
+
+    /**
+     * Partition keys by slot-hash.
+     *
+     * @param codec codec to encode the key
+     * @param keys the keys
+     * @param <K> Key type.
+     * @return the {@link SlotPartition}.
+     */
+    static <K> SlotPartition<K> partition(RedisCodec<K, ?> codec, List<K> keys) {
+
+        int size = keys.size();
+        long[] packed = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            packed[i] = ((long) SlotHash.getSlot(codec.encodeKey(keys.get(i))) << 32) | i;
+        }
+
+        // the index is part of the sort key so keys retain their original order within a slot
+        Arrays.sort(packed);
+
+        int[] slots = new int[size];
+        int[] group = new int[size];
+        int[] position = new int[size];
+        List<List<K>> groups = new ArrayList<>();
+
+        int previousSlot = -1;
+        List<K> current = null;
+
+        for (long entry : packed) {
+
+            int slot = (int) (entry >>> 32);
+            int index = (int) entry;
+
+            if (slot != previousSlot) {
+                slots[groups.size()] = slot;
+                current = new ArrayList<>();
+                groups.add(current);
+                previousSlot = slot;
+            }
+
+            group[index] = groups.size() - 1;
+            position[index] = current.size();
+            current.add(keys.get(index));
+        }
+
+        return new SlotPartition<>(Arrays.copyOf(slots, groups.size()), groups, group, position);
+    }
+
+    /**
+     *
+     * @return number of slot groups.
+     */
+    int size() {
+        return groups.size();
+    }
+
+    /**
+     *
+     * @param group the group index
+     * @return the slot of the group.
+     */
+    int getSlot(int group) {
+        return slots[group];
+    }
+
+    /**
+     *
+     * @param group the group index
+     * @return the keys of the group in their original order.
+     */
+    List<K> getKeys(int group) {
+        return groups.get(group);
+    }
+
+    /**
+     *
+     * @param index index of the key within the original keys
+     * @return the group index holding the key.
+     */
+    int getGroup(int index) {
+        return group[index];
+    }
+
+    /**
+     *
+     * @param index index of the key within the original keys
+     * @return the position of the key within its group.
+     */
+    int getPosition(int index) {
+        return position[index];
+    }
+}
@@ -2,26 +2,21 @@ package com.lambdaworks.redis.cluster;
 
 import static com.lambdaworks.redis.protocol.CommandType.*;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.reflect.*;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.reflect.AbstractInvocationHandler;
 import com.lambdaworks.redis.*;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
-import com.lambdaworks.redis.api.sync.RedisCommands;
-import com.lambdaworks.redis.cluster.api.NodeSelectionSupport;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
 import com.lambdaworks.redis.cluster.api.async.RedisAdvancedClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.api.rx.RedisAdvancedClusterReactiveCommands;
-import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
-import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
@@ -71,16 +66,32 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
     @Override
     public RedisAdvancedClusterCommands<K, V> sync() {
         if (sync == null) {
-            InvocationHandler h = syncInvocationHandler();
-            sync = (RedisAdvancedClusterCommands) Proxy.newProxyInstance(AbstractRedisClient.class.getClassLoader(),
-                    new Class<?>[] { RedisAdvancedClusterConnection.class, RedisAdvancedClusterCommands.class }, h);
+            sync = new RedisAdvancedClusterSyncCommandsImpl<>(this, getAsyncConnection());
         }
 
         return sync;
     }
 
+    /**
+     * Invocation handler that dispatches calls to the synchronous API of this connection.
+     *
+     * @return the invocation handler
+     * @deprecated The synchronous API is no longer proxy-based, use {@link #sync()}.
+     */
+    @Deprecated
     public InvocationHandler syncInvocationHandler() {
-        return new ClusterFutureSyncInvocationHandler<>(this, async());
+        return new AbstractInvocationHandler() {
+            @Override
+            protected Object handleInvocation(Object proxy, Method method, Object[] args) throws Throwable {
+
+                RedisAdvancedClusterCommands<K, V> target = sync();
+                try {
+                    return target.getClass().getMethod(method.getName(), method.getParameterTypes()).invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+        };
     }
 
     @Override
@@ -159,6 +170,23 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
 
     @Override
     public <T, C extends RedisCommand<K, V, T>> C dispatch(C cmd) {
+        return super.dispatch((C) preProcessCommand(cmd));
+    }
+
+    @Override
+    public Collection<RedisCommand<K, V, ?>> dispatch(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        List<RedisCommand<K, V, ?>> sentCommands = new ArrayList<>(commands.size());
+        for (RedisCommand<K, V, ?> command : commands) {
+            RedisCommand<K, V, ?> local = preProcessCommand(command);
+            scheduleTimeout(local);
+            sentCommands.add(local);
+        }
+
+        return getChannelWriter().write(sentCommands);
+    }
+
+    private <T> RedisCommand<K, V, T> preProcessCommand(RedisCommand<K, V, T> cmd) {
 
         RedisCommand<K, V, T> local = cmd;
 
@@ -186,7 +214,7 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
             });
         }
 
-        return super.dispatch((C) local);
+        return local;
     }
 
     private <T> RedisCommand<K, V, T> attachOnComplete(RedisCommand<K, V, T> command, Consumer<T> consumer) {
@@ -220,151 +248,4 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return getClusterDistributionChannelWriter().getReadFrom();
 
     }
-
-    /**
-     * Invocation-handler to synchronize API calls which use Futures as backend. This class leverages the need to implement a
-     * full sync class which just delegates every request.
-     *
-     * @param <K> Key type.
-     * @param <V> Value type.
-     * @author Mark Paluch
-     * @since 3.0
-     */
-    private static class ClusterFutureSyncInvocationHandler<K, V> extends AbstractInvocationHandler {
-
-        private final StatefulRedisClusterConnection<K, V> connection;
-        private final Object asyncApi;
-        private final LoadingCache<Method, Method> apiMethodCache;
-        private final LoadingCache<Method, Method> connectionMethodCache;
-
-        private final static Constructor<MethodHandles.Lookup> LOOKUP_CONSTRUCTOR;
-
-        static {
-            try {
-                LOOKUP_CONSTRUCTOR = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
-                if (!LOOKUP_CONSTRUCTOR.isAccessible()) {
-                    LOOKUP_CONSTRUCTOR.setAccessible(true);
-                }
-            } catch (NoSuchMethodException exp) {
-                // should be impossible, but...
-                throw new IllegalStateException(exp);
-            }
-        }
-
-        public ClusterFutureSyncInvocationHandler(StatefulRedisClusterConnection<K, V> connection, Object asyncApi) {
-            this.connection = connection;
-            this.asyncApi = asyncApi;
-
-            apiMethodCache = CacheBuilder.newBuilder().build(new CacheLoader<Method, Method>() {
-                @Override
-                public Method load(Method key) throws Exception {
-                    return asyncApi.getClass().getMethod(key.getName(), key.getParameterTypes());
-                }
-            });
-
-            connectionMethodCache = CacheBuilder.newBuilder().build(new CacheLoader<Method, Method>() {
-                @Override
-                public Method load(Method key) throws Exception {
-                    return connection.getClass().getMethod(key.getName(), key.getParameterTypes());
-                }
-            });
-        }
-
-        public static MethodHandles.Lookup privateMethodHandleLookup(Class<?> declaringClass) {
-            try {
-                return LOOKUP_CONSTRUCTOR.newInstance(declaringClass, MethodHandles.Lookup.PRIVATE);
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                throw new IllegalStateException(e);
-            }
-        }
-
-        public static MethodHandle getDefaultMethodHandle(Method method) {
-            Class<?> declaringClass = method.getDeclaringClass();
-            try {
-                return privateMethodHandleLookup(declaringClass).unreflectSpecial(method, declaringClass);
-            } catch (IllegalAccessException e) {
-                throw new IllegalArgumentException("Did not pass in an interface method: " + method);
-            }
-        }
-
-        /**
-         *
-         * @see AbstractInvocationHandler#handleInvocation(Object, Method, Object[])
-         */
-        @Override
-        protected Object handleInvocation(Object proxy, Method method, Object[] args) throws Throwable {
-
-            try {
-
-                if (method.isDefault()) {
-
-                    Object o = getDefaultMethodHandle(method).bindTo(proxy).invokeWithArguments(args);
-                    return o;
-                }
-
-                if (method.getName().equals("getConnection") && args.length > 0) {
-                    Method targetMethod = connectionMethodCache.get(method);
-                    Object result = targetMethod.invoke(connection, args);
-                    if (result instanceof StatefulRedisClusterConnection) {
-                        StatefulRedisClusterConnection<K, V> connection = (StatefulRedisClusterConnection<K, V>) result;
-                        return connection.sync();
-                    }
-
-                    if (result instanceof StatefulRedisConnection) {
-                        StatefulRedisConnection<K, V> connection = (StatefulRedisConnection<K, V>) result;
-                        return connection.sync();
-                    }
-                }
-
-                if (method.getName().equals("readonly") && args.length == 1) {
-                    return nodes((Predicate<RedisClusterNode>) args[0], ClusterConnectionProvider.Intent.READ, false);
-                }
-
-                if (method.getName().equals("nodes") && args.length == 1) {
-                    return nodes((Predicate<RedisClusterNode>) args[0], ClusterConnectionProvider.Intent.WRITE, false);
-                }
-
-                if (method.getName().equals("nodes") && args.length == 2) {
-                    return nodes((Predicate<RedisClusterNode>) args[0], ClusterConnectionProvider.Intent.WRITE,
-                            (Boolean) args[1]);
-                }
-
-                Method targetMethod = apiMethodCache.get(method);
-
-                Object result = targetMethod.invoke(asyncApi, args);
-
-                if (result instanceof RedisFuture) {
-                    RedisFuture<?> command = (RedisFuture<?>) result;
-                    if (!method.getName().equals("exec") && !method.getName().equals("multi")) {
-                        if (connection instanceof StatefulRedisConnection && ((StatefulRedisConnection) connection).isMulti()) {
-                            return null;
-                        }
-                    }
-                    return LettuceFutures.awaitOrCancel(command, connection.getTimeout(), connection.getTimeoutUnit());
-                }
-
-                return result;
-
-            } catch (InvocationTargetException e) {
-                throw e.getTargetException();
-            }
-        }
-
-        protected NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, ClusterConnectionProvider.Intent intent,
-                boolean dynamic) {
-
-            NodeSelectionSupport<RedisCommands<K, V>, ?> selection;
-
-            if (dynamic) {
-                selection = new DynamicSyncNodeSelection<>(connection, predicate, intent);
-            } else {
-                selection = new StaticSyncNodeSelection<>(connection, predicate, intent);
-            }
-
-            NodeSelectionInvocationHandler h = new NodeSelectionInvocationHandler(
-                    (AbstractNodeSelection<?, ?, ?, ?>) selection, true, connection.getTimeout(), connection.getTimeoutUnit());
-            return (NodeSelection<K, V>) Proxy.newProxyInstance(NodeSelectionSupport.class.getClassLoader(), new Class<?>[] {
-                    NodeSelectionCommands.class, NodeSelection.class }, h);
-        }
-    }
 }
@@ -329,4 +329,34 @@ public interface RedisAdvancedClusterCommands<K, V> extends RedisClusterCommands
      * @see RedisKeyCommands#scan(ScanCursor, ScanArgs)
      */
     StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor);
+
+    /**
+     * Incrementally iterate the keys space over the whole Cluster, scanning up to {@code parallelism} nodes concurrently. Each
+     * invocation advances the cursors of the first {@code parallelism} nodes that have not finished their scan and merges
+     * their keys. Nodes join the iteration as soon as other nodes finish.
+     *
+     * @param scanCursor {@link ScanCursor#INITIAL} to start a scan or the cursor from the previous
+     *        {@link #scanParallel(ScanCursor, ScanArgs, int)} call to resume the scan. A
+     *        {@link com.lambdaworks.redis.cluster.CompositeScanCursor} captures the position of every node.
+     * @param scanArgs scan arguments, may be {@literal null}
+     * @param parallelism number of nodes to scan concurrently, must be greater {@literal 0}
+     * @return KeyScanCursor&lt;K&gt; scan cursor implementing {@link com.lambdaworks.redis.cluster.CompositeScanCursor}.
+     * @since 4.2
+     */
+    KeyScanCursor<K> scanParallel(ScanCursor scanCursor, ScanArgs scanArgs, int parallelism);
+
+    /**
+     * Incrementally iterate the keys space over the whole Cluster, scanning up to {@code parallelism} nodes concurrently. Keys
+     * of all scanned nodes are emitted to the {@code channel}.
+     *
+     * @param channel streaming channel that receives a call for every key
+     * @param scanCursor {@link ScanCursor#INITIAL} to start a scan or the cursor from the previous
+     *        {@link #scanParallel(KeyStreamingChannel, ScanCursor, ScanArgs, int)} call to resume the scan.
+     * @param scanArgs scan arguments, may be {@literal null}
+     * @param parallelism number of nodes to scan concurrently, must be greater {@literal 0}
+     * @return StreamScanCursor scan cursor implementing {@link com.lambdaworks.redis.cluster.CompositeScanCursor}.
+     * @see #scanParallel(ScanCursor, ScanArgs, int)
+     * @since 4.2
+     */
+    StreamScanCursor scanParallel(KeyStreamingChannel<K> channel, ScanCursor scanCursor, ScanArgs scanArgs, int parallelism);
 }
@@ -2,17 +2,13 @@ package com.lambdaworks.redis.cluster.models.partitions;
 
 import java.util.*;
 
-import com.google.common.base.Splitter;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
-import com.google.common.net.HostAndPort;
 import com.lambdaworks.redis.LettuceStrings;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 
 /**
- * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}.
+ * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES} and for the slot ranges reported by
+ * {@code CLUSTER SLOTS}.
  * 
  * @author Mark Paluch
  * @since 3.0
@@ -20,23 +16,16 @@ import com.lambdaworks.redis.RedisURI;
 public class ClusterPartitionParser {
     public static final String CONNECTED = "connected";
 
-    private static final String TOKEN_SLOT_IN_TRANSITION = "[";
+    private static final char TOKEN_SLOT_IN_TRANSITION = '[';
     private static final char TOKEN_NODE_SEPARATOR = '\n';
-    private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
-
-    static {
-        ImmutableMap.Builder<String, RedisClusterNode.NodeFlag> builder = ImmutableMap.builder();
-
-        builder.put("noflags", RedisClusterNode.NodeFlag.NOFLAGS);
-        builder.put("myself", RedisClusterNode.NodeFlag.MYSELF);
-        builder.put("master", RedisClusterNode.NodeFlag.MASTER);
-        builder.put("slave", RedisClusterNode.NodeFlag.SLAVE);
-        builder.put("fail?", RedisClusterNode.NodeFlag.EVENTUAL_FAIL);
-        builder.put("fail", RedisClusterNode.NodeFlag.FAIL);
-        builder.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
-        builder.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
-        FLAG_MAPPING = builder.build();
-    }
+    private static final String TOKEN_NO_NODE = "-";
+
+    private static final String[] FLAG_NAMES = { "noflags", "myself", "master", "slave", "fail?", "fail", "handshake",
+            "noaddr" };
+    private static final RedisClusterNode.NodeFlag[] FLAG_VALUES = { RedisClusterNode.NodeFlag.NOFLAGS,
+            RedisClusterNode.NodeFlag.MYSELF, RedisClusterNode.NodeFlag.MASTER, RedisClusterNode.NodeFlag.SLAVE,
+            RedisClusterNode.NodeFlag.EVENTUAL_FAIL, RedisClusterNode.NodeFlag.FAIL, RedisClusterNode.NodeFlag.HANDSHAKE,
+            RedisClusterNode.NodeFlag.NOADDR };
 
     /**
      * Utility constructor.
@@ -46,129 +35,358 @@ public class ClusterPartitionParser {
     }
 
     /**
-     * Parse partition lines into Partitions object.
+     * Parse partition lines into Partitions object. The output is parsed in a single pass over its characters without
+     * splitting it into intermediate strings. Slots are retained as compact ranges.
      * 
      * @param nodes output of CLUSTER NODES
      * @return the partitions object.
      */
     public static Partitions parse(String nodes) {
         Partitions result = new Partitions();
-
-        Iterator<String> iterator = Splitter.on(TOKEN_NODE_SEPARATOR).omitEmptyStrings().split(nodes).iterator();
+        List<RedisClusterNode> partitions = new ArrayList<>();
 
         try {
-            while (iterator.hasNext()) {
-                String node = iterator.next();
-                RedisClusterNode partition = parseNode(node);
-                result.addPartition(partition);
+            Tokenizer tokenizer = new Tokenizer(nodes);
+            int length = nodes.length();
+            int lineStart = 0;
+
+            while (lineStart < length) {
+
+                int lineEnd = nodes.indexOf(TOKEN_NODE_SEPARATOR, lineStart);
+                if (lineEnd == -1) {
+                    lineEnd = length;
+                }
+
+                if (lineEnd > lineStart) {
+                    tokenizer.reset(lineStart, lineEnd);
+                    partitions.add(parseNode(tokenizer));
+                }
+
+                lineStart = lineEnd + 1;
             }
 
         } catch (Exception e) {
             throw new RedisException("Cannot parse " + nodes, e);
         }
 
-        result.updateCache();
+        result.reload(partitions);
+        return result;
+    }
+
+    /**
+     * Parse the output of {@code CLUSTER SLOTS} into a Partitions object. Each node serving slots is reported with its slots
+     * as compact ranges, replicas are linked to their master by the master's node id. {@code CLUSTER SLOTS} does not report
+     * ping/pong timestamps, config epochs and the link state, nodes are considered connected. Nodes without slots and
+     * without a master serving slots are not contained in the output.
+     *
+     * @param clusterSlotsOutput output of CLUSTER SLOTS
+     * @return the partitions object.
+     */
+    public static Partitions parseClusterSlots(List<?> clusterSlotsOutput) {
+
+        Map<String, SlotsNode> nodes = new LinkedHashMap<>();
+
+        try {
+            for (Object element : clusterSlotsOutput) {
+
+                if (!(element instanceof List) || ((List<?>) element).size() < 3) {
+                    continue;
+                }
+
+                List<?> range = (List<?>) element;
+                SlotsNode master = getSlotsNode(nodes, range.get(2));
+                if (master == null) {
+                    continue;
+                }
+
+                master.master = true;
+                master.slots.add((int) toLong(range.get(0)), (int) toLong(range.get(1)));
+
+                for (int i = 3; i < range.size(); i++) {
+                    SlotsNode replica = getSlotsNode(nodes, range.get(i));
+                    if (replica != null) {
+                        replica.slaveOf = master.nodeId;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new RedisException("Cannot parse " + clusterSlotsOutput, e);
+        }
+
+        List<RedisClusterNode> partitions = new ArrayList<>(nodes.size());
+        for (SlotsNode node : nodes.values()) {
+            partitions.add(node.toRedisClusterNode());
+        }
+
+        Partitions result = new Partitions();
+        result.reload(partitions);
         return result;
     }
 
-    private static RedisClusterNode parseNode(String nodeInformation) {
+    /**
+     * Resolve the node for a {@literal [host, port, nodeId?, ...]} element. Nodes are identified by their node id and by host
+     * and port if the node id is not reported.
+     */
+    private static SlotsNode getSlotsNode(Map<String, SlotsNode> nodes, Object element) {
 
-        Iterable<String> split = Splitter.on(' ').split(nodeInformation);
-        Iterator<String> iterator = split.iterator();
+        if (!(element instanceof List) || ((List<?>) element).size() < 2) {
+            return null;
+        }
 
-        String nodeId = iterator.next();
-        boolean connected = false;
-        RedisURI uri = null;
+        List<?> hostAndPort = (List<?>) element;
+        String host = (String) hostAndPort.get(0);
+        int port = (int) toLong(hostAndPort.get(1));
+        String nodeId = hostAndPort.size() > 2 && hostAndPort.get(2) instanceof String ? (String) hostAndPort.get(2) : null;
+        String key = nodeId != null ? nodeId : host + ":" + port;
 
-        String hostAndPortPart = iterator.next();
-        if(hostAndPortPart.contains("@")) {
-            hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
+        SlotsNode node = nodes.get(key);
+        if (node == null) {
+            node = new SlotsNode(nodeId, LettuceStrings.isNotEmpty(host) ? RedisURI.Builder.redis(host, port).build() : null);
+            nodes.put(key, node);
         }
 
-        HostAndPort hostAndPort = HostAndPort.fromString(hostAndPortPart);
+        return node;
+    }
+
+    private static long toLong(Object value) {
 
-        if (LettuceStrings.isNotEmpty(hostAndPort.getHostText())) {
-            uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
         }
 
-        String flags = iterator.next();
-        List<String> flagStrings = Lists.newArrayList(Splitter.on(',').trimResults().split(flags).iterator());
+        return Long.parseLong((String) value);
+    }
+
+    private static RedisClusterNode parseNode(Tokenizer tokenizer) {
 
-        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(flagStrings);
+        String nodeId = tokenizer.nextString();
+        RedisURI uri = readUri(tokenizer.next());
+        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(tokenizer.next());
 
-        String slaveOfString = iterator.next(); // (nodeId or -)
-        String slaveOf = "-".equals(slaveOfString) ? null : slaveOfString;
+        String slaveOf = tokenizer.next().is(TOKEN_NO_NODE) ? null : tokenizer.toString(); // (nodeId or -)
 
-        long pingSentTs = getLongFromIterator(iterator, 0);
-        long pongReceivedTs = getLongFromIterator(iterator, 0);
-        long configEpoch = getLongFromIterator(iterator, 0);
+        long pingSentTs = tokenizer.hasNext() ? tokenizer.next().toLong() : 0;
+        long pongReceivedTs = tokenizer.hasNext() ? tokenizer.next().toLong() : 0;
+        long configEpoch = tokenizer.hasNext() ? tokenizer.next().toLong() : 0;
 
-        String connectedFlags = iterator.next(); // "connected" : "disconnected"
+        boolean connected = tokenizer.next().is(CONNECTED); // "connected" : "disconnected"
 
-        if (CONNECTED.equals(connectedFlags)) {
-            connected = true;
+        List<Integer> slots = readSlots(tokenizer); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
+
+        return new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs, configEpoch, slots,
+                nodeFlags);
+    }
+
+    /**
+     * Read {@literal host:port[@cport]}. IPv6 addresses may be enclosed in brackets.
+     */
+    private static RedisURI readUri(Tokenizer token) {
+
+        String text = token.text;
+        int end = token.end;
+
+        for (int i = token.start; i < end; i++) {
+            if (text.charAt(i) == '@' || text.charAt(i) == ',') {
+                end = i;
+                break;
+            }
         }
 
-        List<String> slotStrings = Lists.newArrayList(iterator); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
-        List<Integer> slots = readSlots(slotStrings);
+        int portSeparator = text.lastIndexOf(':', end - 1);
+        if (portSeparator < token.start) {
+            throw new IllegalArgumentException("Cannot parse host and port from " + token);
+        }
 
-        RedisClusterNode partition = new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs,
-                configEpoch, slots, nodeFlags);
+        int hostStart = token.start;
+        int hostEnd = portSeparator;
+        if (hostEnd - hostStart >= 2 && text.charAt(hostStart) == '[' && text.charAt(hostEnd - 1) == ']') {
+            hostStart++;
+            hostEnd--;
+        }
 
-        return partition;
+        if (hostEnd == hostStart) {
+            return null;
+        }
 
+        int port = (int) parseLong(text, portSeparator + 1, end);
+        return RedisURI.Builder.redis(text.substring(hostStart, hostEnd), port).build();
     }
 
-    private static Set<RedisClusterNode.NodeFlag> readFlags(List<String> flagStrings) {
+    private static Set<RedisClusterNode.NodeFlag> readFlags(Tokenizer token) {
+
+        Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
+        String text = token.text;
+        int flagStart = token.start;
 
-        Set<RedisClusterNode.NodeFlag> flags = Sets.newHashSet();
-        for (String flagString : flagStrings) {
-            if (FLAG_MAPPING.containsKey(flagString)) {
-                flags.add(FLAG_MAPPING.get(flagString));
+        while (flagStart <= token.end) {
+
+            int flagEnd = indexOf(text, ',', flagStart, token.end);
+            if (flagEnd == -1) {
+                flagEnd = token.end;
+            }
+
+            for (int i = 0; i < FLAG_NAMES.length; i++) {
+                String name = FLAG_NAMES[i];
+                if (name.length() == flagEnd - flagStart && text.regionMatches(flagStart, name, 0, name.length())) {
+                    flags.add(FLAG_VALUES[i]);
+                    break;
+                }
             }
+
+            flagStart = flagEnd + 1;
         }
+
         return Collections.unmodifiableSet(flags);
     }
 
-    private static List<Integer> readSlots(List<String> slotStrings) {
+    private static List<Integer> readSlots(Tokenizer tokenizer) {
+
+        SlotRanges.Builder slots = new SlotRanges.Builder();
 
-        List<Integer> slots = Lists.newArrayList();
-        for (String slotString : slotStrings) {
+        while (tokenizer.hasNext()) {
 
-            if (slotString.startsWith(TOKEN_SLOT_IN_TRANSITION)) {
+            Tokenizer token = tokenizer.next();
+
+            if (token.start == token.end || token.text.charAt(token.start) == TOKEN_SLOT_IN_TRANSITION) {
                 // not interesting
                 continue;
-
             }
 
-            if (slotString.contains("-")) {
+            int separator = indexOf(token.text, '-', token.start, token.end);
+            if (separator != -1) {
                 // slot range
-                Iterable<String> split = Splitter.on('-').split(slotString);
-                Iterator<String> it = split.iterator();
-                int from = Integer.parseInt(it.next());
-                int to = Integer.parseInt(it.next());
-
-                for (int slot = from; slot <= to; slot++) {
-                    slots.add(slot);
-
-                }
+                slots.add((int) parseLong(token.text, token.start, separator),
+                        (int) parseLong(token.text, separator + 1, token.end));
                 continue;
             }
 
-            slots.add(Integer.parseInt(slotString));
+            int slot = (int) token.toLong();
+            slots.add(slot, slot);
         }
 
-        return Collections.unmodifiableList(slots);
+        return slots.build();
     }
 
-    private static long getLongFromIterator(Iterator<?> iterator, long defaultValue) {
-        if (iterator.hasNext()) {
-            Object object = iterator.next();
-            if (object instanceof String) {
-                return Long.parseLong((String) object);
+    /**
+     * Bounded variant of {@link String#indexOf(int, int)} that does not scan beyond the current token.
+     */
+    private static int indexOf(String text, char ch, int start, int end) {
+
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == ch) {
+                return i;
             }
         }
-        return defaultValue;
+
+        return -1;
     }
 
+    private static long parseLong(String text, int start, int end) {
+
+        if (start >= end) {
+            throw new NumberFormatException("Empty number at index " + start);
+        }
+
+        boolean negative = text.charAt(start) == '-';
+        int i = negative ? start + 1 : start;
+        long result = 0;
+
+        for (; i < end; i++) {
+
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \"" + text.substring(start, end) + "\"");
+            }
+
+            result = result * 10 + digit;
+        }
+
+        return negative ? -result : result;
+    }
+
+    /**
+     * Node accumulated from {@code CLUSTER SLOTS} slot ranges.
+     */
+    private static class SlotsNode {
+
+        private final String nodeId;
+        private final RedisURI uri;
+        private final SlotRanges.Builder slots = new SlotRanges.Builder();
+        private boolean master;
+        private String slaveOf;
+
+        SlotsNode(String nodeId, RedisURI uri) {
+            this.nodeId = nodeId;
+            this.uri = uri;
+        }
+
+        RedisClusterNode toRedisClusterNode() {
+
+            Set<RedisClusterNode.NodeFlag> flags = Collections.singleton(master ? RedisClusterNode.NodeFlag.MASTER
+                    : RedisClusterNode.NodeFlag.SLAVE);
+
+            return new RedisClusterNode(uri, nodeId, true, master ? null : slaveOf, 0, 0, 0, master ? slots.build()
+                    : SlotRanges.EMPTY, flags);
+        }
+    }
+
+    /**
+     * Space-separated tokens of a single line. The tokenizer is reused across lines and exposes the current token as bounds
+     * into the original text.
+     */
+    private static class Tokenizer {
+
+        private final String text;
+        private int position;
+        private int lineEnd;
+        private int start;
+        private int end;
+
+        Tokenizer(String text) {
+            this.text = text;
+        }
+
+        void reset(int lineStart, int lineEnd) {
+            this.position = lineStart;
+            this.lineEnd = lineEnd;
+        }
+
+        boolean hasNext() {
+            return position <= lineEnd;
+        }
+
+        Tokenizer next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            start = position;
+            end = position;
+
+            while (end < lineEnd && text.charAt(end) != ' ') {
+                end++;
+            }
+
+            position = end + 1;
+            return this;
+        }
+
+        String nextString() {
+            return next().toString();
+        }
+
+        boolean is(String value) {
+            return value.length() == end - start && text.regionMatches(start, value, 0, value.length());
+        }
+
+        long toLong() {
+            return parseLong(text, start, end);
+        }
+
+        @Override
+        public String toString() {
+            return text.substring(start, end);
+        }
+    }
 }
@@ -1,13 +1,10 @@
 package com.lambdaworks.redis.cluster.models.partitions;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
-import com.google.common.collect.Lists;
-import com.lambdaworks.redis.cluster.SlotHash;
-
 /**
  * Cluster topology view. An instance of {@link Partitions} provides access to the partitions of a Redis Cluster. A partition is
  * represented by a Redis Cluster node that has a {@link RedisClusterNode#getNodeId() nodeId} and
@@ -17,6 +14,12 @@ import com.lambdaworks.redis.cluster.SlotHash;
  * Partitions are cached to ensure a cheap lookup by {@code slot}. Users of {@link Partitions} are required to call
  * {@link #updateCache()} after topology changes occur.
  * </p>
+ * <p>
+ * Lookups are served from an immutable {@link PartitionsSnapshot} that is replaced atomically on each change. Readers do not
+ * require locking and never observe a partially updated topology. Mutating methods are serialized and build the next snapshot
+ * before publishing it. {@link #getPartitions()} returns an immutable view; use {@link #reload(List)} or the {@link Collection}
+ * methods to change the nodes.
+ * </p>
  *
  * Topology changes are:
  *
@@ -34,8 +37,7 @@ import com.lambdaworks.redis.cluster.SlotHash;
  */
 public class Partitions implements Collection<RedisClusterNode> {
 
-    private List<RedisClusterNode> partitions = Lists.newArrayList();
-    private RedisClusterNode slotCache[];
+    private volatile PartitionsSnapshot snapshot = PartitionsSnapshot.EMPTY;
 
     /**
      * Retrieve a {@link RedisClusterNode} by its slot number. This method does not distinguish between masters and slaves.
@@ -44,7 +46,7 @@ public class Partitions implements Collection<RedisClusterNode> {
      * @return RedisClusterNode or {@literal null}
      */
     public RedisClusterNode getPartitionBySlot(int slot) {
-        return slotCache[slot];
+        return snapshot.getMasterBySlot(slot);
     }
 
     /**
@@ -54,50 +56,54 @@ public class Partitions implements Collection<RedisClusterNode> {
      * @return RedisClusterNode or {@literal null}
      */
     public RedisClusterNode getPartitionByNodeId(String nodeId) {
-        for (RedisClusterNode partition : partitions) {
-            if (partition.getNodeId().equals(nodeId)) {
-                return partition;
-            }
-        }
-        return null;
+        return snapshot.getNodeById(nodeId);
+    }
+
+    /**
+     * Retrieve the current routing snapshot. The snapshot is immutable and remains consistent while the topology gets
+     * updated.
+     *
+     * @return the current {@link PartitionsSnapshot}.
+     * @since 4.2
+     */
+    public PartitionsSnapshot getSnapshot() {
+        return snapshot;
     }
 
     /**
      * Update the partition cache. Updates are necessary after the partition details have changed.
      */
     public synchronized void updateCache() {
-        if (slotCache == null) {
-            slotCache = new RedisClusterNode[SlotHash.SLOT_COUNT];
-        } else {
-            Arrays.fill(slotCache, null);
-        }
-
-        for (RedisClusterNode partition : partitions) {
-            for (Integer integer : partition.getSlots()) {
-                slotCache[integer.intValue()] = partition;
-            }
-        }
+        snapshot = PartitionsSnapshot.create(snapshot.getNodes());
     }
 
     @Override
     public Iterator<RedisClusterNode> iterator() {
-        return partitions.iterator();
+        return snapshot.getNodes().iterator();
     }
 
+    /**
+     *
+     * @return immutable list of the nodes.
+     */
     public List<RedisClusterNode> getPartitions() {
-        return partitions;
+        return snapshot.getNodes();
     }
 
-    public void addPartition(RedisClusterNode partition) {
-        slotCache = null;
-        partitions.add(partition);
+    /**
+     * Add a partition without rebuilding the slot cache. Call {@link #updateCache()} once all partitions are added.
+     *
+     * @param partition the partition
+     */
+    public synchronized void addPartition(RedisClusterNode partition) {
+        snapshot = snapshot.withNode(partition);
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
         sb.append(getClass().getSimpleName());
-        sb.append(" ").append(partitions);
+        sb.append(" ").append(getPartitions());
         return sb.toString();
     }
 
@@ -115,10 +121,8 @@ public class Partitions implements Collection<RedisClusterNode> {
      *
      * @param partitions list of new partitions
      */
-    public void reload(List<RedisClusterNode> partitions) {
-        this.partitions.clear();
-        this.partitions.addAll(partitions);
-        updateCache();
+    public synchronized void reload(List<RedisClusterNode> partitions) {
+        snapshot = PartitionsSnapshot.create(partitions);
     }
 
     @Override
@@ -132,31 +136,34 @@ public class Partitions implements Collection<RedisClusterNode> {
     }
 
     @Override
-    public boolean addAll(Collection<? extends RedisClusterNode> c) {
-        boolean b = partitions.addAll(c);
-        updateCache();
+    public synchronized boolean addAll(Collection<? extends RedisClusterNode> c) {
+        List<RedisClusterNode> nodes = new ArrayList<>(getPartitions());
+        boolean b = nodes.addAll(c);
+        reload(nodes);
         return b;
     }
 
     @Override
-    public boolean removeAll(Collection<?> c) {
-        boolean b = getPartitions().removeAll(c);
-        updateCache();
+    public synchronized boolean removeAll(Collection<?> c) {
+        List<RedisClusterNode> nodes = new ArrayList<>(getPartitions());
+        boolean b = nodes.removeAll(c);
+        reload(nodes);
         return b;
     }
 
     @Override
-    public boolean retainAll(Collection<?> c) {
-        boolean b = getPartitions().retainAll(c);
-        updateCache();
+    public synchronized boolean retainAll(Collection<?> c) {
+        List<RedisClusterNode> nodes = new ArrayList<>(getPartitions());
+        boolean b = nodes.retainAll(c);
+        reload(nodes);
         return b;
     }
 
     @Override
-    public void clear() {
-        getPartitions().clear();
-        updateCache();
+    public synchronized void clear() {
+        snapshot = PartitionsSnapshot.EMPTY;
     }
+
     @Override
     public Object[] toArray() {
         return getPartitions().toArray();
@@ -168,16 +175,18 @@ public class Partitions implements Collection<RedisClusterNode> {
     }
 
     @Override
-    public boolean add(RedisClusterNode redisClusterNode) {
-        boolean add = getPartitions().add(redisClusterNode);
-        updateCache();
+    public synchronized boolean add(RedisClusterNode redisClusterNode) {
+        List<RedisClusterNode> nodes = new ArrayList<>(getPartitions());
+        boolean add = nodes.add(redisClusterNode);
+        reload(nodes);
         return add;
     }
 
     @Override
-    public boolean remove(Object o) {
-        boolean remove = getPartitions().remove(o);
-        updateCache();
+    public synchronized boolean remove(Object o) {
+        List<RedisClusterNode> nodes = new ArrayList<>(getPartitions());
+        boolean remove = nodes.remove(o);
+        reload(nodes);
         return remove;
     }
 
@@ -0,0 +1,192 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import java.util.*;
+
+import com.lambdaworks.redis.cluster.SlotHash;
+
+/**
+ * Immutable routing view of {@link Partitions}. A {@link PartitionsSnapshot} maps each slot to the node serving the slot and
+ * the nodes replicating from it, and indexes nodes by their {@link RedisClusterNode#getNodeId() nodeId}. Snapshots are built
+ * when the topology changes and published atomically by {@link Partitions} so readers on the command path never observe a
+ * partially updated topology and do not require locking.
+ * <p>
+ * A snapshot captures the node list and the slot assignment at creation time. Changes to {@link RedisClusterNode} instances
+ * are not reflected until a new snapshot is built using {@link Partitions#updateCache()}.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public final class PartitionsSnapshot {
+
+    /**
+     * Empty snapshot without nodes and slot assignments.
+     */
+    public static final PartitionsSnapshot EMPTY = new PartitionsSnapshot(Collections.emptyList(),
+            Collections.emptyMap(), new RedisClusterNode[SlotHash.SLOT_COUNT], new List[SlotHash.SLOT_COUNT],
+            new List[SlotHash.SLOT_COUNT]);
+
+    private final List<RedisClusterNode> nodes;
+    private final Map<String, RedisClusterNode> nodesById;
+    private final RedisClusterNode[] masters;
+    private final List<RedisClusterNode>[] replicas;
+    private final List<RedisClusterNode>[] replicaSets;
+
+    private PartitionsSnapshot(List<RedisClusterNode> nodes, Map<String, RedisClusterNode> nodesById,
+            RedisClusterNode[] masters, List<RedisClusterNode>[] replicas, List<RedisClusterNode>[] replicaSets) {
+        this.nodes = nodes;
+        this.nodesById = nodesById;
+        this.masters = masters;
+        this.replicas = replicas;
+        this.replicaSets = replicaSets;
+    }
+
+    /**
+     * Create a new {@link PartitionsSnapshot} from {@code nodes}. The node order is retained.
+     *
+     * @param nodes the cluster nodes
+     * @return the {@link PartitionsSnapshot}.
+     */
+    @SuppressWarnings("unchecked")
+    public static PartitionsSnapshot create(Collection<RedisClusterNode> nodes) {
+
+        List<RedisClusterNode> nodeList = Collections.unmodifiableList(new ArrayList<>(nodes));
+        Map<String, RedisClusterNode> nodesById = new HashMap<>(nodeList.size() * 2);
+        Map<String, List<RedisClusterNode>> replicasById = new HashMap<>();
+        Map<String, List<RedisClusterNode>> replicaSetsById = new HashMap<>();
+
+        for (RedisClusterNode node : nodeList) {
+            if (node.getNodeId() != null) {
+                nodesById.put(node.getNodeId(), node);
+            }
+        }
+
+        for (RedisClusterNode node : nodeList) {
+
+            String slaveOf = node.getSlaveOf();
+
+            if (slaveOf != null && nodesById.containsKey(slaveOf)) {
+                replicasById.computeIfAbsent(slaveOf, k -> new ArrayList<>()).add(node);
+                replicaSetsById.computeIfAbsent(slaveOf, k -> new ArrayList<>()).add(node);
+            }
+
+            if (node.getNodeId() != null) {
+                replicaSetsById.computeIfAbsent(node.getNodeId(), k -> new ArrayList<>()).add(node);
+            }
+        }
+
+        RedisClusterNode[] masters = new RedisClusterNode[SlotHash.SLOT_COUNT];
+        List<RedisClusterNode>[] replicas = new List[SlotHash.SLOT_COUNT];
+        List<RedisClusterNode>[] replicaSets = new List[SlotHash.SLOT_COUNT];
+
+        for (RedisClusterNode node : nodeList) {
+
+            List<RedisClusterNode> nodeReplicas = immutable(replicasById.get(node.getNodeId()));
+            List<RedisClusterNode> nodeReplicaSet = node.getNodeId() != null ? immutable(replicaSetsById
+                    .get(node.getNodeId())) : Collections.singletonList(node);
+
+            if (node.getSlots() instanceof SlotRanges) {
+
+                SlotRanges ranges = (SlotRanges) node.getSlots();
+                for (int i = 0; i < ranges.getRangeCount(); i++) {
+                    int from = ranges.getRangeStart(i);
+                    int to = ranges.getRangeEnd(i) + 1;
+                    Arrays.fill(masters, from, to, node);
+                    Arrays.fill(replicas, from, to, nodeReplicas);
+                    Arrays.fill(replicaSets, from, to, nodeReplicaSet);
+                }
+                continue;
+            }
+
+            for (Integer slot : node.getSlots()) {
+                masters[slot] = node;
+                replicas[slot] = nodeReplicas;
+                replicaSets[slot] = nodeReplicaSet;
+            }
+        }
+
+        return new PartitionsSnapshot(nodeList, Collections.unmodifiableMap(nodesById), masters, replicas, replicaSets);
+    }
+
+    private static List<RedisClusterNode> immutable(List<RedisClusterNode> nodes) {
+        return nodes == null ? Collections.emptyList() : Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Create a new {@link PartitionsSnapshot} with {@code node} appended to the nodes. The slot assignment of this snapshot is
+     * retained.
+     *
+     * @param node the node to add
+     * @return the {@link PartitionsSnapshot}.
+     */
+    PartitionsSnapshot withNode(RedisClusterNode node) {
+
+        List<RedisClusterNode> nodeList = new ArrayList<>(nodes.size() + 1);
+        nodeList.addAll(nodes);
+        nodeList.add(node);
+
+        Map<String, RedisClusterNode> nodesById = new HashMap<>(this.nodesById);
+        if (node.getNodeId() != null) {
+            nodesById.put(node.getNodeId(), node);
+        }
+
+        return new PartitionsSnapshot(Collections.unmodifiableList(nodeList), Collections.unmodifiableMap(nodesById), masters,
+                replicas, replicaSets);
+    }
+
+    /**
+     * Retrieve the {@link RedisClusterNode} serving {@code slot}.
+     *
+     * @param slot the slot
+     * @return RedisClusterNode or {@literal null}
+     */
+    public RedisClusterNode getMasterBySlot(int slot) {
+        return masters[slot];
+    }
+
+    /**
+     * Retrieve the replicas of the node serving {@code slot}.
+     *
+     * @param slot the slot
+     * @return the replicas in the order of {@link #getNodes()}. Empty if the slot is not served or the serving node has no
+     *         replicas.
+     */
+    public List<RedisClusterNode> getReplicasBySlot(int slot) {
+        List<RedisClusterNode> result = replicas[slot];
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /**
+     * Retrieve the node serving {@code slot} along with its replicas.
+     *
+     * @param slot the slot
+     * @return the serving node and its replicas in the order of {@link #getNodes()}. Empty if the slot is not served.
+     */
+    public List<RedisClusterNode> getReplicaSetBySlot(int slot) {
+        List<RedisClusterNode> result = replicaSets[slot];
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /**
+     * Retrieve a {@link RedisClusterNode} by its node id.
+     *
+     * @param nodeId the nodeId
+     * @return RedisClusterNode or {@literal null}
+     */
+    public RedisClusterNode getNodeById(String nodeId) {
+        return nodesById.get(nodeId);
+    }
+
+    /**
+     *
+     * @return immutable list of all nodes.
+     */
+    public List<RedisClusterNode> getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + nodes;
+    }
+}
@@ -59,7 +59,8 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pingSentTimestamp = redisClusterNode.pingSentTimestamp;
         this.pongReceivedTimestamp = redisClusterNode.pongReceivedTimestamp;
         this.configEpoch = redisClusterNode.configEpoch;
-        this.slots = Lists.newArrayList(redisClusterNode.slots);
+        this.slots = redisClusterNode.slots instanceof SlotRanges ? redisClusterNode.slots : Lists
+                .newArrayList(redisClusterNode.slots);
         this.flags = Sets.newHashSet(redisClusterNode.flags);
     }
 
@@ -0,0 +1,198 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.RandomAccess;
+
+/**
+ * Immutable {@link java.util.List} of slots backed by sorted, non-overlapping slot ranges. A {@link SlotRanges} instance
+ * requires a few {@code int} per range regardless of the number of slots in the range, in contrast to a list of boxed
+ * {@link Integer} per slot. Lookups by index and by slot perform a binary search over the ranges.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+@SuppressWarnings("serial")
+final class SlotRanges extends AbstractList<Integer> implements RandomAccess, Serializable {
+
+    static final SlotRanges EMPTY = new SlotRanges(new int[0], new int[0], new int[0], 0);
+
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] offsets;
+    private final int size;
+
+    private SlotRanges(int[] starts, int[] ends, int[] offsets, int size) {
+        this.starts = starts;
+        this.ends = ends;
+        this.offsets = offsets;
+        this.size = size;
+    }
+
+    /**
+     *
+     * @return number of ranges.
+     */
+    int getRangeCount() {
+        return starts.length;
+    }
+
+    /**
+     *
+     * @param range the range index
+     * @return first slot of the range.
+     */
+    int getRangeStart(int range) {
+        return starts[range];
+    }
+
+    /**
+     *
+     * @param range the range index
+     * @return last slot of the range (inclusive).
+     */
+    int getRangeEnd(int range) {
+        return ends[range];
+    }
+
+    @Override
+    public Integer get(int index) {
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int range = Arrays.binarySearch(offsets, index);
+        if (range < 0) {
+            range = -range - 2;
+        }
+
+        return starts[range] + (index - offsets[range]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+
+        if (!(o instanceof Integer)) {
+            return -1;
+        }
+
+        int slot = (Integer) o;
+        int range = Arrays.binarySearch(starts, slot);
+        if (range < 0) {
+            range = -range - 2;
+        }
+
+        if (range < 0 || slot > ends[range]) {
+            return -1;
+        }
+
+        return offsets[range] + (slot - starts[range]);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    /**
+     * Builder for {@link SlotRanges}. Ranges may be added in any order, adjacent and overlapping ranges are merged.
+     */
+    static class Builder {
+
+        private int[] starts = new int[4];
+        private int[] ends = new int[4];
+        private int count;
+        private boolean ordered = true;
+
+        /**
+         * Add the slots {@code from} to {@code to} (inclusive).
+         *
+         * @param from first slot
+         * @param to last slot
+         * @return {@code this}
+         */
+        Builder add(int from, int to) {
+
+            if (to < from) {
+                return this;
+            }
+
+            if (count != 0) {
+
+                int last = ends[count - 1];
+
+                if (from <= last) {
+                    ordered = false;
+                } else if (from == last + 1) {
+                    ends[count - 1] = to;
+                    return this;
+                }
+            }
+
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+
+            starts[count] = from;
+            ends[count] = to;
+            count++;
+            return this;
+        }
+
+        /**
+         *
+         * @return the {@link SlotRanges}.
+         */
+        SlotRanges build() {
+
+            if (count == 0) {
+                return EMPTY;
+            }
+
+            if (!ordered) {
+                return normalize();
+            }
+
+            int[] offsets = new int[count];
+            int size = 0;
+
+            for (int i = 0; i < count; i++) {
+                offsets[i] = size;
+                size += ends[i] - starts[i] + 1;
+            }
+
+            return new SlotRanges(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count), offsets, size);
+        }
+
+        private SlotRanges normalize() {
+
+            BitSet bits = new BitSet();
+            for (int i = 0; i < count; i++) {
+                bits.set(starts[i], ends[i] + 1);
+            }
+
+            Builder builder = new Builder();
+            for (int from = bits.nextSetBit(0); from >= 0; from = bits.nextSetBit(from)) {
+                int to = bits.nextClearBit(from);
+                builder.add(from, to - 1);
+                from = to;
+            }
+
+            return builder.build();
+        }
+    }
+}
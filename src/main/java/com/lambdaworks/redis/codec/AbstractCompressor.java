@@ -0,0 +1,73 @@
+package com.lambdaworks.redis.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Base class for {@link Compressor compressors} that operate on byte arrays. Array-backed {@link ByteBuffer buffers} are
+ * passed to the subclass without copying.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+abstract class AbstractCompressor implements Compressor {
+
+    @Override
+    public ByteBuffer compress(ByteBuffer source) throws IOException {
+
+        if (source.hasArray()) {
+            int offset = source.arrayOffset() + source.position();
+            int length = source.remaining();
+            source.position(source.limit());
+            return compress(source.array(), offset, length);
+        }
+
+        byte[] bytes = new byte[source.remaining()];
+        source.get(bytes);
+        return compress(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public ByteBuffer decompress(ByteBuffer source) throws IOException {
+
+        if (source.hasArray()) {
+            int offset = source.arrayOffset() + source.position();
+            int length = source.remaining();
+            source.position(source.limit());
+            return decompress(source.array(), offset, length);
+        }
+
+        byte[] bytes = new byte[source.remaining()];
+        source.get(bytes);
+        return decompress(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Compress {@code length} bytes of {@code input} starting at {@code offset}.
+     */
+    protected abstract ByteBuffer compress(byte[] input, int offset, int length) throws IOException;
+
+    /**
+     * Decompress {@code length} bytes of {@code input} starting at {@code offset}.
+     */
+    protected abstract ByteBuffer decompress(byte[] input, int offset, int length) throws IOException;
+
+    /**
+     * @return the unsigned byte at {@code index} relative to the position of {@code source}.
+     */
+    protected static int peek(ByteBuffer source, int index) {
+        return source.get(source.position() + index) & 0xFF;
+    }
+
+    protected static int readIntLE(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16
+                | (bytes[offset + 3] & 0xFF) << 24;
+    }
+
+    protected static void writeIntLE(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >>> 8);
+        bytes[offset + 2] = (byte) (value >>> 16);
+        bytes[offset + 3] = (byte) (value >>> 24);
+    }
+}
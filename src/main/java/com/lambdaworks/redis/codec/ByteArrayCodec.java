@@ -2,13 +2,18 @@ package com.lambdaworks.redis.codec;
 
 import java.nio.ByteBuffer;
 
+import io.netty.buffer.ByteBuf;
+
 /**
- * A {@link RedisCodec} that uses plain byte arrays.
+ * A {@link RedisCodec} that uses plain byte arrays. Keys and values are written straight into the outgoing buffer using
+ * {@link ToByteBufEncoder}. Subclasses use the {@link ByteBuffer}-based methods unless they opt in to direct encoding and
+ * decoding.
  * 
  * @author Mark Paluch
  * @since 3.3
  */
-public class ByteArrayCodec implements RedisCodec<byte[], byte[]> {
+public class ByteArrayCodec
+        implements RedisCodec<byte[], byte[]>, ByteBufDecoder<byte[], byte[]>, ToByteBufEncoder<byte[], byte[]> {
 
     public final static ByteArrayCodec INSTANCE = new ByteArrayCodec();
 
@@ -22,6 +27,16 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]> {
         return getBytes(bytes);
     }
 
+    @Override
+    public byte[] decodeKey(ByteBuf bytes) {
+        return getBytes(bytes);
+    }
+
+    @Override
+    public byte[] decodeValue(ByteBuf bytes) {
+        return getBytes(bytes);
+    }
+
     @Override
     public ByteBuffer encodeKey(byte[] key) {
         return ByteBuffer.wrap(key);
@@ -32,10 +47,62 @@ public class ByteArrayCodec implements RedisCodec<byte[], byte[]> {
         return ByteBuffer.wrap(value);
     }
 
+    @Override
+    public void encodeKey(byte[] key, ByteBuf target) {
+        if (key != null) {
+            target.writeBytes(key);
+        }
+    }
+
+    @Override
+    public void encodeValue(byte[] value, ByteBuf target) {
+        if (value != null) {
+            target.writeBytes(value);
+        }
+    }
+
+    @Override
+    public int estimateSize(Object keyOrValue) {
+        return keyOrValue == null ? 0 : ((byte[]) keyOrValue).length;
+    }
+
+    @Override
+    public boolean isEstimateExact() {
+        return true;
+    }
+
+    /**
+     * Direct encoding is enabled for {@link ByteArrayCodec} itself. Subclasses customizing {@link #encodeKey(byte[])} or
+     * {@link #encodeValue(byte[])} keep their semantics and must override this method to opt in to direct encoding.
+     *
+     * @return {@literal true} if this instance is a plain {@link ByteArrayCodec}.
+     */
+    @Override
+    public boolean isDirectEncodingEnabled() {
+        return getClass() == ByteArrayCodec.class;
+    }
+
+    /**
+     * Direct decoding is enabled for {@link ByteArrayCodec} itself. Subclasses customizing {@link #decodeKey(ByteBuffer)} or
+     * {@link #decodeValue(ByteBuffer)} keep their semantics and must override this method to opt in to direct decoding.
+     *
+     * @return {@literal true} if this instance is a plain {@link ByteArrayCodec}.
+     */
+    @Override
+    public boolean isDirectDecodingEnabled() {
+        return getClass() == ByteArrayCodec.class;
+    }
+
     private static byte[] getBytes(ByteBuffer buffer) {
         byte[] b = new byte[buffer.remaining()];
         buffer.get(b);
         return b;
     }
 
+    private static byte[] getBytes(ByteBuf buffer) {
+        byte[] b = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), b);
+        return b;
+    }
+
 }
\ No newline at end of file
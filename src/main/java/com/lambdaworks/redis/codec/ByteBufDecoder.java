@@ -0,0 +1,49 @@
+package com.lambdaworks.redis.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optional {@link RedisCodec} extension to decode keys and values directly from a {@link ByteBuf}. Codecs implementing this
+ * interface are called with slices of the connection read buffer when {@link com.lambdaworks.redis.ClientOptions#isZeroCopyDecoding()
+ * zero-copy decoding} is enabled, which avoids copying each bulk reply into an intermediate {@link java.nio.ByteBuffer}.
+ *
+ * <p>
+ * The {@link ByteBuf} is a slice of the read buffer and is only valid for the duration of the decode call. Implementations
+ * must neither retain nor release the buffer and must copy any bytes they want to keep.
+ * </p>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public interface ByteBufDecoder<K, V> {
+
+    /**
+     * Decode the key output by redis.
+     *
+     * @param bytes Raw bytes of the key, must not be {@literal null}.
+     *
+     * @return The decoded key.
+     */
+    K decodeKey(ByteBuf bytes);
+
+    /**
+     * Decode the value output by redis.
+     *
+     * @param bytes Raw bytes of the value, must not be {@literal null}.
+     *
+     * @return The decoded value.
+     */
+    V decodeValue(ByteBuf bytes);
+
+    /**
+     * Returns whether keys and values are decoded through this interface. Codecs returning {@literal false} are decoded
+     * through {@link RedisCodec#decodeKey(java.nio.ByteBuffer)} and {@link RedisCodec#decodeValue(java.nio.ByteBuffer)}.
+     *
+     * @return {@literal true} if direct decoding is enabled.
+     */
+    default boolean isDirectDecodingEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+package com.lambdaworks.redis.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Per-thread {@link Deflater}, {@link Inflater} and scratch buffers shared by the built-in {@link Compressor compressors}.
+ * Compression runs on application threads (encode) and on event loop threads (decode), so each thread reuses its own instances
+ * instead of allocating a stream, a {@link Deflater}/{@link Inflater} and their native state per value.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+final class CompressionBuffers {
+
+    /**
+     * Scratch buffers larger than this are not retained per thread.
+     */
+    private static final int MAX_RETAINED_SCRATCH_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<Deflater> ZLIB_DEFLATER = new ThreadLocal<Deflater>() {
+        @Override
+        protected Deflater initialValue() {
+            return new Deflater(Deflater.DEFAULT_COMPRESSION, false);
+        }
+    };
+
+    private static final ThreadLocal<Deflater> RAW_DEFLATER = new ThreadLocal<Deflater>() {
+        @Override
+        protected Deflater initialValue() {
+            return new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        }
+    };
+
+    private static final ThreadLocal<Inflater> ZLIB_INFLATER = new ThreadLocal<Inflater>() {
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater(false);
+        }
+    };
+
+    private static final ThreadLocal<Inflater> RAW_INFLATER = new ThreadLocal<Inflater>() {
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater(true);
+        }
+    };
+
+    private static final ThreadLocal<byte[]> SCRATCH = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[1024];
+        }
+    };
+
+    private CompressionBuffers() {
+    }
+
+    /**
+     * @param nowrap {@literal true} for raw deflate data without zlib header and checksum.
+     * @return the reset {@link Deflater} of the current thread.
+     */
+    static Deflater deflater(boolean nowrap) {
+        Deflater deflater = nowrap ? RAW_DEFLATER.get() : ZLIB_DEFLATER.get();
+        deflater.reset();
+        return deflater;
+    }
+
+    /**
+     * @param nowrap {@literal true} for raw deflate data without zlib header and checksum.
+     * @return the reset {@link Inflater} of the current thread.
+     */
+    static Inflater inflater(boolean nowrap) {
+        Inflater inflater = nowrap ? RAW_INFLATER.get() : ZLIB_INFLATER.get();
+        inflater.reset();
+        return inflater;
+    }
+
+    /**
+     * @param minCapacity the minimal capacity.
+     * @return a scratch buffer of the current thread with at least {@code minCapacity} bytes. The content is undefined.
+     */
+    static byte[] scratch(int minCapacity) {
+
+        byte[] scratch = SCRATCH.get();
+        if (scratch.length >= minCapacity) {
+            return scratch;
+        }
+
+        scratch = new byte[minCapacity];
+        if (minCapacity <= MAX_RETAINED_SCRATCH_SIZE) {
+            SCRATCH.set(scratch);
+        }
+        return scratch;
+    }
+
+    /**
+     * Grow {@code buffer} to twice its size, keeping its content.
+     *
+     * @param buffer the buffer to grow.
+     * @return the new buffer.
+     */
+    static byte[] grow(byte[] buffer) {
+
+        byte[] grown = Arrays.copyOf(buffer, Math.max(buffer.length * 2, 64));
+        if (grown.length <= MAX_RETAINED_SCRATCH_SIZE) {
+            SCRATCH.set(grown);
+        }
+        return grown;
+    }
+
+    /**
+     * Copy the first {@code length} bytes of {@code buffer} into an exactly sized {@link ByteBuffer}.
+     */
+    static ByteBuffer copyOf(byte[] buffer, int length) {
+        return ByteBuffer.wrap(Arrays.copyOf(buffer, length));
+    }
+}
@@ -2,29 +2,36 @@ package com.lambdaworks.redis.codec;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-import java.util.zip.InflaterInputStream;
-
-import com.google.common.io.ByteStreams;
 
 /**
- * A compressing/decompressing {@link RedisCodec} that wraps a typed {@link RedisCodec codec} and compresses values using GZIP
- * or Deflate. See {@link com.lambdaworks.redis.codec.CompressionCodec.CompressionType} for supported compression types.
- * 
+ * A compressing/decompressing {@link RedisCodec} that wraps a typed {@link RedisCodec codec} and compresses values using a
+ * {@link Compressor}. See {@link com.lambdaworks.redis.codec.CompressionCodec.CompressionType} for the built-in compression
+ * types.
+ *
+ * <p>
+ * {@link #valueCompressor(RedisCodec, CompressionType)} compresses every value and expects every value to be compressed with
+ * the given type. The variants accepting a {@code minCompressSize} store values that are smaller than the threshold (or that
+ * do not shrink) uncompressed, prefixed with a four-byte header. On decode, the format of each value is detected from its
+ * leading bytes, so values written by any built-in {@link CompressionType}, by
+ * {@link #valueCompressor(RedisCodec, CompressionType)} or without compression can be read while migrating between formats.
+ * Values that look compressed but fail to decompress are treated as written without compression.
+ * </p>
+ *
  * @author Mark Paluch
  */
 public class CompressionCodec {
 
+    /**
+     * Header for values that are stored uncompressed: three magic bytes followed by a format version. {@code 0xFF} never
+     * occurs in UTF-8 encoded text.
+     */
+    static final byte[] RAW_HEADER = { (byte) 0xFF, 'l', 'r', 1 };
+
     /**
      * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec}.
-     * 
+     *
      * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
      * @param compressionType the compression type, must not be {@literal null}.
      * @param <K> Key type.
@@ -35,17 +42,57 @@ public class CompressionCodec {
     public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, CompressionType compressionType) {
         checkArgument(delegate != null, "RedisCodec must not be null");
         checkArgument(compressionType != null, "CompressionType must not be null");
-        return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType);
+        return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType.getCompressor());
+    }
+
+    /**
+     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec} if they are at least
+     * {@code minCompressSize} bytes long. Decoding detects the compression type of each value.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
+     * @param compressionType the compression type, must not be {@literal null}.
+     * @param minCompressSize minimal encoded value size in bytes to apply compression, must not be negative.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Value-compressing codec.
+     * @since 4.2
+     */
+    public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, CompressionType compressionType,
+            int minCompressSize) {
+        checkArgument(compressionType != null, "CompressionType must not be null");
+        return valueCompressor(delegate, compressionType.getCompressor(), minCompressSize);
+    }
+
+    /**
+     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec} using a custom {@link Compressor} if
+     * they are at least {@code minCompressSize} bytes long. Decoding detects the compression type of each value, trying
+     * {@code compressor} first and the built-in {@link CompressionType compression types} afterwards.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
+     * @param compressor the compressor, must not be {@literal null}.
+     * @param minCompressSize minimal encoded value size in bytes to apply compression, must not be negative.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Value-compressing codec.
+     * @since 4.2
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, Compressor compressor,
+            int minCompressSize) {
+        checkArgument(delegate != null, "RedisCodec must not be null");
+        checkArgument(compressor != null, "Compressor must not be null");
+        checkArgument(minCompressSize >= 0, "minCompressSize must not be negative");
+        return (RedisCodec) new ThresholdCompressingValueCodecWrapper((RedisCodec) delegate, compressor, minCompressSize);
     }
 
     private static class CompressingValueCodecWrapper implements RedisCodec<Object, Object> {
 
-        private RedisCodec<Object, Object> delegate;
-        private CompressionType compressionType;
+        protected final RedisCodec<Object, Object> delegate;
+        protected final Compressor compressor;
 
-        public CompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, CompressionType compressionType) {
+        public CompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, Compressor compressor) {
             this.delegate = delegate;
-            this.compressionType = compressionType;
+            this.compressor = compressor;
         }
 
         @Override
@@ -76,60 +123,139 @@ public class CompressionCodec {
             }
         }
 
-        private ByteBuffer compress(ByteBuffer source) throws IOException {
+        protected ByteBuffer compress(ByteBuffer source) throws IOException {
+            if (source.remaining() == 0) {
+                return source;
+            }
+
+            return compressor.compress(source);
+        }
+
+        protected ByteBuffer decompress(ByteBuffer source) throws IOException {
             if (source.remaining() == 0) {
                 return source;
             }
 
-            ByteBufferInputStream sourceStream = new ByteBufferInputStream(source);
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() / 2);
-            OutputStream compressor = null;
-            if (compressionType == CompressionType.GZIP) {
-                compressor = new GZIPOutputStream(outputStream);
+            return compressor.decompress(source);
+        }
+    }
+
+    private static class ThresholdCompressingValueCodecWrapper extends CompressingValueCodecWrapper {
+
+        private final int minCompressSize;
+        private final Compressor[] decompressors;
+
+        public ThresholdCompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, Compressor compressor,
+                int minCompressSize) {
+            super(delegate, compressor);
+            this.minCompressSize = minCompressSize;
+
+            CompressionType[] types = CompressionType.values();
+            this.decompressors = new Compressor[types.length + 1];
+            this.decompressors[0] = compressor;
+            for (int i = 0; i < types.length; i++) {
+                this.decompressors[i + 1] = types[i].getCompressor();
             }
+        }
 
-            if (compressionType == CompressionType.DEFLATE) {
-                compressor = new DeflaterOutputStream(outputStream);
+        @Override
+        protected ByteBuffer compress(ByteBuffer source) throws IOException {
+
+            int length = source.remaining();
+            if (length == 0) {
+                return source;
             }
 
-            try {
-                ByteStreams.copy(sourceStream, compressor);
-            } finally {
-                compressor.close();
+            if (length >= minCompressSize) {
+                ByteBuffer compressed = compressor.compress(source.duplicate());
+                if (compressed.remaining() < length + RAW_HEADER.length) {
+                    return compressed;
+                }
             }
 
-            return ByteBuffer.wrap(outputStream.toByteArray());
+            ByteBuffer raw = ByteBuffer.allocate(length + RAW_HEADER.length);
+            raw.put(RAW_HEADER).put(source).flip();
+            return raw;
         }
 
-        private ByteBuffer decompress(ByteBuffer source) throws IOException {
+        @Override
+        protected ByteBuffer decompress(ByteBuffer source) throws IOException {
+
             if (source.remaining() == 0) {
                 return source;
             }
 
-            ByteBufferInputStream sourceStream = new ByteBufferInputStream(source);
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() * 2);
-            InputStream decompressor = null;
-            if (compressionType == CompressionType.GZIP) {
-                decompressor = new GZIPInputStream(sourceStream);
+            if (hasRawHeader(source)) {
+                ByteBuffer raw = source.duplicate();
+                raw.position(raw.position() + RAW_HEADER.length);
+                return raw;
             }
 
-            if (compressionType == CompressionType.DEFLATE) {
-                decompressor = new InflaterInputStream(sourceStream);
+            for (Compressor decompressor : decompressors) {
+                if (decompressor.isCompressed(source)) {
+                    try {
+                        return decompressor.decompress(source.duplicate());
+                    } catch (IOException e) {
+                        // not compressed by this compressor, try the remaining ones
+                    }
+                }
             }
 
-            try {
-                ByteStreams.copy(decompressor, outputStream);
-            } finally {
-                decompressor.close();
+            // written without compression
+            return source;
+        }
+
+        private static boolean hasRawHeader(ByteBuffer source) {
+
+            if (source.remaining() < RAW_HEADER.length) {
+                return false;
             }
 
-            return ByteBuffer.wrap(outputStream.toByteArray());
-        }
+            for (int i = 0; i < RAW_HEADER.length; i++) {
+                if (source.get(source.position() + i) != RAW_HEADER[i]) {
+                    return false;
+                }
+            }
 
+            return true;
+        }
     }
 
+    /**
+     * Built-in compression types.
+     */
     public enum CompressionType {
-        GZIP, DEFLATE;
+
+        /**
+         * GZIP format (RFC 1952).
+         */
+        GZIP(new DeflateCompressor(true)),
+
+        /**
+         * zlib/DEFLATE format (RFC 1950).
+         */
+        DEFLATE(new DeflateCompressor(false)),
+
+        /**
+         * LZ4 block format. Faster than {@link #GZIP} and {@link #DEFLATE} at the cost of compression ratio.
+         *
+         * @since 4.2
+         */
+        LZ4(new Lz4Compressor());
+
+        private final Compressor compressor;
+
+        CompressionType(Compressor compressor) {
+            this.compressor = compressor;
+        }
+
+        /**
+         * @return the {@link Compressor} for this compression type.
+         * @since 4.2
+         */
+        public Compressor getCompressor() {
+            return compressor;
+        }
     }
 
 }
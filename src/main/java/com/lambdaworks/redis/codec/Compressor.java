@@ -0,0 +1,48 @@
+package com.lambdaworks.redis.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compression algorithm used by {@link CompressionCodec} to compress and decompress values. Implementations must produce
+ * self-describing output: {@link #isCompressed(ByteBuffer)} identifies compressed data by its leading magic bytes so
+ * {@link CompressionCodec} can detect the algorithm of stored values on decode. Implementations must be thread-safe.
+ *
+ * <p>
+ * Compressed output must not start with {@code 0xFF}, which {@link CompressionCodec} uses as first byte of the header of
+ * values that are stored uncompressed.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ * @see CompressionCodec.CompressionType
+ */
+public interface Compressor {
+
+    /**
+     * Compress the remaining bytes of {@code source}.
+     *
+     * @param source the uncompressed data, must not be {@literal null}.
+     * @return the compressed data.
+     * @throws IOException if the data cannot be compressed.
+     */
+    ByteBuffer compress(ByteBuffer source) throws IOException;
+
+    /**
+     * Decompress the remaining bytes of {@code source}.
+     *
+     * @param source the compressed data, must not be {@literal null}.
+     * @return the decompressed data.
+     * @throws IOException if the data is not in the format of this compressor or cannot be decompressed.
+     */
+    ByteBuffer decompress(ByteBuffer source) throws IOException;
+
+    /**
+     * Check whether {@code source} starts with the magic bytes of this compressor. This method must not change the position
+     * of {@code source}.
+     *
+     * @param source the data to inspect, must not be {@literal null}.
+     * @return {@literal true} if {@code source} looks like data compressed by this compressor.
+     */
+    boolean isCompressed(ByteBuffer source);
+}
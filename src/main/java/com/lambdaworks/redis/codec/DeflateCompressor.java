@@ -0,0 +1,215 @@
+package com.lambdaworks.redis.codec;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * {@link Compressor} for the GZIP (RFC 1952) and zlib/DEFLATE (RFC 1950) formats. Uses per-thread {@link Deflater} and
+ * {@link Inflater} instances and writes the same format as {@link java.util.zip.GZIPOutputStream} and
+ * {@link java.util.zip.DeflaterOutputStream}.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class DeflateCompressor extends AbstractCompressor {
+
+    private static final int GZIP_MAGIC_0 = 0x1F;
+    private static final int GZIP_MAGIC_1 = 0x8B;
+    private static final int ZLIB_MAGIC = 0x78;
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final byte[] GZIP_HEADER = { (byte) GZIP_MAGIC_0, (byte) GZIP_MAGIC_1, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0,
+            0 };
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    /**
+     * Upper bound for the output buffer sized from the (untrusted) GZIP trailer.
+     */
+    private static final int MAX_PRESIZED_OUTPUT = 64 * 1024 * 1024;
+
+    private final boolean gzip;
+
+    /**
+     * @param gzip {@literal true} for the GZIP format, {@literal false} for the zlib format.
+     */
+    DeflateCompressor(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    @Override
+    protected ByteBuffer compress(byte[] input, int offset, int length) {
+
+        Deflater deflater = CompressionBuffers.deflater(gzip);
+        deflater.setInput(input, offset, length);
+        deflater.finish();
+
+        byte[] out = CompressionBuffers.scratch(length / 2 + GZIP_HEADER.length + GZIP_TRAILER_SIZE + 64);
+        int position = 0;
+
+        if (gzip) {
+            System.arraycopy(GZIP_HEADER, 0, out, 0, GZIP_HEADER.length);
+            position = GZIP_HEADER.length;
+        }
+
+        while (!deflater.finished()) {
+            if (position == out.length) {
+                out = CompressionBuffers.grow(out);
+            }
+            position += deflater.deflate(out, position, out.length - position);
+        }
+
+        if (gzip) {
+
+            while (out.length - position < GZIP_TRAILER_SIZE) {
+                out = CompressionBuffers.grow(out);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(input, offset, length);
+            writeIntLE(out, position, (int) crc.getValue());
+            writeIntLE(out, position + 4, length);
+            position += GZIP_TRAILER_SIZE;
+        }
+
+        return CompressionBuffers.copyOf(out, position);
+    }
+
+    @Override
+    protected ByteBuffer decompress(byte[] input, int offset, int length) throws ZipException {
+
+        if (!gzip) {
+            Inflater inflater = CompressionBuffers.inflater(false);
+            inflater.setInput(input, offset, length);
+            ByteBuffer inflated = inflate(inflater, Math.max(length * 4, 256));
+            return CompressionBuffers.copyOf(inflated.array(), inflated.limit());
+        }
+
+        int end = offset + length;
+        int position = skipGzipHeader(input, offset, end);
+
+        int isize = readIntLE(input, end - 4);
+        int initialCapacity = isize >= 0 && isize <= MAX_PRESIZED_OUTPUT ? isize : length * 4;
+
+        Inflater inflater = CompressionBuffers.inflater(true);
+        inflater.setInput(input, position, end - position);
+        ByteBuffer inflated = inflate(inflater, initialCapacity);
+
+        int trailer = end - inflater.getRemaining();
+        if (end - trailer < GZIP_TRAILER_SIZE) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(inflated.array(), 0, inflated.limit());
+
+        if (readIntLE(input, trailer) != (int) crc.getValue() || readIntLE(input, trailer + 4) != inflated.limit()) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+
+        return CompressionBuffers.copyOf(inflated.array(), inflated.limit());
+    }
+
+    @Override
+    public boolean isCompressed(ByteBuffer source) {
+
+        if (source.remaining() < 2) {
+            return false;
+        }
+
+        int b0 = peek(source, 0);
+        int b1 = peek(source, 1);
+
+        if (gzip) {
+            return b0 == GZIP_MAGIC_0 && b1 == GZIP_MAGIC_1;
+        }
+
+        // 32K window deflate without preset dictionary, header checksum must be a multiple of 31
+        return b0 == ZLIB_MAGIC && (b1 & 0x20) == 0 && ((b0 << 8) | b1) % 31 == 0;
+    }
+
+    /**
+     * Inflate into the scratch buffer of the current thread.
+     *
+     * @return view on the scratch buffer containing the inflated bytes.
+     */
+    private static ByteBuffer inflate(Inflater inflater, int initialCapacity) throws ZipException {
+
+        byte[] out = CompressionBuffers.scratch(initialCapacity);
+        int position = 0;
+
+        try {
+            while (!inflater.finished()) {
+
+                if (position == out.length) {
+                    out = CompressionBuffers.grow(out);
+                }
+
+                int inflated = inflater.inflate(out, position, out.length - position);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Unexpected end of compressed data");
+                }
+                position += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        }
+
+        return ByteBuffer.wrap(out, 0, position);
+    }
+
+    private static int skipGzipHeader(byte[] input, int offset, int end) throws ZipException {
+
+        if (end - offset < GZIP_HEADER.length + GZIP_TRAILER_SIZE || (input[offset] & 0xFF) != GZIP_MAGIC_0
+                || (input[offset + 1] & 0xFF) != GZIP_MAGIC_1) {
+            throw new ZipException("Not in GZIP format");
+        }
+
+        if (input[offset + 2] != Deflater.DEFLATED) {
+            throw new ZipException("Unsupported compression method");
+        }
+
+        int flags = input[offset + 3] & 0xFF;
+        int position = offset + GZIP_HEADER.length;
+
+        if ((flags & FEXTRA) != 0) {
+            position += 2 + ((input[position] & 0xFF) | (input[position + 1] & 0xFF) << 8);
+        }
+
+        if ((flags & FNAME) != 0) {
+            position = skipZeroTerminated(input, position, end);
+        }
+
+        if ((flags & FCOMMENT) != 0) {
+            position = skipZeroTerminated(input, position, end);
+        }
+
+        if ((flags & FHCRC) != 0) {
+            position += 2;
+        }
+
+        if (position > end - GZIP_TRAILER_SIZE) {
+            throw new ZipException("Corrupt GZIP header");
+        }
+
+        return position;
+    }
+
+    private static int skipZeroTerminated(byte[] input, int position, int end) throws ZipException {
+
+        while (position < end) {
+            if (input[position++] == 0) {
+                return position;
+            }
+        }
+
+        throw new ZipException("Corrupt GZIP header");
+    }
+}
@@ -0,0 +1,257 @@
+package com.lambdaworks.redis.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Pure-Java {@link Compressor} using the LZ4 block format. Trades compression ratio for speed: a greedy single-pass matcher
+ * with a 4K entry hash table and no entropy coding. Compressed data is framed as {@code 0xFE}, the uncompressed length as
+ * 32 bit big-endian integer, followed by a single LZ4 block.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+class Lz4Compressor extends AbstractCompressor {
+
+    static final int MAGIC = 0xFE;
+    private static final int HEADER_SIZE = 5;
+
+    /**
+     * Upper bound for the number of bytes a single byte of an LZ4 block decompresses to.
+     */
+    private static final int MAX_EXPANSION = 255;
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = 0xFFFF;
+    private static final int ML_MASK = 0x0F;
+    private static final int RUN_MASK = 0x0F;
+
+    private static final int HASH_LOG = 12;
+
+    private static final ThreadLocal<int[]> HASH_TABLE = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1 << HASH_LOG];
+        }
+    };
+
+    @Override
+    protected ByteBuffer compress(byte[] input, int offset, int length) {
+
+        byte[] out = CompressionBuffers.scratch(HEADER_SIZE + length + length / 255 + 16);
+        out[0] = (byte) MAGIC;
+        out[1] = (byte) (length >>> 24);
+        out[2] = (byte) (length >>> 16);
+        out[3] = (byte) (length >>> 8);
+        out[4] = (byte) length;
+
+        int compressed = compressBlock(input, offset, length, out, HEADER_SIZE);
+        return CompressionBuffers.copyOf(out, compressed);
+    }
+
+    @Override
+    protected ByteBuffer decompress(byte[] input, int offset, int length) throws IOException {
+
+        if (length < HEADER_SIZE || (input[offset] & 0xFF) != MAGIC) {
+            throw new IOException("Not in LZ4 format");
+        }
+
+        int uncompressedLength = (input[offset + 1] & 0xFF) << 24 | (input[offset + 2] & 0xFF) << 16
+                | (input[offset + 3] & 0xFF) << 8 | (input[offset + 4] & 0xFF);
+
+        if (uncompressedLength < 0 || uncompressedLength > (long) (length - HEADER_SIZE) * MAX_EXPANSION + MIN_MATCH) {
+            throw new IOException("Corrupt LZ4 header");
+        }
+
+        byte[] out = new byte[uncompressedLength];
+        decompressBlock(input, offset + HEADER_SIZE, offset + length, out);
+        return ByteBuffer.wrap(out);
+    }
+
+    @Override
+    public boolean isCompressed(ByteBuffer source) {
+        return source.remaining() >= HEADER_SIZE && peek(source, 0) == MAGIC;
+    }
+
+    /**
+     * Compress {@code input} into {@code out} starting at {@code outOffset}.
+     *
+     * @return end position of the compressed data in {@code out}.
+     */
+    private static int compressBlock(byte[] input, int offset, int length, byte[] out, int outOffset) {
+
+        int end = offset + length;
+        int matchLimit = end - LAST_LITERALS;
+        int mfLimit = end - MF_LIMIT;
+
+        int anchor = offset;
+        int position = offset;
+        int op = outOffset;
+
+        if (length >= MF_LIMIT + 1) {
+
+            int[] table = HASH_TABLE.get();
+            Arrays.fill(table, -1);
+
+            while (position < mfLimit) {
+
+                int sequence = readIntLE(input, position);
+                int hash = hash(sequence);
+                int ref = table[hash];
+                table[hash] = position;
+
+                if (ref < 0 || position - ref > MAX_DISTANCE || readIntLE(input, ref) != sequence) {
+                    position++;
+                    continue;
+                }
+
+                // extend the match backwards into pending literals
+                while (position > anchor && ref > offset && input[position - 1] == input[ref - 1]) {
+                    position--;
+                    ref--;
+                }
+
+                int matchLength = MIN_MATCH;
+                while (position + matchLength < matchLimit && input[position + matchLength] == input[ref + matchLength]) {
+                    matchLength++;
+                }
+
+                int literalLength = position - anchor;
+                int tokenPosition = op++;
+                int token;
+
+                if (literalLength >= RUN_MASK) {
+                    token = RUN_MASK << 4;
+                    op = writeLength(out, op, literalLength - RUN_MASK);
+                } else {
+                    token = literalLength << 4;
+                }
+
+                System.arraycopy(input, anchor, out, op, literalLength);
+                op += literalLength;
+
+                int distance = position - ref;
+                out[op++] = (byte) distance;
+                out[op++] = (byte) (distance >>> 8);
+
+                int encodedMatchLength = matchLength - MIN_MATCH;
+                if (encodedMatchLength >= ML_MASK) {
+                    token |= ML_MASK;
+                    op = writeLength(out, op, encodedMatchLength - ML_MASK);
+                } else {
+                    token |= encodedMatchLength;
+                }
+
+                out[tokenPosition] = (byte) token;
+
+                position += matchLength;
+                anchor = position;
+            }
+        }
+
+        int literalLength = end - anchor;
+        if (literalLength >= RUN_MASK) {
+            out[op++] = (byte) (RUN_MASK << 4);
+            op = writeLength(out, op, literalLength - RUN_MASK);
+        } else {
+            out[op++] = (byte) (literalLength << 4);
+        }
+
+        System.arraycopy(input, anchor, out, op, literalLength);
+        return op + literalLength;
+    }
+
+    private static void decompressBlock(byte[] input, int offset, int end, byte[] out) throws IOException {
+
+        int position = offset;
+        int op = 0;
+
+        while (position < end) {
+
+            int token = input[position++] & 0xFF;
+
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK) {
+                int b;
+                do {
+                    if (position >= end) {
+                        throw new IOException("Malformed LZ4 block");
+                    }
+                    b = input[position++] & 0xFF;
+                    literalLength += b;
+                } while (b == 0xFF);
+            }
+
+            if (literalLength > end - position || literalLength > out.length - op) {
+                throw new IOException("Malformed LZ4 block");
+            }
+
+            System.arraycopy(input, position, out, op, literalLength);
+            position += literalLength;
+            op += literalLength;
+
+            if (position == end) {
+                break;
+            }
+
+            if (end - position < 2) {
+                throw new IOException("Malformed LZ4 block");
+            }
+
+            int distance = (input[position++] & 0xFF) | (input[position++] & 0xFF) << 8;
+            int ref = op - distance;
+            if (distance == 0 || ref < 0) {
+                throw new IOException("Malformed LZ4 block");
+            }
+
+            int matchLength = token & ML_MASK;
+            if (matchLength == ML_MASK) {
+                int b;
+                do {
+                    if (position >= end) {
+                        throw new IOException("Malformed LZ4 block");
+                    }
+                    b = input[position++] & 0xFF;
+                    matchLength += b;
+                } while (b == 0xFF);
+            }
+            matchLength += MIN_MATCH;
+
+            if (matchLength > out.length - op) {
+                throw new IOException("Malformed LZ4 block");
+            }
+
+            if (distance >= matchLength) {
+                System.arraycopy(out, ref, out, op, matchLength);
+                op += matchLength;
+            } else {
+                // overlapping match, repeats the last distance bytes
+                for (int i = 0; i < matchLength; i++) {
+                    out[op++] = out[ref + i];
+                }
+            }
+        }
+
+        if (op != out.length) {
+            throw new IOException("Malformed LZ4 block");
+        }
+    }
+
+    private static int writeLength(byte[] out, int op, int length) {
+
+        while (length >= 0xFF) {
+            out[op++] = (byte) 0xFF;
+            length -= 0xFF;
+        }
+
+        out[op++] = (byte) length;
+        return op;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+}
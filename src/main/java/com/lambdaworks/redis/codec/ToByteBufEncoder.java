@@ -0,0 +1,66 @@
+package com.lambdaworks.redis.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optional {@link RedisCodec} extension to encode keys and values directly into the outgoing {@link ByteBuf}. Codecs
+ * implementing this interface are detected by {@link com.lambdaworks.redis.protocol.CommandArgs} and bypass the intermediate
+ * {@link java.nio.ByteBuffer} returned by {@link RedisCodec#encodeKey(Object)} and {@link RedisCodec#encodeValue(Object)}.
+ *
+ * <p>
+ * {@link #estimateSize(Object)} is used to size the target buffer once per command. If the estimate is
+ * {@link #isEstimateExact() exact}, keys and values are written straight into the target buffer. Otherwise they are encoded
+ * into a temporary buffer first because the bulk string length must be known upfront.
+ * </p>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public interface ToByteBufEncoder<K, V> {
+
+    /**
+     * Encode the key for output to redis.
+     *
+     * @param key the key, may be {@literal null}.
+     * @param target the target buffer, must not be {@literal null}.
+     */
+    void encodeKey(K key, ByteBuf target);
+
+    /**
+     * Encode the value for output to redis.
+     *
+     * @param value the value, may be {@literal null}.
+     * @param target the target buffer, must not be {@literal null}.
+     */
+    void encodeValue(V value, ByteBuf target);
+
+    /**
+     * Estimate the number of bytes required to encode {@code keyOrValue}.
+     *
+     * @param keyOrValue the key or value, may be {@literal null}.
+     * @return the estimated number of bytes in the encoded representation.
+     */
+    int estimateSize(Object keyOrValue);
+
+    /**
+     * Returns whether {@link #estimateSize(Object)} reports the exact number of bytes that {@link #encodeKey(Object, ByteBuf)}
+     * and {@link #encodeValue(Object, ByteBuf)} write.
+     *
+     * @return {@literal true} if the size estimate is exact.
+     */
+    default boolean isEstimateExact() {
+        return false;
+    }
+
+    /**
+     * Returns whether keys and values are encoded through this interface. Codecs returning {@literal false} are encoded
+     * through {@link RedisCodec#encodeKey(Object)} and {@link RedisCodec#encodeValue(Object)}.
+     *
+     * @return {@literal true} if direct encoding is enabled.
+     */
+    default boolean isDirectEncodingEnabled() {
+        return true;
+    }
+}
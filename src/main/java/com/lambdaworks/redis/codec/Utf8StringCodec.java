@@ -11,14 +11,21 @@ import java.nio.charset.CharsetDecoder;
 
 import com.lambdaworks.redis.protocol.LettuceCharsets;
 
+import io.netty.buffer.ByteBuf;
+
 /**
- * A {@link RedisCodec} that handles UTF-8 encoded keys and values.
+ * A {@link RedisCodec} that handles UTF-8 encoded keys and values. Keys and values are written straight into the outgoing
+ * buffer using {@link ToByteBufEncoder}. Unmappable characters (unpaired surrogates) are replaced with {@literal ?}.
+ * Subclasses use the {@link ByteBuffer}-based methods unless they opt in to direct encoding and decoding.
  * 
  * @author Will Glozer
+ * @author Mark Paluch
  */
-public class Utf8StringCodec implements RedisCodec<String, String> {
+public class Utf8StringCodec
+        implements RedisCodec<String, String>, ByteBufDecoder<String, String>, ToByteBufEncoder<String, String> {
 
     private final static byte[] EMPTY = new byte[0];
+    private final static byte REPLACEMENT = '?';
 
     private Charset charset;
     private CharsetDecoder decoder;
@@ -44,6 +51,16 @@ public class Utf8StringCodec implements RedisCodec<String, String> {
         return decode(bytes);
     }
 
+    @Override
+    public String decodeKey(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
+    @Override
+    public String decodeValue(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
     @Override
     public ByteBuffer encodeKey(String key) {
         return encode(key);
@@ -54,6 +71,48 @@ public class Utf8StringCodec implements RedisCodec<String, String> {
         return encode(value);
     }
 
+    @Override
+    public void encodeKey(String key, ByteBuf target) {
+        encode(key, target);
+    }
+
+    @Override
+    public void encodeValue(String value, ByteBuf target) {
+        encode(value, target);
+    }
+
+    @Override
+    public int estimateSize(Object keyOrValue) {
+        return utf8Length((String) keyOrValue);
+    }
+
+    @Override
+    public boolean isEstimateExact() {
+        return true;
+    }
+
+    /**
+     * Direct encoding is enabled for {@link Utf8StringCodec} itself. Subclasses customizing {@link #encodeKey(String)} or
+     * {@link #encodeValue(String)} keep their semantics and must override this method to opt in to direct encoding.
+     *
+     * @return {@literal true} if this instance is a plain {@link Utf8StringCodec}.
+     */
+    @Override
+    public boolean isDirectEncodingEnabled() {
+        return getClass() == Utf8StringCodec.class;
+    }
+
+    /**
+     * Direct decoding is enabled for {@link Utf8StringCodec} itself. Subclasses customizing {@link #decodeKey(ByteBuffer)} or
+     * {@link #decodeValue(ByteBuffer)} keep their semantics and must override this method to opt in to direct decoding.
+     *
+     * @return {@literal true} if this instance is a plain {@link Utf8StringCodec}.
+     */
+    @Override
+    public boolean isDirectDecodingEnabled() {
+        return getClass() == Utf8StringCodec.class;
+    }
+
     private synchronized String decode(ByteBuffer bytes) {
         chars.clear();
         bytes.mark();
@@ -74,4 +133,84 @@ public class Utf8StringCodec implements RedisCodec<String, String> {
 
         return charset.encode(string);
     }
+
+    /**
+     * Compute the number of bytes {@link #encode(String, ByteBuf)} writes for {@code string}.
+     *
+     * @param string the string, may be {@literal null}.
+     * @return the UTF-8 encoded length.
+     */
+    static int utf8Length(String string) {
+
+        if (string == null) {
+            return 0;
+        }
+
+        int length = string.length();
+        int bytes = length;
+
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+
+            if (c < 0x80) {
+                continue;
+            }
+
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    // surrogate pair: two chars, four bytes
+                    bytes += 2;
+                    i++;
+                }
+            } else {
+                bytes += 2;
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Write {@code string} UTF-8 encoded to {@code target}. Unpaired surrogates are replaced with {@literal ?} to match
+     * {@link Charset#encode(String)}.
+     *
+     * @param string the string, may be {@literal null}.
+     * @param target the target buffer.
+     */
+    static void encode(String string, ByteBuf target) {
+
+        if (string == null) {
+            return;
+        }
+
+        int length = string.length();
+        target.ensureWritable(length);
+
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+
+            if (c < 0x80) {
+                target.writeByte(c);
+            } else if (c < 0x800) {
+                target.writeByte(0xc0 | (c >> 6));
+                target.writeByte(0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                    target.writeByte(0xf0 | (codePoint >> 18));
+                    target.writeByte(0x80 | ((codePoint >> 12) & 0x3f));
+                    target.writeByte(0x80 | ((codePoint >> 6) & 0x3f));
+                    target.writeByte(0x80 | (codePoint & 0x3f));
+                } else {
+                    target.writeByte(REPLACEMENT);
+                }
+            } else {
+                target.writeByte(0xe0 | (c >> 12));
+                target.writeByte(0x80 | ((c >> 6) & 0x3f));
+                target.writeByte(0x80 | (c & 0x3f));
+            }
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.lambdaworks.redis.event.metrics;
+
+import java.util.List;
+
+import com.lambdaworks.redis.event.Event;
+import com.lambdaworks.redis.metrics.ConnectionMetrics;
+
+/**
+ * Event that transports connection metrics. This event carries metrics for multiple connections.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class ConnectionMetricsEvent implements Event {
+
+    private final List<ConnectionMetrics> connections;
+
+    public ConnectionMetricsEvent(List<ConnectionMetrics> connections) {
+        this.connections = connections;
+    }
+
+    /**
+     * Returns the metrics per connection.
+     *
+     * @return the connection metrics.
+     */
+    public List<ConnectionMetrics> getConnections() {
+        return connections;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer();
+        sb.append(connections);
+        return sb.toString();
+    }
+}
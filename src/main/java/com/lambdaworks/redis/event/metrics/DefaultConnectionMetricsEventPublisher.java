@@ -0,0 +1,68 @@
+package com.lambdaworks.redis.event.metrics;
+
+import com.lambdaworks.redis.event.EventBus;
+import com.lambdaworks.redis.event.EventPublisherOptions;
+import com.lambdaworks.redis.metrics.ConnectionMetricsCollector;
+
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * Default implementation of a {@link MetricEventPublisher} for connection metrics.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class DefaultConnectionMetricsEventPublisher implements MetricEventPublisher {
+
+    private final EventExecutorGroup eventExecutorGroup;
+    private final EventPublisherOptions options;
+    private final EventBus eventBus;
+    private final ConnectionMetricsCollector connectionMetricsCollector;
+
+    private final Runnable EMITTER = new Runnable() {
+        @Override
+        public void run() {
+            emitMetricsEvent();
+        }
+    };
+
+    private volatile ScheduledFuture<?> scheduledFuture;
+
+    public DefaultConnectionMetricsEventPublisher(EventExecutorGroup eventExecutorGroup, EventPublisherOptions options,
+            EventBus eventBus, ConnectionMetricsCollector connectionMetricsCollector) {
+        this.eventExecutorGroup = eventExecutorGroup;
+        this.options = options;
+        this.eventBus = eventBus;
+        this.connectionMetricsCollector = connectionMetricsCollector;
+
+        if (options.eventEmitInterval() > 0) {
+            scheduledFuture = this.eventExecutorGroup.scheduleAtFixedRate(EMITTER, options.eventEmitInterval(),
+                    options.eventEmitInterval(), options.eventEmitIntervalUnit());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return options.eventEmitInterval() > 0 && scheduledFuture != null;
+    }
+
+    @Override
+    public void shutdown() {
+
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(true);
+            scheduledFuture = null;
+        }
+    }
+
+    @Override
+    public void emitMetricsEvent() {
+
+        if (!isEnabled() || !connectionMetricsCollector.isEnabled()) {
+            return;
+        }
+
+        eventBus.publish(new ConnectionMetricsEvent(connectionMetricsCollector.retrieveMetrics()));
+    }
+}
@@ -1,10 +1,14 @@
 package com.lambdaworks.redis.masterslave;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.lambdaworks.redis.RedisClient;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.util.concurrent.EventExecutorGroup;
+
 /**
  * Master-Slave connection API.
  * <p>
@@ -62,6 +66,49 @@ public class MasterSlave {
             RedisURI redisURI) {
 
         StatefulRedisConnection<K, V> masterConnection = redisClient.connect(codec, redisURI);
+
+        try {
+            return newMasterSlaveConnection(redisClient, codec, redisURI, masterConnection);
+        } catch (RuntimeException e) {
+            masterConnection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open a new connection to a Redis Master-Slave server/servers using the supplied {@link RedisURI} and the supplied
+     * {@link RedisCodec codec} to encode/decode keys without blocking the caller. The master connection is established
+     * asynchronously, topology discovery runs on the {@link com.lambdaworks.redis.resource.ClientResources#eventExecutorGroup()
+     * event executor group} of the client.
+     *
+     * @param redisClient the Redis client
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return future that completes with the connection.
+     * @since 4.2
+     */
+    public static <K, V> CompletableFuture<StatefulRedisMasterSlaveConnection<K, V>> connectAsync(RedisClient redisClient,
+            RedisCodec<K, V> codec, RedisURI redisURI) {
+
+        EventExecutorGroup executor = redisClient.getResources().eventExecutorGroup();
+
+        return redisClient.connectStatefulAsync(codec, redisURI).thenCompose(
+                masterConnection -> CompletableFuture.supplyAsync(() -> {
+
+                    try {
+                        return newMasterSlaveConnection(redisClient, codec, redisURI, masterConnection);
+                    } catch (RuntimeException e) {
+                        masterConnection.close();
+                        throw e;
+                    }
+                }, executor));
+    }
+
+    private static <K, V> StatefulRedisMasterSlaveConnection<K, V> newMasterSlaveConnection(RedisClient redisClient,
+            RedisCodec<K, V> codec, RedisURI redisURI, StatefulRedisConnection<K, V> masterConnection) {
+
         TopologyProvider topologyProvider;
         if (redisURI.getSentinels().isEmpty()) {
             topologyProvider = new MasterSlaveTopologyProvider(masterConnection, redisURI);
@@ -3,6 +3,7 @@ package com.lambdaworks.redis.masterslave;
 import static com.lambdaworks.redis.masterslave.MasterSlaveUtils.findNodeByHostAndPort;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
@@ -11,7 +12,9 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.lambdaworks.redis.ReadBalancing;
 import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.RedisChannelHandler;
 import com.lambdaworks.redis.RedisClient;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
@@ -40,6 +43,9 @@ public class MasterSlaveConnectionProvider<K, V> {
     private final LoadingCache<ConnectionKey, StatefulRedisConnection<K, V>> connections;
     private final StatefulRedisConnection<K, V> masterConnection;
     private final RedisURI initialRedisUri;
+    private final RedisClient redisClient;
+    // round-robin position across the read candidates
+    private final AtomicIntegerArray sequences = new AtomicIntegerArray(1);
 
     private List<RedisNodeDescription> knownNodes = Lists.newArrayList();
 
@@ -51,6 +57,7 @@ public class MasterSlaveConnectionProvider<K, V> {
                                          StatefulRedisConnection<K, V> masterConnection, RedisURI initialRedisUri) {
         this.masterConnection = masterConnection;
         this.initialRedisUri = initialRedisUri;
+        this.redisClient = redisClient;
         this.debugEnabled = logger.isDebugEnabled();
         this.connections = CacheBuilder.newBuilder().build(new ConnectionFactory<>(redisClient, redisCodec));
     }
@@ -81,6 +88,11 @@ public class MasterSlaveConnectionProvider<K, V> {
                 public Iterator<RedisNodeDescription> iterator() {
                     return knownNodes.iterator();
                 }
+
+                @Override
+                public ReadFrom.NodeStatistics getStatistics(RedisNodeDescription node) {
+                    return getNodeStatistics(node);
+                }
             });
 
             if (selection.isEmpty()) {
@@ -88,6 +100,22 @@ public class MasterSlaveConnectionProvider<K, V> {
                         + readFrom);
             }
             try {
+
+                ReadBalancing readBalancing = redisClient.getOptions().getReadBalancing();
+                if (readBalancing != ReadBalancing.FIRST && !readFrom.isDynamic()) {
+
+                    StatefulRedisConnection<K, V>[] readerCandidates = new StatefulRedisConnection[selection.size()];
+                    for (int i = 0; i < readerCandidates.length; i++) {
+                        readerCandidates[i] = getConnection(selection.get(i));
+                    }
+
+                    StatefulRedisConnection<K, V> readerCandidate = readBalancing.select(readerCandidates,
+                            StatefulConnection::isOpen, this::getQueueSize, sequences, 0);
+                    if (readerCandidate.isOpen()) {
+                        return readerCandidate;
+                    }
+                }
+
                 for (RedisNodeDescription redisNodeDescription : selection) {
                     StatefulRedisConnection<K, V> readerCandidate = getConnection(redisNodeDescription);
                     if (!readerCandidate.isOpen()) {
@@ -113,6 +141,38 @@ public class MasterSlaveConnectionProvider<K, V> {
                 .getUri().getPort()));
     }
 
+    /**
+     * Retrieve the {@link ReadFrom.NodeStatistics} of an already established connection to {@code redisNodeDescription}. This
+     * method does not connect to the node.
+     *
+     * @param redisNodeDescription the node
+     * @return the statistics or {@literal null} if not connected to the node.
+     */
+    private ReadFrom.NodeStatistics getNodeStatistics(RedisNodeDescription redisNodeDescription) {
+
+        if (redisNodeDescription.getRole() == RedisInstance.Role.MASTER) {
+            return getNodeStatistics(masterConnection);
+        }
+
+        return getNodeStatistics(connections.getIfPresent(new ConnectionKey(redisNodeDescription.getUri().getHost(),
+                redisNodeDescription.getUri().getPort())));
+    }
+
+    private int getQueueSize(StatefulRedisConnection<K, V> connection) {
+        ReadFrom.NodeStatistics statistics = getNodeStatistics(connection);
+        return statistics == null ? 0 : statistics.getQueueSize();
+    }
+
+    private static ReadFrom.NodeStatistics getNodeStatistics(StatefulRedisConnection<?, ?> connection) {
+
+        if (connection instanceof RedisChannelHandler
+                && ((RedisChannelHandler<?, ?>) connection).getChannelWriter() instanceof ReadFrom.NodeStatistics) {
+            return (ReadFrom.NodeStatistics) ((RedisChannelHandler<?, ?>) connection).getChannelWriter();
+        }
+
+        return null;
+    }
+
     /**
      *
      * @return number of connections.
@@ -31,4 +31,19 @@ public interface CommandLatencyCollector extends MetricCollector<Map<CommandLate
     void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
             long firstResponseLatency, long completionLatency);
 
+    /**
+     * Obtain a {@link CommandLatencyRecorder} that records latencies per {@code connectionPoint} and {@code commandType}. The
+     * returned recorder can be cached by the caller for the lifetime of the connection. The default implementation delegates
+     * to {@link #recordCommandLatency(SocketAddress, SocketAddress, ProtocolKeyword, long, long)}.
+     *
+     * @param local the local address
+     * @param remote the remote address
+     * @param commandType the command type
+     * @return the {@link CommandLatencyRecorder}
+     * @since 4.2
+     */
+    default CommandLatencyRecorder getRecorder(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
+        return (firstResponseLatency, completionLatency) -> recordCommandLatency(local, remote, commandType,
+                firstResponseLatency, completionLatency);
+    }
 }
@@ -0,0 +1,23 @@
+package com.lambdaworks.redis.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-resolved handle to record command latencies for a single {@link CommandLatencyId}. Handles are obtained from
+ * {@link CommandLatencyCollector#getRecorder(java.net.SocketAddress, java.net.SocketAddress, com.lambdaworks.redis.protocol.ProtocolKeyword)}
+ * once and can be cached by the caller so recording a latency does not need to create and look up an identifier.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+@FunctionalInterface
+public interface CommandLatencyRecorder {
+
+    /**
+     * Record the command latency.
+     *
+     * @param firstResponseLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the first response
+     * @param completionLatency latency value in {@link TimeUnit#NANOSECONDS} from send to the command completion
+     */
+    void recordCommandLatency(long firstResponseLatency, long completionLatency);
+}
@@ -0,0 +1,177 @@
+package com.lambdaworks.redis.metrics;
+
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection metrics. Provides the queue depth of a connection at the time the metrics were retrieved and the traffic, flush,
+ * decoding, reconnect and redirect counts of the interval since the previous retrieval.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class ConnectionMetrics {
+
+    private final SocketAddress localAddress;
+    private final SocketAddress remoteAddress;
+    private final int queueSize;
+    private final int bufferSize;
+    private final long bytesWritten;
+    private final long bytesRead;
+    private final long flushes;
+    private final long commandsWritten;
+    private final long replies;
+    private final long decodeTime;
+    private final long reconnects;
+    private final long redirects;
+
+    public ConnectionMetrics(SocketAddress localAddress, SocketAddress remoteAddress, int queueSize, int bufferSize,
+            long bytesWritten, long bytesRead, long flushes, long commandsWritten, long replies, long decodeTime,
+            long reconnects, long redirects) {
+        this.localAddress = localAddress;
+        this.remoteAddress = remoteAddress;
+        this.queueSize = queueSize;
+        this.bufferSize = bufferSize;
+        this.bytesWritten = bytesWritten;
+        this.bytesRead = bytesRead;
+        this.flushes = flushes;
+        this.commandsWritten = commandsWritten;
+        this.replies = replies;
+        this.decodeTime = decodeTime;
+        this.reconnects = reconnects;
+        this.redirects = redirects;
+    }
+
+    /**
+     *
+     * @return the local address
+     */
+    public SocketAddress getLocalAddress() {
+        return localAddress;
+    }
+
+    /**
+     *
+     * @return the remote address, may be {@literal null} if the connection was never connected
+     */
+    public SocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    /**
+     *
+     * @return number of commands written to the transport that await their response
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     *
+     * @return number of commands buffered by the client that are not yet written to the transport
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     *
+     * @return number of bytes written
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     *
+     * @return number of bytes read
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     *
+     * @return number of flushes
+     */
+    public long getFlushes() {
+        return flushes;
+    }
+
+    /**
+     *
+     * @return number of commands written
+     */
+    public long getCommandsWritten() {
+        return commandsWritten;
+    }
+
+    /**
+     *
+     * @return average number of commands per flush, {@literal 0} if there was no flush
+     */
+    public double getCommandsPerFlush() {
+        return flushes == 0 ? 0 : (double) commandsWritten / flushes;
+    }
+
+    /**
+     *
+     * @return number of decoded replies
+     */
+    public long getReplies() {
+        return replies;
+    }
+
+    /**
+     *
+     * @param timeUnit the target time unit
+     * @return total time spent decoding replies
+     */
+    public long getDecodeTime(TimeUnit timeUnit) {
+        return timeUnit.convert(decodeTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     *
+     * @param timeUnit the target time unit
+     * @return average time spent decoding a reply, {@literal 0} if no reply was decoded
+     */
+    public long getAverageDecodeTime(TimeUnit timeUnit) {
+        return replies == 0 ? 0 : timeUnit.convert(decodeTime / replies, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     *
+     * @return number of successful reconnects
+     */
+    public long getReconnects() {
+        return reconnects;
+    }
+
+    /**
+     *
+     * @return number of commands redirected (MOVED/ASK) to this connection
+     */
+    public long getRedirects() {
+        return redirects;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuffer sb = new StringBuffer();
+        sb.append("[local=").append(localAddress);
+        sb.append(", remote=").append(remoteAddress);
+        sb.append(", queueSize=").append(queueSize);
+        sb.append(", bufferSize=").append(bufferSize);
+        sb.append(", bytesWritten=").append(bytesWritten);
+        sb.append(", bytesRead=").append(bytesRead);
+        sb.append(", flushes=").append(flushes);
+        sb.append(", commandsWritten=").append(commandsWritten);
+        sb.append(", replies=").append(replies);
+        sb.append(", decodeTimeNanos=").append(decodeTime);
+        sb.append(", reconnects=").append(reconnects);
+        sb.append(", redirects=").append(redirects);
+        sb.append(']');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.lambdaworks.redis.metrics;
+
+import java.util.List;
+
+/**
+ * {@link MetricCollector} for connection metrics. Connections {@link #register(ConnectionMetricsRecorder) register} a
+ * {@link ConnectionMetricsRecorder} that provides queue depth, traffic, flush, decoding, reconnect and redirect metrics. Use
+ * connection metrics together with {@link CommandLatencyCollector command latencies} to tell whether latency originates from
+ * the server, the network or client-side queueing.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public interface ConnectionMetricsCollector extends MetricCollector<List<ConnectionMetrics>> {
+
+    /**
+     * Register a {@link ConnectionMetricsRecorder}. The recorder is reported until it is
+     * {@link ConnectionMetricsRecorder#close() closed}.
+     *
+     * @param recorder the recorder, must not be {@literal null}
+     */
+    void register(ConnectionMetricsRecorder recorder);
+}
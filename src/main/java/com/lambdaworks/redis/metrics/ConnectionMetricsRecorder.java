@@ -0,0 +1,157 @@
+package com.lambdaworks.redis.metrics;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import io.netty.channel.local.LocalAddress;
+
+/**
+ * Records metrics of a single connection. A recorder is created per connection, {@link ConnectionMetricsCollector#register
+ * registered} with a {@link ConnectionMetricsCollector} and updated by the components that handle the connection. Counters
+ * may be updated from any thread.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class ConnectionMetricsRecorder {
+
+    private final IntSupplier queueSize;
+    private final IntSupplier bufferSize;
+
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder commandsWritten = new LongAdder();
+    private final LongAdder replies = new LongAdder();
+    private final LongAdder decodeTime = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+    private final LongAdder redirects = new LongAdder();
+
+    // counter values at the previous snapshot, guarded by this
+    private final long[] previous = new long[8];
+
+    private volatile SocketAddress localAddress = LocalAddress.ANY;
+    private volatile SocketAddress remoteAddress;
+    private volatile boolean closed;
+
+    /**
+     * Create a new {@link ConnectionMetricsRecorder}.
+     *
+     * @param queueSize supplier for the number of commands awaiting their response, must not be {@literal null}
+     * @param bufferSize supplier for the number of commands not yet written to the transport, must not be {@literal null}
+     */
+    public ConnectionMetricsRecorder(IntSupplier queueSize, IntSupplier bufferSize) {
+
+        checkArgument(queueSize != null, "queueSize must not be null");
+        checkArgument(bufferSize != null, "bufferSize must not be null");
+
+        this.queueSize = queueSize;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Set the addresses of the current transport.
+     *
+     * @param localAddress the local address, may be {@literal null}
+     * @param remoteAddress the remote address, may be {@literal null}
+     */
+    public void setEndpoints(SocketAddress localAddress, SocketAddress remoteAddress) {
+        this.localAddress = localAddress != null ? localAddress : LocalAddress.ANY;
+        this.remoteAddress = remoteAddress;
+    }
+
+    /**
+     * Record written bytes.
+     *
+     * @param bytes number of bytes
+     */
+    public void recordBytesWritten(long bytes) {
+        bytesWritten.add(bytes);
+    }
+
+    /**
+     * Record read bytes.
+     *
+     * @param bytes number of bytes
+     */
+    public void recordBytesRead(long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    /**
+     * Record a flush.
+     *
+     * @param commands number of commands written since the previous flush
+     */
+    public void recordFlush(int commands) {
+        flushes.increment();
+        commandsWritten.add(commands);
+    }
+
+    /**
+     * Record time spent decoding.
+     *
+     * @param nanos time in {@link TimeUnit#NANOSECONDS}
+     * @param replies number of replies that were completed
+     */
+    public void recordDecode(long nanos, int replies) {
+        decodeTime.add(nanos);
+        if (replies != 0) {
+            this.replies.add(replies);
+        }
+    }
+
+    /**
+     * Record a successful reconnect.
+     */
+    public void recordReconnect() {
+        reconnects.increment();
+    }
+
+    /**
+     * Record a command that was redirected (MOVED/ASK) to this connection.
+     */
+    public void recordRedirect() {
+        redirects.increment();
+    }
+
+    /**
+     * Mark the connection as closed. A {@link ConnectionMetricsCollector} reports a closed connection one more time and drops it
+     * afterwards.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     *
+     * @return {@literal true} if the connection is closed.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Take a snapshot. Counters cover the interval since the previous snapshot.
+     *
+     * @return the {@link ConnectionMetrics}.
+     */
+    public synchronized ConnectionMetrics snapshot() {
+
+        return new ConnectionMetrics(localAddress, remoteAddress, queueSize.getAsInt(), bufferSize.getAsInt(),
+                delta(0, bytesWritten), delta(1, bytesRead), delta(2, flushes), delta(3, commandsWritten), delta(4, replies),
+                delta(5, decodeTime), delta(6, reconnects), delta(7, redirects));
+    }
+
+    private long delta(int index, LongAdder adder) {
+
+        long value = adder.sum();
+        long delta = value - previous[index];
+        previous[index] = value;
+        return delta;
+    }
+}
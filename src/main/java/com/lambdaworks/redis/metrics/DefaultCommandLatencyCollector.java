@@ -3,7 +3,9 @@ package com.lambdaworks.redis.metrics;
 import java.net.SocketAddress;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.lambdaworks.redis.protocol.CommandType;
 import org.HdrHistogram.Histogram;
@@ -18,6 +20,19 @@ import io.netty.channel.local.LocalAddress;
 
 /**
  * Default implementation of a {@link CommandLatencyCollector} for command latencies.
+ *
+ * <p>
+ * Latencies of each {@link CommandLatencyId} are recorded into striped {@link LatencyStats} so threads (event loops) sharing
+ * the same id do not contend on one histogram. Stripes are created lazily and their interval histograms are merged when
+ * {@link #retrieveMetrics() retrieving metrics}. {@link #getRecorder(SocketAddress, SocketAddress, ProtocolKeyword)} returns
+ * a handle that records without creating a {@link CommandLatencyId} or looking it up.
+ * </p>
+ *
+ * <p>
+ * Retrieving metrics swaps the interval histograms of each stripe, so latencies are reset in place and cached handles keep
+ * recording into their stripes. With {@link CommandLatencyCollectorOptions#resetLatenciesAfterEvent()} enabled, latencies
+ * without samples in the retrieved interval are removed.
+ * </p>
  * 
  * @author Mark Paluch
  */
@@ -29,8 +44,16 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
     private static final long MIN_LATENCY = 1000;
     private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(5);
 
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    private static final CommandLatencyRecorder NO_OP_RECORDER = new CommandLatencyRecorder() {
+        @Override
+        public void recordCommandLatency(long firstResponseLatency, long completionLatency) {
+        }
+    };
+
     private final CommandLatencyCollectorOptions options;
-    private Map<CommandLatencyId, Latencies> latencyMetrics = Maps.newConcurrentMap();
+    private volatile ConcurrentMap<CommandLatencyId, Latencies> latencyMetrics = Maps.newConcurrentMap();
 
     public DefaultCommandLatencyCollector(CommandLatencyCollectorOptions options) {
         this.options = options;
@@ -51,16 +74,40 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             return;
         }
 
-        CommandLatencyId id = createId(local, remote, commandType);
+        Latencies latencies = getLatencies(createId(local, remote, commandType));
+        if (latencies != null) {
+            latencies.recordCommandLatency(firstResponseLatency, completionLatency);
+        }
+    }
+
+    @Override
+    public CommandLatencyRecorder getRecorder(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
+
+        if (!isEnabled()) {
+            return NO_OP_RECORDER;
+        }
+
+        Latencies latencies = getLatencies(createId(local, remote, commandType));
+        return latencies != null ? latencies : NO_OP_RECORDER;
+    }
+
+    private Latencies getLatencies(CommandLatencyId id) {
+
+        ConcurrentMap<CommandLatencyId, Latencies> latencyMetrics = this.latencyMetrics;
+        if (latencyMetrics == null) {
+            return null;
+        }
+
         Latencies latencies = latencyMetrics.get(id);
         if (latencies == null) {
-            latencies = new Latencies();
-            latencyMetrics.put(id, latencies);
+            latencies = new Latencies(id);
+            Latencies existing = latencyMetrics.putIfAbsent(id, latencies);
+            if (existing != null) {
+                latencies = existing;
+            }
         }
 
-        latencies.firstResponse.recordLatency(rangify(firstResponseLatency));
-        latencies.completion.recordLatency(rangify(completionLatency));
-
+        return latencies;
     }
 
     private CommandLatencyId createId(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
@@ -78,21 +125,39 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
     @Override
     public void shutdown() {
+
+        Map<CommandLatencyId, Latencies> latencyMetrics = this.latencyMetrics;
         if (latencyMetrics != null) {
+            this.latencyMetrics = null;
+            for (Latencies latencies : latencyMetrics.values()) {
+                latencies.retired = true;
+            }
             latencyMetrics.clear();
-            latencyMetrics = null;
         }
     }
 
     @Override
     public Map<CommandLatencyId, CommandMetrics> retrieveMetrics() {
+
+        Map<CommandLatencyId, Latencies> latencyMetrics = this.latencyMetrics;
+        if (latencyMetrics == null) {
+            return Maps.newTreeMap();
+        }
+
         Map<CommandLatencyId, Latencies> copy = Maps.newHashMap();
         copy.putAll(latencyMetrics);
+
+        Map<CommandLatencyId, CommandMetrics> latencies = getMetrics(copy);
+
         if (options.resetLatenciesAfterEvent()) {
-            latencyMetrics.clear();
+            for (Map.Entry<CommandLatencyId, Latencies> entry : copy.entrySet()) {
+                if (!latencies.containsKey(entry.getKey())) {
+                    latencyMetrics.remove(entry.getKey(), entry.getValue());
+                    entry.getValue().retired = true;
+                }
+            }
         }
 
-        Map<CommandLatencyId, CommandMetrics> latencies = getMetrics(copy);
         return latencies;
     }
 
@@ -100,10 +165,11 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         Map<CommandLatencyId, CommandMetrics> latencies = Maps.newTreeMap();
 
         for (Map.Entry<CommandLatencyId, Latencies> entry : latencyMetrics.entrySet()) {
-            Histogram firstResponse = entry.getValue().firstResponse.getIntervalHistogram();
-            Histogram completion = entry.getValue().completion.getIntervalHistogram();
+            Histogram firstResponse = entry.getValue().getFirstResponseHistogram();
+            Histogram completion = entry.getValue().getCompletionHistogram();
 
-            if (firstResponse.getTotalCount() == 0 && completion.getTotalCount() == 0) {
+            if (firstResponse == null || completion == null
+                    || (firstResponse.getTotalCount() == 0 && completion.getTotalCount() == 0)) {
                 continue;
             }
 
@@ -137,9 +203,101 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         return percentiles;
     }
 
-    private static class Latencies {
+    private static int stripes(int processors) {
+
+        int stripes = 1;
+        while (stripes < processors && stripes < 16) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    /**
+     * Striped latencies of a {@link CommandLatencyId}. Serves as {@link CommandLatencyRecorder} handle.
+     */
+    private class Latencies implements CommandLatencyRecorder {
+
+        private final CommandLatencyId id;
+        private final AtomicReferenceArray<Stripe> stripes = new AtomicReferenceArray<>(STRIPES);
+
+        /**
+         * Set once idle latencies were removed by a metrics reset. Recording is forwarded to the current entry of {@link #id}.
+         */
+        private volatile boolean retired;
+
+        Latencies(CommandLatencyId id) {
+            this.id = id;
+        }
+
+        @Override
+        public void recordCommandLatency(long firstResponseLatency, long completionLatency) {
+
+            if (retired) {
+                Latencies latencies = isEnabled() ? getLatencies(id) : null;
+                if (latencies != null) {
+                    latencies.recordCommandLatency(firstResponseLatency, completionLatency);
+                }
+                return;
+            }
+
+            Stripe stripe = getStripe();
+            stripe.firstResponse.recordLatency(rangify(firstResponseLatency));
+            stripe.completion.recordLatency(rangify(completionLatency));
+        }
+
+        private Stripe getStripe() {
+
+            int index = (int) Thread.currentThread().getId() & (STRIPES - 1);
+            Stripe stripe = stripes.get(index);
+
+            if (stripe == null) {
+                stripe = new Stripe();
+                if (!stripes.compareAndSet(index, null, stripe)) {
+                    stripe = stripes.get(index);
+                }
+            }
+
+            return stripe;
+        }
+
+        Histogram getFirstResponseHistogram() {
+
+            Histogram histogram = null;
+            for (int i = 0; i < stripes.length(); i++) {
+                Stripe stripe = stripes.get(i);
+                if (stripe != null) {
+                    histogram = merge(histogram, stripe.firstResponse.getIntervalHistogram());
+                }
+            }
+            return histogram;
+        }
+
+        Histogram getCompletionHistogram() {
+
+            Histogram histogram = null;
+            for (int i = 0; i < stripes.length(); i++) {
+                Stripe stripe = stripes.get(i);
+                if (stripe != null) {
+                    histogram = merge(histogram, stripe.completion.getIntervalHistogram());
+                }
+            }
+            return histogram;
+        }
+
+        private Histogram merge(Histogram target, Histogram histogram) {
+
+            if (target == null) {
+                return histogram;
+            }
+
+            target.add(histogram);
+            return target;
+        }
+    }
+
+    private static class Stripe {
 
-        public LatencyStats firstResponse = LatencyStats.Builder.create().pauseDetector(PAUSE_DETECTOR).build();
-        public LatencyStats completion = LatencyStats.Builder.create().pauseDetector(PAUSE_DETECTOR).build();
+        public final LatencyStats firstResponse = LatencyStats.Builder.create().pauseDetector(PAUSE_DETECTOR).build();
+        public final LatencyStats completion = LatencyStats.Builder.create().pauseDetector(PAUSE_DETECTOR).build();
     }
 }
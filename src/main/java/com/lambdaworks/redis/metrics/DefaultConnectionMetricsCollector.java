@@ -0,0 +1,93 @@
+package com.lambdaworks.redis.metrics;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default implementation of a {@link ConnectionMetricsCollector}. Retrieving metrics takes a
+ * {@link ConnectionMetricsRecorder#snapshot() snapshot} of every registered connection and drops closed connections after
+ * their last snapshot.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class DefaultConnectionMetricsCollector implements ConnectionMetricsCollector {
+
+    private final boolean enabled;
+    private volatile Set<ConnectionMetricsRecorder> recorders = Collections
+            .newSetFromMap(new ConcurrentHashMap<ConnectionMetricsRecorder, Boolean>());
+
+    public DefaultConnectionMetricsCollector(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void register(ConnectionMetricsRecorder recorder) {
+
+        checkArgument(recorder != null, "recorder must not be null");
+
+        Set<ConnectionMetricsRecorder> recorders = this.recorders;
+        if (isEnabled() && recorders != null) {
+            recorders.add(recorder);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled && recorders != null;
+    }
+
+    @Override
+    public void shutdown() {
+
+        Set<ConnectionMetricsRecorder> recorders = this.recorders;
+        if (recorders != null) {
+            this.recorders = null;
+            recorders.clear();
+        }
+    }
+
+    @Override
+    public List<ConnectionMetrics> retrieveMetrics() {
+
+        Set<ConnectionMetricsRecorder> recorders = this.recorders;
+        if (recorders == null) {
+            return Collections.emptyList();
+        }
+
+        List<ConnectionMetrics> metrics = new ArrayList<>(recorders.size());
+        for (ConnectionMetricsRecorder recorder : recorders) {
+
+            if (recorder.isClosed()) {
+                recorders.remove(recorder);
+            }
+
+            metrics.add(recorder.snapshot());
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Create a new enabled {@link DefaultConnectionMetricsCollector}.
+     *
+     * @return a new instance of {@link DefaultConnectionMetricsCollector}.
+     */
+    public static DefaultConnectionMetricsCollector create() {
+        return new DefaultConnectionMetricsCollector(true);
+    }
+
+    /**
+     * Create a new disabled {@link DefaultConnectionMetricsCollector}.
+     *
+     * @return a new disabled instance of {@link DefaultConnectionMetricsCollector}.
+     */
+    public static DefaultConnectionMetricsCollector disabled() {
+        return new DefaultConnectionMetricsCollector(false);
+    }
+}
@@ -6,6 +6,8 @@ import java.nio.ByteBuffer;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Byte array output.
  * 
@@ -25,4 +27,12 @@ public class ByteArrayOutput<K, V> extends CommandOutput<K, V, byte[]> {
             bytes.get(output);
         }
     }
+
+    @Override
+    public void setSlice(ByteBuf bytes) {
+        if (bytes != null) {
+            output = new byte[bytes.readableBytes()];
+            bytes.getBytes(bytes.readerIndex(), output);
+        }
+    }
 }
@@ -6,8 +6,11 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import java.nio.ByteBuffer;
 
+import com.lambdaworks.redis.codec.ByteBufDecoder;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Abstract representation of the output of a redis command.
  * 
@@ -53,6 +56,18 @@ public abstract class CommandOutput<K, V, T> {
         throw new IllegalStateException();
     }
 
+    /**
+     * Set the command output to a sequence of bytes backed by a {@link ByteBuf}, or null. This method is called instead of
+     * {@link #set(ByteBuffer)} when {@link com.lambdaworks.redis.ClientOptions#isZeroCopyDecoding() zero-copy decoding} is
+     * enabled. The buffer is a slice of the connection read buffer and is only valid during the invocation. The default
+     * implementation passes a {@link ByteBuffer} view of {@code bytes} to {@link #set(ByteBuffer)}.
+     *
+     * @param bytes The command output, or null.
+     */
+    public void setSlice(ByteBuf bytes) {
+        set(bytes == null ? null : bytes.nioBuffer());
+    }
+
     /**
      * Set the command output to a 64-bit signed integer. Concrete {@link CommandOutput} implementations must override this
      * method unless they only receive a byte array value.
@@ -109,6 +124,38 @@ public abstract class CommandOutput<K, V, T> {
         // nothing to do by default
     }
 
+    /**
+     * Decode a key from {@code bytes} using {@link ByteBufDecoder} if the codec supports it.
+     *
+     * @param bytes raw bytes of the key, must not be {@literal null}.
+     * @return the decoded key.
+     */
+    @SuppressWarnings("unchecked")
+    protected K decodeKey(ByteBuf bytes) {
+
+        if (codec instanceof ByteBufDecoder && ((ByteBufDecoder<K, V>) codec).isDirectDecodingEnabled()) {
+            return ((ByteBufDecoder<K, V>) codec).decodeKey(bytes);
+        }
+
+        return codec.decodeKey(bytes.nioBuffer());
+    }
+
+    /**
+     * Decode a value from {@code bytes} using {@link ByteBufDecoder} if the codec supports it.
+     *
+     * @param bytes raw bytes of the value, must not be {@literal null}.
+     * @return the decoded value.
+     */
+    @SuppressWarnings("unchecked")
+    protected V decodeValue(ByteBuf bytes) {
+
+        if (codec instanceof ByteBufDecoder && ((ByteBufDecoder<K, V>) codec).isDirectDecodingEnabled()) {
+            return ((ByteBufDecoder<K, V>) codec).decodeValue(bytes);
+        }
+
+        return codec.decodeValue(bytes.nioBuffer());
+    }
+
     protected String decodeAscii(ByteBuffer bytes) {
         if(bytes == null) {
             return null;
@@ -10,6 +10,8 @@ import java.util.List;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link List} of keys output.
  *
@@ -32,6 +34,11 @@ public class KeyListOutput<K, V> extends CommandOutput<K, V, List<K>> implements
         subscriber.onNext(codec.decodeKey(bytes));
     }
 
+    @Override
+    public void setSlice(ByteBuf bytes) {
+        subscriber.onNext(decodeKey(bytes));
+    }
+
     @Override
     public void setSubscriber(Subscriber<K> subscriber) {
         checkArgument(subscriber != null, "subscriber must not be null");
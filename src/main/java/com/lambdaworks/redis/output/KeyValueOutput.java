@@ -7,6 +7,8 @@ import com.lambdaworks.redis.codec.RedisCodec;
 
 import java.nio.ByteBuffer;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Key-value pair output.
  *
@@ -33,4 +35,16 @@ public class KeyValueOutput<K, V> extends CommandOutput<K, V, KeyValue<K, V>> {
             }
         }
     }
+
+    @Override
+    public void setSlice(ByteBuf bytes) {
+        if (bytes != null) {
+            if (key == null) {
+                key = decodeKey(bytes);
+            } else {
+                V value = decodeValue(bytes);
+                output = new KeyValue<K, V>(key, value);
+            }
+        }
+    }
 }
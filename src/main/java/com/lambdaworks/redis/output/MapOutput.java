@@ -8,6 +8,8 @@ import java.util.Map;
 import com.google.common.collect.Maps;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link Map} of keys and values output.
  *
@@ -35,6 +37,18 @@ public class MapOutput<K, V> extends CommandOutput<K, V, Map<K, V>> {
         key = null;
     }
 
+    @Override
+    public void setSlice(ByteBuf bytes) {
+        if (key == null) {
+            key = decodeKey(bytes);
+            return;
+        }
+
+        V value = (bytes == null) ? null : decodeValue(bytes);
+        output.put(key, value);
+        key = null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void set(long integer) {
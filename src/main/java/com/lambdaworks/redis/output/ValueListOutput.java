@@ -10,6 +10,8 @@ import java.util.List;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link List} of values output.
  *
@@ -32,6 +34,11 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
         subscriber.onNext(bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    public void setSlice(ByteBuf bytes) {
+        subscriber.onNext(bytes == null ? null : decodeValue(bytes));
+    }
+
     @Override
     public void setSubscriber(Subscriber<V> subscriber) {
         checkArgument(subscriber != null, "subscriber must not be null");
@@ -8,6 +8,8 @@ import java.util.Set;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link Set} of value output.
  * 
@@ -25,4 +27,9 @@ public class ValueSetOutput<K, V> extends CommandOutput<K, V, Set<V>> {
     public void set(ByteBuffer bytes) {
         output.add(bytes == null ? null : codec.decodeValue(bytes));
     }
+
+    @Override
+    public void setSlice(ByteBuf bytes) {
+        output.add(bytes == null ? null : decodeValue(bytes));
+    }
 }
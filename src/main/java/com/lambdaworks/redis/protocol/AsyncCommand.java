@@ -5,6 +5,7 @@ import static com.google.common.base.Preconditions.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import com.lambdaworks.redis.RedisCommandExecutionException;
@@ -153,6 +154,11 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T> implements Redis
         thenAccept(action);
     }
 
+    @Override
+    public void onComplete(BiConsumer<? super T, Throwable> action) {
+        whenComplete(action);
+    }
+
 	@Override
 	public RedisCommand<K, V, T> getDelegate() {
 		return command;
@@ -11,6 +11,7 @@ import java.util.Map;
 
 import com.lambdaworks.redis.codec.ByteArrayCodec;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.ToByteBufEncoder;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.UnpooledByteBufAllocator;
@@ -197,17 +198,47 @@ public class CommandArgs<K, V> {
         }
     }
 
+    /**
+     * Estimate the number of bytes required to encode all arguments. The estimate is used to size the target buffer once
+     * before encoding. Arguments encoded through a {@link RedisCodec} that does not implement {@link ToByteBufEncoder}
+     * contribute only a nominal size.
+     *
+     * @return the estimated encoded size in bytes.
+     */
+    int estimateSize() {
+
+        int size = 0;
+        for (SingularArgument singularArgument : singularArguments) {
+            size += singularArgument.estimateSize();
+        }
+        return size;
+    }
+
     /**
      * Single argument wrapper that can be encoded.
      */
     static abstract class SingularArgument {
 
+        /**
+         * Bulk string overhead: {@code $}, up to ten length digits and two {@code CRLF}.
+         */
+        static final int BULK_OVERHEAD = 15;
+
         /**
          * Encode the argument and write it to the {@code buffer}.
          * 
          * @param buffer
          */
         abstract void encode(ByteBuf buffer);
+
+        /**
+         * Estimate the encoded size of the argument including its bulk string header.
+         *
+         * @return the estimated size in bytes.
+         */
+        int estimateSize() {
+            return BULK_OVERHEAD + 16;
+        }
     }
 
     static class BytesArgument extends SingularArgument {
@@ -222,6 +253,11 @@ public class CommandArgs<K, V> {
             writeBytes(buffer, val);
         }
 
+        @Override
+        int estimateSize() {
+            return BULK_OVERHEAD + val.length;
+        }
+
         static void writeBytes(ByteBuf buffer, byte[] value) {
 
             buffer.writeByte('$');
@@ -248,6 +284,61 @@ public class CommandArgs<K, V> {
         }
     }
 
+    static class ToByteBufEncoderArgument {
+
+        /**
+         * Returns whether {@code codec} encodes keys and values through {@link ToByteBufEncoder}.
+         *
+         * @param codec the codec
+         * @return {@literal true} if the codec supports direct encoding.
+         */
+        static boolean isDirectEncoder(RedisCodec<?, ?> codec) {
+            return codec instanceof ToByteBufEncoder && ((ToByteBufEncoder<?, ?>) codec).isDirectEncodingEnabled();
+        }
+
+        @SuppressWarnings("unchecked")
+        static <K, V> void writeKeyOrValue(ByteBuf target, ToByteBufEncoder<K, V> encoder, Object keyOrValue, boolean key) {
+
+            int size = encoder.estimateSize(keyOrValue);
+
+            if (encoder.isEstimateExact()) {
+
+                target.writeByte('$');
+                IntegerArgument.writeInteger(target, size);
+                target.writeBytes(CRLF);
+
+                if (key) {
+                    encoder.encodeKey((K) keyOrValue, target);
+                } else {
+                    encoder.encodeValue((V) keyOrValue, target);
+                }
+
+                target.writeBytes(CRLF);
+                return;
+            }
+
+            ByteBuf temporaryBuffer = target.alloc().heapBuffer(size);
+
+            try {
+
+                if (key) {
+                    encoder.encodeKey((K) keyOrValue, temporaryBuffer);
+                } else {
+                    encoder.encodeValue((V) keyOrValue, temporaryBuffer);
+                }
+
+                target.writeByte('$');
+                IntegerArgument.writeInteger(target, temporaryBuffer.readableBytes());
+                target.writeBytes(CRLF);
+
+                target.writeBytes(temporaryBuffer);
+                target.writeBytes(CRLF);
+            } finally {
+                temporaryBuffer.release();
+            }
+        }
+    }
+
     static class IntegerArgument extends SingularArgument {
 
         private final long val;
@@ -261,6 +352,11 @@ public class CommandArgs<K, V> {
             StringArgument.writeString(target, Long.toString(val));
         }
 
+        @Override
+        int estimateSize() {
+            return BULK_OVERHEAD + 20;
+        }
+
         static void writeInteger(ByteBuf target, long value) {
 
             if (value < 10) {
@@ -288,6 +384,11 @@ public class CommandArgs<K, V> {
         void encode(ByteBuf target) {
             StringArgument.writeString(target, Double.toString(val));
         }
+
+        @Override
+        int estimateSize() {
+            return BULK_OVERHEAD + 24;
+        }
     }
 
     static class StringArgument extends SingularArgument {
@@ -303,6 +404,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int estimateSize() {
+            return BULK_OVERHEAD + val.length();
+        }
+
         static void writeString(ByteBuf target, String value) {
 
             target.writeByte('$');
@@ -328,14 +434,27 @@ public class CommandArgs<K, V> {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         void encode(ByteBuf target) {
 
-            if (codec == ExperimentalByteArrayCodec.INSTANCE) {
-                ((ExperimentalByteArrayCodec) codec).encodeKey(target, (byte[]) val);
+            if (ToByteBufEncoderArgument.isDirectEncoder(codec)) {
+                ToByteBufEncoderArgument.writeKeyOrValue(target, (ToByteBufEncoder<K, V>) codec, val, true);
                 return;
             }
+
             ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(val));
         }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int estimateSize() {
+
+            if (ToByteBufEncoderArgument.isDirectEncoder(codec)) {
+                return BULK_OVERHEAD + ((ToByteBufEncoder<K, V>) codec).estimateSize(val);
+            }
+
+            return super.estimateSize();
+        }
     }
 
     static class ValueArgument<K, V> extends SingularArgument {
@@ -349,20 +468,36 @@ public class CommandArgs<K, V> {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         void encode(ByteBuf target) {
 
-            if (codec == ExperimentalByteArrayCodec.INSTANCE) {
-                ((ExperimentalByteArrayCodec) codec).encodeValue(target, (byte[]) val);
+            if (ToByteBufEncoderArgument.isDirectEncoder(codec)) {
+                ToByteBufEncoderArgument.writeKeyOrValue(target, (ToByteBufEncoder<K, V>) codec, val, false);
                 return;
             }
 
             ByteBufferArgument.writeByteBuffer(target, codec.encodeValue(val));
         }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int estimateSize() {
+
+            if (ToByteBufEncoderArgument.isDirectEncoder(codec)) {
+                return BULK_OVERHEAD + ((ToByteBufEncoder<K, V>) codec).estimateSize(val);
+            }
+
+            return super.estimateSize();
+        }
     }
 
     /**
      * This codec writes directly {@code byte[]} to the target buffer.
+     *
+     * @deprecated since 4.2, {@link ByteArrayCodec} implements {@link ToByteBufEncoder} and writes directly to the target
+     *             buffer.
      */
+    @Deprecated
     public final static class ExperimentalByteArrayCodec extends ByteArrayCodec {
 
         public final static ExperimentalByteArrayCodec INSTANCE = new ExperimentalByteArrayCodec();
@@ -371,6 +506,16 @@ public class CommandArgs<K, V> {
 
         }
 
+        @Override
+        public boolean isDirectEncodingEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isDirectDecodingEnabled() {
+            return true;
+        }
+
         public void encodeKey(ByteBuf target, byte[] key) {
             target.writeBytes(key);
         }
@@ -5,6 +5,8 @@ package com.lambdaworks.redis.protocol;
 import java.nio.charset.Charset;
 import java.util.Collection;
 
+import com.lambdaworks.redis.metrics.ConnectionMetricsRecorder;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
@@ -23,6 +25,11 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(CommandEncoder.class);
 
+    /**
+     * Array header and command type of a single command.
+     */
+    private static final int COMMAND_OVERHEAD = 32;
+
     /**
      * If TRACE level logging has been enabled at startup.
      */
@@ -33,39 +40,75 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
      */
     private final boolean debugEnabled;
 
+    /**
+     * Records written bytes, may be {@literal null}.
+     */
+    private final ConnectionMetricsRecorder metrics;
+
     public CommandEncoder() {
         this(true);
     }
 
     public CommandEncoder(boolean preferDirect) {
+        this(preferDirect, null);
+    }
+
+    /**
+     * @param metrics recorder for written bytes, may be {@literal null}
+     * @since 4.2
+     */
+    public CommandEncoder(ConnectionMetricsRecorder metrics) {
+        this(true, metrics);
+    }
+
+    private CommandEncoder(boolean preferDirect, ConnectionMetricsRecorder metrics) {
         super(preferDirect);
+        this.metrics = metrics;
         traceEnabled = logger.isTraceEnabled();
         debugEnabled = logger.isDebugEnabled();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) throws Exception {
 
-        if (msg instanceof Collection) {
+        int initialCapacity = 0;
+
+        if (msg instanceof RedisCommand) {
+            initialCapacity = estimateSize((RedisCommand<?, ?, ?>) msg);
+        }
 
-            if (preferDirect) {
-                return ctx.alloc().ioBuffer(((Collection) msg).size() * 16);
-            } else {
-                return ctx.alloc().heapBuffer(((Collection) msg).size() * 16);
+        if (msg instanceof Collection) {
+            for (RedisCommand<?, ?, ?> command : (Collection<RedisCommand<?, ?, ?>>) msg) {
+                initialCapacity += estimateSize(command);
             }
         }
 
         if (preferDirect) {
-            return ctx.alloc().ioBuffer();
+            return ctx.alloc().ioBuffer(initialCapacity);
         } else {
-            return ctx.alloc().heapBuffer();
+            return ctx.alloc().heapBuffer(initialCapacity);
         }
     }
 
+    /**
+     * Estimate the encoded size of {@code command} so the target buffer can be allocated once.
+     *
+     * @param command the command.
+     * @return the estimated size in bytes.
+     */
+    static int estimateSize(RedisCommand<?, ?, ?> command) {
+
+        CommandArgs<?, ?> args = command.getArgs();
+        return COMMAND_OVERHEAD + (args != null ? args.estimateSize() : 0);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
 
+        int start = out.writerIndex();
+
         if (msg instanceof RedisCommand) {
             RedisCommand<?, ?, ?> command = (RedisCommand<?, ?, ?>) msg;
             encode(ctx, out, command);
@@ -80,6 +123,10 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
                 encode(ctx, out, command);
             }
         }
+
+        if (metrics != null) {
+            metrics.recordBytesWritten(out.writerIndex() - start);
+        }
     }
 
     private void encode(ChannelHandlerContext ctx, ByteBuf out, RedisCommand<?, ?, ?> command) {
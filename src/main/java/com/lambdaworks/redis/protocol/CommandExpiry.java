@@ -0,0 +1,77 @@
+package com.lambdaworks.redis.protocol;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.RedisCommandTimeoutException;
+import com.lambdaworks.redis.TimeoutOptions;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+
+/**
+ * Schedules command timeouts on a shared {@link Timer}. A command that does not complete within its timeout is completed
+ * exceptionally with a {@link RedisCommandTimeoutException}. The timeout is cancelled as soon as the command completes so the
+ * timer does not retain completed commands.
+ * <p>
+ * A timed out command remains in the command queue of its connection until the response arrives to keep the protocol in
+ * sync. Commands within a {@literal MULTI} transaction are not scheduled, they complete with {@literal EXEC}.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class CommandExpiry {
+
+    private final Timer timer;
+    private final TimeoutOptions timeoutOptions;
+
+    /**
+     * Create a new {@link CommandExpiry}.
+     *
+     * @param timer the timer to schedule timeouts on, must not be {@literal null}
+     * @param timeoutOptions the timeout options, must not be {@literal null}
+     */
+    public CommandExpiry(Timer timer, TimeoutOptions timeoutOptions) {
+
+        checkArgument(timer != null, "timer must not be null");
+        checkArgument(timeoutOptions != null, "timeoutOptions must not be null");
+
+        this.timer = timer;
+        this.timeoutOptions = timeoutOptions;
+    }
+
+    /**
+     * Schedule the timeout for {@code command}. Commands that cannot notify about their completion, commands within a
+     * transaction, completed commands and commands without a timeout are not scheduled.
+     *
+     * @param command the command
+     * @param connectionTimeout the connection timeout
+     * @param connectionTimeoutUnit the unit of {@code connectionTimeout}
+     * @param <T> result type
+     * @return {@literal true} if a timeout was scheduled for {@code command}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> boolean schedule(RedisCommand<?, ?, T> command, long connectionTimeout, TimeUnit connectionTimeoutUnit) {
+
+        if (!(command instanceof CompleteableCommand) || command instanceof TransactionalCommand || command.isDone()) {
+            return false;
+        }
+
+        long timeoutNanos = timeoutOptions.getTimeoutNanos(command.getType(), connectionTimeout, connectionTimeoutUnit);
+        if (timeoutNanos <= 0) {
+            return false;
+        }
+
+        Timeout timeout = timer.newTimeout(t -> {
+            if (!command.isDone()) {
+                command.completeExceptionally(new RedisCommandTimeoutException("Command timed out after "
+                        + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms: " + command.getType().name()));
+            }
+        }, timeoutNanos, TimeUnit.NANOSECONDS);
+
+        ((CompleteableCommand<T>) command).onComplete((result, throwable) -> timeout.cancel());
+        return true;
+    }
+}
@@ -9,11 +9,17 @@ import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
 import java.nio.charset.Charset;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.lambdaworks.redis.*;
+import com.lambdaworks.redis.metrics.CommandLatencyCollector;
+import com.lambdaworks.redis.metrics.CommandLatencyRecorder;
+import com.lambdaworks.redis.metrics.ConnectionMetricsCollector;
+import com.lambdaworks.redis.metrics.ConnectionMetricsRecorder;
 import com.lambdaworks.redis.resource.ClientResources;
 import com.lambdaworks.redis.support.Factories;
 
@@ -29,17 +35,37 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
 /**
  * A netty {@link ChannelHandler} responsible for writing redis commands and reading responses from the server.
  *
+ * <p>
+ * Application threads do not write to the channel themselves. {@link #write(RedisCommand)} appends commands to a
+ * multi-producer/single-consumer {@link #commandBuffer command buffer} that is drained on the event loop, which writes all
+ * pending commands and flushes once. Writes do not acquire locks; the buffer is only locked by its consumers (the draining
+ * event loop, {@link #reset()} and {@link #close()}).
+ * </p>
+ *
+ * <p>
+ * With {@link ClientOptions#isFlushConsolidation() flush consolidation} enabled, commands are written without flushing and a
+ * single flush is scheduled for the current event loop turn. Commands issued from the event loop itself (e.g. from response
+ * callbacks) and commands drained by subsequent writes then share one flush until the configured command count or byte
+ * limit forces an earlier flush.
+ * </p>
+ *
  * @param <K> Key type.
  * @param <V> Value type.
  * @author Will Glozer
  * @author Mark Paluch
  */
 @ChannelHandler.Sharable
-public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisChannelWriter<K, V> {
+public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisChannelWriter<K, V>, ReadFrom.NodeStatistics {
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(CommandHandler.class);
     private static final WriteLogListener WRITE_LOG_LISTENER = new WriteLogListener();
 
+    // time constant of the latency average, a sample weighs 50% after this time
+    private static final long LATENCY_DECAY_NS = TimeUnit.SECONDS.toNanos(1);
+    // the latency average is considered outdated after this time without samples
+    private static final long LATENCY_EXPIRY_NS = TimeUnit.SECONDS.toNanos(5);
+    private static final int MAX_COUNTED_QUEUE_SIZE = 128;
+
     /**
      * When we encounter an unexpected IOException we look for these {@link Throwable#getMessage() messages} (because we have no
      * better way to distinguish) and log them at DEBUG rather than WARN, since they are generally caused by unclean client
@@ -51,14 +77,94 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     protected final ClientOptions clientOptions;
     protected final ClientResources clientResources;
     protected final Queue<RedisCommand<K, V, ?>> queue;
-    protected final AtomicLong writers = new AtomicLong();
-    protected final Object stateLock = new Object();
 
-    // all access to the commandBuffer is synchronized
-    protected final Queue<RedisCommand<K, V, ?>> commandBuffer = Factories.newConcurrentQueue();
+    // written by any thread, consumed only while holding drainLock
+    protected final Queue<RedisCommand<K, V, ?>> commandBuffer = Factories.newMpscQueue();
+    private final AtomicInteger commandBufferSize = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Object drainLock = new Object();
+    private final Runnable drainTask = new Runnable() {
+        @Override
+        public void run() {
+
+            drainScheduled.set(false);
+
+            // the channel may have been replaced by a reconnect on another event loop since scheduling
+            Channel channel = CommandHandler.this.channel;
+            if (channel != null && isActive()) {
+                scheduleWrite(channel);
+            }
+        }
+    };
+
+    // flush consolidation state, confined to the event loop of the current channel and reset when the channel becomes
+    // active or inactive
+    private final boolean flushConsolidation;
+    private int pendingFlushCommands;
+    private long pendingFlushBytes;
+    private boolean flushScheduled;
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+
+            Channel channel = CommandHandler.this.channel;
+            if (channel == null || !channel.eventLoop().inEventLoop()) {
+                // scheduled for a previous channel, its flush state was reset on channelInactive
+                return;
+            }
+
+            flushScheduled = false;
+
+            if (pendingFlushCommands > 0) {
+                flush(channel);
+            }
+        }
+    };
+
+    // backpressure state of streaming outputs, readsPaused is confined to the event loop of the current channel and reset
+    // when the channel becomes active or inactive
+    private boolean readsPaused;
+    private final AtomicBoolean resumeScheduled = new AtomicBoolean();
+    private final Runnable resumeDecodingTask = new Runnable() {
+        @Override
+        public void run() {
+
+            resumeScheduled.set(false);
+
+            Channel channel = CommandHandler.this.channel;
+            if (channel != null && channel.eventLoop().inEventLoop() && readsPaused) {
+                resumeDecoding(channel.pipeline().context(CommandHandler.this));
+            }
+        }
+    };
+    private final DemandAware.Source demandSource = new DemandAware.Source() {
+        @Override
+        public void requestMore() {
+
+            Channel channel = CommandHandler.this.channel;
+            if (channel != null && resumeScheduled.compareAndSet(false, true)) {
+                channel.eventLoop().execute(resumeDecodingTask);
+            }
+        }
+    };
+
+    // moving average of the command latency, written on the event loop
+    private volatile long latencyAverage = -1;
+    private volatile long latencyAverageUpdated;
+
+    // latency recorders per command type, confined to the event loop of the current channel and reset when the channel
+    // becomes active
+    private Channel latencyRecorderChannel;
+    private CommandLatencyRecorder[] latencyRecorders;
+
+    // null if connection metrics are disabled
+    private final ConnectionMetricsCollector connectionMetricsCollector;
+    private final ConnectionMetricsRecorder metrics;
+    private volatile boolean metricsRegistered;
+
     protected ByteBuf buffer;
     protected RedisStateMachine<K, V> rsm;
-    protected Channel channel;
+    protected volatile Channel channel;
 
     // If TRACE level logging has been enabled at startup.
     private final boolean traceEnabled;
@@ -68,11 +174,10 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     private final Reliability reliability;
 
     private volatile LifecycleState lifecycleState = LifecycleState.NOT_CONNECTED;
-    private Thread exclusiveLockOwner;
     private RedisChannelHandler<K, V> redisChannelHandler;
-    private Throwable connectionError;
+    private volatile Throwable connectionError;
     private String logPrefix;
-    private boolean autoFlushCommands = true;
+    private volatile boolean autoFlushCommands = true;
 
     /**
      * Initialize a new instance that handles commands from the supplied queue.
@@ -93,6 +198,16 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         this.traceEnabled = logger.isTraceEnabled();
         this.debugEnabled = logger.isDebugEnabled();
         this.reliability = clientOptions.isAutoReconnect() ? Reliability.AT_LEAST_ONCE : Reliability.AT_MOST_ONCE;
+        this.flushConsolidation = clientOptions.isFlushConsolidation();
+
+        ConnectionMetricsCollector connectionMetricsCollector = clientResources.connectionMetricsCollector();
+        if (connectionMetricsCollector != null && connectionMetricsCollector.isEnabled()) {
+            this.connectionMetricsCollector = connectionMetricsCollector;
+            this.metrics = new ConnectionMetricsRecorder(queue::size, commandBufferSize::get);
+        } else {
+            this.connectionMetricsCollector = null;
+            this.metrics = null;
+        }
     }
 
     /**
@@ -103,11 +218,8 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         setState(LifecycleState.REGISTERED);
         buffer = ctx.alloc().directBuffer(8192 * 8);
-        rsm = new RedisStateMachine<K, V>();
-
-        synchronized (stateLock) {
-            channel = ctx.channel();
-        }
+        rsm = new RedisStateMachine<K, V>(clientOptions.isZeroCopyDecoding());
+        channel = ctx.channel();
     }
 
     @Override
@@ -119,9 +231,8 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         if (lifecycleState == LifecycleState.CLOSED) {
             cancelCommands("Connection closed");
         }
-        synchronized (stateLock) {
-            channel = null;
-        }
+
+        channel = null;
     }
 
     /**
@@ -136,6 +247,10 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             return;
         }
 
+        if (metrics != null) {
+            metrics.recordBytesRead(input.readableBytes());
+        }
+
         try {
             buffer.writeBytes(input);
 
@@ -160,21 +275,35 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             }
 
             WithLatency withLatency = null;
+            RedisCommand<K, V, ?> unwrappedCommand = CommandWrapper.unwrap(command);
 
-            if (clientResources.commandLatencyCollector().isEnabled()) {
-                RedisCommand<K, V, ?> unwrappedCommand = CommandWrapper.unwrap(command);
-                if (unwrappedCommand instanceof WithLatency) {
-                    withLatency = (WithLatency) unwrappedCommand;
-                    if (withLatency.getFirstResponse() == -1) {
-                        withLatency.firstResponse(nanoTime());
-                    }
+            if (unwrappedCommand instanceof WithLatency) {
+                withLatency = (WithLatency) unwrappedCommand;
+                if (withLatency.getFirstResponse() == -1 && clientResources.commandLatencyCollector().isEnabled()) {
+                    withLatency.firstResponse(nanoTime());
                 }
             }
 
+            long decodeStart = metrics != null ? nanoTime() : 0;
+
             if (!rsm.decode(buffer, command, command.getOutput())) {
+                if (metrics != null) {
+                    metrics.recordDecode(nanoTime() - decodeStart, 0);
+                }
+
+                DemandAware.Sink demand = RedisStateMachine.getDemandAwareSink(command.getOutput());
+                if (demand != null && !demand.hasDemand()) {
+                    pauseReads(ctx, demand);
+                } else {
+                    resumeReads(ctx);
+                }
                 return;
             }
 
+            if (metrics != null) {
+                metrics.recordDecode(nanoTime() - decodeStart, 1);
+            }
+
             command = queue.poll();
             recordLatency(withLatency, command.getType());
 
@@ -184,19 +313,161 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 buffer.discardReadBytes();
             }
         }
+
+        resumeReads(ctx);
+    }
+
+    /**
+     * Stop reading from the channel because the {@link DemandAware.Sink} of the command that is currently decoded has no
+     * demand. Bytes that were already read remain in the buffer until the sink signals demand.
+     *
+     * @param ctx the channel handler context
+     * @param demand the sink without demand
+     */
+    private void pauseReads(ChannelHandlerContext ctx, DemandAware.Sink demand) {
+
+        if (!readsPaused) {
+
+            if (debugEnabled) {
+                logger.debug("{} Pausing reads, no demand for streamed elements", logPrefix());
+            }
+
+            readsPaused = true;
+            ctx.channel().config().setAutoRead(false);
+        }
+
+        demand.setSource(demandSource);
+
+        // demand may have been signalled before the source was set
+        if (demand.hasDemand()) {
+            demandSource.requestMore();
+        }
+    }
+
+    private void resumeReads(ChannelHandlerContext ctx) {
+
+        if (readsPaused) {
+
+            if (debugEnabled) {
+                logger.debug("{} Resuming reads", logPrefix());
+            }
+
+            readsPaused = false;
+            ctx.channel().config().setAutoRead(true);
+        }
+    }
+
+    private void resumeDecoding(ChannelHandlerContext ctx) {
+
+        if (ctx == null || buffer == null || buffer.refCnt() == 0) {
+            return;
+        }
+
+        try {
+            decode(ctx, buffer);
+        } catch (Exception e) {
+            ctx.fireExceptionCaught(e);
+        }
     }
 
     private void recordLatency(WithLatency withLatency, ProtocolKeyword commandType) {
 
-        if (withLatency != null && clientResources.commandLatencyCollector().isEnabled() && channel != null
-                && remote() != null) {
+        if (withLatency == null || withLatency.getSent() == -1) {
+            return;
+        }
+
+        long now = nanoTime();
+        long completionLatency = now - withLatency.getSent();
+
+        updateLatencyAverage(now, completionLatency);
+
+        if (clientResources.commandLatencyCollector().isEnabled() && channel != null && remote() != null) {
+
+            long firstResponseLatency = now - withLatency.getFirstResponse();
+            getLatencyRecorder(commandType).recordCommandLatency(firstResponseLatency, completionLatency);
+        }
+    }
+
+    /**
+     * Update the moving average of the command latency. Samples above the average are applied immediately so latency peaks
+     * are visible without delay. Lower samples are weighted by the time since the previous sample, the average decays to
+     * lower latencies within a few {@link #LATENCY_DECAY_NS decay periods} regardless of the command rate.
+     */
+    private void updateLatencyAverage(long now, long latency) {
+
+        long average = latencyAverage;
+
+        if (average < 0 || latency >= average || now - latencyAverageUpdated > LATENCY_EXPIRY_NS) {
+            latencyAverage = latency;
+        } else {
+            double weight = (double) (now - latencyAverageUpdated) / (now - latencyAverageUpdated + LATENCY_DECAY_NS);
+            latencyAverage = average + (long) ((latency - average) * weight);
+        }
+
+        latencyAverageUpdated = now;
+    }
+
+    /**
+     * Returns the moving average of the command completion latency of this connection.
+     *
+     * @return the average latency in {@link TimeUnit#NANOSECONDS} or {@literal -1} if no command completed within the last
+     *         seconds.
+     * @since 4.2
+     */
+    @Override
+    public long getAverageLatency() {
+
+        long average = latencyAverage;
+        if (average < 0 || nanoTime() - latencyAverageUpdated > LATENCY_EXPIRY_NS) {
+            return -1;
+        }
+
+        return average;
+    }
+
+    /**
+     * Returns the number of commands awaiting their response or buffered for writing. Counting stops at
+     * {@value #MAX_COUNTED_QUEUE_SIZE} commands.
+     *
+     * @return number of outstanding commands.
+     * @since 4.2
+     */
+    @Override
+    public int getQueueSize() {
 
-            long firstResponseLatency = nanoTime() - withLatency.getFirstResponse();
-            long completionLatency = nanoTime() - withLatency.getSent();
+        int size = commandBufferSize.get();
+        for (Iterator<?> iterator = queue.iterator(); size < MAX_COUNTED_QUEUE_SIZE && iterator.hasNext(); iterator.next()) {
+            size++;
+        }
+
+        return Math.min(size, MAX_COUNTED_QUEUE_SIZE);
+    }
+
+    /**
+     * Resolve the {@link CommandLatencyRecorder} for {@code commandType}. Recorders for {@link CommandType command types} are
+     * cached per channel so recording does not allocate a {@link com.lambdaworks.redis.metrics.CommandLatencyId}.
+     */
+    private CommandLatencyRecorder getLatencyRecorder(ProtocolKeyword commandType) {
+
+        CommandLatencyCollector collector = clientResources.commandLatencyCollector();
+        if (!(commandType instanceof CommandType)) {
+            return collector.getRecorder(local(), remote(), commandType);
+        }
 
-            clientResources.commandLatencyCollector().recordCommandLatency(local(), remote(), commandType, firstResponseLatency,
-                    completionLatency);
+        Channel channel = this.channel;
+        if (latencyRecorderChannel != channel) {
+            latencyRecorders = new CommandLatencyRecorder[CommandType.values().length];
+            latencyRecorderChannel = channel;
         }
+
+        int index = ((CommandType) commandType).ordinal();
+        CommandLatencyRecorder recorder = latencyRecorders[index];
+        if (recorder == null) {
+            recorder = collector.getRecorder(local(), remote(), commandType);
+            latencyRecorders[index] = recorder;
+        }
+
+        return recorder;
     }
 
     private SocketAddress remote() {
@@ -215,54 +486,127 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         checkArgument(command != null, "command must not be null");
 
-        if (lifecycleState == LifecycleState.CLOSED) {
-            throw new RedisException("Connection is closed");
-        }
+        Channel channel = this.channel;
+        validateWrite(channel, 1);
 
-        if (clientOptions.getRequestQueueSize() != Integer.MAX_VALUE
-                && commandBuffer.size() + queue.size() >= clientOptions.getRequestQueueSize()) {
-            throw new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
-                    + ". Commands are not accepted until the queue size drops.");
+        if (autoFlushCommands) {
+
+            if (channel != null && isActive() && channel.isActive()) {
+                writeToChannel(command, channel);
+            } else if (isActivationWrite(channel)) {
+                writeCommand(channel, command);
+            } else if (isActivating()) {
+                bufferCommand(command);
+                scheduleWriteIfActivated();
+            } else {
+                writeToBuffer(command);
+            }
+
+        } else {
+            bufferCommand(command);
         }
 
-        if ((channel == null || !isConnected()) && isRejectCommand()) {
-            throw new RedisException("Currently not connected. Commands are rejected.");
+        if (debugEnabled) {
+            logger.debug("{} write() done", logPrefix());
         }
 
-        try {
-            incrementWriters();
+        return command;
+    }
 
-            /**
-             * This lock causes safety for connection activation and somehow netty gets more stable and predictable performance
-             * than without a lock and all threads are hammering towards writeAndFlush.
-             */
-            Channel channel = this.channel;
-            if (autoFlushCommands) {
+    /**
+     * Write multiple commands. The commands are buffered together and written and flushed to the channel as one batch.
+     *
+     * @param commands the commands
+     * @return the written commands
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
 
-                if (channel != null && isConnected() && channel.isActive()) {
-                    writeToChannel(command, channel);
-                } else {
-                    writeToBuffer(command);
-                }
+        checkArgument(commands != null, "commands must not be null");
 
-            } else {
+        Channel channel = this.channel;
+        validateWrite(channel, commands.size());
+
+        if (autoFlushCommands && channel != null && isActive() && channel.isActive()) {
+
+            if (debugEnabled) {
+                logger.debug("{} write() enqueue {} command(s)", logPrefix(), commands.size());
+            }
+
+            for (RedisCommand<K, V, ?> command : commands) {
                 bufferCommand(command);
             }
-        } finally {
-            decrementWriters();
-            if (debugEnabled) {
-                logger.debug("{} write() done", logPrefix());
+            scheduleWrite(channel);
+        } else if (autoFlushCommands && isActivationWrite(channel)) {
+            writeCommands(channel, new ArrayList<>(commands));
+        } else if (autoFlushCommands && isActivating()) {
+            for (RedisCommand<K, V, ?> command : commands) {
+                bufferCommand(command);
+            }
+            scheduleWriteIfActivated();
+        } else {
+            for (RedisCommand<K, V, ?> command : commands) {
+                if (autoFlushCommands) {
+                    writeToBuffer(command);
+                } else {
+                    bufferCommand(command);
+                }
             }
         }
 
-        return command;
+        return (Collection<RedisCommand<K, V, ?>>) commands;
     }
 
-    protected <C extends RedisCommand<K, V, T>, T> void writeToBuffer(C command) {
+    /**
+     * Commands issued by {@link RedisChannelHandler#activated()} (AUTH, SELECT, ...) run on the event loop while activating
+     * and are written directly so they precede the queued and buffered commands.
+     */
+    private boolean isActivationWrite(Channel channel) {
+        return lifecycleState == LifecycleState.ACTIVATING && channel != null && channel.eventLoop().inEventLoop();
+    }
 
-        if (commandBuffer.contains(command) || queue.contains(command)) {
-            return;
+    /**
+     * Commands written by other threads while the channel is connected but not yet activated remain buffered until the
+     * activation drains the buffer.
+     */
+    private boolean isActivating() {
+        return lifecycleState == LifecycleState.CONNECTED || lifecycleState == LifecycleState.ACTIVATING;
+    }
+
+    private boolean isActive() {
+        return lifecycleState == LifecycleState.ACTIVE;
+    }
+
+    /*
+     * The activation may have completed and drained the buffer before the command was buffered.
+     */
+    private void scheduleWriteIfActivated() {
+
+        Channel channel = this.channel;
+        if (channel != null && isActive()) {
+            scheduleWrite(channel);
+        }
+    }
+
+    private void validateWrite(Channel channel, int commands) {
+
+        if (lifecycleState == LifecycleState.CLOSED) {
+            throw new RedisException("Connection is closed");
+        }
+
+        if (clientOptions.getRequestQueueSize() != Integer.MAX_VALUE
+                && commandBufferSize.get() + queue.size() + commands > clientOptions.getRequestQueueSize()) {
+            throw new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
+                    + ". Commands are not accepted until the queue size drops.");
+        }
+
+        if ((channel == null || !isConnected()) && isRejectCommand()) {
+            throw new RedisException("Currently not connected. Commands are rejected.");
         }
+    }
+
+    protected <C extends RedisCommand<K, V, T>, T> void writeToBuffer(C command) {
 
         if (connectionError != null) {
             if (debugEnabled) {
@@ -279,18 +623,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     protected <C extends RedisCommand<K, V, T>, T> void writeToChannel(C command, Channel channel) {
 
         if (debugEnabled) {
-            logger.debug("{} write() writeAndFlush Command {}", logPrefix(), command);
+            logger.debug("{} write() enqueue Command {}", logPrefix(), command);
         }
 
-        if (reliability == Reliability.AT_MOST_ONCE) {
-            // cancel on exceptions and remove from queue, because there is no housekeeping
-            channel.writeAndFlush(command).addListener(new AtMostOnceWriteListener(command, queue));
-        }
-
-        if (reliability == Reliability.AT_LEAST_ONCE) {
-            // commands are ok to stay within the queue, reconnect will retrigger them
-            channel.writeAndFlush(command).addListener(WRITE_LOG_LISTENER);
-        }
+        bufferCommand(command);
+        scheduleWrite(channel);
     }
 
     protected void bufferCommand(RedisCommand<K, V, ?> command) {
@@ -299,68 +636,198 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             logger.debug("{} write() buffering Command {}", logPrefix(), command);
         }
 
+        commandBufferSize.incrementAndGet();
         commandBuffer.add(command);
     }
 
     /**
-     * Wait for stateLock and increment writers. Will wait if stateLock is locked and if writer counter is negative.
+     * Write the command buffer to the {@code channel}. Writes immediately if called on the event loop, otherwise schedules a
+     * write on the event loop unless one is already pending.
+     *
+     * @param channel the channel
      */
-    protected void incrementWriters() {
+    protected void scheduleWrite(Channel channel) {
+
+        EventLoop eventLoop = channel.eventLoop();
 
-        if (exclusiveLockOwner == Thread.currentThread()) {
+        if (eventLoop.inEventLoop()) {
+            writeCommandBuffer(channel);
             return;
         }
 
-        synchronized (stateLock) {
-            for (;;) {
-
-                if (writers.get() >= 0) {
-                    writers.incrementAndGet();
-                    return;
-                }
-            }
+        if (drainScheduled.compareAndSet(false, true)) {
+            eventLoop.execute(drainTask);
         }
     }
 
     /**
-     * Decrement writers without any wait.
+     * Drain the command buffer and write and flush the drained commands as one batch. Commands remain buffered if the
+     * {@code channel} is no longer active and are written once the next channel becomes active.
+     *
+     * @param channel the channel
      */
-    protected void decrementWriters() {
+    private void writeCommandBuffer(Channel channel) {
 
-        if (exclusiveLockOwner == Thread.currentThread()) {
-            return;
+        synchronized (drainLock) {
+
+            if (!channel.isActive()) {
+                return;
+            }
+
+            RedisCommand<K, V, ?> command = pollCommandBuffer();
+            if (command == null) {
+                return;
+            }
+
+            RedisCommand<K, V, ?> next = pollCommandBuffer();
+            if (next == null) {
+                writeCommand(channel, command);
+                return;
+            }
+
+            List<RedisCommand<K, V, ?>> commands = new ArrayList<>(Math.max(commandBufferSize.get() + 2, 16));
+            commands.add(command);
+            commands.add(next);
+            drainCommandBuffer(commands);
+
+            writeCommands(channel, commands);
+        }
+    }
+
+    private void writeCommand(Channel channel, RedisCommand<K, V, ?> command) {
+
+        if (debugEnabled) {
+            logger.debug("{} write() writeAndFlush Command {}", logPrefix(), command);
+        }
+
+        long bytes = flushConsolidation ? CommandEncoder.estimateSize(command) : 0;
+        ChannelFuture future = writeAndFlush(channel, command, 1, bytes);
+
+        if (reliability == Reliability.AT_MOST_ONCE) {
+            // cancel on exceptions and remove from queue, because there is no housekeeping
+            future.addListener(new AtMostOnceWriteListener(command, queue));
+        }
+
+        if (reliability == Reliability.AT_LEAST_ONCE) {
+            // commands are ok to stay within the queue, reconnect will retrigger them
+            future.addListener(WRITE_LOG_LISTENER);
         }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void writeCommands(Channel channel, List<RedisCommand<K, V, ?>> commands) {
 
-        writers.decrementAndGet();
+        if (debugEnabled) {
+            logger.debug("{} write() writeAndFlush {} command(s)", logPrefix(), commands.size());
+        }
+
+        long bytes = 0;
+        if (flushConsolidation) {
+            for (RedisCommand<K, V, ?> command : commands) {
+                bytes += CommandEncoder.estimateSize(command);
+            }
+        }
+
+        ChannelFuture future = writeAndFlush(channel, commands, commands.size(), bytes);
+
+        if (reliability == Reliability.AT_MOST_ONCE) {
+            // cancel on exceptions and remove from queue, because there is no housekeeping
+            future.addListener(new AtMostOnceWriteListener((Collection) commands, queue));
+        }
+
+        if (reliability == Reliability.AT_LEAST_ONCE) {
+            // commands are ok to stay within the queue, reconnect will retrigger them
+            future.addListener(WRITE_LOG_LISTENER);
+        }
     }
 
     /**
-     * Wait for stateLock and no writers. Must be used in an outer {@code synchronized} block to prevent interleaving with other
-     * methods using writers. Sets writers to a negative value to create a lock for {@link #incrementWriters()}.
+     * Write {@code msg} and flush the channel. With flush consolidation enabled, the flush is deferred to the end of the
+     * current event loop turn unless the pending commands reach the configured limits.
+     *
+     * @param channel the channel
+     * @param msg a command or a list of commands
+     * @param commands number of commands in {@code msg}
+     * @param bytes estimated size of {@code msg} in bytes
+     * @return the write future
      */
-    protected void lockWritersExclusive() {
+    private ChannelFuture writeAndFlush(Channel channel, Object msg, int commands, long bytes) {
 
-        if (exclusiveLockOwner == Thread.currentThread()) {
-            return;
+        EventLoop eventLoop = channel.eventLoop();
+        if (!flushConsolidation || !eventLoop.inEventLoop()) {
+            if (metrics != null) {
+                metrics.recordFlush(commands);
+            }
+            return channel.writeAndFlush(msg);
         }
 
-        synchronized (stateLock) {
-            for (;;) {
+        ChannelFuture future = channel.write(msg);
 
-                if (writers.compareAndSet(0, -1)) {
-                    exclusiveLockOwner = Thread.currentThread();
-                    return;
-                }
-            }
+        pendingFlushCommands += commands;
+        pendingFlushBytes += bytes;
+
+        if (pendingFlushCommands >= clientOptions.getFlushConsolidationMaxCommands()
+                || pendingFlushBytes >= clientOptions.getFlushConsolidationMaxBytes()) {
+            flush(channel);
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            eventLoop.execute(flushTask);
+        }
+
+        return future;
+    }
+
+    private void flush(Channel channel) {
+
+        if (debugEnabled) {
+            logger.debug("{} flush() {} command(s)", logPrefix(), pendingFlushCommands);
+        }
+
+        if (metrics != null) {
+            metrics.recordFlush(pendingFlushCommands);
+        }
+
+        pendingFlushCommands = 0;
+        pendingFlushBytes = 0;
+        channel.flush();
+    }
+
+    private void resetPendingFlush() {
+
+        pendingFlushCommands = 0;
+        pendingFlushBytes = 0;
+        flushScheduled = false;
+    }
+
+    private RedisCommand<K, V, ?> pollCommandBuffer() {
+
+        RedisCommand<K, V, ?> command = commandBuffer.poll();
+        if (command != null) {
+            commandBufferSize.decrementAndGet();
         }
+        return command;
     }
 
     /**
-     * Unlock writers.
+     * Remove all buffered commands that were not yet written to the channel.
+     *
+     * @return the buffered commands.
      */
-    protected void unlockWritersExclusive() {
-        exclusiveLockOwner = null;
-        writers.set(0);
+    protected List<RedisCommand<K, V, ?>> drainCommandBuffer() {
+
+        synchronized (drainLock) {
+            List<RedisCommand<K, V, ?>> commands = new ArrayList<>(commandBufferSize.get());
+            drainCommandBuffer(commands);
+            return commands;
+        }
+    }
+
+    private void drainCommandBuffer(Collection<RedisCommand<K, V, ?>> target) {
+
+        RedisCommand<K, V, ?> command;
+        while ((command = pollCommandBuffer()) != null) {
+            target.add(command);
+        }
     }
 
     private boolean isRejectCommand() {
@@ -392,37 +859,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     }
 
     @Override
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     public void flushCommands() {
 
-        if (channel != null && isConnected()) {
-            ArrayList<RedisCommand<K, V, ?>> queuedCommands;
-
-            synchronized (stateLock) {
-                try {
-                    lockWritersExclusive();
-
-                    if (commandBuffer.isEmpty()) {
-                        return;
-                    }
-
-                    queuedCommands = new ArrayList<>(commandBuffer.size());
-                    queuedCommands.addAll(commandBuffer);
-                    commandBuffer.removeAll(queuedCommands);
-                } finally {
-                    unlockWritersExclusive();
-                }
-            }
-
-            if (reliability == Reliability.AT_MOST_ONCE) {
-                // cancel on exceptions and remove from queue, because there is no housekeeping
-                channel.writeAndFlush(queuedCommands).addListener(new AtMostOnceWriteListener(queuedCommands, this.queue));
-            }
-
-            if (reliability == Reliability.AT_LEAST_ONCE) {
-                // commands are ok to stay within the queue, reconnect will retrigger them
-                channel.writeAndFlush(queuedCommands).addListener(WRITE_LOG_LISTENER);
-            }
+        Channel channel = this.channel;
+        if (channel != null && isActive()) {
+            scheduleWrite(channel);
         }
     }
 
@@ -434,21 +875,23 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     @SuppressWarnings("unchecked")
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
 
+        long now = nanoTime();
+
         if (msg instanceof Collection) {
             Collection<RedisCommand<K, V, ?>> commands = (Collection<RedisCommand<K, V, ?>>) msg;
             for (RedisCommand<K, V, ?> command : commands) {
-                queueCommand(promise, command);
+                queueCommand(promise, command, now);
             }
             ctx.write(commands, promise);
             return;
         }
 
         RedisCommand<K, V, ?> cmd = (RedisCommand<K, V, ?>) msg;
-        queueCommand(promise, cmd);
+        queueCommand(promise, cmd, now);
         ctx.write(cmd, promise);
     }
 
-    private void queueCommand(ChannelPromise promise, RedisCommand<K, V, ?> cmd) throws Exception {
+    private void queueCommand(ChannelPromise promise, RedisCommand<K, V, ?> cmd, long now) throws Exception {
 
         if (cmd.isCancelled()) {
             return;
@@ -461,6 +904,12 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 // fire&forget commands are excluded from metrics
                 cmd.complete();
             } else {
+
+                RedisCommand<K, V, ?> unwrapped = CommandWrapper.unwrap(cmd);
+                if (unwrapped instanceof WithLatency) {
+                    ((WithLatency) unwrapped).sent(now);
+                }
+
                 queue.add(cmd);
             }
         } catch (Exception e) {
@@ -485,6 +934,20 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         setStateIfNotClosed(LifecycleState.CONNECTED);
 
+        // the channel may be served by another event loop than the previous one, re-confine event loop state
+        resetPendingFlush();
+        readsPaused = false;
+        latencyRecorderChannel = null;
+        latencyRecorders = null;
+
+        if (metrics != null) {
+            metrics.setEndpoints(ctx.channel().localAddress(), ctx.channel().remoteAddress());
+            if (!metricsRegistered) {
+                metricsRegistered = true;
+                connectionMetricsCollector.register(metrics);
+            }
+        }
+
         try {
             executeQueuedCommands(ctx);
         } catch (Exception e) {
@@ -514,37 +977,51 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     protected void executeQueuedCommands(ChannelHandlerContext ctx) {
 
-        synchronized (stateLock) {
-            try {
-                lockWritersExclusive();
+        List<RedisCommand<K, V, ?>> queuedCommands;
 
-                connectionError = null;
+        synchronized (drainLock) {
 
-                commandBuffer.addAll(queue);
-                queue.removeAll(commandBuffer);
+            connectionError = null;
 
-                if (debugEnabled) {
-                    logger.debug("{} executeQueuedCommands {} command(s) queued", logPrefix(), commandBuffer.size());
-                }
+            // commands sent on the previous connection first, then commands buffered while disconnected
+            queuedCommands = new ArrayList<>(queue.size() + commandBufferSize.get());
+            queuedCommands.addAll(queue);
+            queue.clear();
+            drainCommandBuffer(queuedCommands);
 
-                synchronized (stateLock) {
-                    channel = ctx.channel();
-                }
+            channel = ctx.channel();
+        }
 
-                if (redisChannelHandler != null) {
-                    if (debugEnabled) {
-                        logger.debug("{} activating channel handler", logPrefix());
-                    }
-                    setStateIfNotClosed(LifecycleState.ACTIVATING);
-                    redisChannelHandler.activated();
-                }
-                setStateIfNotClosed(LifecycleState.ACTIVE);
-            } finally {
-                unlockWritersExclusive();
+        if (debugEnabled) {
+            logger.debug("{} executeQueuedCommands {} command(s) queued", logPrefix(), queuedCommands.size());
+        }
+
+        // commands issued during activation (AUTH, SELECT, ...) are written immediately and precede the queued commands,
+        // commands written by other threads meanwhile remain buffered until the queued commands are written
+        if (redisChannelHandler != null) {
+            if (debugEnabled) {
+                logger.debug("{} activating channel handler", logPrefix());
             }
+            setStateIfNotClosed(LifecycleState.ACTIVATING);
+            redisChannelHandler.activated();
         }
+        setStateIfNotClosed(LifecycleState.ACTIVE);
+
+        Channel channel = this.channel;
+        if (channel != null && isConnected()) {
+
+            if (!queuedCommands.isEmpty()) {
+                writeCommands(channel, queuedCommands);
+            }
 
-        flushCommands();
+            scheduleWrite(channel);
+        } else {
+            synchronized (drainLock) {
+                for (RedisCommand<K, V, ?> command : queuedCommands) {
+                    bufferCommand(command);
+                }
+            }
+        }
     }
 
     /**
@@ -571,6 +1048,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             buffer.clear();
         }
 
+        resetPendingFlush();
+        readsPaused = false;
+        latencyRecorderChannel = null;
+        latencyRecorders = null;
+
         if (debugEnabled) {
             logger.debug("{} channelInactive() done", logPrefix());
         }
@@ -584,9 +1066,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     }
 
     protected void setState(LifecycleState lifecycleState) {
-        synchronized (stateLock) {
-            this.lifecycleState = lifecycleState;
-        }
+        this.lifecycleState = lifecycleState;
     }
 
     protected LifecycleState getState() {
@@ -595,15 +1075,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     private void cancelCommands(String message) {
 
-        List<RedisCommand<K, V, ?>> toCancel;
-        synchronized (stateLock) {
-            try {
-                lockWritersExclusive();
-                toCancel = prepareReset();
-            } finally {
-                unlockWritersExclusive();
-            }
-        }
+        List<RedisCommand<K, V, ?>> toCancel = prepareReset();
 
         for (RedisCommand<K, V, ?> cmd : toCancel) {
             if (cmd.getOutput() != null) {
@@ -615,27 +1087,16 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     protected List<RedisCommand<K, V, ?>> prepareReset() {
 
-        int size = 0;
-        if (queue != null) {
-            size += queue.size();
-        }
-
-        if (commandBuffer != null) {
-            size += commandBuffer.size();
-        }
+        synchronized (drainLock) {
 
-        List<RedisCommand<K, V, ?>> toCancel = new ArrayList<>(size);
+            List<RedisCommand<K, V, ?>> toCancel = new ArrayList<>(queue.size() + commandBufferSize.get());
 
-        if (queue != null) {
             toCancel.addAll(queue);
             queue.clear();
-        }
 
-        if (commandBuffer != null) {
-            toCancel.addAll(commandBuffer);
-            commandBuffer.clear();
+            drainCommandBuffer(toCancel);
+            return toCancel;
         }
-        return toCancel;
     }
 
     @Override
@@ -685,6 +1146,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
 
         setStateIfNotClosed(LifecycleState.CLOSED);
+
+        if (metrics != null) {
+            metrics.close();
+        }
+
         Channel currentChannel = this.channel;
         if (currentChannel != null) {
             currentChannel.pipeline().fireUserEventTriggered(new ConnectionEvents.PrepareClose());
@@ -701,6 +1167,16 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         return lifecycleState == LifecycleState.CLOSED;
     }
 
+    /**
+     * Returns the {@link ConnectionMetricsRecorder} of this connection.
+     *
+     * @return the {@link ConnectionMetricsRecorder} or {@literal null} if connection metrics are disabled.
+     * @since 4.2
+     */
+    public ConnectionMetricsRecorder getMetricsRecorder() {
+        return metrics;
+    }
+
     /**
      * Reset the writer state. Queued commands will be canceled and the internal state will be reset. This is useful when the
      * internal state machine gets out of sync with the connection.
@@ -727,7 +1203,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         setState(LifecycleState.NOT_CONNECTED);
         queue.clear();
-        commandBuffer.clear();
+        drainCommandBuffer();
 
         Channel currentChannel = this.channel;
         if (currentChannel != null) {
@@ -744,9 +1220,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     @Override
     public void setAutoFlushCommands(boolean autoFlush) {
-        synchronized (stateLock) {
-            this.autoFlushCommands = autoFlush;
-        }
+        this.autoFlushCommands = autoFlush;
     }
 
     protected String logPrefix() {
@@ -1,9 +1,13 @@
 package com.lambdaworks.redis.protocol;
 
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import com.google.common.collect.Lists;
+import com.lambdaworks.redis.RedisCommandExecutionException;
 import com.lambdaworks.redis.output.CommandOutput;
 import io.netty.buffer.ByteBuf;
 
@@ -16,6 +20,8 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
 
     protected RedisCommand<K, V, T> command;
     private List<Consumer<? super T>> onComplete = Lists.newArrayList();
+    private List<BiConsumer<? super T, Throwable>> onCompleteOrError;
+    private final AtomicBoolean completedOrFailed = new AtomicBoolean();
 
     public CommandWrapper(RedisCommand<K, V, T> command) {
         this.command = command;
@@ -38,11 +44,18 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
                 consumer.accept(null);
             }
         }
+
+        if (getOutput() != null && getOutput().hasError()) {
+            notifyOnCompleteOrError(null, new RedisCommandExecutionException(getOutput().getError()));
+        } else {
+            notifyOnCompleteOrError(getOutput() != null ? getOutput().get() : null, null);
+        }
     }
 
     @Override
     public void cancel() {
         command.cancel();
+        notifyOnCompleteOrError(null, new CancellationException());
     }
 
     @Override
@@ -52,7 +65,9 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
 
     @Override
     public boolean completeExceptionally(Throwable throwable) {
-        return command.completeExceptionally(throwable);
+        boolean result = command.completeExceptionally(throwable);
+        notifyOnCompleteOrError(null, throwable);
+        return result;
     }
 
     @Override
@@ -80,6 +95,30 @@ public class CommandWrapper<K, V, T> implements RedisCommand<K, V, T>, Completea
         onComplete.add(action);
     }
 
+    @Override
+    public void onComplete(BiConsumer<? super T, Throwable> action) {
+
+        if (onCompleteOrError == null) {
+            onCompleteOrError = Lists.newArrayList();
+        }
+        onCompleteOrError.add(action);
+    }
+
+    /*
+     * Notify only on the first completion. A command that timed out remains in the queue and is completed again once its
+     * response arrives.
+     */
+    private void notifyOnCompleteOrError(T result, Throwable throwable) {
+
+        if (!completedOrFailed.compareAndSet(false, true) || onCompleteOrError == null) {
+            return;
+        }
+
+        for (BiConsumer<? super T, Throwable> consumer : onCompleteOrError) {
+            consumer.accept(result, throwable);
+        }
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
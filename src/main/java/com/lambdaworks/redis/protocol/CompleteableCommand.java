@@ -1,5 +1,6 @@
 package com.lambdaworks.redis.protocol;
 
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -7,6 +8,27 @@ import java.util.function.Consumer;
  */
 public interface CompleteableCommand<T> {
 
+    /**
+     * Register a command callback for successive command completion that notifies the callback with the command result.
+     *
+     * @param action must not be {@literal null}.
+     */
     void onComplete(Consumer<? super T> action);
 
+    /**
+     * Register a command callback for command completion that notifies the callback with the command result or the failure
+     * resulting from command completion. The callback is also notified if the command completes exceptionally or is
+     * cancelled.
+     * <p>
+     * The default implementation notifies the callback only on successful completion through
+     * {@link #onComplete(Consumer)}. Implementations should override this method to notify about failures as well.
+     * </p>
+     *
+     * @param action must not be {@literal null}.
+     * @since 4.2
+     */
+    default void onComplete(BiConsumer<? super T, Throwable> action) {
+        onComplete(result -> action.accept(result, null));
+    }
+
 }
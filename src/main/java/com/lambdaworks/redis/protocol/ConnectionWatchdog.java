@@ -53,6 +53,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
     private final Timer timer;
 
     private final Supplier<SocketAddress> socketAddressSupplier;
+    private final ReconnectionListener reconnectionListener;
     private SocketAddress remoteAddress;
     private int attempts;
     private long lastReconnectionLogging = -1;
@@ -75,16 +76,36 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
      */
     public ConnectionWatchdog(ClientOptions clientOptions, Bootstrap bootstrap, Timer timer,
             EventExecutorGroup reconnectWorkers, Supplier<SocketAddress> socketAddressSupplier) {
+        this(clientOptions, bootstrap, timer, reconnectWorkers, socketAddressSupplier, ReconnectionListener.NO_OP);
+    }
+
+    /**
+     * Create a new watchdog that adds to new connections to the supplied {@link ChannelGroup} and establishes a new
+     * {@link Channel} when disconnected, while reconnect is true. The socketAddressSupplier can supply the reconnect address.
+     *
+     * @param clientOptions client options for the current connection, must not be {@literal null}
+     * @param bootstrap Configuration for new channels, must not be {@literal null}
+     * @param timer Timer used for delayed reconnect, must not be {@literal null}
+     * @param reconnectWorkers executor group for reconnect tasks, must not be {@literal null}
+     * @param socketAddressSupplier the socket address supplier to obtain an address for reconnection, may be {@literal null}
+     * @param reconnectionListener the listener notified before each reconnection attempt, must not be {@literal null}
+     * @since 4.2
+     */
+    public ConnectionWatchdog(ClientOptions clientOptions, Bootstrap bootstrap, Timer timer,
+            EventExecutorGroup reconnectWorkers, Supplier<SocketAddress> socketAddressSupplier,
+            ReconnectionListener reconnectionListener) {
         checkArgument(clientOptions != null, "ClientOptions must not be null");
         checkArgument(bootstrap != null, "Bootstrap must not be null");
         checkArgument(timer != null, "Timer must not be null");
         checkArgument(reconnectWorkers != null, "reconnectWorkers must not be null");
+        checkArgument(reconnectionListener != null, "ReconnectionListener must not be null");
 
         this.clientOptions = clientOptions;
         this.bootstrap = bootstrap;
         this.timer = timer;
         this.reconnectWorkers = reconnectWorkers;
         this.socketAddressSupplier = socketAddressSupplier;
+        this.reconnectionListener = reconnectionListener;
     }
 
     @Override
@@ -200,6 +221,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
         }
 
         try {
+            reconnectionListener.onReconnect(attempts);
             reconnect(infoLevel, warnLevel);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -258,6 +280,10 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
                 timeLeft -= System.nanoTime() - start;
                 channelInitializer.channelInitialized().get(Math.max(0, timeLeft), TimeUnit.NANOSECONDS);
                 logger.log(infoLevel, "Reconnected to {}", remoteAddress);
+
+                if (commandHandler.getMetricsRecorder() != null) {
+                    commandHandler.getMetricsRecorder().recordReconnect();
+                }
             } catch (TimeoutException e) {
                 channelInitializer.channelInitialized().cancel(true);
             } catch (Exception e) {
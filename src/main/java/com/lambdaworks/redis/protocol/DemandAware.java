@@ -0,0 +1,44 @@
+package com.lambdaworks.redis.protocol;
+
+/**
+ * Interface to pace the decoding of streamed response elements against the demand of the receiving side. A
+ * {@link com.lambdaworks.redis.output.StreamingOutput.Subscriber} implementing {@link Sink} is asked before each element of a
+ * multi-bulk reply whether it accepts more elements. Decoding pauses and the connection stops reading from the channel as long
+ * as the {@link Sink} has no demand. The {@link Sink} resumes decoding through its {@link Source} once demand is signalled.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public interface DemandAware {
+
+    /**
+     * A demand-aware receiver of decoded elements.
+     */
+    interface Sink {
+
+        /**
+         * Check whether the sink accepts more elements. Called on the I/O thread.
+         *
+         * @return {@literal true} if the sink accepts more elements.
+         */
+        boolean hasDemand();
+
+        /**
+         * Set the {@link Source} that paused decoding because this sink had no demand. Called on the I/O thread.
+         *
+         * @param source the source to resume decoding
+         */
+        void setSource(Source source);
+    }
+
+    /**
+     * The decoding side that can be resumed once its {@link Sink} has demand.
+     */
+    interface Source {
+
+        /**
+         * Resume decoding. May be called from any thread. Calling this method while decoding is not paused has no effect.
+         */
+        void requestMore();
+    }
+}
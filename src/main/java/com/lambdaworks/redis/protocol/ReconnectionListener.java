@@ -0,0 +1,24 @@
+package com.lambdaworks.redis.protocol;
+
+/**
+ * Listener for reconnection attempts of a {@link ConnectionWatchdog}. This interface is part of the internal API.
+ *
+ * @author Mark Paluch
+ * @since 4.2
+ */
+@FunctionalInterface
+public interface ReconnectionListener {
+
+    /**
+     * Listener that does not react to reconnection attempts.
+     */
+    ReconnectionListener NO_OP = attempt -> {
+    };
+
+    /**
+     * Invoked before a reconnection attempt.
+     *
+     * @param attempt the number of the attempt since the connection was lost, starting at {@literal 1}
+     */
+    void onReconnect(int attempt);
+}
@@ -10,6 +10,7 @@ import java.util.Arrays;
 
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.output.CommandOutput;
+import com.lambdaworks.redis.output.StreamingOutput;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufProcessor;
@@ -45,6 +46,7 @@ public class RedisStateMachine<K, V> {
 
     // If DEBUG level logging has been enabled at startup.
     private final boolean debugEnabled;
+    private final boolean zeroCopyDecoding;
     private final ToLongProcessor toLongProcessor = new ToLongProcessor();
     private final ByteBuf responseElementBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(1024);
 
@@ -52,8 +54,19 @@ public class RedisStateMachine<K, V> {
      * Initialize a new instance.
      */
     public RedisStateMachine() {
+        this(false);
+    }
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param zeroCopyDecoding {@literal true} to pass bulk replies as slices of the input buffer to
+     *        {@link CommandOutput#setSlice(ByteBuf)} instead of copying them.
+     */
+    public RedisStateMachine(boolean zeroCopyDecoding) {
         stack = new State[32];
         debugEnabled = logger.isDebugEnabled();
+        this.zeroCopyDecoding = zeroCopyDecoding;
     }
 
     /**
@@ -92,6 +105,8 @@ public class RedisStateMachine<K, V> {
             return isEmpty(stack);
         }
 
+        DemandAware.Sink demand = getDemandAwareSink(output);
+
         loop:
 
         while (!isEmpty(stack)) {
@@ -157,11 +172,24 @@ public class RedisStateMachine<K, V> {
                         break;
                     }
 
+                    if (demand != null && !demand.hasDemand()) {
+                        break loop;
+                    }
+
                     state.count--;
                     addFirst(stack, new State());
 
                     continue loop;
                 case BYTES:
+                    if (zeroCopyDecoding) {
+                        ByteBuf slice;
+                        if ((slice = readSlice(buffer, state.count)) == null) {
+                            break loop;
+                        }
+                        safeSetSlice(output, slice, command);
+                        break;
+                    }
+
                     if ((bytes = readBytes(buffer, state.count)) == null) {
                         break loop;
                     }
@@ -184,6 +212,24 @@ public class RedisStateMachine<K, V> {
         return isEmpty(stack);
     }
 
+    /**
+     * Retrieve the {@link DemandAware.Sink} of a {@link StreamingOutput}.
+     *
+     * @param output the command output, may be {@literal null}
+     * @return the {@link DemandAware.Sink} or {@literal null} if {@code output} does not stream to a demand-aware subscriber.
+     */
+    static DemandAware.Sink getDemandAwareSink(CommandOutput<?, ?, ?> output) {
+
+        if (output instanceof StreamingOutput<?>) {
+            Object subscriber = ((StreamingOutput<?>) output).getSubscriber();
+            if (subscriber instanceof DemandAware.Sink) {
+                return (DemandAware.Sink) subscriber;
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Reset the state machine.
      */
@@ -282,6 +328,25 @@ public class RedisStateMachine<K, V> {
         return bytes;
     }
 
+    /**
+     * Read a bulk reply as retained slice of {@code buffer} without copying its content. The caller is responsible for
+     * releasing the slice.
+     *
+     * @param buffer
+     * @param count
+     * @return the retained slice or {@literal null} if the buffer does not contain the whole reply yet.
+     */
+    private ByteBuf readSlice(ByteBuf buffer, int count) {
+
+        ByteBuf slice = null;
+
+        if (buffer.readableBytes() >= count) {
+            slice = buffer.slice(buffer.readerIndex(), count - 2).retain();
+            buffer.skipBytes(count);
+        }
+        return slice;
+    }
+
     /**
      * Remove the head element from the stack.
      * 
@@ -378,6 +443,25 @@ public class RedisStateMachine<K, V> {
         }
     }
 
+    /**
+     * Safely sets {@link CommandOutput#setSlice(ByteBuf)}. Completes a command exceptionally in case an exception occurs.
+     * Releases {@code bytes} after the output was set.
+     *
+     * @param output
+     * @param bytes
+     * @param command
+     */
+    protected void safeSetSlice(CommandOutput<K, V, ?> output, ByteBuf bytes, RedisCommand<K, V, ?> command) {
+
+        try {
+            output.setSlice(bytes);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        } finally {
+            bytes.release();
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#multi(int)}. Completes a command exceptionally in case an exception occurs.
      * 
@@ -0,0 +1,67 @@
+package com.lambdaworks.redis.pubsub;
+
+import com.lambdaworks.redis.RedisSyncCommandsImpl;
+import com.lambdaworks.redis.pubsub.api.async.RedisPubSubAsyncCommands;
+import com.lambdaworks.redis.pubsub.api.sync.RedisPubSubCommands;
+
+/**
+ * A synchronous and thread-safe API for a Redis Pub/Sub connection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class RedisPubSubSyncCommandsImpl<K, V> extends RedisSyncCommandsImpl<K, V> implements RedisPubSubCommands<K, V> {
+
+    private final StatefulRedisPubSubConnection<K, V> connection;
+    private final RedisPubSubAsyncCommands<K, V> asyncCommands;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on
+     * @param asyncCommands the asynchronous API of {@code connection}
+     */
+    public RedisPubSubSyncCommandsImpl(StatefulRedisPubSubConnection<K, V> connection,
+            RedisPubSubAsyncCommands<K, V> asyncCommands) {
+        super(connection, asyncCommands);
+        this.connection = connection;
+        this.asyncCommands = asyncCommands;
+    }
+
+    @Override
+    public void addListener(RedisPubSubListener<K, V> listener) {
+        asyncCommands.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(RedisPubSubListener<K, V> listener) {
+        asyncCommands.removeListener(listener);
+    }
+
+    @Override
+    public void psubscribe(K... patterns) {
+        await(asyncCommands.psubscribe(patterns));
+    }
+
+    @Override
+    public void punsubscribe(K... patterns) {
+        await(asyncCommands.punsubscribe(patterns));
+    }
+
+    @Override
+    public void subscribe(K... channels) {
+        await(asyncCommands.subscribe(channels));
+    }
+
+    @Override
+    public void unsubscribe(K... channels) {
+        await(asyncCommands.unsubscribe(channels));
+    }
+
+    @Override
+    public StatefulRedisPubSubConnection<K, V> getStatefulConnection() {
+        return connection;
+    }
+}
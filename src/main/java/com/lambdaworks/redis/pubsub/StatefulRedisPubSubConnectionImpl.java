@@ -9,8 +9,6 @@ import java.util.concurrent.TimeUnit;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.lambdaworks.redis.RedisChannelWriter;
-import com.lambdaworks.redis.RedisClusterConnection;
-import com.lambdaworks.redis.RedisConnection;
 import com.lambdaworks.redis.RedisFuture;
 import com.lambdaworks.redis.StatefulRedisConnectionImpl;
 import com.lambdaworks.redis.codec.RedisCodec;
@@ -89,7 +87,7 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
     @Override
     public RedisPubSubCommands<K, V> sync() {
         if (sync == null) {
-            sync = syncHandler(async(), RedisConnection.class, RedisClusterConnection.class, RedisPubSubCommands.class);
+            sync = new RedisPubSubSyncCommandsImpl<>(this, async());
         }
 
         return sync;
@@ -2,10 +2,14 @@ package com.lambdaworks.redis.resource;
 
 import java.util.concurrent.TimeUnit;
 
+import com.lambdaworks.redis.event.DefaultEventPublisherOptions;
 import com.lambdaworks.redis.event.EventBus;
 import com.lambdaworks.redis.event.EventPublisherOptions;
 import com.lambdaworks.redis.metrics.CommandLatencyCollector;
+import com.lambdaworks.redis.metrics.ConnectionMetricsCollector;
+import com.lambdaworks.redis.metrics.DefaultConnectionMetricsCollector;
 
+import io.netty.util.Timer;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.Future;
 
@@ -104,4 +108,37 @@ public interface ClientResources {
      */
     CommandLatencyCollector commandLatencyCollector();
 
+    /**
+     * Returns the {@link EventPublisherOptions} for connection metrics event publishing. Defaults to
+     * {@link DefaultEventPublisherOptions#disabled() disabled} publishing.
+     *
+     * @return the {@link EventPublisherOptions} for connection metrics event publishing
+     * @since 4.2
+     */
+    default EventPublisherOptions connectionMetricsPublisherOptions() {
+        return DefaultEventPublisherOptions.disabled();
+    }
+
+    /**
+     * Returns the {@link ConnectionMetricsCollector}. Defaults to a {@link DefaultConnectionMetricsCollector#disabled()
+     * disabled} collector.
+     *
+     * @return the connection metrics collector
+     * @since 4.2
+     */
+    default ConnectionMetricsCollector connectionMetricsCollector() {
+        return DefaultConnectionMetricsCollector.disabled();
+    }
+
+    /**
+     * Returns the {@link Timer} to schedule timeouts such as command timeouts. The timer is shared by all connections using
+     * these client resources. Defaults to {@literal null}, connections do not schedule command timeouts without a timer.
+     *
+     * @return the timer, may be {@literal null}
+     * @since 4.2
+     */
+    default Timer timer() {
+        return null;
+    }
+
 }
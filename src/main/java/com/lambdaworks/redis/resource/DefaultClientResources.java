@@ -7,12 +7,12 @@ import java.util.concurrent.TimeUnit;
 import com.google.common.collect.Lists;
 import com.lambdaworks.redis.event.*;
 import com.lambdaworks.redis.event.metrics.DefaultCommandLatencyEventPublisher;
+import com.lambdaworks.redis.event.metrics.DefaultConnectionMetricsEventPublisher;
 import com.lambdaworks.redis.event.metrics.MetricEventPublisher;
-import com.lambdaworks.redis.metrics.CommandLatencyCollector;
-import com.lambdaworks.redis.metrics.CommandLatencyCollectorOptions;
-import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollector;
-import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollectorOptions;
+import com.lambdaworks.redis.metrics.*;
 
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
 import io.netty.util.concurrent.*;
 import io.netty.util.internal.SystemPropertyUtil;
 import io.netty.util.internal.logging.InternalLogger;
@@ -34,6 +34,9 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
  * <li>an {@code eventBus} which is a provided instance of {@link EventBus}.</li>
  * <li>a {@code commandLatencyCollector} which is a provided instance of
  * {@link com.lambdaworks.redis.metrics.CommandLatencyCollector}.</li>
+ * <li>a {@code connectionMetricsCollector} which is a provided instance of
+ * {@link com.lambdaworks.redis.metrics.ConnectionMetricsCollector}.</li>
+ * <li>a {@code timer} which is a provided instance of {@link Timer}.</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -46,6 +49,8 @@ public class DefaultClientResources implements ClientResources {
     public static final int MIN_IO_THREADS = 3;
     public static final int MIN_COMPUTATION_THREADS = 3;
 
+    public static final boolean DEFAULT_CONNECTION_METRICS_ENABLED = false;
+
     public static final int DEFAULT_IO_THREADS;
     public static final int DEFAULT_COMPUTATION_THREADS;
 
@@ -69,6 +74,12 @@ public class DefaultClientResources implements ClientResources {
     private final boolean sharedCommandLatencyCollector;
     private final EventPublisherOptions commandLatencyPublisherOptions;
     private final MetricEventPublisher metricEventPublisher;
+    private final ConnectionMetricsCollector connectionMetricsCollector;
+    private final boolean sharedConnectionMetricsCollector;
+    private final EventPublisherOptions connectionMetricsPublisherOptions;
+    private final MetricEventPublisher connectionMetricsEventPublisher;
+    private final boolean sharedTimer;
+    private final Timer timer;
 
     private volatile boolean shutdownCalled = false;
 
@@ -135,6 +146,30 @@ public class DefaultClientResources implements ClientResources {
             metricEventPublisher = null;
         }
 
+        if (builder.connectionMetricsCollector == null) {
+            connectionMetricsCollector = new DefaultConnectionMetricsCollector(builder.connectionMetricsEnabled);
+            sharedConnectionMetricsCollector = false;
+        } else {
+            sharedConnectionMetricsCollector = true;
+            connectionMetricsCollector = builder.connectionMetricsCollector;
+        }
+
+        connectionMetricsPublisherOptions = builder.connectionMetricsPublisherOptions;
+
+        if (connectionMetricsCollector.isEnabled() && connectionMetricsPublisherOptions != null) {
+            connectionMetricsEventPublisher = new DefaultConnectionMetricsEventPublisher(eventExecutorGroup,
+                    connectionMetricsPublisherOptions, eventBus, connectionMetricsCollector);
+        } else {
+            connectionMetricsEventPublisher = null;
+        }
+
+        if (builder.timer == null) {
+            timer = new HashedWheelTimer(new DefaultThreadFactory("lettuce-timer", true));
+            sharedTimer = false;
+        } else {
+            timer = builder.timer;
+            sharedTimer = true;
+        }
     }
 
     /**
@@ -150,6 +185,10 @@ public class DefaultClientResources implements ClientResources {
         private CommandLatencyCollectorOptions commandLatencyCollectorOptions = DefaultCommandLatencyCollectorOptions.create();
         private CommandLatencyCollector commandLatencyCollector;
         private EventPublisherOptions commandLatencyPublisherOptions = DefaultEventPublisherOptions.create();
+        private ConnectionMetricsCollector connectionMetricsCollector;
+        private boolean connectionMetricsEnabled = DEFAULT_CONNECTION_METRICS_ENABLED;
+        private EventPublisherOptions connectionMetricsPublisherOptions = DefaultEventPublisherOptions.create();
+        private Timer timer;
 
         public Builder() {
         }
@@ -252,6 +291,59 @@ public class DefaultClientResources implements ClientResources {
             return this;
         }
 
+        /**
+         * Sets the {@link EventPublisherOptions} to publish connection metrics using the {@link EventBus}.
+         *
+         * @param connectionMetricsPublisherOptions the {@link EventPublisherOptions} to publish connection metrics using the
+         *        {@link EventBus}.
+         * @return this
+         * @since 4.2
+         */
+        public Builder connectionMetricsPublisherOptions(EventPublisherOptions connectionMetricsPublisherOptions) {
+            this.connectionMetricsPublisherOptions = connectionMetricsPublisherOptions;
+            return this;
+        }
+
+        /**
+         * Enables connection metrics (default value is {@literal false}). Recording connection metrics measures the decoding
+         * time of every response. The setting is only effective if no {@code connectionMetricsCollector} is provided.
+         *
+         * @param connectionMetricsEnabled {@literal true} to record and publish connection metrics
+         * @return this
+         * @since 4.2
+         */
+        public Builder connectionMetricsEnabled(boolean connectionMetricsEnabled) {
+            this.connectionMetricsEnabled = connectionMetricsEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ConnectionMetricsCollector} that can that can be used across different instances of the RedisClient.
+         * Use {@link DefaultConnectionMetricsCollector#create()} to enable connection metrics with a shared collector.
+         *
+         * @param connectionMetricsCollector the connection metrics collector
+         * @return this
+         * @since 4.2
+         */
+        public Builder connectionMetricsCollector(ConnectionMetricsCollector connectionMetricsCollector) {
+            this.connectionMetricsCollector = connectionMetricsCollector;
+            return this;
+        }
+
+        /**
+         * Sets a shared {@link Timer} that can be used across different instances of the RedisClient to schedule command
+         * timeouts. The provided {@link Timer} instance will not be stopped when shutting down the client resources. You have
+         * to take care of that. Defaults to a {@link HashedWheelTimer} owned by the client resources.
+         *
+         * @param timer the shared timer
+         * @return this
+         * @since 4.2
+         */
+        public Builder timer(Timer timer) {
+            this.timer = timer;
+            return this;
+        }
+
         /**
          *
          * @return a new instance of {@link DefaultClientResources}.
@@ -314,6 +406,10 @@ public class DefaultClientResources implements ClientResources {
             metricEventPublisher.shutdown();
         }
 
+        if (connectionMetricsEventPublisher != null) {
+            connectionMetricsEventPublisher.shutdown();
+        }
+
         if (!sharedEventLoopGroupProvider) {
             Future<Boolean> shutdown = eventLoopGroupProvider.shutdown(quietPeriod, timeout, timeUnit);
             if (shutdown instanceof Promise) {
@@ -332,6 +428,14 @@ public class DefaultClientResources implements ClientResources {
             commandLatencyCollector.shutdown();
         }
 
+        if (!sharedConnectionMetricsCollector) {
+            connectionMetricsCollector.shutdown();
+        }
+
+        if (!sharedTimer) {
+            timer.stop();
+        }
+
         aggregator.add(lastRelease);
         lastRelease.setSuccess(null);
 
@@ -373,6 +477,21 @@ public class DefaultClientResources implements ClientResources {
         return commandLatencyPublisherOptions;
     }
 
+    @Override
+    public EventPublisherOptions connectionMetricsPublisherOptions() {
+        return connectionMetricsPublisherOptions;
+    }
+
+    @Override
+    public ConnectionMetricsCollector connectionMetricsCollector() {
+        return connectionMetricsCollector;
+    }
+
+    @Override
+    public Timer timer() {
+        return timer;
+    }
+
     /**
      * Create a new {@link DefaultClientResources} using default settings.
      * 
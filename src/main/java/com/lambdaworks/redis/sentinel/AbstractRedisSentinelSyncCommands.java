@@ -0,0 +1,102 @@
+package com.lambdaworks.redis.sentinel;
+
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.sentinel.api.StatefulRedisSentinelConnection;
+import com.lambdaworks.redis.sentinel.api.async.RedisSentinelAsyncCommands;
+import com.lambdaworks.redis.sentinel.api.sync.RedisSentinelCommands;
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synchronous executed commands for Redis Sentinel. Every command is dispatched to the asynchronous API and
+ * completed through {@link #await(RedisFuture)}.
+ * 
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ * @generated by com.lambdaworks.apigenerator.CreateApiImplementations
+ */
+abstract class AbstractRedisSentinelSyncCommands<K, V> implements RedisSentinelCommands<K, V> {
+
+    protected final RedisSentinelAsyncCommands<K, V> async;
+
+    protected AbstractRedisSentinelSyncCommands(RedisSentinelAsyncCommands<K, V> async) {
+        this.async = async;
+    }
+
+    /**
+     * Await the result of {@code future}. Invoked for every command that is dispatched to the server.
+     *
+     * @param future the command future
+     * @param <T> result type
+     * @return the command result.
+     */
+    protected abstract <T> T await(RedisFuture<T> future);
+
+    @Override
+    public SocketAddress getMasterAddrByName(K key) {
+        return await(async.getMasterAddrByName(key));
+    }
+
+    @Override
+    public List<Map<K, V>> masters() {
+        return await(async.masters());
+    }
+
+    @Override
+    public Map<K, V> master(K key) {
+        return await(async.master(key));
+    }
+
+    @Override
+    public List<Map<K, V>> slaves(K key) {
+        return await(async.slaves(key));
+    }
+
+    @Override
+    public Long reset(K key) {
+        return await(async.reset(key));
+    }
+
+    @Override
+    public String failover(K key) {
+        return await(async.failover(key));
+    }
+
+    @Override
+    public String monitor(K key, String ip, int port, int quorum) {
+        return await(async.monitor(key, ip, port, quorum));
+    }
+
+    @Override
+    public String set(K key, String option, V value) {
+        return await(async.set(key, option, value));
+    }
+
+    @Override
+    public String remove(K key) {
+        return await(async.remove(key));
+    }
+
+    @Override
+    public String ping() {
+        return await(async.ping());
+    }
+
+    @Override
+    public void close() {
+        async.close();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return async.isOpen();
+    }
+
+    @Override
+    public StatefulRedisSentinelConnection<K, V> getStatefulConnection() {
+        return async.getStatefulConnection();
+    }
+}
@@ -0,0 +1,36 @@
+package com.lambdaworks.redis.sentinel;
+
+import com.lambdaworks.redis.LettuceFutures;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.sentinel.api.StatefulRedisSentinelConnection;
+import com.lambdaworks.redis.sentinel.api.async.RedisSentinelAsyncCommands;
+
+/**
+ * A synchronous and thread-safe API for a Redis Sentinel connection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.2
+ */
+public class RedisSentinelSyncCommandsImpl<K, V> extends AbstractRedisSentinelSyncCommands<K, V> {
+
+    private final StatefulRedisSentinelConnection<K, V> connection;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on
+     * @param asyncCommands the asynchronous API of {@code connection}
+     */
+    public RedisSentinelSyncCommandsImpl(StatefulRedisSentinelConnection<K, V> connection,
+            RedisSentinelAsyncCommands<K, V> asyncCommands) {
+        super(asyncCommands);
+        this.connection = connection;
+    }
+
+    @Override
+    protected <T> T await(RedisFuture<T> future) {
+        return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());
+    }
+}
@@ -37,7 +37,7 @@ public class StatefulRedisSentinelConnectionImpl<K, V> extends RedisChannelHandl
 
     public RedisSentinelCommands<K, V> sync() {
         if (sync == null) {
-            sync = syncHandler(async(), RedisSentinelCommands.class);
+            sync = new RedisSentinelSyncCommandsImpl<>(this, async());
         }
         return sync;
     }
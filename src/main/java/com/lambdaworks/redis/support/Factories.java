@@ -22,4 +22,15 @@ public class Factories {
     public final static <T> Queue<T> newConcurrentQueue() {
         return PlatformDependent.newConcurrentDeque();
     }
+
+    /**
+     * Creates a new multi-producer/single-consumer {@link Queue}. Any number of threads may add elements concurrently but only
+     * one thread at a time may remove elements.
+     *
+     * @param <T>
+     * @return
+     */
+    public final static <T> Queue<T> newMpscQueue() {
+        return PlatformDependent.newMpscQueue();
+    }
 }
@@ -0,0 +1,158 @@
+package com.lambdaworks.apigenerator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Create the synchronous API and node selection implementations based on the templates. The implementations delegate to
+ * the asynchronous API without using reflection on the call path.
+ *
+ * @author Mark Paluch
+ */
+public class CreateApiImplementations {
+
+    private Set<String> KEEP_METHOD_RESULT_TYPE = ImmutableSet.of("shutdown", "debugOom", "debugSegfault", "digest", "close",
+            "isOpen", "BaseRedisCommands.reset", "getStatefulConnection");
+
+    private Set<String> NODE_SELECTION_FILTER_METHODS = ImmutableSet.of("shutdown", "debugOom", "debugSegfault", "digest",
+            "close", "isOpen", "BaseRedisCommands.reset", "readOnly", "readWrite");
+
+    @Test
+    public void createSyncCommands() throws Exception {
+
+        List<String> templateNames = templateNames(name -> !name.contains("Transactional") && !name.contains("Sentinel"));
+
+        String members = "\n    protected final RedisClusterAsyncCommands<K, V> async;\n\n"
+                + "    protected AbstractRedisSyncCommands(RedisClusterAsyncCommands<K, V> async) {\n"
+                + "        this.async = async;\n" + "    }\n\n" + "    /**\n"
+                + "     * Await the result of {@code future}. Invoked for every command that is dispatched to the server.\n"
+                + "     *\n" + "     * @param future the command future\n" + "     * @param <T> result type\n"
+                + "     * @return the command result.\n" + "     */\n"
+                + "    protected abstract <T> T await(RedisFuture<T> future);\n";
+
+        new ImplementationFactory(templateNames, Constants.SOURCES, "com.lambdaworks.redis", "AbstractRedisSyncCommands", true,
+                typeDoc("Synchronous executed commands", "{@link #await(RedisFuture)}"), name -> name, method -> true,
+                method -> method.getType().toStringWithoutComments().trim(), syncBody(), imports(templateNames,
+                        "com.lambdaworks.redis.api.sync.", "com.lambdaworks.redis.RedisFuture",
+                        "com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands"), members)
+                .createImplementation();
+    }
+
+    @Test
+    public void createSentinelSyncCommands() throws Exception {
+
+        List<String> templateNames = templateNames(name -> name.contains("Sentinel"));
+
+        String members = "\n    protected final RedisSentinelAsyncCommands<K, V> async;\n\n"
+                + "    protected AbstractRedisSentinelSyncCommands(RedisSentinelAsyncCommands<K, V> async) {\n"
+                + "        this.async = async;\n" + "    }\n\n" + "    /**\n"
+                + "     * Await the result of {@code future}. Invoked for every command that is dispatched to the server.\n"
+                + "     *\n" + "     * @param future the command future\n" + "     * @param <T> result type\n"
+                + "     * @return the command result.\n" + "     */\n"
+                + "    protected abstract <T> T await(RedisFuture<T> future);\n";
+
+        new ImplementationFactory(templateNames, Constants.SOURCES, "com.lambdaworks.redis.sentinel",
+                "AbstractRedisSentinelSyncCommands", false, typeDoc("Synchronous executed commands for Redis Sentinel",
+                        "{@link #await(RedisFuture)}"), name -> name, method -> true,
+                method -> method.getType().toStringWithoutComments().trim(), syncBody(), imports(templateNames,
+                        "com.lambdaworks.redis.sentinel.api.sync.", "com.lambdaworks.redis.RedisFuture",
+                        "com.lambdaworks.redis.sentinel.api.async.RedisSentinelAsyncCommands"), members)
+                .createImplementation();
+    }
+
+    @Test
+    public void createSyncNodeSelectionCommands() throws Exception {
+        createNodeSelectionCommands("AbstractNodeSelectionCommands", "Executions", "com.lambdaworks.redis.cluster.api.sync.",
+                "", "Synchronous executed commands on a node selection");
+    }
+
+    @Test
+    public void createAsyncNodeSelectionCommands() throws Exception {
+        createNodeSelectionCommands("AbstractNodeSelectionAsyncCommands", "AsyncExecutions",
+                "com.lambdaworks.redis.cluster.api.async.", "Async", "Asynchronous executed commands on a node selection");
+    }
+
+    private void createNodeSelectionCommands(String targetName, String executionsType, String apiPackage,
+            String interfaceSuffix, String intent) throws Exception {
+
+        List<String> templateNames = templateNames(name -> !name.contains("Transactional") && !name.contains("Sentinel"));
+        List<String> interfaceNames = templateNames.stream()
+                .map(name -> name.replace("Redis", "NodeSelection").replace("Commands", interfaceSuffix + "Commands"))
+                .collect(Collectors.toList());
+
+        String members = "\n    /**\n" + "     * Invoke {@code function} on the asynchronous API of every node of the selection.\n"
+                + "     *\n" + "     * @param function the command to invoke\n" + "     * @param <T> result type\n"
+                + "     * @return the executions.\n" + "     */\n" + "    protected abstract <T> " + executionsType
+                + "<T> execute(Function<RedisClusterAsyncCommands<K, V>, RedisFuture<T>> function);\n";
+
+        Predicate<MethodDeclaration> filter = method -> !NODE_SELECTION_FILTER_METHODS.contains(method.getName())
+                && !NODE_SELECTION_FILTER_METHODS.contains(ImplementationFactory.declaringType(method) + "."
+                        + method.getName());
+
+        List<String> imports = imports(interfaceNames, apiPackage, "java.util.function.Function",
+                "com.lambdaworks.redis.RedisFuture", "com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands",
+                apiPackage + executionsType);
+
+        new ImplementationFactory(templateNames, Constants.SOURCES, "com.lambdaworks.redis.cluster", targetName, false,
+                typeDoc(intent, "{@link #execute(Function)}"), name -> name.replace("Redis", "NodeSelection").replace(
+                        "Commands", interfaceSuffix + "Commands"), filter,
+                method -> executionsType + "<" + ImplementationFactory.boxedReturnType(method) + ">",
+                nodeSelectionBody(), imports, members).createImplementation();
+    }
+
+    private Function<MethodDeclaration, String> nodeSelectionBody() {
+        return method -> {
+
+            boolean clash = method.getParameters().stream()
+                    .anyMatch(parameter -> parameter.getId().getName().equals("commands"));
+            String api = clash ? "api" : "commands";
+
+            return "return execute(" + api + " -> " + api + "." + method.getName() + "("
+                    + ImplementationFactory.arguments(method) + "));";
+        };
+    }
+
+    private Function<MethodDeclaration, String> syncBody() {
+        return method -> {
+
+            String invocation = "async." + method.getName() + "(" + ImplementationFactory.arguments(method) + ")";
+
+            if (KEEP_METHOD_RESULT_TYPE.contains(method.getName())
+                    || KEEP_METHOD_RESULT_TYPE.contains(ImplementationFactory.declaringType(method) + "." + method.getName())) {
+
+                if (method.getType().toStringWithoutComments().trim().equals("void")) {
+                    return invocation + ";";
+                }
+                return "return " + invocation + ";";
+            }
+
+            return "return await(" + invocation + ");";
+        };
+    }
+
+    private static String typeDoc(String intent, String dispatch) {
+        return "/**\n" + " * " + intent + ". Every command is dispatched to the asynchronous API and\n"
+                + " * completed through " + dispatch + ".\n" + " * \n" + " * @param <K> Key type.\n" + " * @param <V> Value type.\n"
+                + " * @author Mark Paluch\n" + " * @since 4.2\n" + " * @generated by " + CreateApiImplementations.class.getName()
+                + "\n" + " */\n";
+    }
+
+    private static List<String> templateNames(Predicate<String> filter) {
+        return Arrays.stream(Constants.TEMPLATE_NAMES).filter(filter).collect(Collectors.toList());
+    }
+
+    private static List<String> imports(List<String> interfaceNames, String apiPackage, String... imports) {
+        return ImmutableList.<String> builder().addAll(Arrays.asList(imports))
+                .addAll(interfaceNames.stream().map(name -> apiPackage + name).collect(Collectors.toList())).build();
+    }
+}
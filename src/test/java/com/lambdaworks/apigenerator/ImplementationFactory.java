@@ -0,0 +1,237 @@
+package com.lambdaworks.apigenerator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.TypeParameter;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+
+/**
+ * Creates an abstract class implementing the API interfaces generated from a set of templates. Every template method is
+ * implemented by delegation, the method body is supplied by a {@code bodyFunction}. The resulting class does not use
+ * reflection on the call path.
+ *
+ * @author Mark Paluch
+ */
+public class ImplementationFactory {
+
+    private static final int LINE_LENGTH = 128;
+
+    private final List<String> templateNames;
+    private final File target;
+    private final String targetPackage;
+    private final String targetName;
+    private final boolean publicType;
+    private final String typeDoc;
+    private final Function<String, String> interfaceFunction;
+    private final Predicate<MethodDeclaration> methodFilter;
+    private final Function<MethodDeclaration, String> methodReturnTypeFunction;
+    private final Function<MethodDeclaration, String> bodyFunction;
+    private final List<String> imports;
+    private final String members;
+
+    private final StringBuilder methods = new StringBuilder();
+
+    /**
+     * @param templateNames names of the templates to implement
+     * @param sources the source directory
+     * @param targetPackage package of the resulting class
+     * @param targetName simple name of the resulting class
+     * @param publicType {@literal true} to create a public class, {@literal false} for a package-private class
+     * @param typeDoc type comment
+     * @param interfaceFunction maps a template name to the implemented interface
+     * @param methodFilter filter for the template methods to implement
+     * @param methodReturnTypeFunction return type of the implementing method
+     * @param bodyFunction body of the implementing method
+     * @param imports additional imports
+     * @param members additional members such as fields, constructor and abstract methods
+     */
+    public ImplementationFactory(List<String> templateNames, File sources, String targetPackage, String targetName,
+            boolean publicType, String typeDoc, Function<String, String> interfaceFunction, Predicate<MethodDeclaration> methodFilter,
+            Function<MethodDeclaration, String> methodReturnTypeFunction, Function<MethodDeclaration, String> bodyFunction,
+            List<String> imports, String members) {
+
+        this.templateNames = templateNames;
+        this.targetPackage = targetPackage;
+        this.targetName = targetName;
+        this.publicType = publicType;
+        this.typeDoc = typeDoc;
+        this.interfaceFunction = interfaceFunction;
+        this.methodFilter = methodFilter;
+        this.methodReturnTypeFunction = methodReturnTypeFunction;
+        this.bodyFunction = bodyFunction;
+        this.imports = imports;
+        this.members = members;
+
+        this.target = new File(sources, targetPackage.replace('.', '/') + "/" + targetName + ".java");
+    }
+
+    public void createImplementation() throws Exception {
+
+        Set<String> importLines = new TreeSet<>(imports);
+        List<String> interfaces = new ArrayList<>();
+
+        for (String templateName : templateNames) {
+
+            CompilationUnit template = JavaParser.parse(new File(Constants.TEMPLATES, "com/lambdaworks/redis/api/"
+                    + templateName + ".java"));
+
+            if (template.getImports() != null) {
+                for (ImportDeclaration importDeclaration : template.getImports()) {
+                    importLines.add(importDeclaration.getName().toString() + (importDeclaration.isAsterisk() ? ".*" : ""));
+                }
+            }
+
+            interfaces.add(interfaceFunction.apply(templateName) + "<K, V>");
+            new MethodVisitor().visit(template, null);
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append("package ").append(targetPackage).append(";\n\n");
+
+        for (String importLine : importLines) {
+
+            String importPackage = importLine.substring(0, importLine.lastIndexOf('.'));
+            if (importPackage.equals(targetPackage) || importPackage.equals("java.lang")) {
+                continue;
+            }
+            result.append("import ").append(importLine).append(";\n");
+        }
+
+        result.append("\n").append(typeDoc);
+        result.append(wrap((publicType ? "public " : "") + "abstract class " + targetName + "<K, V> implements " + String.join(", ", interfaces)
+                + " {", "", "        ")).append("\n");
+        result.append(members);
+        result.append(methods);
+        result.append("}\n");
+
+        writeResult(result.toString());
+    }
+
+    protected void writeResult(String content) throws IOException {
+        try (FileOutputStream fos = new FileOutputStream(target)) {
+            fos.write(content.getBytes());
+        }
+    }
+
+    /**
+     * @param method the method
+     * @return comma-separated argument names of {@code method}.
+     */
+    public static String arguments(MethodDeclaration method) {
+        return method.getParameters().stream().map(parameter -> parameter.getId().getName())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * @param method the method
+     * @return name of the declaring template type.
+     */
+    public static String declaringType(MethodDeclaration method) {
+        return ((ClassOrInterfaceDeclaration) method.getParentNode()).getName();
+    }
+
+    /**
+     * @param method the method
+     * @return the return type of {@code method} without comments, {@literal void} is boxed to {@literal Void}.
+     */
+    public static String boxedReturnType(MethodDeclaration method) {
+
+        String type = method.getType().toStringWithoutComments().trim();
+        return type.equals("void") ? "Void" : type;
+    }
+
+    private static String wrap(String line, String indent, String continuation) {
+
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int partStart = 0;
+        for (int i = 0; i < line.length(); i++) {
+
+            char c = line.charAt(i);
+            if (c == '<') {
+                depth++;
+            } else if (c == '>' && line.charAt(i - 1) != '-') {
+                depth--;
+            } else if (c == ',' && depth == 0 && i + 1 < line.length() && line.charAt(i + 1) == ' ') {
+                parts.add(line.substring(partStart, i + 1));
+                partStart = i + 2;
+            }
+        }
+        parts.add(line.substring(partStart));
+
+        StringBuilder result = new StringBuilder(indent);
+        int column = indent.length();
+
+        for (int i = 0; i < parts.size(); i++) {
+
+            String part = parts.get(i);
+            if (i > 0) {
+                if (column + 1 + part.length() > LINE_LENGTH) {
+                    result.append('\n').append(continuation);
+                    column = continuation.length();
+                } else {
+                    result.append(' ');
+                    column++;
+                }
+            }
+
+            result.append(part);
+            column += part.length();
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Simple visitor implementation for visiting MethodDeclaration nodes.
+     */
+    private class MethodVisitor extends VoidVisitorAdapter<Object> {
+
+        @Override
+        public void visit(MethodDeclaration n, Object arg) {
+
+            if (!methodFilter.test(n)) {
+                return;
+            }
+
+            StringBuilder signature = new StringBuilder("public ");
+
+            if (n.getTypeParameters() != null && !n.getTypeParameters().isEmpty()) {
+                signature.append('<');
+                signature.append(n.getTypeParameters().stream().map(TypeParameter::toString)
+                        .collect(Collectors.joining(", ")));
+                signature.append("> ");
+            }
+
+            signature.append(methodReturnTypeFunction.apply(n)).append(' ').append(n.getName()).append('(');
+
+            List<String> parameters = new ArrayList<>();
+            for (Parameter parameter : n.getParameters()) {
+                String type = parameter.getType().toStringWithoutComments().trim();
+                parameters.add(type + (parameter.isVarArgs() ? "... " : " ") + parameter.getId().getName());
+            }
+
+            signature.append(String.join(", ", parameters)).append(") {");
+
+            methods.append("\n    @Override\n");
+            methods.append(wrap(signature.toString(), "    ", "            ")).append('\n');
+            methods.append(wrap(bodyFunction.apply(n), "        ", "                ")).append('\n');
+            methods.append("    }\n");
+        }
+    }
+}
@@ -37,6 +37,12 @@ public class ClientOptionsTest extends AbstractRedisClientTest {
         assertThat(sut.isPingBeforeActivateConnection()).isEqualTo(false);
         assertThat(sut.isSuspendReconnectOnProtocolFailure()).isEqualTo(false);
         assertThat(sut.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.DEFAULT);
+        assertThat(sut.isZeroCopyDecoding()).isEqualTo(false);
+        assertThat(sut.isFlushConsolidation()).isEqualTo(false);
+        assertThat(sut.getFlushConsolidationMaxCommands()).isEqualTo(ClientOptions.DEFAULT_FLUSH_CONSOLIDATION_MAX_COMMANDS);
+        assertThat(sut.getFlushConsolidationMaxBytes()).isEqualTo(ClientOptions.DEFAULT_FLUSH_CONSOLIDATION_MAX_BYTES);
+        assertThat(sut.getReadBalancing()).isEqualTo(ReadBalancing.FIRST);
+        assertThat(sut.getTimeoutOptions().isTimeoutCommands()).isFalse();
     }
 
     @Test
@@ -0,0 +1,106 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StreamingOutput;
+import com.lambdaworks.redis.output.ValueListOutput;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.DemandAware;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * @author Mark Paluch
+ */
+public class ReactiveCommandDispatcherTest {
+
+    private StatefulConnection<String, String> connection = mock(StatefulConnection.class);
+    private ValueListOutput<String, String> output;
+    private Observable<String> observable;
+
+    @Before
+    public void before() throws Exception {
+
+        output = new ValueListOutput<>(new Utf8StringCodec());
+        RedisCommand<String, String, List<String>> command = new Command<>(CommandType.LRANGE, output, null);
+        observable = Observable.create(new ReactiveCommandDispatcher<>((RedisCommand) command, connection, true));
+    }
+
+    @Test
+    public void streamingOutputHonorsDemand() throws Exception {
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>(1);
+        observable.subscribe(subscriber);
+
+        verify(connection).dispatch(any(RedisCommand.class));
+        StreamingOutput.Subscriber<String> streamingSubscriber = output.getSubscriber();
+        assertThat(streamingSubscriber).isInstanceOf(DemandAware.Sink.class);
+
+        DemandAware.Sink sink = (DemandAware.Sink) streamingSubscriber;
+        assertThat(sink.hasDemand()).isTrue();
+
+        streamingSubscriber.onNext("a");
+        subscriber.assertValues("a");
+        assertThat(sink.hasDemand()).isFalse();
+
+        DemandAware.Source source = mock(DemandAware.Source.class);
+        sink.setSource(source);
+
+        subscriber.requestMore(2);
+        verify(source).requestMore();
+        assertThat(sink.hasDemand()).isTrue();
+    }
+
+    @Test
+    public void unsubscribeResumesDecoding() throws Exception {
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>(0);
+        observable.subscribe(subscriber);
+
+        DemandAware.Sink sink = (DemandAware.Sink) output.getSubscriber();
+        assertThat(sink.hasDemand()).isFalse();
+
+        DemandAware.Source source = mock(DemandAware.Source.class);
+        sink.setSource(source);
+        subscriber.unsubscribe();
+
+        verify(source, times(1)).requestMore();
+        assertThat(sink.hasDemand()).isTrue();
+
+        output.getSubscriber().onNext("a");
+        subscriber.assertNoValues();
+    }
+
+    @Test
+    public void unboundedDemand() throws Exception {
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        observable.subscribe(subscriber);
+
+        ArgumentCaptor<RedisCommand> captor = ArgumentCaptor.forClass(RedisCommand.class);
+        verify(connection).dispatch(captor.capture());
+
+        DemandAware.Sink sink = (DemandAware.Sink) output.getSubscriber();
+        for (int i = 0; i < 10; i++) {
+            output.getSubscriber().onNext("" + i);
+        }
+
+        assertThat(sink.hasDemand()).isTrue();
+        assertThat(subscriber.getOnNextEvents()).hasSize(10);
+    }
+}
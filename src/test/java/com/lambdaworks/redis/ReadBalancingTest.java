@@ -0,0 +1,116 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class ReadBalancingTest {
+
+    private static final int READS = 30000;
+
+    private Integer[] candidates = { 0, 1, 2 };
+    private boolean[] available = { true, true, true };
+    private int[] queueSizes = new int[3];
+    private AtomicIntegerArray sequences = new AtomicIntegerArray(2);
+
+    @Test
+    public void first() throws Exception {
+
+        assertThat(distribution(ReadBalancing.FIRST)).containsExactly(READS, 0, 0);
+
+        available[0] = false;
+        assertThat(distribution(ReadBalancing.FIRST)).containsExactly(0, READS, 0);
+    }
+
+    @Test
+    public void roundRobin() throws Exception {
+
+        assertThat(distribution(ReadBalancing.ROUND_ROBIN)).containsExactly(READS / 3, READS / 3, READS / 3);
+        assertThat(sequences.get(0)).isEqualTo(READS);
+        assertThat(sequences.get(1)).isEqualTo(0);
+    }
+
+    @Test
+    public void roundRobinSkipsUnavailableCandidates() throws Exception {
+
+        available[1] = false;
+
+        assertThat(distribution(ReadBalancing.ROUND_ROBIN)).containsExactly(READS / 3, 0, 2 * READS / 3);
+    }
+
+    @Test
+    public void roundRobinOverflow() throws Exception {
+
+        sequences.set(0, Integer.MAX_VALUE);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(select(ReadBalancing.ROUND_ROBIN)).isBetween(0, 2);
+        }
+    }
+
+    @Test
+    public void random() throws Exception {
+        assertEvenlyDistributed(distribution(ReadBalancing.RANDOM));
+    }
+
+    @Test
+    public void powerOfTwoChoices() throws Exception {
+        assertEvenlyDistributed(distribution(ReadBalancing.POWER_OF_TWO_CHOICES));
+    }
+
+    @Test
+    public void powerOfTwoChoicesAvoidsLoadedCandidates() throws Exception {
+
+        queueSizes[2] = 100;
+
+        int[] distribution = distribution(ReadBalancing.POWER_OF_TWO_CHOICES);
+
+        assertThat(distribution[2]).isEqualTo(0);
+        assertThat(distribution[0] + distribution[1]).isEqualTo(READS);
+    }
+
+    @Test
+    public void unavailableCandidatesFallBack() throws Exception {
+
+        available[0] = available[1] = available[2] = false;
+
+        for (ReadBalancing readBalancing : ReadBalancing.values()) {
+            assertThat(select(readBalancing)).isBetween(0, 2);
+        }
+    }
+
+    @Test
+    public void singleCandidate() throws Exception {
+
+        candidates = new Integer[] { 0 };
+
+        for (ReadBalancing readBalancing : ReadBalancing.values()) {
+            assertThat(select(readBalancing)).isEqualTo(0);
+        }
+    }
+
+    private void assertEvenlyDistributed(int[] distribution) {
+        for (int count : distribution) {
+            assertThat(count).isBetween(READS / 3 - READS / 20, READS / 3 + READS / 20);
+        }
+    }
+
+    private int[] distribution(ReadBalancing readBalancing) {
+
+        int[] distribution = new int[candidates.length];
+        for (int i = 0; i < READS; i++) {
+            distribution[select(readBalancing)]++;
+        }
+        return distribution;
+    }
+
+    private Integer select(ReadBalancing readBalancing) {
+        return readBalancing.select(candidates, candidate -> available[candidate], candidate -> queueSizes[candidate],
+                sequences, 0);
+    }
+}
@@ -1,9 +1,16 @@
 package com.lambdaworks.redis;
 
 import static com.lambdaworks.redis.RedisURI.Builder.redis;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 
 /**
@@ -161,4 +168,43 @@ public class RedisClientConnectionTest extends AbstractRedisClientTest {
     public void connectSentinelAsyncCodecOwnUri() throws Exception {
         client.connectSentinelAsync(new Utf8StringCodec(), redis(host, port).build()).close();
     }
+
+    /*
+     * Non-blocking connect
+     */
+    @Test
+    public void connectStatefulAsync() throws Exception {
+
+        StatefulRedisConnection<String, String> connection = client.connectStatefulAsync(new Utf8StringCodec(),
+                redis(host, port).build()).get(5, TimeUnit.SECONDS);
+
+        assertThat(connection.sync().ping()).isEqualTo("PONG");
+        connection.close();
+    }
+
+    @Test
+    public void connectPubSubAsync() throws Exception {
+        client.connectPubSubAsync(new Utf8StringCodec(), redis(host, port).build()).get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    public void connectSentinelStatefulAsync() throws Exception {
+        client.connectSentinelStatefulAsync(new Utf8StringCodec(), redis(host, port).build()).get(5, TimeUnit.SECONDS)
+                .close();
+    }
+
+    @Test
+    public void connectStatefulAsyncFailure() throws Exception {
+
+        CompletableFuture<StatefulRedisConnection<String, String>> future = client.connectStatefulAsync(
+                new Utf8StringCodec(), redis(host, TestSettings.nonexistentPort()).build());
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Missing ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e).hasCauseInstanceOf(RedisConnectionException.class);
+            assertThat(e.getCause()).hasMessageContaining("Unable to connect");
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.protocol.AsyncCommand;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandType;
+
+/**
+ * @author Mark Paluch
+ */
+public class RedisSyncCommandsImplTest {
+
+    private static final Utf8StringCodec CODEC = new Utf8StringCodec();
+
+    private StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+    private RedisAsyncCommands<String, String> async = mock(RedisAsyncCommands.class);
+    private RedisCommands<String, String> sut;
+
+    @Before
+    public void before() throws Exception {
+
+        when(connection.getTimeout()).thenReturn(1L);
+        when(connection.getTimeoutUnit()).thenReturn(TimeUnit.SECONDS);
+
+        sut = new RedisSyncCommandsImpl<>(connection, async);
+    }
+
+    @Test
+    public void awaitsCommandResult() throws Exception {
+
+        RedisFuture<String> future = completed("value");
+        when(async.get("key")).thenReturn(future);
+
+        assertThat(sut.get("key")).isEqualTo("value");
+    }
+
+    @Test
+    public void returnsNullWithinTransaction() throws Exception {
+
+        when(connection.isMulti()).thenReturn(true);
+        when(async.get("key")).thenReturn(mock(RedisFuture.class));
+
+        assertThat(sut.get("key")).isNull();
+        verify(async).get("key");
+    }
+
+    @Test
+    public void awaitsExecWithinTransaction() throws Exception {
+
+        RedisFuture<List<Object>> future = completed(Collections.singletonList("OK"));
+
+        when(connection.isMulti()).thenReturn(true);
+        when(async.exec()).thenReturn(future);
+
+        assertThat(sut.exec()).containsExactly("OK");
+    }
+
+    @Test(expected = RedisCommandTimeoutException.class)
+    public void commandTimeout() throws Exception {
+
+        when(connection.getTimeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+        when(async.set("key", "value")).thenReturn(
+                new AsyncCommand<>(new Command<>(CommandType.SET, new StatusOutput<>(CODEC), null)));
+
+        sut.set("key", "value");
+    }
+
+    @Test
+    public void returnsStatefulConnection() throws Exception {
+        assertThat(sut.getStatefulConnection()).isSameAs(connection);
+    }
+
+    private static <T> RedisFuture<T> completed(T value) throws Exception {
+
+        RedisFuture<T> future = mock(RedisFuture.class);
+        when(future.await(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(future.get()).thenReturn(value);
+        return future;
+    }
+}
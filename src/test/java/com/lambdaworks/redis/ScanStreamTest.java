@@ -0,0 +1,138 @@
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+import com.lambdaworks.redis.api.rx.RedisHashReactiveCommands;
+import com.lambdaworks.redis.api.rx.RedisKeyReactiveCommands;
+
+/**
+ * @author Mark Paluch
+ */
+public class ScanStreamTest {
+
+    private RedisKeyReactiveCommands<String, String> commands = mock(RedisKeyReactiveCommands.class);
+
+    @Test
+    public void emitsKeysOfAllPages() throws Exception {
+
+        KeyScanCursor<String> page1 = page("1", false, "a", "b");
+        KeyScanCursor<String> page2 = page("2", false);
+        KeyScanCursor<String> page3 = page("0", true, "c");
+
+        when(commands.scan()).thenReturn(Observable.just(page1));
+        when(commands.scan(page1)).thenReturn(Observable.just(page2));
+        when(commands.scan(page2)).thenReturn(Observable.just(page3));
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        ScanStream.scan(commands).subscribe(subscriber);
+
+        subscriber.assertValues("a", "b", "c");
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void requestsPagesOnDemand() throws Exception {
+
+        KeyScanCursor<String> page1 = page("1", false, "a", "b");
+        KeyScanCursor<String> page2 = page("0", true, "c");
+        ScanArgs scanArgs = ScanArgs.Builder.limit(2);
+
+        when(commands.scan(scanArgs)).thenReturn(Observable.just(page1));
+        when(commands.scan(page1, scanArgs)).thenReturn(Observable.just(page2));
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>(0);
+        Observable<String> stream = ScanStream.scan(commands, scanArgs);
+        stream.subscribe(subscriber);
+
+        verify(commands, never()).scan(scanArgs);
+
+        subscriber.requestMore(1);
+        subscriber.assertValues("a");
+        verify(commands).scan(scanArgs);
+
+        subscriber.requestMore(1);
+        subscriber.assertValues("a", "b");
+        verify(commands, never()).scan(any(ScanCursor.class), any(ScanArgs.class));
+
+        subscriber.requestMore(1);
+        subscriber.assertValues("a", "b", "c");
+        subscriber.assertCompleted();
+        verify(commands, times(1)).scan(page1, scanArgs);
+    }
+
+    @Test
+    public void prefetchesNextPage() throws Exception {
+
+        KeyScanCursor<String> page1 = page("1", false, "a", "b");
+        KeyScanCursor<String> page2 = page("0", true, "c");
+
+        when(commands.scan()).thenReturn(Observable.just(page1));
+        when(commands.scan(page1)).thenReturn(Observable.just(page2));
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>(1);
+        ScanStream.scan(commands, null, true).subscribe(subscriber);
+
+        subscriber.assertValues("a");
+        verify(commands).scan(page1);
+        subscriber.assertNotCompleted();
+
+        subscriber.requestMore(2);
+        subscriber.assertValues("a", "b", "c");
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void propagatesErrors() throws Exception {
+
+        KeyScanCursor<String> page1 = page("1", false, "a");
+        when(commands.scan()).thenReturn(Observable.just(page1));
+        when(commands.scan(page1)).thenReturn(Observable.error(new RedisException("foo")));
+
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        ScanStream.scan(commands).subscribe(subscriber);
+
+        subscriber.assertValues("a");
+        subscriber.assertError(RedisException.class);
+    }
+
+    @Test
+    public void hscanEmitsKeyValues() throws Exception {
+
+        RedisHashReactiveCommands<String, String> hashCommands = mock(RedisHashReactiveCommands.class);
+        MapScanCursor<String, String> page = new MapScanCursor<>();
+        page.setCursor("0");
+        page.setFinished(true);
+        page.getMap().put("k1", "v1");
+        page.getMap().put("k2", "v2");
+
+        when(hashCommands.hscan("key")).thenReturn(Observable.just(page));
+
+        TestSubscriber<KeyValue<String, String>> subscriber = new TestSubscriber<>();
+        ScanStream.hscan(hashCommands, "key").subscribe(subscriber);
+
+        assertThat(subscriber.getOnNextEvents()).containsExactly(new KeyValue<>("k1", "v1"), new KeyValue<>("k2", "v2"));
+        subscriber.assertCompleted();
+    }
+
+    private static KeyScanCursor<String> page(String cursor, boolean finished, String... keys) {
+
+        KeyScanCursor<String> page = new KeyScanCursor<>();
+        page.setCursor(cursor);
+        page.setFinished(finished);
+        page.getKeys().addAll(Arrays.asList(keys));
+        return page;
+    }
+}
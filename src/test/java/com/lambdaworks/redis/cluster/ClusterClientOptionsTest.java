@@ -2,8 +2,13 @@ package com.lambdaworks.redis.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
 
+import com.lambdaworks.redis.ReadBalancing;
+import com.lambdaworks.redis.TimeoutOptions;
+
 /**
  * @author Mark Paluch
  */
@@ -14,7 +19,14 @@ public class ClusterClientOptionsTest {
 
         ClusterClientOptions options = new ClusterClientOptions.Builder().closeStaleConnections(true).refreshClusterView(true)
                 .autoReconnect(false).requestQueueSize(100).suspendReconnectOnProtocolFailure(true).maxRedirects(1234)
-                .validateClusterNodeMembership(false).build();
+                .validateClusterNodeMembership(false).zeroCopyDecoding(true).flushConsolidation(true)
+                .flushConsolidationLimits(10, 2048).readBalancing(ReadBalancing.ROUND_ROBIN)
+                .timeoutOptions(TimeoutOptions.enabled(1, TimeUnit.SECONDS))
+                .reuseTopologyRefreshConnections(true).topologyRefreshConcurrency(4)
+                .enableAdaptiveRefreshTrigger(ClusterClientOptions.RefreshTrigger.MOVED_REDIRECT)
+                .adaptiveRefreshTriggersTimeout(5, TimeUnit.MINUTES).refreshTriggersReconnectAttempts(7)
+                .topologySource(ClusterClientOptions.TopologySource.CLUSTER_SLOTS)
+                .prewarmConnections(ClusterClientOptions.PrewarmConnections.MASTERS).build();
 
         ClusterClientOptions copy = ClusterClientOptions.copyOf(options);
 
@@ -28,5 +40,19 @@ public class ClusterClientOptionsTest {
         assertThat(copy.isCancelCommandsOnReconnectFailure()).isEqualTo(options.isCancelCommandsOnReconnectFailure());
         assertThat(copy.isSuspendReconnectOnProtocolFailure()).isEqualTo(options.isSuspendReconnectOnProtocolFailure());
         assertThat(copy.getMaxRedirects()).isEqualTo(options.getMaxRedirects());
+        assertThat(copy.isZeroCopyDecoding()).isEqualTo(options.isZeroCopyDecoding());
+        assertThat(copy.isFlushConsolidation()).isEqualTo(options.isFlushConsolidation());
+        assertThat(copy.getFlushConsolidationMaxCommands()).isEqualTo(options.getFlushConsolidationMaxCommands());
+        assertThat(copy.getFlushConsolidationMaxBytes()).isEqualTo(options.getFlushConsolidationMaxBytes());
+        assertThat(copy.getReadBalancing()).isEqualTo(options.getReadBalancing());
+        assertThat(copy.getTimeoutOptions()).isSameAs(options.getTimeoutOptions());
+        assertThat(copy.isReuseTopologyRefreshConnections()).isEqualTo(options.isReuseTopologyRefreshConnections());
+        assertThat(copy.getTopologyRefreshConcurrency()).isEqualTo(options.getTopologyRefreshConcurrency());
+        assertThat(copy.getAdaptiveRefreshTriggers()).isEqualTo(options.getAdaptiveRefreshTriggers());
+        assertThat(copy.getAdaptiveRefreshTimeout()).isEqualTo(options.getAdaptiveRefreshTimeout());
+        assertThat(copy.getAdaptiveRefreshTimeoutUnit()).isEqualTo(options.getAdaptiveRefreshTimeoutUnit());
+        assertThat(copy.getRefreshTriggersReconnectAttempts()).isEqualTo(options.getRefreshTriggersReconnectAttempts());
+        assertThat(copy.getTopologySource()).isEqualTo(options.getTopologySource());
+        assertThat(copy.getPrewarmConnections()).isEqualTo(options.getPrewarmConnections());
     }
 }
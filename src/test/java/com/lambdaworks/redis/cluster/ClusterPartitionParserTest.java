@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.junit.Assert.assertThat;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
@@ -11,6 +14,7 @@ import org.junit.Test;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
@@ -75,6 +79,83 @@ public class ClusterPartitionParserTest {
         assertThat(p1.getUri().getPort()).isEqualTo(7381);
     }
 
+    @Test
+    public void testParseSlots() throws Exception {
+
+        Partitions result = ClusterPartitionParser.parse(nodes);
+
+        assertThat(result.getPartitions().get(0).getSlots()).hasSize(1 + 1 + 4382).startsWith(7000, 12000, 12002)
+                .endsWith(16383).doesNotContain(12001);
+        assertThat(result.getPartitions().get(1).getSlots()).hasSize(4000).doesNotContain(5461);
+        assertThat(result.getPartitions().get(2).getSlots()).hasSize(7000 + 999 + 1).contains(0, 6999, 7001, 12001);
+        assertThat(result.getPartitions().get(3).getSlots()).isEmpty();
+        assertThat(result.getPartitions().get(3).getUri()).isNull();
+    }
+
+    @Test
+    public void testParseIPv6() throws Exception {
+
+        Partitions result = ClusterPartitionParser
+                .parse("c37ab8396be428403d4e55c0d317348be27ed973 [::1]:7381@17381 myself,master - 0 0 1 connected 0-1\n"
+                        + "3d005a179da7d8dc1adae6409d47b39c369e992b ::1:7380 slave c37ab8396be428403d4e55c0d317348be27ed973 0 0 1 disconnected\n");
+
+        RedisClusterNode p1 = result.getPartitions().get(0);
+        assertThat(p1.getUri().getHost()).isEqualTo("::1");
+        assertThat(p1.getUri().getPort()).isEqualTo(7381);
+        assertThat(p1.getFlags()).isEqualTo(ImmutableSet.of(RedisClusterNode.NodeFlag.MYSELF, RedisClusterNode.NodeFlag.MASTER));
+
+        RedisClusterNode p2 = result.getPartitions().get(1);
+        assertThat(p2.getUri().getHost()).isEqualTo("::1");
+        assertThat(p2.getUri().getPort()).isEqualTo(7380);
+        assertThat(p2.isConnected()).isFalse();
+        assertThat(p2.getSlaveOf()).isEqualTo("c37ab8396be428403d4e55c0d317348be27ed973");
+    }
+
+    @Test(expected = RedisException.class)
+    public void testParseInvalid() throws Exception {
+        ClusterPartitionParser.parse("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - x");
+    }
+
+    @Test
+    public void testParseClusterSlots() throws Exception {
+
+        List<Object> output = Arrays.asList(
+                Arrays.asList(0L, 99L, Arrays.asList("127.0.0.1", 7379L, "a"), Arrays.asList("127.0.0.1", 7380L, "b")),
+                Arrays.asList(200L, 299L, Arrays.asList("127.0.0.1", 7381L, "c")),
+                Arrays.asList(100L, 199L, Arrays.asList("127.0.0.1", 7379L, "a"), Arrays.asList("127.0.0.1", 7380L, "b")));
+
+        Partitions result = ClusterPartitionParser.parseClusterSlots(output);
+
+        assertThat(result.getPartitions()).hasSize(3);
+
+        RedisClusterNode master = result.getPartitionByNodeId("a");
+        assertThat(master.getUri().getPort()).isEqualTo(7379);
+        assertThat(master.is(RedisClusterNode.NodeFlag.MASTER)).isTrue();
+        assertThat(master.getSlots()).hasSize(200).startsWith(0, 1).endsWith(199);
+
+        RedisClusterNode slave = result.getPartitionByNodeId("b");
+        assertThat(slave.getSlaveOf()).isEqualTo("a");
+        assertThat(slave.is(RedisClusterNode.NodeFlag.SLAVE)).isTrue();
+        assertThat(slave.getSlots()).isEmpty();
+
+        assertThat(result.getPartitionBySlot(250).getNodeId()).isEqualTo("c");
+        assertThat(result.getPartitionBySlot(300)).isNull();
+    }
+
+    @Test
+    public void testParseClusterSlotsWithoutNodeIds() throws Exception {
+
+        List<Object> output = Collections.singletonList(Arrays.asList("0", "16383", Arrays.asList("127.0.0.1", "7379"),
+                Arrays.asList("127.0.0.1", "7380")));
+
+        Partitions result = ClusterPartitionParser.parseClusterSlots(output);
+
+        assertThat(result.getPartitions()).hasSize(2);
+        assertThat(result.getPartition(0).getSlots()).hasSize(16384);
+        assertThat(result.getPartition(1).getUri().getPort()).isEqualTo(7380);
+        assertThat(result.getPartition(1).getSlaveOf()).isNull();
+    }
+
     @Test
     public void getNodeByHash() throws Exception {
 
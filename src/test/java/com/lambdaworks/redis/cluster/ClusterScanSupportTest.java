@@ -0,0 +1,93 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.KeyScanCursor;
+import com.lambdaworks.redis.ScanCursor;
+
+/**
+ * @author Mark Paluch
+ */
+public class ClusterScanSupportTest {
+
+    @Test
+    public void parallelScanSelectsFirstNodes() throws Exception {
+
+        Map<String, ScanCursor> selection = ClusterScanSupport.getParallelScanCursors(nodeCursors("a", "0", "b", "12", "c", "0"),
+                2);
+
+        assertThat(selection).containsOnlyKeys("a", "b");
+        assertThat(selection.get("b").getCursor()).isEqualTo("12");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelScanRequiresPositiveParallelism() throws Exception {
+        ClusterScanSupport.getParallelScanCursors(nodeCursors("a", "0"), 0);
+    }
+
+    @Test
+    public void advanceRemovesFinishedNodes() throws Exception {
+
+        Map<String, ScanCursor> results = new LinkedHashMap<>();
+        results.put("a", cursor("0", true));
+        results.put("b", cursor("42", false));
+
+        Map<String, String> advanced = ClusterScanSupport.advance(nodeCursors("a", "0", "b", "12", "c", "0"), results);
+
+        assertThat(advanced).containsOnlyKeys("b", "c");
+        assertThat(advanced.get("b")).isEqualTo("42");
+        assertThat(ClusterScanSupport.getParallelScanCursors(advanced, 2)).containsOnlyKeys("b", "c");
+    }
+
+    @Test
+    public void compositeCursorCanBeRestored() throws Exception {
+
+        ScanCursor cursor = CompositeScanCursor.of(nodeCursors("a", "0", "b", "12"));
+
+        assertThat(cursor.isFinished()).isFalse();
+        assertThat(cursor.getCursor()).isEqualTo("a:0,b:12");
+        assertThat(ClusterScanSupport.getNodeCursors(null, cursor)).containsEntry("a", "0").containsEntry("b", "12");
+    }
+
+    @Test
+    public void emptyCompositeCursorIsFinished() throws Exception {
+
+        ScanCursor cursor = CompositeScanCursor.of(Collections.emptyMap());
+
+        assertThat(cursor.isFinished()).isTrue();
+        assertThat(cursor.getCursor()).isEqualTo(ScanCursor.FINISHED.getCursor());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void finishedCompositeCursorCannotBeResumed() throws Exception {
+        ClusterScanSupport.getNodeCursors(null, CompositeScanCursor.of(Collections.emptyMap()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelScanRejectsForeignCursor() throws Exception {
+        ClusterScanSupport.getNodeCursors(null, ScanCursor.of("12"));
+    }
+
+    private static Map<String, String> nodeCursors(String... nodeIdAndCursor) {
+
+        Map<String, String> nodeCursors = new LinkedHashMap<>();
+        for (int i = 0; i < nodeIdAndCursor.length; i += 2) {
+            nodeCursors.put(nodeIdAndCursor[i], nodeIdAndCursor[i + 1]);
+        }
+        return nodeCursors;
+    }
+
+    private static ScanCursor cursor(String cursor, boolean finished) {
+
+        KeyScanCursor<String> result = new KeyScanCursor<>();
+        result.setCursor(cursor);
+        result.setFinished(finished);
+        return result;
+    }
+}
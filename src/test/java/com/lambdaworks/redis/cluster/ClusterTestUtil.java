@@ -1,9 +1,12 @@
 package com.lambdaworks.redis.cluster;
 
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
 
+import com.lambdaworks.redis.LettuceFutures;
 import com.lambdaworks.redis.RedisClusterConnection;
+import com.lambdaworks.redis.RedisFuture;
 import com.lambdaworks.redis.api.sync.RedisCommands;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
@@ -73,8 +76,28 @@ public class ClusterTestUtil {
      */
     public static RedisCommands<String, String> redisCommandsOverCluster(
             StatefulRedisClusterConnection<String, String> connection) {
-        StatefulRedisClusterConnectionImpl clusterConnection = (StatefulRedisClusterConnectionImpl) connection;
-        InvocationHandler h = clusterConnection.syncInvocationHandler();
+
+        Object sync = connection.sync();
+        Object async = connection.async();
+
+        InvocationHandler h = (proxy, method, args) -> {
+            try {
+                try {
+                    return sync.getClass().getMethod(method.getName(), method.getParameterTypes()).invoke(sync, args);
+                } catch (NoSuchMethodException e) {
+                    Object result = async.getClass().getMethod(method.getName(), method.getParameterTypes()).invoke(async,
+                            args);
+                    if (result instanceof RedisFuture) {
+                        return LettuceFutures.awaitOrCancel((RedisFuture<?>) result, connection.getTimeout(),
+                                connection.getTimeoutUnit());
+                    }
+                    return result;
+                }
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+
         return (RedisCommands<String, String>) Proxy.newProxyInstance(ClusterTestUtil.class.getClassLoader(),
                 new Class[] { RedisCommands.class }, h);
     }
@@ -0,0 +1,100 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.resource.ClientResources;
+
+import io.netty.util.concurrent.EventExecutorGroup;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ClusterTopologyRefreshSchedulerTest {
+
+    private ClusterTopologyRefreshScheduler sut;
+
+    @Mock
+    private RedisClusterClient client;
+
+    @Mock
+    private ClientResources clientResources;
+
+    @Mock
+    private EventExecutorGroup eventExecutors;
+
+    @Before
+    public void before() throws Exception {
+
+        when(client.getResources()).thenReturn(clientResources);
+        when(client.isEventLoopActive()).thenReturn(true);
+        when(clientResources.eventExecutorGroup()).thenReturn(eventExecutors);
+
+        sut = new ClusterTopologyRefreshScheduler(client);
+    }
+
+    @Test
+    public void shouldNotRefreshWithoutTriggers() throws Exception {
+
+        when(client.getClusterClientOptions()).thenReturn(ClusterClientOptions.create());
+
+        sut.onMovedRedirection();
+        sut.onAskRedirection();
+        sut.onReconnection(10);
+
+        verify(eventExecutors, never()).submit(any(Runnable.class));
+    }
+
+    @Test
+    public void shouldRefreshOnEnabledTrigger() throws Exception {
+
+        when(client.getClusterClientOptions()).thenReturn(
+                new ClusterClientOptions.Builder().enableAdaptiveRefreshTrigger(ClusterClientOptions.RefreshTrigger.ASK_REDIRECT)
+                        .build());
+
+        sut.onMovedRedirection();
+        verify(eventExecutors, never()).submit(any(Runnable.class));
+
+        sut.onAskRedirection();
+        verify(eventExecutors).submit(any(Runnable.class));
+    }
+
+    @Test
+    public void shouldRateLimitRefreshes() throws Exception {
+
+        when(client.getClusterClientOptions()).thenReturn(
+                new ClusterClientOptions.Builder().enableAllAdaptiveRefreshTriggers()
+                        .adaptiveRefreshTriggersTimeout(1, TimeUnit.HOURS).build());
+
+        sut.onMovedRedirection();
+        sut.onMovedRedirection();
+        sut.onAskRedirection();
+
+        verify(eventExecutors, times(1)).submit(any(Runnable.class));
+    }
+
+    @Test
+    public void shouldRefreshOnPersistentReconnects() throws Exception {
+
+        when(client.getClusterClientOptions()).thenReturn(
+                new ClusterClientOptions.Builder()
+                        .enableAdaptiveRefreshTrigger(ClusterClientOptions.RefreshTrigger.PERSISTENT_RECONNECTS)
+                        .refreshTriggersReconnectAttempts(3).build());
+
+        sut.onReconnection(1);
+        sut.onReconnection(2);
+        verify(eventExecutors, never()).submit(any(Runnable.class));
+
+        sut.onReconnection(3);
+        verify(eventExecutors).submit(any(Runnable.class));
+    }
+}
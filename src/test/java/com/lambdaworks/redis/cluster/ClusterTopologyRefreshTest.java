@@ -2,9 +2,12 @@ package com.lambdaworks.redis.cluster;
 
 import static com.lambdaworks.redis.cluster.ClusterTopologyRefresh.isChanged;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
 
+import java.net.SocketAddress;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -18,10 +21,14 @@ import org.mockito.runners.MockitoJUnitRunner;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
 import com.lambdaworks.redis.cluster.ClusterTopologyRefresh.RedisClusterNodeSnapshot;
 import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.protocol.AsyncCommand;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
 
 /**
  * @author Mark Paluch
@@ -32,6 +39,12 @@ public class ClusterTopologyRefreshTest {
     public static final String NODES = "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 111 1401258245007 222 connected 7000 12000 12002-16383\n"
             + "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master - 0 1401258245007 2 disconnected 8000-11999\n";
 
+    private static final String NODES_7380 = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 connected 0-11999\n"
+            + "2 127.0.0.1:7381 master - 111 1401258245007 222 connected 12000-16383\n";
+
+    private static final String NODES_7381 = "1 127.0.0.1:7380 master - 0 1401258245007 2 connected 0-11999\n"
+            + "2 127.0.0.1:7381 master,myself - 111 1401258245007 222 connected 12000-16383\n";
+
     private ClusterTopologyRefresh sut;
     @Mock
     private RedisClusterClient client;
@@ -137,6 +150,78 @@ public class ClusterTopologyRefreshTest {
         }
     }
 
+    @Test
+    public void getNodeSpecificViewsFromClusterSlots() throws Exception {
+
+        Map<RedisURI, ClusterTopologyRefresh.TimedAsyncCommand<String, String, List<Object>>> commands = Maps.newHashMap();
+        Map<RedisURI, AsyncCommand<String, String, String>> clientCommands = Maps.newHashMap();
+
+        List<Object> slots = Arrays.asList(
+                Arrays.asList(0L, 11999L, Arrays.asList("127.0.0.1", 7380L, "1"), Arrays.asList("127.0.0.1", 7382L, "3")),
+                Arrays.asList(12000L, 16383L, Arrays.asList("localhost", 1L, "2")));
+
+        ClusterTopologyRefresh.TimedAsyncCommand<String, String, List<Object>> command = sut.createClusterSlotsCommand();
+        command.complete(slots);
+        command.encodedAtNs = 0;
+        command.completedAtNs = 1;
+        commands.put(RedisURI.create("redis://localhost:1"), command);
+        createClientCommand(clientCommands, 1, "c1\nc2\n");
+
+        List<Partitions> values = Lists.newArrayList(sut.getNodeSpecificViews(commands, clientCommands).values());
+
+        assertThat(values).hasSize(1);
+        Partitions partitions = values.get(0);
+
+        assertThat(partitions).extracting("nodeId").containsExactly("2", "1", "3");
+        assertThat(partitions.getPartitionBySlot(0).getNodeId()).isEqualTo("1");
+        assertThat(partitions.getPartitionBySlot(16383).getNodeId()).isEqualTo("2");
+        assertThat(partitions.getPartitionByNodeId("3").getSlaveOf()).isEqualTo("1");
+        assertThat(partitions.getPartitionByNodeId("3").getSlots()).isEmpty();
+
+        RedisClusterNodeSnapshot self = (RedisClusterNodeSnapshot) partitions.getPartitionByNodeId("2");
+        assertThat(self.getLatencyNs()).isEqualTo(1);
+        assertThat(self.getConnectedClients()).isEqualTo(2);
+    }
+
+    @Test
+    public void getNodeSpecificViewsFromClusterSlotsWithHostnameSeed() throws Exception {
+
+        Map<RedisURI, ClusterTopologyRefresh.TimedAsyncCommand<String, String, List<Object>>> commands = Maps.newHashMap();
+        Map<RedisURI, AsyncCommand<String, String, String>> clientCommands = Maps.newHashMap();
+
+        List<Object> slots = Arrays.asList(Arrays.asList(0L, 11999L, Arrays.asList("127.0.0.1", 7380L, "1")),
+                Arrays.asList(12000L, 16383L, Arrays.asList("127.0.0.1", 7381L, "2")));
+
+        ClusterTopologyRefresh.TimedAsyncCommand<String, String, List<Object>> command = sut.createClusterSlotsCommand();
+        command.complete(slots);
+        command.encodedAtNs = 0;
+        command.completedAtNs = 1;
+        RedisURI seed = RedisURI.create("redis://localhost:7380");
+        commands.put(seed, command);
+        createClientCommand(clientCommands, 7380, "c1\nc2\n");
+
+        List<Partitions> values = Lists.newArrayList(sut.getNodeSpecificViews(commands, clientCommands).values());
+
+        assertThat(values).hasSize(1);
+
+        RedisClusterNodeSnapshot self = (RedisClusterNodeSnapshot) values.get(0).getPartitionByNodeId("1");
+        assertThat(self.getUri()).isSameAs(seed);
+        assertThat(self.getLatencyNs()).isEqualTo(1);
+        assertThat(self.getConnectedClients()).isEqualTo(2);
+
+        RedisClusterNodeSnapshot other = (RedisClusterNodeSnapshot) values.get(0).getPartitionByNodeId("2");
+        assertThat(other.getLatencyNs()).isNull();
+    }
+
+    @Test
+    public void isSameEndpointComparesResolvedAddresses() throws Exception {
+
+        assertThat(ClusterTopologyRefresh.isSameEndpoint(RedisURI.create("redis://127.0.0.1:7380"),
+                RedisURI.create("redis://localhost:7380"))).isTrue();
+        assertThat(ClusterTopologyRefresh.isSameEndpoint(RedisURI.create("redis://127.0.0.1:7381"),
+                RedisURI.create("redis://localhost:7380"))).isFalse();
+    }
+
     @Test
     public void getNodeSpecificViewTestingNoAddrFilter() throws Exception {
 
@@ -191,6 +276,65 @@ public class ClusterTopologyRefreshTest {
         }
     }
 
+    @Test
+    public void loadViewsReusesConnections() throws Exception {
+
+        when(client.getClusterClientOptions()).thenReturn(
+                new ClusterClientOptions.Builder().reuseTopologyRefreshConnections(true).topologyRefreshConcurrency(1)
+                        .build());
+
+        StatefulRedisConnection<String, String> connection1 = mockConnection(NODES_7380);
+        StatefulRedisConnection<String, String> connection2 = mockConnection(NODES_7381);
+        when(client.connectToNode(any(SocketAddress.class))).thenReturn(connection1, connection2);
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7381));
+
+        assertThat(sut.loadViews(seed)).hasSize(2);
+        assertThat(sut.loadViews(seed)).hasSize(2);
+
+        verify(client, times(2)).connectToNode(any(SocketAddress.class));
+        verify(connection1, never()).close();
+        verify(connection2, never()).close();
+
+        sut.close();
+
+        verify(connection1).close();
+        verify(connection2).close();
+    }
+
+    @Test
+    public void loadViewsClosesConnectionsWithoutReuse() throws Exception {
+
+        StatefulRedisConnection<String, String> connection1 = mockConnection(NODES_7380);
+        StatefulRedisConnection<String, String> connection2 = mockConnection(NODES_7381);
+        when(client.connectToNode(any(SocketAddress.class))).thenReturn(connection1, connection2);
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7381));
+
+        assertThat(sut.loadViews(seed)).hasSize(2);
+
+        verify(connection1).close();
+        verify(connection2).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private StatefulRedisConnection<String, String> mockConnection(String nodes) {
+
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        when(connection.isOpen()).thenReturn(true);
+        when(connection.async()).thenReturn(mock(RedisAsyncCommands.class));
+        when(connection.dispatch(any(RedisCommand.class))).thenAnswer(invocation -> {
+
+            RedisCommand<String, String, String> command = (RedisCommand<String, String, String>) invocation.getArguments()[0];
+            String response = command.getType() == CommandType.CLUSTER ? nodes : "c1\n";
+            command.getOutput().set(ByteBuffer.wrap(response.getBytes()));
+            command.complete();
+            return command;
+        });
+
+        return connection;
+    }
+
     @Test
     public void testLatencyComparator() throws Exception {
 
@@ -0,0 +1,132 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.RedisCommandExecutionException;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+
+/**
+ * @author Mark Paluch
+ */
+public class MultiNodeExecutionTest {
+
+    @Test
+    public void aggregateFoldsResultsAsTheyArrive() throws Exception {
+
+        Map<String, RedisFuture<Long>> executions = executions(3);
+        RedisFuture<Long> result = MultiNodeExecution.aggregateAsync(executions);
+
+        complete(executions, "2", 2L);
+        complete(executions, "0", null);
+        assertThat(result.isDone()).isFalse();
+
+        complete(executions, "1", 40L);
+        assertThat(result.get()).isEqualTo(42L);
+    }
+
+    @Test
+    public void emptyExecutionsCompleteImmediately() throws Exception {
+
+        assertThat(MultiNodeExecution.aggregateAsync(new LinkedHashMap<>()).get()).isEqualTo(0L);
+        assertThat(MultiNodeExecution.<List<String>> concatAsync(new LinkedHashMap<>()).get()).isEmpty();
+        assertThat(MultiNodeExecution.alwaysOkOfAsync(new LinkedHashMap<>()).get()).isEqualTo("OK");
+    }
+
+    @Test
+    public void concatAppendsInCompletionOrder() throws Exception {
+
+        Map<String, RedisFuture<List<String>>> executions = executions(3);
+        RedisFuture<List<String>> result = MultiNodeExecution.concatAsync(executions);
+
+        complete(executions, "1", Arrays.asList("b", "c"));
+        complete(executions, "0", Arrays.asList("a"));
+        complete(executions, "2", new ArrayList<>());
+
+        assertThat(result.get()).containsExactly("b", "c", "a");
+    }
+
+    @Test
+    public void firstOfWaitsForAllResults() throws Exception {
+
+        Map<String, RedisFuture<String>> executions = executions(2);
+        RedisFuture<String> result = MultiNodeExecution.firstOfAsync(executions);
+
+        complete(executions, "1", "OK");
+        assertThat(result.isDone()).isFalse();
+
+        complete(executions, "0", "other");
+        assertThat(result.get()).isEqualTo("OK");
+    }
+
+    @Test
+    public void failsWithFirstFailure() throws Exception {
+
+        Map<String, RedisFuture<Long>> executions = executions(3);
+        RedisFuture<Long> result = MultiNodeExecution.aggregateAsync(executions);
+
+        complete(executions, "0", 1L);
+        ((PipelinedRedisFuture<Long>) executions.get("1")).completeExceptionally(new RedisCommandExecutionException(
+                "LOADING"));
+
+        assertThat(result.isDone()).isTrue();
+        complete(executions, "2", 1L);
+
+        try {
+            result.get();
+            fail("Missing ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e).hasRootCauseExactlyInstanceOf(RedisCommandExecutionException.class);
+        }
+    }
+
+    @Test
+    public void alwaysOkIgnoresFailures() throws Exception {
+
+        Map<String, RedisFuture<String>> executions = executions(2);
+        RedisFuture<String> result = MultiNodeExecution.alwaysOkOfAsync(executions);
+
+        ((PipelinedRedisFuture<String>) executions.get("0")).completeExceptionally(new RedisCommandExecutionException(
+                "NOTBUSY"));
+        assertThat(result.isDone()).isFalse();
+
+        complete(executions, "1", "OK");
+        assertThat(result.get()).isEqualTo("OK");
+    }
+
+    @Test
+    public void synchronizedChannelDelegates() throws Exception {
+
+        List<String> keys = new ArrayList<>();
+        KeyStreamingChannel<String> target = keys::add;
+        KeyStreamingChannel<String> channel = MultiNodeExecution.synchronizedChannel(target);
+
+        channel.onKey("a");
+        channel.onKey("b");
+
+        assertThat(keys).containsExactly("a", "b");
+    }
+
+    private static <T> Map<String, RedisFuture<T>> executions(int count) {
+
+        Map<String, RedisFuture<T>> executions = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            executions.put(Integer.toString(i), new PipelinedRedisFuture<>());
+        }
+        return executions;
+    }
+
+    private static <T> void complete(Map<String, RedisFuture<T>> executions, String key, T value) {
+        ((PipelinedRedisFuture<T>) executions.get(key)).complete(value);
+    }
+}
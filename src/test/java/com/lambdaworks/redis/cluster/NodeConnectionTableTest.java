@@ -0,0 +1,156 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.ClusterConnectionProvider.Intent;
+import com.lambdaworks.redis.cluster.NodeConnectionTable.ConnectionKey;
+import com.lambdaworks.redis.cluster.models.partitions.PartitionsSnapshot;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * @author Mark Paluch
+ */
+public class NodeConnectionTableTest {
+
+    private static RedisURI hap1 = new RedisURI("127.0.0.1", 1, 1, TimeUnit.SECONDS);
+    private static RedisURI hap2 = new RedisURI("127.0.0.1", 2, 1, TimeUnit.SECONDS);
+
+    private List<ConnectionKey> connects = new ArrayList<>();
+    private List<CompletableFuture<StatefulRedisConnection<String, String>>> pending = new ArrayList<>();
+    private NodeConnectionTable<String, String> sut;
+    private PartitionsSnapshot snapshot;
+
+    @Before
+    public void before() throws Exception {
+
+        sut = new NodeConnectionTable<>(key -> {
+            CompletableFuture<StatefulRedisConnection<String, String>> future = new CompletableFuture<>();
+            connects.add(key);
+            pending.add(future);
+            return future;
+        });
+
+        snapshot = PartitionsSnapshot.create(Lists.newArrayList(
+                new RedisClusterNode(hap1, "1", true, "", 0, 0, 0, Lists.newArrayList(), Sets.newHashSet()),
+                new RedisClusterNode(hap2, "2", true, "", 0, 0, 0, Lists.newArrayList(), Sets.newHashSet())));
+    }
+
+    @Test
+    public void sharesPendingConnect() throws Exception {
+
+        CompletableFuture<StatefulRedisConnection<String, String>> first = sut.getOrCreate(new ConnectionKey(Intent.WRITE, "1"));
+        CompletableFuture<StatefulRedisConnection<String, String>> second = sut
+                .getOrCreate(new ConnectionKey(Intent.WRITE, "1"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(connects).hasSize(1);
+        assertThat(sut.size()).isEqualTo(0);
+
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        pending.get(0).complete(connection);
+
+        assertThat(first.join()).isSameAs(connection);
+        assertThat(sut.size()).isEqualTo(1);
+        assertThat(sut.getConnections()).containsOnly(connection);
+    }
+
+    @Test
+    public void failedConnectIsNotRetained() throws Exception {
+
+        ConnectionKey key = new ConnectionKey(Intent.WRITE, "127.0.0.1", 1);
+        CompletableFuture<StatefulRedisConnection<String, String>> future = sut.getOrCreate(key);
+
+        pending.get(0).completeExceptionally(new RedisException("Unable to connect"));
+
+        assertThat(future.isCompletedExceptionally()).isTrue();
+        assertThat(sut.contains(key)).isFalse();
+
+        sut.getOrCreate(key);
+        assertThat(connects).hasSize(2);
+    }
+
+    @Test
+    public void connectFactoryFailure() throws Exception {
+
+        sut = new NodeConnectionTable<>(key -> {
+            throw new IllegalArgumentException("not allowed");
+        });
+
+        ConnectionKey key = new ConnectionKey(Intent.WRITE, "unknown");
+
+        assertThat(sut.getOrCreate(key).isCompletedExceptionally()).isTrue();
+        assertThat(sut.contains(key)).isFalse();
+    }
+
+    @Test
+    public void lookupByNodeIdAndHostAndPort() throws Exception {
+
+        assertThat(sut.getIfPresent(Intent.WRITE, "1", snapshot)).isNull();
+
+        StatefulRedisConnection<String, String> byNodeId = mock(StatefulRedisConnection.class);
+        StatefulRedisConnection<String, String> byHostAndPort = mock(StatefulRedisConnection.class);
+
+        sut.getOrCreate(new ConnectionKey(Intent.WRITE, "1"));
+        sut.getOrCreate(new ConnectionKey(Intent.READ, "127.0.0.1", 2));
+        pending.get(0).complete(byNodeId);
+        pending.get(1).complete(byHostAndPort);
+
+        assertThat(sut.getIfPresent(Intent.WRITE, "1", snapshot)).isSameAs(byNodeId);
+        assertThat(sut.getIfPresent(Intent.READ, "1", snapshot)).isNull();
+        assertThat(sut.getIfPresent(Intent.WRITE, "127.0.0.1", 1, snapshot)).isNull();
+        assertThat(sut.getIfPresent(Intent.READ, "127.0.0.1", 2, snapshot)).isSameAs(byHostAndPort);
+        assertThat(sut.getIfPresent(Intent.READ, "127.0.0.1", 3, snapshot)).isNull();
+        assertThat(sut.getIfPresent(Intent.READ, "localhost", 2, snapshot)).isNull();
+    }
+
+    @Test
+    public void lookupAfterTopologyChange() throws Exception {
+
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        ConnectionKey key = new ConnectionKey(Intent.WRITE, "2");
+
+        sut.getIfPresent(Intent.WRITE, "2", snapshot);
+        sut.getOrCreate(key);
+        pending.get(0).complete(connection);
+
+        PartitionsSnapshot changed = PartitionsSnapshot.create(Lists.newArrayList(new RedisClusterNode(hap2, "2", true, "",
+                0, 0, 0, Lists.newArrayList(), Sets.newHashSet())));
+
+        assertThat(sut.getIfPresent(Intent.WRITE, "2", changed)).isNull();
+        assertThat(sut.getOrCreate(key).join()).isSameAs(connection);
+        assertThat(sut.getIfPresent(Intent.WRITE, "2", changed)).isSameAs(connection);
+        assertThat(connects).hasSize(1);
+    }
+
+    @Test
+    public void removeInvalidatesLookup() throws Exception {
+
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        ConnectionKey key = new ConnectionKey(Intent.WRITE, "1");
+
+        sut.getIfPresent(Intent.WRITE, "1", snapshot);
+        sut.getOrCreate(key);
+        pending.get(0).complete(connection);
+
+        assertThat(sut.getIfPresent(Intent.WRITE, "1", snapshot)).isSameAs(connection);
+        assertThat(sut.remove(key).join()).isSameAs(connection);
+
+        assertThat(sut.getIfPresent(Intent.WRITE, "1", snapshot)).isNull();
+        assertThat(sut.get(key)).isNull();
+        assertThat(sut.clear()).isEmpty();
+    }
+}
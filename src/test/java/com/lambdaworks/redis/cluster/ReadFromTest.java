@@ -2,8 +2,10 @@ package com.lambdaworks.redis.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -23,6 +25,7 @@ public class ReadFromTest {
     private RedisClusterNode nearest = new RedisClusterNode();
     private RedisClusterNode master = new RedisClusterNode();
     private RedisClusterNode slave = new RedisClusterNode();
+    private Map<RedisNodeDescription, ReadFrom.NodeStatistics> statistics = new IdentityHashMap<>();
 
     @Before
     public void before() throws Exception {
@@ -59,6 +62,34 @@ public class ReadFromTest {
         assertThat(result).hasSize(3).containsExactly(nearest, master, slave);
     }
 
+    @Test
+    public void lowestLatency() throws Exception {
+
+        statistics.put(nearest, statistics(2000, 0));
+        statistics.put(master, statistics(1000, 0));
+        statistics.put(slave, statistics(1000, 4));
+
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(getNodes());
+        assertThat(result).hasSize(3).containsExactly(master, nearest, slave);
+        assertThat(ReadFrom.LOWEST_LATENCY.isDynamic()).isTrue();
+    }
+
+    @Test
+    public void lowestLatencyProbesNodesWithoutLatency() throws Exception {
+
+        statistics.put(nearest, statistics(2000, 1));
+        statistics.put(master, statistics(-1, 0));
+
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(getNodes());
+        assertThat(result).hasSize(3).containsExactly(slave, master, nearest);
+    }
+
+    @Test
+    public void lowestLatencyWithoutStatistics() throws Exception {
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(getNodes());
+        assertThat(result).hasSize(3).containsExactly(nearest, master, slave);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void valueOfNull() throws Exception {
         ReadFrom.valueOf(null);
@@ -89,6 +120,11 @@ public class ReadFromTest {
         assertThat(ReadFrom.valueOf("slave")).isEqualTo(ReadFrom.SLAVE);
     }
 
+    @Test
+    public void valueOfLowestLatency() throws Exception {
+        assertThat(ReadFrom.valueOf("lowestLatency")).isEqualTo(ReadFrom.LOWEST_LATENCY);
+    }
+
     private ReadFrom.Nodes getNodes() {
         return new ReadFrom.Nodes() {
             @Override
@@ -100,7 +136,26 @@ public class ReadFromTest {
             public Iterator<RedisNodeDescription> iterator() {
                 return getNodes().iterator();
             }
+
+            @Override
+            public ReadFrom.NodeStatistics getStatistics(RedisNodeDescription node) {
+                return statistics.get(node);
+            }
         };
 
     }
+
+    private static ReadFrom.NodeStatistics statistics(long latency, int queueSize) {
+        return new ReadFrom.NodeStatistics() {
+            @Override
+            public long getAverageLatency() {
+                return latency;
+            }
+
+            @Override
+            public int getQueueSize() {
+                return queueSize;
+            }
+        };
+    }
 }
@@ -37,7 +37,9 @@ import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.protocol.AsyncCommand;
+import com.lambdaworks.redis.pubsub.StatefulRedisPubSubConnection;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 @SuppressWarnings("unchecked")
@@ -114,6 +116,31 @@ public class RedisClusterClientTest extends AbstractClusterTest {
         assertThat(async.getStatefulConnection().async()).isSameAs(async);
     }
 
+    @Test
+    public void connectStatefulAsync() throws Exception {
+
+        RedisClusterClient client = RedisClusterClient.create(RedisURI.Builder.redis(host, port1).build());
+
+        StatefulRedisClusterConnection<String, String> connection = client.connectStatefulAsync(new Utf8StringCodec()).get(
+                5, TimeUnit.SECONDS);
+
+        assertThat(connection.sync().set(KEY_A, value)).isEqualTo("OK");
+        assertThat(connection.sync().get(KEY_A)).isEqualTo(value);
+
+        connection.close();
+        FastShutdown.shutdown(client);
+    }
+
+    @Test
+    public void connectPubSubAsync() throws Exception {
+
+        StatefulRedisPubSubConnection<String, String> connection = clusterClient.connectPubSubAsync(new Utf8StringCodec())
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(connection.sync().ping()).isEqualTo("PONG");
+        connection.close();
+    }
+
     @Test
     public void reloadPartitions() throws Exception {
         assertThat(clusterClient.getPartitions()).hasSize(4);
@@ -290,6 +290,26 @@ public class RedisClusterSetupTest extends AbstractTest {
 
     }
 
+    @Test
+    public void prewarmConnections() throws Exception {
+
+        ClusterSetup.setup2Masters(clusterRule);
+
+        clusterClient.setOptions(new ClusterClientOptions.Builder().prewarmConnections(
+                ClusterClientOptions.PrewarmConnections.MASTERS).build());
+        clusterClient.reloadPartitions();
+        RedisAdvancedClusterAsyncCommands<String, String> clusterConnection = clusterClient.connectClusterAsync();
+
+        PooledClusterConnectionProvider<String, String> clusterConnectionProvider = getPooledClusterConnectionProvider(clusterConnection);
+
+        Wait.untilEquals(2L, clusterConnectionProvider::getConnectionCount).waitOrTimeout();
+
+        assertRoutedExecution(clusterConnection);
+        assertThat(clusterConnectionProvider.getConnectionCount()).isEqualTo(2);
+
+        clusterConnection.close();
+    }
+
     @Test
     public void expireStaleNodeIdConnections() throws Exception {
 
@@ -0,0 +1,48 @@
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
+/**
+ * @author Mark Paluch
+ */
+public class SlotPartitionTest {
+
+    @Test
+    public void singleSlot() throws Exception {
+
+        SlotPartition<String> partition = SlotPartition.partition(new Utf8StringCodec(), Arrays.asList("{a}1", "{a}2"));
+
+        assertThat(partition.size()).isEqualTo(1);
+        assertThat(partition.getSlot(0)).isEqualTo(SlotHash.getSlot("a"));
+        assertThat(partition.getKeys(0)).containsExactly("{a}1", "{a}2");
+    }
+
+    @Test
+    public void retainsPositionOfKeys() throws Exception {
+
+        List<String> keys = Arrays.asList("b", "{a}1", "c", "{a}2", "b");
+        SlotPartition<String> partition = SlotPartition.partition(new Utf8StringCodec(), keys);
+
+        assertThat(partition.size()).isEqualTo(3);
+
+        for (int i = 0; i < partition.size() - 1; i++) {
+            assertThat(partition.getSlot(i)).isLessThan(partition.getSlot(i + 1));
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            int group = partition.getGroup(i);
+            assertThat(partition.getSlot(group)).isEqualTo(SlotHash.getSlot(keys.get(i)));
+            assertThat(partition.getKeys(group).get(partition.getPosition(i))).isEqualTo(keys.get(i));
+        }
+
+        assertThat(partition.getKeys(partition.getGroup(1))).containsExactly("{a}1", "{a}2");
+        assertThat(partition.getKeys(partition.getGroup(0))).containsExactly("b", "b");
+    }
+}
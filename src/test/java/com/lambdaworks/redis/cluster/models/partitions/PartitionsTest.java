@@ -0,0 +1,82 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+import com.lambdaworks.redis.RedisURI;
+
+/**
+ * @author Mark Paluch
+ */
+public class PartitionsTest {
+
+    private RedisClusterNode master = new RedisClusterNode(RedisURI.create("localhost", 7379), "a", true, null, 0, 0, 0,
+            Arrays.asList(1, 2), Sets.newHashSet(RedisClusterNode.NodeFlag.MASTER));
+    private RedisClusterNode slave = new RedisClusterNode(RedisURI.create("localhost", 7380), "b", true, "a", 0, 0, 0,
+            Collections.emptyList(), Sets.newHashSet(RedisClusterNode.NodeFlag.SLAVE));
+    private RedisClusterNode other = new RedisClusterNode(RedisURI.create("localhost", 7381), "c", true, null, 0, 0, 0,
+            Arrays.asList(3), Sets.newHashSet(RedisClusterNode.NodeFlag.MASTER));
+
+    @Test
+    public void routesBySlot() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.reload(Arrays.asList(slave, master, other));
+
+        PartitionsSnapshot snapshot = partitions.getSnapshot();
+
+        assertThat(partitions.getPartitionBySlot(1)).isSameAs(master);
+        assertThat(partitions.getPartitionBySlot(3)).isSameAs(other);
+        assertThat(partitions.getPartitionBySlot(4)).isNull();
+        assertThat(partitions.getPartitionByNodeId("b")).isSameAs(slave);
+
+        assertThat(snapshot.getReplicasBySlot(2)).containsExactly(slave);
+        assertThat(snapshot.getReplicaSetBySlot(2)).containsExactly(slave, master);
+        assertThat(snapshot.getReplicasBySlot(3)).isEmpty();
+        assertThat(snapshot.getReplicaSetBySlot(4)).isEmpty();
+    }
+
+    @Test
+    public void addPartitionRetainsSlotsUntilUpdateCache() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.addPartition(master);
+
+        assertThat(partitions).containsExactly(master);
+        assertThat(partitions.getPartitionByNodeId("a")).isSameAs(master);
+        assertThat(partitions.getPartitionBySlot(1)).isNull();
+
+        partitions.updateCache();
+
+        assertThat(partitions.getPartitionBySlot(1)).isSameAs(master);
+    }
+
+    @Test
+    public void reloadPublishesNewSnapshot() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.reload(Arrays.asList(master, slave));
+
+        PartitionsSnapshot before = partitions.getSnapshot();
+
+        partitions.reload(Collections.singletonList(other));
+
+        assertThat(partitions.getSnapshot()).isNotSameAs(before);
+        assertThat(before.getMasterBySlot(1)).isSameAs(master);
+        assertThat(before.getNodes()).containsExactly(master, slave);
+        assertThat(partitions.getPartitionBySlot(1)).isNull();
+        assertThat(partitions.getPartitions()).containsExactly(other);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void partitionsAreImmutable() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.getPartitions().add(master);
+    }
+}
@@ -0,0 +1,65 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class SlotRangesTest {
+
+    @Test
+    public void emptyRanges() throws Exception {
+
+        SlotRanges ranges = new SlotRanges.Builder().build();
+
+        assertThat(ranges).isEmpty();
+        assertThat(ranges.contains(0)).isFalse();
+    }
+
+    @Test
+    public void mergesAdjacentRanges() throws Exception {
+
+        SlotRanges ranges = new SlotRanges.Builder().add(0, 2).add(3, 3).add(7, 8).build();
+
+        assertThat(ranges).containsExactly(0, 1, 2, 3, 7, 8);
+        assertThat(ranges.getRangeCount()).isEqualTo(2);
+        assertThat(ranges.indexOf(7)).isEqualTo(4);
+        assertThat(ranges.contains(5)).isFalse();
+        assertThat(ranges.contains(9)).isFalse();
+        assertThat(ranges.contains("7")).isFalse();
+        assertThat(ranges).isEqualTo(Arrays.asList(0, 1, 2, 3, 7, 8));
+    }
+
+    @Test
+    public void normalizesUnorderedRanges() throws Exception {
+
+        SlotRanges ranges = new SlotRanges.Builder().add(10, 12).add(0, 1).add(11, 14).build();
+
+        assertThat(ranges).containsExactly(0, 1, 10, 11, 12, 13, 14);
+        assertThat(ranges.getRangeCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void getByIndex() throws Exception {
+
+        SlotRanges ranges = new SlotRanges.Builder().add(5, 9).add(100, 100).add(16000, 16383).build();
+        List<Integer> expected = new ArrayList<>(ranges);
+
+        assertThat(ranges.size()).isEqualTo(5 + 1 + 384);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(ranges.get(i)).isEqualTo(expected.get(i));
+            assertThat(ranges.indexOf(expected.get(i))).isEqualTo(i);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void rangesAreImmutable() throws Exception {
+        new SlotRanges.Builder().add(1, 2).build().add(3);
+    }
+}
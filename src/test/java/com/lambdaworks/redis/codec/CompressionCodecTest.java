@@ -2,8 +2,11 @@ package com.lambdaworks.redis.codec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.Test;
 
@@ -59,6 +62,150 @@ public class CompressionCodecTest {
         sut.decodeValue(ByteBuffer.wrap(keyGzipBytes));
     }
 
+    @Test
+    public void roundtripAllCompressionTypes() throws Exception {
+
+        for (CompressionCodec.CompressionType type : CompressionCodec.CompressionType.values()) {
+            for (String value : new String[] { "a", jsonValue(1), jsonValue(100), jsonValue(5000) }) {
+
+                RedisCodec<String, String> sut = CompressionCodec.valueCompressor(new Utf8StringCodec(), type);
+                ByteBuffer encoded = sut.encodeValue(value);
+
+                assertThat(type.getCompressor().isCompressed(encoded.duplicate())).isTrue();
+                assertThat(sut.decodeValue(encoded)).isEqualTo(value);
+            }
+        }
+    }
+
+    @Test
+    public void lz4RoundtripIncompressibleData() throws Exception {
+
+        byte[] value = new byte[10000];
+        new Random(42).nextBytes(value);
+
+        RedisCodec<byte[], byte[]> sut = CompressionCodec.valueCompressor(new ByteArrayCodec(),
+                CompressionCodec.CompressionType.LZ4);
+
+        assertThat(sut.decodeValue(sut.encodeValue(value))).isEqualTo(value);
+    }
+
+    @Test
+    public void lz4CompressesRepetitiveData() throws Exception {
+
+        String value = jsonValue(1000);
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(new Utf8StringCodec(),
+                CompressionCodec.CompressionType.LZ4);
+
+        assertThat(sut.encodeValue(value).remaining()).isLessThan(value.length() / 4);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void lz4RejectsCorruptData() throws Exception {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(new Utf8StringCodec(),
+                CompressionCodec.CompressionType.LZ4);
+
+        ByteBuffer encoded = sut.encodeValue(jsonValue(100));
+        encoded.limit(encoded.limit() - 3);
+        sut.decodeValue(encoded);
+    }
+
+    @Test
+    public void gzipIsReadableByGzipInputStream() throws Exception {
+
+        String value = jsonValue(100);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        GZIPOutputStream stream = new GZIPOutputStream(expected);
+        stream.write(value.getBytes("UTF-8"));
+        stream.close();
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(new Utf8StringCodec(),
+                CompressionCodec.CompressionType.GZIP);
+
+        assertThat(sut.decodeValue(ByteBuffer.wrap(expected.toByteArray()))).isEqualTo(value);
+        assertThat(new String(toBytes(new DeflateCompressor(true).decompress(sut.encodeValue(value))), "UTF-8"))
+                .isEqualTo(value);
+    }
+
+    @Test
+    public void valuesBelowThresholdAreStoredRaw() throws Exception {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(new Utf8StringCodec(),
+                CompressionCodec.CompressionType.LZ4, 64);
+
+        ByteBuffer encoded = sut.encodeValue(value);
+        assertThat(toBytes(encoded.duplicate())).isEqualTo(new byte[] { (byte) 0xFF, 'l', 'r', 1, 'v', 'a', 'l', 'u', 'e' });
+        assertThat(sut.decodeValue(encoded)).isEqualTo(value);
+
+        String large = jsonValue(100);
+        encoded = sut.encodeValue(large);
+        assertThat(CompressionCodec.CompressionType.LZ4.getCompressor().isCompressed(encoded.duplicate())).isTrue();
+        assertThat(sut.decodeValue(encoded)).isEqualTo(large);
+    }
+
+    @Test
+    public void incompressibleValuesAreStoredRaw() throws Exception {
+
+        byte[] value = new byte[1000];
+        new Random(42).nextBytes(value);
+
+        RedisCodec<byte[], byte[]> sut = CompressionCodec.valueCompressor(new ByteArrayCodec(),
+                CompressionCodec.CompressionType.LZ4, 0);
+
+        ByteBuffer encoded = sut.encodeValue(value);
+        assertThat(encoded.remaining()).isEqualTo(value.length + CompressionCodec.RAW_HEADER.length);
+        assertThat(sut.decodeValue(encoded)).isEqualTo(value);
+    }
+
+    @Test
+    public void thresholdCodecDetectsCompressionType() throws Exception {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(new Utf8StringCodec(),
+                CompressionCodec.CompressionType.LZ4, 64);
+        String large = jsonValue(100);
+
+        assertThat(sut.decodeValue(ByteBuffer.wrap(keyGzipBytes))).isEqualTo(key);
+        assertThat(sut.decodeValue(ByteBuffer.wrap(keyDeflateBytes))).isEqualTo(key);
+        assertThat(sut.decodeValue(CompressionCodec.valueCompressor(new Utf8StringCodec(),
+                CompressionCodec.CompressionType.GZIP).encodeValue(large))).isEqualTo(large);
+        assertThat(sut.decodeValue(ByteBuffer.wrap("{\"uncompressed\":true}".getBytes("UTF-8"))))
+                .isEqualTo("{\"uncompressed\":true}");
+    }
+
+    @Test
+    public void thresholdCodecReadsLegacyValuesWithMagicLeadingBytes() throws Exception {
+
+        RedisCodec<byte[], byte[]> sut = CompressionCodec.valueCompressor(new ByteArrayCodec(),
+                CompressionCodec.CompressionType.LZ4, 64);
+
+        byte[][] legacyValues = { { (byte) 0xFF, 'a', 'b', 'c' }, { (byte) 0xFE, 0, 0, 0, 3, 'a', 'b', 'c' },
+                { 0x78, (byte) 0x9C, 'a', 'b', 'c' }, { 0x1F, (byte) 0x8B, 8, 0, 0, 0, 0, 0, 0, 0, 'a', 'b', 'c', 0, 0, 0, 0, 0,
+                        0, 0 } };
+
+        for (byte[] legacyValue : legacyValues) {
+            assertThat(sut.decodeValue(ByteBuffer.wrap(legacyValue))).isEqualTo(legacyValue);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void lz4RejectsOversizedLengthHeader() throws Exception {
+
+        byte[] compressed = { (byte) 0xFE, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x10, 'a' };
+        CompressionCodec.CompressionType.LZ4.getCompressor().decompress(ByteBuffer.wrap(compressed));
+    }
+
+    private static String jsonValue(int entries) {
+
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < entries; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(i).append(",\"name\":\"user-").append(i).append("\",\"active\":true}");
+        }
+        return builder.append(']').toString();
+    }
+
     private String toString(ByteBuffer buffer) throws IOException {
         byte[] bytes = toBytes(buffer);
         return new String(bytes, "UTF-8");
@@ -95,6 +95,19 @@ public class MasterSlaveTest extends AbstractRedisClientTest {
         slaveCall(connection);
     }
 
+    @Test
+    public void connectAsync() throws Exception {
+
+        StatefulRedisMasterSlaveConnection<String, String> asyncConnected = MasterSlave.connectAsync(client,
+                new Utf8StringCodec(), masterURI).get(5, TimeUnit.SECONDS);
+
+        RedisCommands<String, String> redisCommands = asyncConnected.sync();
+        redisCommands.set(key, value);
+
+        assertThat(redisCommands.get(key)).isEqualTo(value);
+        asyncConnected.close();
+    }
+
     @Test
     public void testConnectionCount() throws Exception {
 
@@ -56,6 +56,77 @@ public class DefaultCommandLatencyCollectorTest {
 
     }
 
+    @Test
+    public void recorderRecordsForId() throws Exception {
+
+        CommandLatencyRecorder recorder = sut.getRecorder(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET);
+        recorder.recordCommandLatency(MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(200));
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET, MILLISECONDS.toNanos(100),
+                MILLISECONDS.toNanos(200));
+
+        assertThat(sut.getRecorder(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET)).isSameAs(recorder);
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+        assertThat(latencies).hasSize(1);
+        assertThat(latencies.values().iterator().next().getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void recorderRemainsUsableAfterReset() throws Exception {
+
+        CommandLatencyRecorder recorder = sut.getRecorder(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET);
+        recorder.recordCommandLatency(MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(200));
+
+        assertThat(sut.retrieveMetrics()).hasSize(1);
+        assertThat(sut.getRecorder(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET)).isSameAs(recorder);
+
+        recorder.recordCommandLatency(MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(200));
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+        assertThat(latencies).hasSize(1);
+        assertThat(latencies.values().iterator().next().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void resetRemovesIdleLatencies() throws Exception {
+
+        CommandLatencyRecorder recorder = sut.getRecorder(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET);
+        recorder.recordCommandLatency(MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(200));
+
+        assertThat(sut.retrieveMetrics()).hasSize(1);
+        assertThat(sut.retrieveMetrics()).isEmpty();
+        assertThat(sut.getRecorder(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET)).isNotSameAs(recorder);
+
+        recorder.recordCommandLatency(MILLISECONDS.toNanos(100), MILLISECONDS.toNanos(200));
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+        assertThat(latencies).hasSize(1);
+        assertThat(latencies.values().iterator().next().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void mergesLatenciesRecordedByMultipleThreads() throws Exception {
+
+        CommandLatencyRecorder recorder = sut.getRecorder(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET);
+
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    recorder.recordCommandLatency(MILLISECONDS.toNanos(1), MILLISECONDS.toNanos(2));
+                }
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+        assertThat(latencies.values().iterator().next().getCount()).isEqualTo(400);
+    }
+
     private void setupData() {
         sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(100),
                 MILLISECONDS.toNanos(1000));
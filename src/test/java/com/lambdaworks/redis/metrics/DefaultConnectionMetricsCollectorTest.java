@@ -0,0 +1,90 @@
+package com.lambdaworks.redis.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.netty.channel.local.LocalAddress;
+
+/**
+ * @author Mark Paluch
+ */
+public class DefaultConnectionMetricsCollectorTest {
+
+    private DefaultConnectionMetricsCollector sut = DefaultConnectionMetricsCollector.create();
+
+    @Test
+    public void shutdown() throws Exception {
+
+        sut.shutdown();
+
+        assertThat(sut.isEnabled()).isFalse();
+        assertThat(sut.retrieveMetrics()).isEmpty();
+    }
+
+    @Test
+    public void disabled() throws Exception {
+
+        DefaultConnectionMetricsCollector disabled = DefaultConnectionMetricsCollector.disabled();
+        disabled.register(new ConnectionMetricsRecorder(() -> 0, () -> 0));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.retrieveMetrics()).isEmpty();
+    }
+
+    @Test
+    public void reportsIntervalCounters() throws Exception {
+
+        ConnectionMetricsRecorder recorder = new ConnectionMetricsRecorder(() -> 3, () -> 2);
+        recorder.setEndpoints(null, LocalAddress.ANY);
+        sut.register(recorder);
+
+        recorder.recordBytesWritten(100);
+        recorder.recordBytesRead(40);
+        recorder.recordFlush(4);
+        recorder.recordFlush(2);
+        recorder.recordDecode(TimeUnit.MICROSECONDS.toNanos(10), 1);
+        recorder.recordDecode(TimeUnit.MICROSECONDS.toNanos(30), 1);
+        recorder.recordReconnect();
+        recorder.recordRedirect();
+
+        List<ConnectionMetrics> metrics = sut.retrieveMetrics();
+        assertThat(metrics).hasSize(1);
+
+        ConnectionMetrics connection = metrics.get(0);
+        assertThat(connection.getLocalAddress()).isEqualTo(LocalAddress.ANY);
+        assertThat(connection.getRemoteAddress()).isEqualTo(LocalAddress.ANY);
+        assertThat(connection.getQueueSize()).isEqualTo(3);
+        assertThat(connection.getBufferSize()).isEqualTo(2);
+        assertThat(connection.getBytesWritten()).isEqualTo(100);
+        assertThat(connection.getBytesRead()).isEqualTo(40);
+        assertThat(connection.getFlushes()).isEqualTo(2);
+        assertThat(connection.getCommandsPerFlush()).isEqualTo(3d);
+        assertThat(connection.getReplies()).isEqualTo(2);
+        assertThat(connection.getAverageDecodeTime(TimeUnit.MICROSECONDS)).isEqualTo(20);
+        assertThat(connection.getReconnects()).isEqualTo(1);
+        assertThat(connection.getRedirects()).isEqualTo(1);
+
+        recorder.recordBytesWritten(10);
+
+        connection = sut.retrieveMetrics().get(0);
+        assertThat(connection.getBytesWritten()).isEqualTo(10);
+        assertThat(connection.getFlushes()).isEqualTo(0);
+        assertThat(connection.getCommandsPerFlush()).isEqualTo(0d);
+    }
+
+    @Test
+    public void reportsClosedConnectionOnce() throws Exception {
+
+        ConnectionMetricsRecorder recorder = new ConnectionMetricsRecorder(() -> 0, () -> 0);
+        sut.register(recorder);
+        recorder.recordBytesRead(10);
+        recorder.close();
+
+        assertThat(sut.retrieveMetrics()).hasSize(1);
+        assertThat(sut.retrieveMetrics()).isEmpty();
+    }
+}
@@ -0,0 +1,143 @@
+package com.lambdaworks.redis.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * @author Mark Paluch
+ */
+public class CommandArgsTest {
+
+    private static final String[] STRINGS = { "", "key", "Ünïcödé", "日本語", "😀 emoji", "lone \uD800 high",
+            "lone \uDC00 low", "trailing \uD800" };
+
+    @Test
+    public void utf8EncodingMatchesByteBufferEncoding() throws Exception {
+
+        Utf8StringCodec codec = new Utf8StringCodec();
+
+        for (String string : STRINGS) {
+
+            CommandArgs<String, String> direct = new CommandArgs<>(codec).addKey(string).addValue(string);
+            CommandArgs<String, String> viaByteBuffer = new CommandArgs<>(byteBufferOnly(codec)).addKey(string)
+                    .addValue(string);
+
+            assertThat(encode(direct)).isEqualTo(encode(viaByteBuffer));
+            assertThat(codec.estimateSize(string)).isEqualTo(codec.encodeKey(string).remaining());
+        }
+    }
+
+    @Test
+    public void utf8EncodesNullAsEmptyString() throws Exception {
+
+        CommandArgs<String, String> args = new CommandArgs<>(new Utf8StringCodec()).addValue(null);
+
+        assertThat(encode(args)).isEqualTo("$0\r\n\r\n");
+    }
+
+    @Test
+    public void byteArrayEncodingMatchesByteBufferEncoding() throws Exception {
+
+        byte[] key = "key".getBytes();
+        byte[] value = new byte[] { 0, 1, 2, -1 };
+
+        CommandArgs<byte[], byte[]> direct = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey(key).addValue(value);
+        CommandArgs<byte[], byte[]> viaByteBuffer = new CommandArgs<>(byteBufferOnly(ByteArrayCodec.INSTANCE)).addKey(key)
+                .addValue(value);
+
+        assertThat(encode(direct)).isEqualTo(encode(viaByteBuffer));
+    }
+
+    @Test
+    public void subclassOverridingByteBufferEncodingIsHonored() throws Exception {
+
+        Utf8StringCodec prefixing = new Utf8StringCodec() {
+            @Override
+            public ByteBuffer encodeKey(String key) {
+                return super.encodeKey("prefix:" + key);
+            }
+        };
+
+        CommandArgs<String, String> args = new CommandArgs<>(prefixing).addKey("key").addValue("value");
+
+        assertThat(encode(args)).isEqualTo("$10\r\nprefix:key\r\n$5\r\nvalue\r\n");
+        assertThat(CommandArgs.ToByteBufEncoderArgument.isDirectEncoder(prefixing)).isFalse();
+    }
+
+    @Test
+    public void subclassesOptInToDirectEncoding() throws Exception {
+
+        assertThat(CommandArgs.ToByteBufEncoderArgument.isDirectEncoder(new Utf8StringCodec())).isTrue();
+        assertThat(CommandArgs.ToByteBufEncoderArgument.isDirectEncoder(new Utf8StringCodec() {
+        })).isFalse();
+        assertThat(CommandArgs.ToByteBufEncoderArgument.isDirectEncoder(new Utf8StringCodec() {
+            @Override
+            public boolean isDirectEncodingEnabled() {
+                return true;
+            }
+        })).isTrue();
+        assertThat(CommandArgs.ToByteBufEncoderArgument.isDirectEncoder(CommandArgs.ExperimentalByteArrayCodec.INSTANCE))
+                .isTrue();
+    }
+
+    @Test
+    public void estimateSizeCoversEncodedSize() throws Exception {
+
+        CommandArgs<String, String> args = new CommandArgs<>(new Utf8StringCodec());
+        for (int i = 0; i < 100; i++) {
+            args.addKey("key-" + i).addValue("välue-" + i);
+        }
+        args.add(1234567L).add(1.5d).add("string").add(CommandKeyword.WITHSCORES);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.estimateSize()).isGreaterThanOrEqualTo(buffer.readableBytes());
+        buffer.release();
+    }
+
+    private static String encode(CommandArgs<?, ?> args) {
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        buffer.release();
+        return new String(bytes, LettuceCharsets.UTF8);
+    }
+
+    private static <K, V> RedisCodec<K, V> byteBufferOnly(final RedisCodec<K, V> delegate) {
+
+        return new RedisCodec<K, V>() {
+            @Override
+            public K decodeKey(ByteBuffer bytes) {
+                return delegate.decodeKey(bytes);
+            }
+
+            @Override
+            public V decodeValue(ByteBuffer bytes) {
+                return delegate.decodeValue(bytes);
+            }
+
+            @Override
+            public ByteBuffer encodeKey(K key) {
+                return delegate.encodeKey(key);
+            }
+
+            @Override
+            public ByteBuffer encodeValue(V value) {
+                return delegate.encodeValue(value);
+            }
+        };
+    }
+}
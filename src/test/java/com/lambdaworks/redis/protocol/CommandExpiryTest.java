@@ -0,0 +1,153 @@
+package com.lambdaworks.redis.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.lambdaworks.redis.RedisCommandTimeoutException;
+import com.lambdaworks.redis.TimeoutOptions;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+
+/**
+ * @author Mark Paluch
+ */
+public class CommandExpiryTest {
+
+    private Timer timer = mock(Timer.class);
+    private Timeout timeout = mock(Timeout.class);
+    private AsyncCommand<String, String, String> command;
+
+    @Before
+    public void before() throws Exception {
+
+        when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class))).thenReturn(timeout);
+        command = new AsyncCommand<>(new Command<>(CommandType.GET, new StatusOutput<>(new Utf8StringCodec()), null));
+    }
+
+    @Test
+    public void schedulesConnectionTimeout() throws Exception {
+
+        CommandExpiry sut = new CommandExpiry(timer, TimeoutOptions.enabled());
+
+        assertThat(sut.schedule(command, 2, TimeUnit.SECONDS)).isTrue();
+        verify(timer).newTimeout(any(TimerTask.class), eq(TimeUnit.SECONDS.toNanos(2)), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void schedulesPerCommandTypeTimeout() throws Exception {
+
+        TimeoutOptions timeoutOptions = new TimeoutOptions.Builder().fixedTimeout(1, TimeUnit.SECONDS)
+                .timeout(CommandType.GET, 5, TimeUnit.MILLISECONDS).timeout(CommandType.BLPOP, 0, TimeUnit.SECONDS).build();
+        CommandExpiry sut = new CommandExpiry(timer, timeoutOptions);
+
+        assertThat(sut.schedule(command, 2, TimeUnit.SECONDS)).isTrue();
+        verify(timer).newTimeout(any(TimerTask.class), eq(TimeUnit.MILLISECONDS.toNanos(5)), eq(TimeUnit.NANOSECONDS));
+
+        AsyncCommand<String, String, String> blpop = new AsyncCommand<>(new Command<>(CommandType.BLPOP,
+                new StatusOutput<>(new Utf8StringCodec()), null));
+        assertThat(sut.schedule(blpop, 2, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    public void expiryCompletesCommandExceptionally() throws Exception {
+
+        CommandExpiry sut = new CommandExpiry(timer, TimeoutOptions.enabled(1, TimeUnit.SECONDS));
+        sut.schedule(command, 2, TimeUnit.SECONDS);
+
+        ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(captor.capture(), anyLong(), any(TimeUnit.class));
+        captor.getValue().run(timeout);
+
+        assertThat(command.isCompletedExceptionally()).isTrue();
+        try {
+            command.get();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(RedisCommandTimeoutException.class);
+        }
+    }
+
+    @Test
+    public void completionCancelsTimeout() throws Exception {
+
+        CommandExpiry sut = new CommandExpiry(timer, TimeoutOptions.enabled());
+        sut.schedule(command, 2, TimeUnit.SECONDS);
+
+        command.complete();
+
+        verify(timeout).cancel();
+    }
+
+    @Test
+    public void wrappedCommandCompletionCancelsTimeout() throws Exception {
+
+        CommandWrapper<String, String, String> wrapper = new CommandWrapper<>(command);
+        CommandExpiry sut = new CommandExpiry(timer, TimeoutOptions.enabled());
+        sut.schedule(wrapper, 2, TimeUnit.SECONDS);
+
+        wrapper.completeExceptionally(new IllegalStateException());
+
+        verify(timeout).cancel();
+    }
+
+    @Test
+    public void lateCompletionAfterExpiryDoesNotNotifyAgain() throws Exception {
+
+        CommandWrapper<String, String, String> wrapper = new CommandWrapper<>(new Command<>(CommandType.GET,
+                new StatusOutput<>(new Utf8StringCodec()), null));
+        List<Throwable> notifications = new ArrayList<>();
+        wrapper.onComplete((result, throwable) -> notifications.add(throwable));
+
+        CommandExpiry sut = new CommandExpiry(timer, TimeoutOptions.enabled(1, TimeUnit.SECONDS));
+        sut.schedule(wrapper, 2, TimeUnit.SECONDS);
+
+        ArgumentCaptor<TimerTask> captor = ArgumentCaptor.forClass(TimerTask.class);
+        verify(timer).newTimeout(captor.capture(), anyLong(), any(TimeUnit.class));
+        captor.getValue().run(timeout);
+
+        wrapper.getOutput().set(ByteBuffer.wrap("OK".getBytes()));
+        wrapper.complete();
+
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0)).isInstanceOf(RedisCommandTimeoutException.class);
+    }
+
+    @Test
+    public void doesNotScheduleTransactionalCommands() throws Exception {
+
+        CommandExpiry sut = new CommandExpiry(timer, TimeoutOptions.enabled());
+
+        assertThat(sut.schedule(new TransactionalCommand<>(command), 2, TimeUnit.SECONDS)).isFalse();
+        verifyZeroInteractions(timer);
+    }
+
+    @Test
+    public void doesNotScheduleCompletedCommands() throws Exception {
+
+        CommandExpiry sut = new CommandExpiry(timer, TimeoutOptions.enabled());
+        command.complete();
+
+        assertThat(sut.schedule(command, 2, TimeUnit.SECONDS)).isFalse();
+        verify(timer, never()).newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class));
+    }
+}
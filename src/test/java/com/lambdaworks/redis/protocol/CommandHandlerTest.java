@@ -2,32 +2,47 @@ package com.lambdaworks.redis.protocol;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.ConnectionEvents;
+import com.lambdaworks.redis.RedisChannelHandler;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.metrics.ConnectionMetrics;
+import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollector;
+import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollectorOptions;
+import com.lambdaworks.redis.metrics.DefaultConnectionMetricsCollector;
 import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.output.StreamingOutput;
+import com.lambdaworks.redis.output.ValueListOutput;
 import com.lambdaworks.redis.resource.ClientResources;
 
 import edu.umd.cs.mtc.MultithreadedTestCase;
 import edu.umd.cs.mtc.TestFramework;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
+import io.netty.channel.embedded.EmbeddedChannel;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CommandHandlerTest {
@@ -147,6 +162,241 @@ public class CommandHandlerTest {
         verifyZeroInteractions(context);
     }
 
+    @Test
+    public void testFlushWritesBufferedCommandsAsBatch() throws Exception {
+
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(sut);
+        sut.setAutoFlushCommands(false);
+
+        Command<String, String, String> command1 = newCommand();
+        Command<String, String, String> command2 = newCommand();
+        sut.write(command1);
+        sut.write(command2);
+
+        assertThat(embeddedChannel.outboundMessages()).isEmpty();
+
+        sut.flushCommands();
+
+        assertThat((List<Object>) embeddedChannel.readOutbound()).containsExactly(command1, command2);
+        assertThat(q).containsExactly(command1, command2);
+
+        sut.setAutoFlushCommands(true);
+        Command<String, String, String> command3 = newCommand();
+        sut.write(command3);
+
+        assertThat(embeddedChannel.readOutbound()).isSameAs(command3);
+        embeddedChannel.finish();
+    }
+
+    @Test
+    public void testWriteBatchWritesCommandsTogether() throws Exception {
+
+        sut = new CommandHandler<String, String>(ClientOptions.create(), clientResources, q);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(sut);
+
+        Command<String, String, String> command1 = newCommand();
+        Command<String, String, String> command2 = newCommand();
+        sut.write(Arrays.asList(command1, command2));
+
+        assertThat(q).containsExactly(command1, command2);
+        assertThat(embeddedChannel.outboundMessages()).hasSize(1);
+        assertThat((List<Object>) embeddedChannel.readOutbound()).containsExactly(command1, command2);
+        embeddedChannel.finish();
+    }
+
+    @Test
+    public void testDrainKeepsCommandsBufferedOnInactiveChannel() throws Exception {
+
+        sut.channelRegistered(context);
+        sut.setState(CommandHandler.LifecycleState.ACTIVE);
+        when(channel.isActive()).thenReturn(true);
+
+        Command<String, String, String> command = newCommand();
+        sut.write(command);
+
+        ArgumentCaptor<Runnable> drainTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(drainTask.capture());
+
+        when(channel.isActive()).thenReturn(false);
+        when(eventLoop.inEventLoop()).thenReturn(true);
+        drainTask.getValue().run();
+
+        verify(channel, never()).writeAndFlush(any());
+        assertThat(sut.drainCommandBuffer()).containsExactly(command);
+    }
+
+    @Test
+    public void testActivationCommandsPrecedeQueuedAndConcurrentlyWrittenCommands() throws Exception {
+
+        Thread eventLoopThread = Thread.currentThread();
+        when(eventLoop.inEventLoop()).thenAnswer(invocation -> Thread.currentThread() == eventLoopThread);
+        when(channel.isActive()).thenReturn(true);
+
+        Command<String, String, String> queued = newCommand();
+        Command<String, String, String> auth = newCommand();
+        Command<String, String, String> concurrent = newCommand();
+        q.add(queued);
+
+        RedisChannelHandler<String, String> redisChannelHandler = mock(RedisChannelHandler.class);
+        doAnswer(invocation -> {
+
+            Thread writer = new Thread(() -> sut.write(concurrent));
+            writer.start();
+            writer.join();
+
+            sut.write(auth);
+            return null;
+        }).when(redisChannelHandler).activated();
+        sut.setRedisChannelHandler(redisChannelHandler);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        ArgumentCaptor<Object> written = ArgumentCaptor.forClass(Object.class);
+        verify(channel, times(3)).writeAndFlush(written.capture());
+
+        assertThat(written.getAllValues()).containsExactly(auth, Collections.singletonList(queued), concurrent);
+    }
+
+    @Test
+    public void testFlushConsolidationDefersFlushToEventLoopTurn() throws Exception {
+
+        ClientOptions clientOptions = new ClientOptions.Builder().flushConsolidation(true).build();
+        sut = new CommandHandler<String, String>(clientOptions, clientResources, q);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(sut);
+
+        Command<String, String, String> command1 = newCommand();
+        Command<String, String, String> command2 = newCommand();
+        sut.write(command1);
+        sut.write(command2);
+
+        assertThat(q).containsExactly(command1, command2);
+        assertThat(embeddedChannel.outboundMessages()).isEmpty();
+
+        embeddedChannel.runPendingTasks();
+
+        assertThat(embeddedChannel.outboundMessages()).containsExactly(command1, command2);
+        embeddedChannel.finish();
+    }
+
+    @Test
+    public void testFlushConsolidationFlushesAtCommandLimit() throws Exception {
+
+        ClientOptions clientOptions = new ClientOptions.Builder().flushConsolidation(true)
+                .flushConsolidationLimits(2, Integer.MAX_VALUE).build();
+        sut = new CommandHandler<String, String>(clientOptions, clientResources, q);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(sut);
+
+        Command<String, String, String> command1 = newCommand();
+        Command<String, String, String> command2 = newCommand();
+        Command<String, String, String> command3 = newCommand();
+        sut.write(command1);
+
+        assertThat(embeddedChannel.outboundMessages()).isEmpty();
+
+        sut.write(command2);
+        sut.write(command3);
+
+        assertThat(embeddedChannel.outboundMessages()).containsExactly(command1, command2);
+
+        embeddedChannel.runPendingTasks();
+
+        assertThat(embeddedChannel.outboundMessages()).containsExactly(command1, command2, command3);
+        embeddedChannel.finish();
+    }
+
+    @Test
+    public void testConnectionMetrics() throws Exception {
+
+        DefaultConnectionMetricsCollector collector = DefaultConnectionMetricsCollector.create();
+        when(clientResources.connectionMetricsCollector()).thenReturn(collector);
+        when(clientResources.commandLatencyCollector()).thenReturn(
+                new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.disabled()));
+
+        sut = new CommandHandler<String, String>(ClientOptions.create(), clientResources, q);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(sut);
+
+        sut.write(newCommand());
+        sut.write(newCommand());
+
+        ConnectionMetrics metrics = collector.retrieveMetrics().get(0);
+        assertThat(metrics.getQueueSize()).isEqualTo(2);
+        assertThat(metrics.getFlushes()).isEqualTo(2);
+        assertThat(metrics.getCommandsWritten()).isEqualTo(2);
+
+        embeddedChannel.writeInbound(Unpooled.copiedBuffer("+OK\r\n+OK\r\n", LettuceCharsets.ASCII));
+
+        metrics = collector.retrieveMetrics().get(0);
+        assertThat(metrics.getQueueSize()).isEqualTo(0);
+        assertThat(metrics.getBytesRead()).isEqualTo(10);
+        assertThat(metrics.getReplies()).isEqualTo(2);
+
+        sut.close();
+
+        assertThat(collector.retrieveMetrics()).hasSize(1);
+        assertThat(collector.retrieveMetrics()).isEmpty();
+        embeddedChannel.finish();
+    }
+
+    @Test
+    public void testNodeStatistics() throws Exception {
+
+        when(clientResources.commandLatencyCollector()).thenReturn(
+                new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.disabled()));
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(sut);
+
+        assertThat(sut.getAverageLatency()).isEqualTo(-1);
+
+        Command<String, String, String> command1 = newCommand();
+        Command<String, String, String> command2 = newCommand();
+        sut.write(command1);
+        sut.write(command2);
+
+        assertThat(sut.getQueueSize()).isEqualTo(2);
+
+        embeddedChannel.writeInbound(Unpooled.wrappedBuffer("+OK\r\n+OK\r\n".getBytes()));
+
+        assertThat(command1.get()).isEqualTo("OK");
+        assertThat(command2.get()).isEqualTo("OK");
+        assertThat(sut.getQueueSize()).isEqualTo(0);
+        assertThat(sut.getAverageLatency()).isGreaterThanOrEqualTo(0);
+        embeddedChannel.finish();
+    }
+
+    @Test
+    public void streamingOutputPausesReadsWithoutDemand() throws Exception {
+
+        when(clientResources.commandLatencyCollector()).thenReturn(
+                new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.disabled()));
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(sut);
+
+        List<String> received = new ArrayList<>();
+        AtomicInteger demand = new AtomicInteger(1);
+        AtomicReference<DemandAware.Source> source = new AtomicReference<>();
+
+        ValueListOutput<String, String> output = new ValueListOutput<>(new Utf8StringCodec());
+        output.setSubscriber(new DemandAwareSubscriber(received, demand, source));
+        Command<String, String, List<String>> command = new Command<>(CommandType.LRANGE, output, null);
+        sut.write(command);
+
+        embeddedChannel.writeInbound(Unpooled.copiedBuffer("*3\r\n$1\r\na\r\n$1\r\nb\r\n$1\r\nc\r\n",
+                LettuceCharsets.ASCII));
+
+        assertThat(received).containsExactly("a");
+        assertThat(command.isDone()).isFalse();
+        assertThat(embeddedChannel.config().isAutoRead()).isFalse();
+        assertThat(source.get()).isNotNull();
+
+        demand.set(2);
+        source.get().requestMore();
+        embeddedChannel.runPendingTasks();
+
+        assertThat(received).containsExactly("a", "b", "c");
+        assertThat(command.isDone()).isTrue();
+        assertThat(embeddedChannel.config().isAutoRead()).isTrue();
+        embeddedChannel.finish();
+    }
+
     @Test
     public void testMTCConcurrentWriteThenReset() throws Throwable {
         TestFramework.runOnce(new MTCConcurrentWriteThenReset(clientResources, q));
@@ -162,202 +412,157 @@ public class CommandHandlerTest {
         TestFramework.runOnce(new MTCConcurrentConcurrentWrite(clientResources, q));
     }
 
+    static class DemandAwareSubscriber implements StreamingOutput.Subscriber<String>, DemandAware.Sink {
+
+        private final List<String> received;
+        private final AtomicInteger demand;
+        private final AtomicReference<DemandAware.Source> source;
+
+        DemandAwareSubscriber(List<String> received, AtomicInteger demand, AtomicReference<DemandAware.Source> source) {
+            this.received = received;
+            this.demand = demand;
+            this.source = source;
+        }
+
+        @Override
+        public void onNext(String s) {
+            demand.decrementAndGet();
+            received.add(s);
+        }
+
+        @Override
+        public boolean hasDemand() {
+            return demand.get() > 0;
+        }
+
+        @Override
+        public void setSource(DemandAware.Source source) {
+            this.source.set(source);
+        }
+    }
+
     /**
-     * Test of concurrent access to locks. write call wins over reset call.
+     * Reset while a write is in progress. Reset does not wait for the writer and the command is buffered afterwards.
      */
     static class MTCConcurrentWriteThenReset extends MultithreadedTestCase {
 
+        private final Command<String, String, String> command = newCommand();
         private TestableCommandHandler handler;
-        private List<Thread> expectedThreadOrder = Collections.synchronizedList(new ArrayList<>());
-        private List<Thread> entryThreadOrder = Collections.synchronizedList(new ArrayList<>());
-        private List<Thread> exitThreadOrder = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean resetDone;
 
         public MTCConcurrentWriteThenReset(ClientResources clientResources, Queue<RedisCommand<String, String, ?>> queue) {
             handler = new TestableCommandHandler(ClientOptions.create(), clientResources, queue) {
 
-                @Override
-                protected void incrementWriters() {
-
-                    waitForTick(2);
-                    super.incrementWriters();
-                    waitForTick(4);
-                }
-
-                @Override
-                protected void lockWritersExclusive() {
-
-                    waitForTick(4);
-                    super.lockWritersExclusive();
-                }
-
                 @Override
                 protected <C extends RedisCommand<String, String, T>, T> void writeToBuffer(C command) {
 
-                    entryThreadOrder.add(Thread.currentThread());
+                    waitForTick(2);
                     super.writeToBuffer(command);
                 }
-
-                @Override
-                protected List<RedisCommand<String, String, ?>> prepareReset() {
-
-                    entryThreadOrder.add(Thread.currentThread());
-                    return super.prepareReset();
-                }
-
-                @Override
-                protected void unlockWritersExclusive() {
-
-                    exitThreadOrder.add(Thread.currentThread());
-                    super.unlockWritersExclusive();
-                }
-
-                @Override
-                protected void decrementWriters() {
-
-                    exitThreadOrder.add(Thread.currentThread());
-                    super.decrementWriters();
-                }
             };
         }
 
         public void thread1() throws InterruptedException {
-
-            waitForTick(1);
-            expectedThreadOrder.add(Thread.currentThread());
             handler.write(command);
-
         }
 
         public void thread2() throws InterruptedException {
 
-            waitForTick(3);
-            expectedThreadOrder.add(Thread.currentThread());
+            waitForTick(1);
             handler.reset();
+            resetDone = true;
         }
 
         @Override
         public void finish() {
 
-            assertThat(entryThreadOrder).containsExactlyElementsOf(expectedThreadOrder);
-            assertThat(exitThreadOrder).containsExactlyElementsOf(expectedThreadOrder);
+            assertThat(resetDone).isTrue();
+            assertThat(command.isCancelled()).isFalse();
+            assertThat(handler.drainCommandBuffer()).containsExactly(command);
         }
     }
 
     /**
-     * Test of concurrent access to locks. write call wins over flush call.
+     * Write while a reset is in progress. The write does not wait for the reset and the command is canceled by the reset.
      */
     static class MTCConcurrentResetThenWrite extends MultithreadedTestCase {
 
+        private final Command<String, String, String> command = newCommand();
         private TestableCommandHandler handler;
-        private List<Thread> expectedThreadOrder = Collections.synchronizedList(new ArrayList<>());
-        private List<Thread> entryThreadOrder = Collections.synchronizedList(new ArrayList<>());
-        private List<Thread> exitThreadOrder = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean writeDone;
 
         public MTCConcurrentResetThenWrite(ClientResources clientResources, Queue<RedisCommand<String, String, ?>> queue) {
             handler = new TestableCommandHandler(ClientOptions.create(), clientResources, queue) {
 
-                @Override
-                protected void incrementWriters() {
-
-                    waitForTick(4);
-                    super.incrementWriters();
-                }
-
-                @Override
-                protected void lockWritersExclusive() {
-
-                    waitForTick(2);
-                    super.lockWritersExclusive();
-                    waitForTick(4);
-                }
-
-                @Override
-                protected <C extends RedisCommand<String, String, T>, T> void writeToBuffer(C command) {
-                    
-                    entryThreadOrder.add(Thread.currentThread());
-                    super.writeToBuffer(command);
-                }
-
                 @Override
                 protected List<RedisCommand<String, String, ?>> prepareReset() {
 
-                    entryThreadOrder.add(Thread.currentThread());
+                    waitForTick(2);
                     return super.prepareReset();
                 }
-
-                @Override
-                protected void unlockWritersExclusive() {
-
-                    exitThreadOrder.add(Thread.currentThread());
-                    super.unlockWritersExclusive();
-                }
-
-                @Override
-                protected void decrementWriters() {
-
-                    exitThreadOrder.add(Thread.currentThread());
-                    super.decrementWriters();
-                }
             };
         }
 
         public void thread1() throws InterruptedException {
-            
-            waitForTick(1);
-            expectedThreadOrder.add(Thread.currentThread());
             handler.reset();
         }
 
         public void thread2() throws InterruptedException {
 
-            waitForTick(3);
-            expectedThreadOrder.add(Thread.currentThread());
+            waitForTick(1);
             handler.write(command);
+            writeDone = true;
         }
 
         @Override
         public void finish() {
 
-            assertThat(entryThreadOrder).containsExactlyElementsOf(expectedThreadOrder);
-            assertThat(exitThreadOrder).containsExactlyElementsOf(expectedThreadOrder);
+            assertThat(writeDone).isTrue();
+            assertThat(command.isCancelled()).isTrue();
+            assertThat(handler.drainCommandBuffer()).isEmpty();
         }
     }
-    
+
     /**
-     * Test of concurrent access to locks. Two concurrent writes.
+     * Two concurrent writes do not exclude each other.
      */
     static class MTCConcurrentConcurrentWrite extends MultithreadedTestCase {
 
+        private final Command<String, String, String> command1 = newCommand();
+        private final Command<String, String, String> command2 = newCommand();
+        private final AtomicInteger writers = new AtomicInteger();
         private TestableCommandHandler handler;
 
         public MTCConcurrentConcurrentWrite(ClientResources clientResources, Queue<RedisCommand<String, String, ?>> queue) {
             handler = new TestableCommandHandler(ClientOptions.create(), clientResources, queue) {
 
-
                 @Override
                 protected <C extends RedisCommand<String, String, T>, T> void writeToBuffer(C command) {
-                    
+
+                    writers.incrementAndGet();
                     waitForTick(2);
                     assertThat(writers.get()).isEqualTo(2);
-                    waitForTick(3);
                     super.writeToBuffer(command);
                 }
-
             };
         }
 
         public void thread1() throws InterruptedException {
-            
-            waitForTick(1);
-            handler.write(command);
+            handler.write(command1);
         }
 
         public void thread2() throws InterruptedException {
+            handler.write(command2);
+        }
 
-            waitForTick(1);
-            handler.write(command);
+        @Override
+        public void finish() {
+            assertThat(handler.drainCommandBuffer()).containsOnly(command1, command2);
         }
+    }
 
+    private static Command<String, String, String> newCommand() {
+        return new Command<>(CommandType.APPEND, new StatusOutput<String, String>(new Utf8StringCodec()), null);
     }
 
     static class TestableCommandHandler extends CommandHandler<String, String> {
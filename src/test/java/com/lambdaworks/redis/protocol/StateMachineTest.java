@@ -5,7 +5,9 @@ package com.lambdaworks.redis.protocol;
 import static com.lambdaworks.redis.protocol.RedisStateMachine.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -19,6 +21,7 @@ import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.output.IntegerOutput;
 import com.lambdaworks.redis.output.NestedMultiOutput;
 import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.output.StreamingOutput;
 import com.lambdaworks.redis.output.ValueListOutput;
 import com.lambdaworks.redis.output.ValueOutput;
 
@@ -73,6 +76,59 @@ public class StateMachineTest {
         assertThat(output.get()).isEqualTo(Arrays.asList(null, "ok"));
     }
 
+    @Test
+    public void bulkZeroCopy() throws Exception {
+        RedisStateMachine<String, String> rsm = new RedisStateMachine<String, String>(true);
+        CommandOutput<String, String, String> output = new ValueOutput<String, String>(codec);
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+
+        ByteBuf buffer = buffer("$3\r\nfoo\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("foo");
+        assertThat(buffer.refCnt()).isEqualTo(1);
+    }
+
+    @Test
+    public void multiZeroCopy() throws Exception {
+        RedisStateMachine<String, String> rsm = new RedisStateMachine<String, String>(true);
+        CommandOutput<String, String, List<String>> output = new ValueListOutput<String, String>(codec);
+        ByteBuf buffer = buffer("*3\r\n$-1\r\n$2\r\nok\r\n$0\r\n\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo(Arrays.asList(null, "ok", ""));
+        assertThat(buffer.refCnt()).isEqualTo(1);
+    }
+
+    @Test
+    public void partialBulkZeroCopy() throws Exception {
+        RedisStateMachine<String, String> rsm = new RedisStateMachine<String, String>(true);
+        CommandOutput<String, String, String> output = new ValueOutput<String, String>(codec);
+        ByteBuf buffer = buffer("$6\r\nfoo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+
+        buffer.writeBytes("bar\r\n".getBytes(charset));
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("foobar");
+        assertThat(buffer.refCnt()).isEqualTo(1);
+    }
+
+    @Test
+    public void bulkZeroCopyHonorsByteBufferDecodingOverride() throws Exception {
+        RedisCodec<String, String> upperCase = new Utf8StringCodec() {
+            @Override
+            public String decodeValue(ByteBuffer bytes) {
+                return super.decodeValue(bytes).toUpperCase();
+            }
+        };
+
+        RedisStateMachine<String, String> rsm = new RedisStateMachine<String, String>(true);
+        CommandOutput<String, String, String> output = new ValueOutput<String, String>(upperCase);
+        ByteBuf buffer = buffer("$3\r\nfoo\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("FOO");
+        assertThat(buffer.refCnt()).isEqualTo(1);
+    }
+
     @Test
     public void multiEmptyArray1() throws Exception {
         CommandOutput<String, String, List<Object>> output = new NestedMultiOutput<String, String>(codec);
@@ -112,6 +168,25 @@ public class StateMachineTest {
         assertThat(rsm.decode(buffer("*"), output)).isFalse();
     }
 
+    @Test
+    public void multiPausesWithoutDemand() throws Exception {
+
+        List<String> received = new ArrayList<>();
+        DemandAwareSubscriber subscriber = new DemandAwareSubscriber(received);
+        ValueListOutput<String, String> output = new ValueListOutput<String, String>(codec);
+        output.setSubscriber(subscriber);
+
+        ByteBuf buffer = buffer("*3\r\n$1\r\na\r\n$1\r\nb\r\n$1\r\nc\r\n");
+
+        subscriber.demand = 1;
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(received).containsExactly("a");
+
+        subscriber.demand = 2;
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(received).containsExactly("a", "b", "c");
+    }
+
     @Test(expected = RedisException.class)
     public void invalidReplyType() throws Exception {
         rsm.decode(buffer("="), output);
@@ -125,4 +200,29 @@ public class StateMachineTest {
     protected ByteBuf buffer(String content) {
         return Unpooled.copiedBuffer(content, charset);
     }
+
+    private static class DemandAwareSubscriber implements StreamingOutput.Subscriber<String>, DemandAware.Sink {
+
+        private final List<String> received;
+        private int demand;
+
+        DemandAwareSubscriber(List<String> received) {
+            this.received = received;
+        }
+
+        @Override
+        public void onNext(String s) {
+            demand--;
+            received.add(s);
+        }
+
+        @Override
+        public boolean hasDemand() {
+            return demand > 0;
+        }
+
+        @Override
+        public void setSource(DemandAware.Source source) {
+        }
+    }
 }
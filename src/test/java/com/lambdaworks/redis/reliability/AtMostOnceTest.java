@@ -2,8 +2,6 @@ package com.lambdaworks.redis.reliability;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -274,8 +272,7 @@ public class AtMostOnceTest extends AbstractRedisClientTest {
 
     private <K, V> RedisChannelHandler<K, V> getRedisChannelHandler(RedisConnection<K, V> sync) {
 
-        InvocationHandler invocationHandler = Proxy.getInvocationHandler(sync);
-        return (RedisChannelHandler<K, V>) ReflectionTestUtils.getField(invocationHandler, "connection");
+        return (RedisChannelHandler<K, V>) ((RedisCommands<K, V>) sync).getStatefulConnection();
     }
 
     private <T> T getHandler(Class<T> handlerType, RedisChannelHandler<?, ?> channelHandler) {
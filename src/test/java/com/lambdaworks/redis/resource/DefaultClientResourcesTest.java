@@ -16,6 +16,7 @@ import com.google.code.tempusfugit.temporal.WaitFor;
 import com.lambdaworks.redis.event.EventBus;
 import com.lambdaworks.redis.event.Event;
 import com.lambdaworks.redis.metrics.CommandLatencyCollector;
+import com.lambdaworks.redis.metrics.ConnectionMetricsCollector;
 import com.lambdaworks.redis.metrics.DefaultCommandLatencyCollectorOptions;
 
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -34,6 +35,7 @@ public class DefaultClientResourcesTest {
 
         assertThat(sut.commandLatencyCollector()).isNotNull();
         assertThat(sut.commandLatencyCollector().isEnabled()).isTrue();
+        assertThat(sut.connectionMetricsCollector().isEnabled()).isFalse();
 
         EventExecutorGroup eventExecutors = sut.eventExecutorGroup();
         NioEventLoopGroup eventLoopGroup = sut.eventLoopGroupProvider().allocate(NioEventLoopGroup.class);
@@ -56,7 +58,8 @@ public class DefaultClientResourcesTest {
     public void testBuilder() throws Exception {
 
         DefaultClientResources sut = new DefaultClientResources.Builder().ioThreadPoolSize(4).computationThreadPoolSize(4)
-                .commandLatencyCollectorOptions(DefaultCommandLatencyCollectorOptions.disabled()).build();
+                .commandLatencyCollectorOptions(DefaultCommandLatencyCollectorOptions.disabled()).connectionMetricsEnabled(true)
+                .build();
 
         EventExecutorGroup eventExecutors = sut.eventExecutorGroup();
         NioEventLoopGroup eventLoopGroup = sut.eventLoopGroupProvider().allocate(NioEventLoopGroup.class);
@@ -66,6 +69,7 @@ public class DefaultClientResourcesTest {
         assertThat(sut.ioThreadPoolSize()).isEqualTo(4);
         assertThat(sut.commandLatencyCollector()).isNotNull();
         assertThat(sut.commandLatencyCollector().isEnabled()).isFalse();
+        assertThat(sut.connectionMetricsCollector().isEnabled()).isTrue();
 
         assertThat(sut.shutdown(0, 0, TimeUnit.MILLISECONDS).get()).isTrue();
     }
@@ -77,10 +81,11 @@ public class DefaultClientResourcesTest {
         EventLoopGroupProvider groupProviderMock = mock(EventLoopGroupProvider.class);
         EventBus eventBusMock = mock(EventBus.class);
         CommandLatencyCollector latencyCollectorMock = mock(CommandLatencyCollector.class);
+        ConnectionMetricsCollector connectionMetricsCollectorMock = mock(ConnectionMetricsCollector.class);
 
         DefaultClientResources sut = new DefaultClientResources.Builder().eventExecutorGroup(executorMock)
                 .eventLoopGroupProvider(groupProviderMock).eventBus(eventBusMock).commandLatencyCollector(latencyCollectorMock)
-                .build();
+                .connectionMetricsCollector(connectionMetricsCollectorMock).build();
 
         assertThat(sut.eventExecutorGroup()).isSameAs(executorMock);
         assertThat(sut.eventLoopGroupProvider()).isSameAs(groupProviderMock);
@@ -92,6 +97,8 @@ public class DefaultClientResourcesTest {
         verifyZeroInteractions(groupProviderMock);
         verify(latencyCollectorMock).isEnabled();
         verifyNoMoreInteractions(latencyCollectorMock);
+        verify(connectionMetricsCollectorMock).isEnabled();
+        verifyNoMoreInteractions(connectionMetricsCollectorMock);
     }
 
     @Test
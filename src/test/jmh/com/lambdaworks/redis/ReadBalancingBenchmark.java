@@ -0,0 +1,75 @@
+package com.lambdaworks.redis;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.cluster.SlotHash;
+
+/**
+ * Benchmark for {@link ReadBalancing}. Test cases:
+ * <ul>
+ * <li>Read candidate selection per strategy, uncontended and contended</li>
+ * </ul>
+ *
+ * The number of selections per candidate is reported as auxiliary counters ({@code candidate0} to {@code candidate2}) to
+ * compare the distribution across the strategies.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ReadBalancingBenchmark {
+
+    @Param({ "FIRST", "ROUND_ROBIN", "RANDOM", "POWER_OF_TWO_CHOICES" })
+    private ReadBalancing readBalancing;
+
+    private final Candidate[] candidates = { new Candidate(), new Candidate(), new Candidate() };
+    private final AtomicIntegerArray sequences = new AtomicIntegerArray(SlotHash.SLOT_COUNT);
+
+    @Benchmark
+    public void select(Distribution distribution) {
+        record(distribution, readBalancing.select(candidates, Candidate::isAvailable, Candidate::getQueueSize, sequences, 42));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void selectContended(Distribution distribution) {
+        record(distribution, readBalancing.select(candidates, Candidate::isAvailable, Candidate::getQueueSize, sequences, 42));
+    }
+
+    private void record(Distribution distribution, Candidate candidate) {
+
+        if (candidate == candidates[0]) {
+            distribution.candidate0++;
+        } else if (candidate == candidates[1]) {
+            distribution.candidate1++;
+        } else {
+            distribution.candidate2++;
+        }
+    }
+
+    static class Candidate {
+
+        boolean isAvailable() {
+            return true;
+        }
+
+        int getQueueSize() {
+            return 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters
+    public static class Distribution {
+
+        public long candidate0;
+        public long candidate1;
+        public long candidate2;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            candidate0 = candidate1 = candidate2 = 0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Benchmark for the synchronous API. Test cases:
+ * <ul>
+ * <li>Command invocation through the generated {@link RedisSyncCommandsImpl}</li>
+ * <li>Command invocation through a {@link FutureSyncInvocationHandler} proxy for comparison</li>
+ * </ul>
+ *
+ * Commands are completed by the channel writer without any I/O so the benchmark measures the API overhead only.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class SyncCommandsBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+    private final static byte[] KEY = "key".getBytes();
+    private final static byte[] VALUE = "value".getBytes();
+
+    private StatefulRedisConnectionImpl<byte[], byte[]> connection;
+    private RedisCommands<byte[], byte[]> generated;
+    private RedisCommands<byte[], byte[]> proxy;
+
+    @Setup
+    public void setup() {
+
+        connection = new StatefulRedisConnectionImpl<>(new CompletingChannelWriter(), CODEC, 60, TimeUnit.SECONDS);
+        generated = connection.sync();
+        proxy = connection.syncHandler(connection.async(), RedisConnection.class, RedisClusterConnection.class,
+                RedisCommands.class);
+    }
+
+    @Benchmark
+    public byte[] getGenerated() {
+        return generated.get(KEY);
+    }
+
+    @Benchmark
+    public byte[] getProxy() {
+        return proxy.get(KEY);
+    }
+
+    @Benchmark
+    public String setGenerated() {
+        return generated.set(KEY, VALUE);
+    }
+
+    @Benchmark
+    public String setProxy() {
+        return proxy.set(KEY, VALUE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] getGeneratedContended() {
+        return generated.get(KEY);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] getProxyContended() {
+        return proxy.get(KEY);
+    }
+
+    private static class CompletingChannelWriter implements RedisChannelWriter<byte[], byte[]> {
+
+        @Override
+        public <T, C extends RedisCommand<byte[], byte[], T>> C write(C command) {
+            command.complete();
+            return command;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void setRedisChannelHandler(RedisChannelHandler<byte[], byte[]> redisChannelHandler) {
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+        }
+
+        @Override
+        public void flushCommands() {
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.RedisChannelHandler;
+import com.lambdaworks.redis.RedisChannelWriter;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.ValueOutput;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Benchmark for {@link ClusterDistributionChannelWriter}. Test cases:
+ * <ul>
+ * <li>Route read commands by slot</li>
+ * <li>Route write commands by slot</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterDistributionChannelWriterBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+    private final static ClientOptions CLIENT_OPTIONS = ClusterClientOptions.create();
+    private final static byte[] KEY = "user:1000:profile".getBytes();
+    private final static byte[] VALUE = "value".getBytes();
+
+    private ClusterDistributionChannelWriter<byte[], byte[]> writer;
+    private Command<byte[], byte[], byte[]> getCommand;
+    private Command<byte[], byte[], byte[]> setCommand;
+
+    @Setup
+    public void setup() {
+
+        writer = new ClusterDistributionChannelWriter<>(CLIENT_OPTIONS, new EmptyChannelWriter());
+        writer.setClusterConnectionProvider(new StaticConnectionProvider(PartitionsBenchmark.createPartitions(3)));
+
+        getCommand = new Command<>(CommandType.GET, new ValueOutput<>(CODEC), new CommandArgs<>(CODEC).addKey(KEY));
+        setCommand = new Command<>(CommandType.SET, new ValueOutput<>(CODEC), new CommandArgs<>(CODEC).addKey(KEY).addValue(
+                VALUE));
+    }
+
+    @Benchmark
+    public RedisCommand<byte[], byte[], byte[]> routeReadCommand() {
+        return writer.write(getCommand);
+    }
+
+    @Benchmark
+    public RedisCommand<byte[], byte[], byte[]> routeWriteCommand() {
+        return writer.write(setCommand);
+    }
+
+    private static class StaticConnectionProvider implements ClusterConnectionProvider {
+
+        private final Partitions partitions;
+        private final Map<String, StatefulRedisConnection<?, ?>> connections = new HashMap<>();
+
+        public StaticConnectionProvider(Partitions partitions) {
+
+            this.partitions = partitions;
+
+            for (RedisClusterNode node : partitions) {
+                connections.put(node.getNodeId(), new StatefulRedisConnectionImpl<>(new EmptyChannelWriter(), CODEC, 60,
+                        TimeUnit.SECONDS));
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> StatefulRedisConnection<K, V> getConnection(Intent intent, int slot) {
+            return (StatefulRedisConnection<K, V>) connections.get(partitions.getPartitionBySlot(slot).getNodeId());
+        }
+
+        @Override
+        public <K, V> StatefulRedisConnection<K, V> getConnection(Intent intent, String host, int port) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> StatefulRedisConnection<K, V> getConnection(Intent intent, String nodeId) {
+            return (StatefulRedisConnection<K, V>) connections.get(nodeId);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void closeStaleConnections() {
+        }
+
+        @Override
+        public void setPartitions(Partitions partitions) {
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+        }
+
+        @Override
+        public void flushCommands() {
+        }
+
+        @Override
+        public void setReadFrom(ReadFrom readFrom) {
+        }
+
+        @Override
+        public ReadFrom getReadFrom() {
+            return ReadFrom.MASTER;
+        }
+
+        @Override
+        public void redirectSlot(int slot, String host, int port) {
+        }
+    }
+
+    private static class EmptyChannelWriter implements RedisChannelWriter<byte[], byte[]> {
+
+        @Override
+        public <T, C extends RedisCommand<byte[], byte[], T>> C write(C command) {
+            return command;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void setRedisChannelHandler(RedisChannelHandler<byte[], byte[]> redisChannelHandler) {
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+        }
+
+        @Override
+        public void flushCommands() {
+        }
+    }
+}
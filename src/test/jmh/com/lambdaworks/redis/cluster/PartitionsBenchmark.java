@@ -0,0 +1,73 @@
+package com.lambdaworks.redis.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.google.common.collect.Sets;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Benchmark for {@link Partitions}. Test cases:
+ * <ul>
+ * <li>Partition lookup by slot</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class PartitionsBenchmark {
+
+    @Param({ "3", "100" })
+    private int nodes;
+
+    private Partitions partitions;
+    private int slot;
+
+    @Setup
+    public void setup() {
+        partitions = createPartitions(nodes);
+    }
+
+    @Benchmark
+    public RedisClusterNode getPartitionBySlot() {
+        slot = (slot + 1) % SlotHash.SLOT_COUNT;
+        return partitions.getPartitionBySlot(slot);
+    }
+
+    /**
+     * Create {@link Partitions} with {@code nodes} masters and evenly distributed slots.
+     *
+     * @param nodes number of master nodes
+     * @return the partitions
+     */
+    static Partitions createPartitions(int nodes) {
+
+        Partitions partitions = new Partitions();
+        int slotsPerNode = SlotHash.SLOT_COUNT / nodes;
+
+        for (int i = 0; i < nodes; i++) {
+
+            int from = i * slotsPerNode;
+            int to = i == nodes - 1 ? SlotHash.SLOT_COUNT : from + slotsPerNode;
+
+            List<Integer> slots = new ArrayList<>(to - from);
+            for (int slot = from; slot < to; slot++) {
+                slots.add(slot);
+            }
+
+            RedisClusterNode node = new RedisClusterNode();
+            node.setNodeId("node-" + i);
+            node.setUri(RedisURI.create("localhost", 7000 + i));
+            node.setSlots(slots);
+            node.setFlags(Sets.newHashSet(RedisClusterNode.NodeFlag.MASTER));
+            partitions.addPartition(node);
+        }
+
+        partitions.updateCache();
+        return partitions;
+    }
+}
@@ -0,0 +1,171 @@
+package com.lambdaworks.redis.cluster;
+
+import java.net.SocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.google.common.base.Supplier;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.lambdaworks.redis.RedisChannelHandler;
+import com.lambdaworks.redis.RedisChannelWriter;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.ClusterConnectionProvider.Intent;
+import com.lambdaworks.redis.cluster.NodeConnectionTable.ConnectionKey;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.protocol.RedisCommand;
+import com.lambdaworks.redis.resource.ClientResources;
+import com.lambdaworks.redis.resource.DefaultClientResources;
+
+/**
+ * Benchmark for {@link PooledClusterConnectionProvider}. Test cases:
+ * <ul>
+ * <li>Node connection lookup by node id, host and port and slot, uncontended and contended</li>
+ * <li>Node connection lookup through a Guava {@link LoadingCache} keyed by {@link ConnectionKey} for comparison</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class PooledClusterConnectionProviderBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+
+    @Param({ "3", "100" })
+    private int nodes;
+
+    private ClientResources clientResources;
+    private RedisClusterClient redisClusterClient;
+    private PooledClusterConnectionProvider<byte[], byte[]> provider;
+    private LoadingCache<ConnectionKey, StatefulRedisConnection<byte[], byte[]>> loadingCache;
+    private String nodeId;
+    private String host;
+    private int port;
+    private int slot;
+
+    @Setup
+    public void setup() {
+
+        Partitions partitions = PartitionsBenchmark.createPartitions(nodes);
+
+        clientResources = DefaultClientResources.create();
+        redisClusterClient = new StaticClusterClient(clientResources);
+        provider = new PooledClusterConnectionProvider<>(redisClusterClient, new EmptyChannelWriter(), CODEC);
+        provider.setPartitions(partitions);
+
+        loadingCache = CacheBuilder.newBuilder().build(new CacheLoader<ConnectionKey, StatefulRedisConnection<byte[], byte[]>>() {
+            @Override
+            public StatefulRedisConnection<byte[], byte[]> load(ConnectionKey key) {
+                return newConnection();
+            }
+        });
+
+        nodeId = partitions.getPartition(nodes - 1).getNodeId();
+        host = partitions.getPartition(nodes - 1).getUri().getHost();
+        port = partitions.getPartition(nodes - 1).getUri().getPort();
+        slot = partitions.getPartition(nodes - 1).getSlots().get(0);
+
+        provider.getConnection(Intent.WRITE, nodeId);
+        provider.getConnection(Intent.WRITE, host, port);
+        provider.getConnection(Intent.WRITE, slot);
+    }
+
+    @TearDown
+    public void tearDown() {
+        provider.close();
+        redisClusterClient.shutdown(0, 0, TimeUnit.MILLISECONDS);
+        clientResources.shutdown(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    public StatefulRedisConnection<byte[], byte[]> getConnectionByNodeId() {
+        return provider.getConnection(Intent.WRITE, nodeId);
+    }
+
+    @Benchmark
+    public StatefulRedisConnection<byte[], byte[]> getConnectionByHostAndPort() {
+        return provider.getConnection(Intent.WRITE, host, port);
+    }
+
+    @Benchmark
+    public StatefulRedisConnection<byte[], byte[]> getConnectionBySlot() {
+        return provider.getConnection(Intent.WRITE, slot);
+    }
+
+    @Benchmark
+    public StatefulRedisConnection<byte[], byte[]> loadingCacheByNodeId() {
+        return loadingCache.getUnchecked(new ConnectionKey(Intent.WRITE, nodeId));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public StatefulRedisConnection<byte[], byte[]> getConnectionByNodeIdContended() {
+        return provider.getConnection(Intent.WRITE, nodeId);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public StatefulRedisConnection<byte[], byte[]> getConnectionByHostAndPortContended() {
+        return provider.getConnection(Intent.WRITE, host, port);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public StatefulRedisConnection<byte[], byte[]> loadingCacheByNodeIdContended() {
+        return loadingCache.getUnchecked(new ConnectionKey(Intent.WRITE, nodeId));
+    }
+
+    private static StatefulRedisConnection<byte[], byte[]> newConnection() {
+        return new StatefulRedisConnectionImpl<>(new EmptyChannelWriter(), CODEC, 60, TimeUnit.SECONDS);
+    }
+
+    private static class StaticClusterClient extends RedisClusterClient {
+
+        StaticClusterClient(ClientResources clientResources) {
+            super(clientResources, ImmutableList.of(RedisURI.create("localhost", 7000)));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, V> CompletableFuture<StatefulRedisConnection<K, V>> connectToNodeAsync(RedisCodec<K, V> codec, String nodeId,
+                RedisChannelWriter<K, V> clusterWriter, Supplier<SocketAddress> socketAddressSupplier) {
+            return CompletableFuture.completedFuture((StatefulRedisConnection<K, V>) newConnection());
+        }
+    }
+
+    private static class EmptyChannelWriter implements RedisChannelWriter<byte[], byte[]> {
+
+        @Override
+        public <T, C extends RedisCommand<byte[], byte[], T>> C write(C command) {
+            return command;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void setRedisChannelHandler(RedisChannelHandler<byte[], byte[]> redisChannelHandler) {
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+        }
+
+        @Override
+        public void flushCommands() {
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.lambdaworks.redis.cluster;
+
+import java.nio.ByteBuffer;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark for {@link SlotHash}. Test cases:
+ * <ul>
+ * <li>Slot calculation for plain keys</li>
+ * <li>Slot calculation for keys with hash tags</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class SlotHashBenchmark {
+
+    private final static byte[] KEY = "user:1000:profile".getBytes();
+    private final static byte[] TAGGED_KEY = "{user:1000}:profile".getBytes();
+    private final static ByteBuffer KEY_BUFFER = ByteBuffer.wrap(KEY);
+    private final static ByteBuffer TAGGED_KEY_BUFFER = ByteBuffer.wrap(TAGGED_KEY);
+
+    @Benchmark
+    public int getSlot() {
+        return SlotHash.getSlot(KEY);
+    }
+
+    @Benchmark
+    public int getSlotWithHashTag() {
+        return SlotHash.getSlot(TAGGED_KEY);
+    }
+
+    @Benchmark
+    public int getSlotFromByteBuffer() {
+        return SlotHash.getSlot(KEY_BUFFER.duplicate());
+    }
+
+    @Benchmark
+    public int getSlotWithHashTagFromByteBuffer() {
+        return SlotHash.getSlot(TAGGED_KEY_BUFFER.duplicate());
+    }
+}
@@ -0,0 +1,213 @@
+package com.lambdaworks.redis.cluster.models.partitions;
+
+import java.util.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.net.HostAndPort;
+import com.lambdaworks.redis.LettuceStrings;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.SlotHash;
+
+/**
+ * Benchmark for {@link ClusterPartitionParser}. Test cases:
+ * <ul>
+ * <li>Parsing {@code CLUSTER NODES} output using the single-pass parser</li>
+ * <li>Parsing {@code CLUSTER NODES} output using the previous {@link Splitter}-based parser</li>
+ * <li>Converting the equivalent {@code CLUSTER SLOTS} output</li>
+ * </ul>
+ * The fixture consists of masters with fragmented slot ranges and one slave per master.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterPartitionParserBenchmark {
+
+    private static final int SLOTS_PER_RANGE = 4;
+
+    @Param({ "6", "1000" })
+    private int nodes;
+
+    private String clusterNodes;
+    private List<Object> clusterSlots;
+
+    @Setup
+    public void setup() {
+        clusterNodes = createClusterNodes(nodes);
+        clusterSlots = createClusterSlots(nodes);
+    }
+
+    @Benchmark
+    public Partitions parse() {
+        return ClusterPartitionParser.parse(clusterNodes);
+    }
+
+    @Benchmark
+    public Partitions parseWithSplitter() {
+        return SplitterClusterPartitionParser.parse(clusterNodes);
+    }
+
+    @Benchmark
+    public Partitions parseClusterSlots() {
+        return ClusterPartitionParser.parseClusterSlots(clusterSlots);
+    }
+
+    /**
+     * Create {@code CLUSTER SLOTS} output matching {@link #createClusterNodes(int)}.
+     *
+     * @param nodes number of nodes
+     * @return the {@code CLUSTER SLOTS} output
+     */
+    static List<Object> createClusterSlots(int nodes) {
+
+        int masters = nodes / 2;
+        List<Object> result = new ArrayList<>();
+
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot += SLOTS_PER_RANGE) {
+
+            int i = (slot / SLOTS_PER_RANGE) % masters;
+            List<Object> master = Arrays.asList("10.0." + (i / 250) + "." + (i % 250), 7000L, String.format("%040x", i));
+            List<Object> slave = Arrays.asList("10.1." + (i / 250) + "." + (i % 250), 7000L,
+                    String.format("%040x", i + masters));
+
+            result.add(Arrays.asList((long) slot, (long) slot + SLOTS_PER_RANGE - 1, master, slave));
+        }
+
+        return result;
+    }
+
+    /**
+     * Create {@code CLUSTER NODES} output for {@code nodes} nodes. Half of the nodes are masters, slots are assigned to the
+     * masters round-robin in ranges of {@link #SLOTS_PER_RANGE} slots.
+     *
+     * @param nodes number of nodes
+     * @return the {@code CLUSTER NODES} output
+     */
+    static String createClusterNodes(int nodes) {
+
+        int masters = nodes / 2;
+        List<StringBuilder> slots = new ArrayList<>(masters);
+        for (int i = 0; i < masters; i++) {
+            slots.add(new StringBuilder());
+        }
+
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot += SLOTS_PER_RANGE) {
+            StringBuilder builder = slots.get((slot / SLOTS_PER_RANGE) % masters);
+            builder.append(' ').append(slot).append('-').append(slot + SLOTS_PER_RANGE - 1);
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < masters; i++) {
+
+            String masterId = String.format("%040x", i);
+            String slaveId = String.format("%040x", i + masters);
+
+            result.append(masterId).append(" 10.0.").append(i / 250).append('.').append(i % 250).append(":7000@17000 ")
+                    .append(i == 0 ? "myself,master" : "master").append(" - 0 1454482721690 ").append(i + 1)
+                    .append(" connected").append(slots.get(i)).append('\n');
+            result.append(slaveId).append(" 10.1.").append(i / 250).append('.').append(i % 250)
+                    .append(":7000@17000 slave ").append(masterId).append(" 0 1454482721690 ").append(i + 1)
+                    .append(" connected\n");
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * {@link Splitter}-based parser as used before the single-pass parser, retained for comparison.
+     */
+    static class SplitterClusterPartitionParser {
+
+        private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
+
+        static {
+            ImmutableMap.Builder<String, RedisClusterNode.NodeFlag> builder = ImmutableMap.builder();
+
+            builder.put("noflags", RedisClusterNode.NodeFlag.NOFLAGS);
+            builder.put("myself", RedisClusterNode.NodeFlag.MYSELF);
+            builder.put("master", RedisClusterNode.NodeFlag.MASTER);
+            builder.put("slave", RedisClusterNode.NodeFlag.SLAVE);
+            builder.put("fail?", RedisClusterNode.NodeFlag.EVENTUAL_FAIL);
+            builder.put("fail", RedisClusterNode.NodeFlag.FAIL);
+            builder.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
+            builder.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
+            FLAG_MAPPING = builder.build();
+        }
+
+        static Partitions parse(String nodes) {
+
+            Partitions result = new Partitions();
+            List<RedisClusterNode> partitions = new ArrayList<>();
+
+            for (String node : Splitter.on('\n').omitEmptyStrings().split(nodes)) {
+                partitions.add(parseNode(node));
+            }
+
+            result.reload(partitions);
+            return result;
+        }
+
+        private static RedisClusterNode parseNode(String nodeInformation) {
+
+            Iterator<String> iterator = Splitter.on(' ').split(nodeInformation).iterator();
+
+            String nodeId = iterator.next();
+            RedisURI uri = null;
+
+            String hostAndPortPart = iterator.next();
+            if (hostAndPortPart.contains("@")) {
+                hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
+            }
+
+            HostAndPort hostAndPort = HostAndPort.fromString(hostAndPortPart);
+
+            if (LettuceStrings.isNotEmpty(hostAndPort.getHostText())) {
+                uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
+            }
+
+            List<String> flagStrings = Lists.newArrayList(Splitter.on(',').trimResults().split(iterator.next()).iterator());
+            Set<RedisClusterNode.NodeFlag> nodeFlags = Sets.newHashSet();
+            for (String flagString : flagStrings) {
+                if (FLAG_MAPPING.containsKey(flagString)) {
+                    nodeFlags.add(FLAG_MAPPING.get(flagString));
+                }
+            }
+
+            String slaveOfString = iterator.next();
+            String slaveOf = "-".equals(slaveOfString) ? null : slaveOfString;
+
+            long pingSentTs = Long.parseLong(iterator.next());
+            long pongReceivedTs = Long.parseLong(iterator.next());
+            long configEpoch = Long.parseLong(iterator.next());
+            boolean connected = ClusterPartitionParser.CONNECTED.equals(iterator.next());
+
+            List<Integer> slots = Lists.newArrayList();
+            for (String slotString : Lists.newArrayList(iterator)) {
+
+                if (slotString.startsWith("[")) {
+                    continue;
+                }
+
+                if (slotString.contains("-")) {
+                    Iterator<String> it = Splitter.on('-').split(slotString).iterator();
+                    int from = Integer.parseInt(it.next());
+                    int to = Integer.parseInt(it.next());
+
+                    for (int slot = from; slot <= to; slot++) {
+                        slots.add(slot);
+                    }
+                    continue;
+                }
+
+                slots.add(Integer.parseInt(slotString));
+            }
+
+            return new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs, configEpoch,
+                    Collections.unmodifiableList(slots), Collections.unmodifiableSet(nodeFlags));
+        }
+    }
+}
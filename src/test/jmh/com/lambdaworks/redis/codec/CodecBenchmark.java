@@ -0,0 +1,150 @@
+package com.lambdaworks.redis.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for {@link RedisCodec} implementations. Test cases:
+ * <ul>
+ * <li>Encode/decode values using {@link Utf8StringCodec} and {@link ByteArrayCodec}</li>
+ * <li>Encode values directly into a {@link ByteBuf} using {@link ToByteBufEncoder}</li>
+ * <li>Encode/decode values using {@link CompressionCodec} (GZIP, DEFLATE and LZ4)</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    private final static Utf8StringCodec STRING_CODEC = new Utf8StringCodec();
+    private final static ByteArrayCodec BYTE_ARRAY_CODEC = new ByteArrayCodec();
+    private final static RedisCodec<byte[], byte[]> GZIP_CODEC = CompressionCodec.valueCompressor(BYTE_ARRAY_CODEC,
+            CompressionCodec.CompressionType.GZIP);
+    private final static RedisCodec<byte[], byte[]> DEFLATE_CODEC = CompressionCodec.valueCompressor(BYTE_ARRAY_CODEC,
+            CompressionCodec.CompressionType.DEFLATE);
+    private final static RedisCodec<byte[], byte[]> LZ4_CODEC = CompressionCodec.valueCompressor(BYTE_ARRAY_CODEC,
+            CompressionCodec.CompressionType.LZ4);
+
+    @Param({ "16", "1024", "65536" })
+    private int valueSize;
+
+    private String stringValue;
+    private byte[] bytesValue;
+
+    private ByteBuffer encodedString;
+    private ByteBuffer encodedBytes;
+    private ByteBuffer gzipEncoded;
+    private ByteBuffer deflateEncoded;
+    private ByteBuffer lz4Encoded;
+
+    private ByteBuf target;
+
+    @Setup
+    public void setup() {
+
+        char[] chars = new char[valueSize];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + (i % 26));
+        }
+
+        stringValue = new String(chars);
+        bytesValue = stringValue.getBytes();
+
+        encodedString = STRING_CODEC.encodeValue(stringValue);
+        encodedBytes = BYTE_ARRAY_CODEC.encodeValue(bytesValue);
+        gzipEncoded = GZIP_CODEC.encodeValue(bytesValue);
+        deflateEncoded = DEFLATE_CODEC.encodeValue(bytesValue);
+        lz4Encoded = LZ4_CODEC.encodeValue(bytesValue);
+
+        target = PooledByteBufAllocator.DEFAULT.buffer(valueSize * 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        target.release();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeUtf8() {
+        return STRING_CODEC.encodeValue(stringValue);
+    }
+
+    @Benchmark
+    public ByteBuf encodeUtf8ToByteBuf() {
+        target.clear();
+        STRING_CODEC.encodeValue(stringValue, target);
+        return target;
+    }
+
+    @Benchmark
+    public String decodeUtf8() {
+        return STRING_CODEC.decodeValue(encodedString.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeByteArray() {
+        return BYTE_ARRAY_CODEC.encodeValue(bytesValue);
+    }
+
+    @Benchmark
+    public ByteBuf encodeByteArrayToByteBuf() {
+        target.clear();
+        BYTE_ARRAY_CODEC.encodeValue(bytesValue, target);
+        return target;
+    }
+
+    @Benchmark
+    public byte[] decodeByteArray() {
+        return BYTE_ARRAY_CODEC.decodeValue(encodedBytes.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeGzip() {
+        return GZIP_CODEC.encodeValue(bytesValue);
+    }
+
+    @Benchmark
+    public byte[] decodeGzip() {
+        return GZIP_CODEC.decodeValue(gzipEncoded.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeDeflate() {
+        return DEFLATE_CODEC.encodeValue(bytesValue);
+    }
+
+    @Benchmark
+    public byte[] decodeDeflate() {
+        return DEFLATE_CODEC.decodeValue(deflateEncoded.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeLz4() {
+        return LZ4_CODEC.encodeValue(bytesValue);
+    }
+
+    @Benchmark
+    public byte[] decodeLz4() {
+        return LZ4_CODEC.decodeValue(lz4Encoded.duplicate());
+    }
+
+    public static void main(String[] args) {
+
+        CodecBenchmark benchmark = new CodecBenchmark();
+        benchmark.valueSize = 1024;
+        benchmark.setup();
+
+        if (!Arrays.equals(benchmark.decodeGzip(), benchmark.bytesValue)
+                || !Arrays.equals(benchmark.decodeDeflate(), benchmark.bytesValue)
+                || !Arrays.equals(benchmark.decodeLz4(), benchmark.bytesValue)) {
+            throw new IllegalStateException("Compression roundtrip failed");
+        }
+
+        benchmark.tearDown();
+    }
+}
@@ -0,0 +1,57 @@
+package com.lambdaworks.redis.metrics;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.protocol.CommandType;
+
+/**
+ * Benchmark for {@link DefaultCommandLatencyCollector}. Run with {@code -prof gc} to verify that recording through a
+ * {@link CommandLatencyRecorder} does not allocate. Test cases:
+ * <ul>
+ * <li>recording by local/remote address and command type</li>
+ * <li>recording through a cached {@link CommandLatencyRecorder}</li>
+ * <li>recording through a cached {@link CommandLatencyRecorder} from concurrent threads</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class DefaultCommandLatencyCollectorBenchmark {
+
+    private final static SocketAddress LOCAL = new InetSocketAddress("127.0.0.1", 51234);
+    private final static SocketAddress REMOTE = new InetSocketAddress("127.0.0.1", 6379);
+
+    private DefaultCommandLatencyCollector collector;
+    private CommandLatencyRecorder recorder;
+
+    @Setup
+    public void setup() {
+
+        collector = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+        recorder = collector.getRecorder(LOCAL, REMOTE, CommandType.GET);
+    }
+
+    @TearDown
+    public void tearDown() {
+        collector.shutdown();
+    }
+
+    @Benchmark
+    public void recordCommandLatency() {
+        collector.recordCommandLatency(LOCAL, REMOTE, CommandType.GET, 100000, 200000);
+    }
+
+    @Benchmark
+    public void recordWithRecorder() {
+        recorder.recordCommandLatency(100000, 200000);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordWithRecorderContended() {
+        recorder.recordCommandLatency(100000, 200000);
+    }
+}
@@ -0,0 +1,111 @@
+package com.lambdaworks.redis.protocol;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for {@link CommandArgs#encode(ByteBuf)} of wide commands. Test cases:
+ * <ul>
+ * <li>MSET using String and ByteArray codecs</li>
+ * <li>HMSET using String and ByteArray codecs</li>
+ * <li>ZADD using String and ByteArray codecs</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandArgsBenchmark {
+
+    private final static ByteArrayCodec BYTE_ARRAY_CODEC = new ByteArrayCodec();
+    private final static Utf8StringCodec STRING_CODEC = new Utf8StringCodec();
+
+    @Param({ "10", "100", "1000" })
+    private int width;
+
+    private CommandArgs<String, String> stringMset;
+    private CommandArgs<byte[], byte[]> bytesMset;
+    private CommandArgs<String, String> stringHmset;
+    private CommandArgs<byte[], byte[]> bytesHmset;
+    private CommandArgs<String, String> stringZadd;
+    private CommandArgs<byte[], byte[]> bytesZadd;
+
+    private ByteBuf target;
+
+    @Setup
+    public void setup() {
+
+        Map<String, String> stringMap = new LinkedHashMap<>();
+        Map<byte[], byte[]> bytesMap = new LinkedHashMap<>();
+
+        stringZadd = new CommandArgs<>(STRING_CODEC).addKey("zset");
+        bytesZadd = new CommandArgs<>(BYTE_ARRAY_CODEC).addKey("zset".getBytes());
+
+        for (int i = 0; i < width; i++) {
+
+            String key = "key-" + i;
+            String value = "value-" + i;
+
+            stringMap.put(key, value);
+            bytesMap.put(key.getBytes(), value.getBytes());
+
+            stringZadd.add(i).addValue(value);
+            bytesZadd.add(i).addValue(value.getBytes());
+        }
+
+        stringMset = new CommandArgs<>(STRING_CODEC).add(stringMap);
+        bytesMset = new CommandArgs<>(BYTE_ARRAY_CODEC).add(bytesMap);
+        stringHmset = new CommandArgs<>(STRING_CODEC).addKey("hash").add(stringMap);
+        bytesHmset = new CommandArgs<>(BYTE_ARRAY_CODEC).addKey("hash".getBytes()).add(bytesMap);
+
+        target = PooledByteBufAllocator.DEFAULT.buffer(stringHmset.estimateSize());
+    }
+
+    @TearDown
+    public void tearDown() {
+        target.release();
+    }
+
+    @Benchmark
+    public ByteBuf encodeMsetUsingStringCodec() {
+        return encode(stringMset);
+    }
+
+    @Benchmark
+    public ByteBuf encodeMsetUsingByteArrayCodec() {
+        return encode(bytesMset);
+    }
+
+    @Benchmark
+    public ByteBuf encodeHmsetUsingStringCodec() {
+        return encode(stringHmset);
+    }
+
+    @Benchmark
+    public ByteBuf encodeHmsetUsingByteArrayCodec() {
+        return encode(bytesHmset);
+    }
+
+    @Benchmark
+    public ByteBuf encodeZaddUsingStringCodec() {
+        return encode(stringZadd);
+    }
+
+    @Benchmark
+    public ByteBuf encodeZaddUsingByteArrayCodec() {
+        return encode(bytesZadd);
+    }
+
+    private ByteBuf encode(CommandArgs<?, ?> args) {
+        target.clear();
+        args.encode(target);
+        return target;
+    }
+}
@@ -0,0 +1,75 @@
+package com.lambdaworks.redis.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for {@link CommandEncoder}. Test cases:
+ * <ul>
+ * <li>Encode a single command</li>
+ * <li>Encode a batch ({@link java.util.Collection}) of commands</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandEncoderBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+    private final static EmptyContext CHANNEL_HANDLER_CONTEXT = new EmptyContext();
+    private final static byte[] KEY = "key".getBytes();
+    private final static byte[] VALUE = "value".getBytes();
+
+    @Param({ "1", "10", "100" })
+    private int batchSize;
+
+    private final CommandEncoder commandEncoder = new CommandEncoder();
+
+    private Command<byte[], byte[], String> command;
+    private List<Command<byte[], byte[], String>> batch;
+    private ByteBuf target;
+
+    @Setup
+    public void setup() {
+
+        command = createCommand();
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(createCommand());
+        }
+
+        target = PooledByteBufAllocator.DEFAULT.buffer(64 * batchSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        target.release();
+    }
+
+    @Benchmark
+    public ByteBuf encodeCommand() throws Exception {
+        target.clear();
+        commandEncoder.encode(CHANNEL_HANDLER_CONTEXT, command, target);
+        return target;
+    }
+
+    @Benchmark
+    public ByteBuf encodeBatch() throws Exception {
+        target.clear();
+        commandEncoder.encode(CHANNEL_HANDLER_CONTEXT, batch, target);
+        return target;
+    }
+
+    private static Command<byte[], byte[], String> createCommand() {
+        return new Command<>(CommandType.SET, new StatusOutput<>(CODEC),
+                new CommandArgs<>(CODEC).addKey(KEY).addValue(VALUE));
+    }
+}
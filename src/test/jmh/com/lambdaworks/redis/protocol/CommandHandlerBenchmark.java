@@ -10,13 +10,16 @@ import com.lambdaworks.redis.output.ValueOutput;
 
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.local.LocalEventLoopGroup;
 
 /**
  * Benchmark for {@link Command}. Test cases:
  * <ul>
  * <li>user command writes</li>
  * <li>netty (in-eventloop) writes</li>
+ * <li>user command writes from concurrent threads sharing one connection</li>
  * </ul>
  * 
  * @author Mark Paluch
@@ -29,6 +32,13 @@ public class CommandHandlerBenchmark {
     private final static EmptyContext CHANNEL_HANDLER_CONTEXT = new EmptyContext();
     private final static byte[] KEY = "key".getBytes();
     private final static ChannelFuture EMPTY = new EmptyFuture();
+    private final static Runnable NOOP = new Runnable() {
+        @Override
+        public void run() {
+        }
+    };
+
+    private LocalEventLoopGroup eventLoopGroup;
 
     private CommandHandler commandHandler;
     private Command command;
@@ -41,7 +51,13 @@ public class CommandHandlerBenchmark {
 
         commandHandler.setState(CommandHandler.LifecycleState.CONNECTED);
 
-        commandHandler.channel = new MyLocalChannel();
+        eventLoopGroup = new LocalEventLoopGroup(1);
+        commandHandler.channel = new MyLocalChannel(eventLoopGroup.next());
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        eventLoopGroup.shutdownGracefully();
     }
 
     @TearDown(Level.Iteration)
@@ -59,7 +75,30 @@ public class CommandHandlerBenchmark {
         commandHandler.write(CHANNEL_HANDLER_CONTEXT, command, null);
     }
 
+    @Benchmark
+    @Threads(16)
+    public void measureContendedUserWrite() {
+        commandHandler.write(command);
+    }
+
+    /**
+     * Channel that hands writes issued outside of the event loop over to the event loop like a regular channel but discards the
+     * written commands.
+     */
     private final static class MyLocalChannel extends EmbeddedChannel {
+
+        private final EventLoop eventLoop;
+
+        public MyLocalChannel(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public EventLoop eventLoop() {
+            // called during registration by the super constructor
+            return eventLoop != null ? eventLoop : super.eventLoop();
+        }
+
         @Override
         public boolean isActive() {
             return true;
@@ -82,6 +121,9 @@ public class CommandHandlerBenchmark {
 
         @Override
         public ChannelFuture writeAndFlush(Object msg) {
+            if (!eventLoop.inEventLoop()) {
+                eventLoop.execute(NOOP);
+            }
             return EMPTY;
         }
 
@@ -4,8 +4,10 @@ import com.lambdaworks.redis.event.DefaultEventPublisherOptions;
 import com.lambdaworks.redis.event.EventBus;
 import com.lambdaworks.redis.event.EventPublisherOptions;
 import com.lambdaworks.redis.metrics.CommandLatencyCollector;
+import com.lambdaworks.redis.metrics.ConnectionMetricsCollector;
 import com.lambdaworks.redis.resource.ClientResources;
 import com.lambdaworks.redis.resource.EventLoopGroupProvider;
+import io.netty.util.Timer;
 import io.netty.util.concurrent.*;
 
 import java.util.concurrent.CompletableFuture;
@@ -63,4 +65,19 @@ public class EmptyClientResources implements ClientResources {
     public CommandLatencyCollector commandLatencyCollector() {
         return null;
     }
+
+    @Override
+    public EventPublisherOptions connectionMetricsPublisherOptions() {
+        return PUBLISHER_OPTIONS;
+    }
+
+    @Override
+    public ConnectionMetricsCollector connectionMetricsCollector() {
+        return null;
+    }
+
+    @Override
+    public Timer timer() {
+        return null;
+    }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
@@ -22,6 +23,11 @@ public class JmhMain {
         // runCommandBenchmark();
         // runCommandHandlerBenchmark();
         runRedisStateMachineBenchmark();
+        // runCodecBenchmark();
+        // runCommandArgsBenchmark();
+        // runCommandEncoderBenchmark();
+        // runClusterBenchmarks();
+        // runCommandLatencyCollectorBenchmark();
 
         // or all
         //runBenchmarks();
@@ -67,6 +73,30 @@ public class JmhMain {
         // Runner(prepareOptions().mode(Mode.Throughput).timeUnit(TimeUnit.SECONDS).include(".*CommandHandlerBenchmark.*").build()).run();
     }
 
+    private static void runCodecBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*CodecBenchmark.*")
+                .build()).run();
+    }
+
+    private static void runCommandArgsBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*CommandArgsBenchmark.*")
+                .build()).run();
+    }
+
+    private static void runClusterBenchmarks() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS).include(".*SlotHashBenchmark.*")
+                .include(".*PartitionsBenchmark.*").include(".*ClusterDistributionChannelWriterBenchmark.*").build()).run();
+    }
+
+    private static void runCommandLatencyCollectorBenchmark() throws RunnerException {
+
+        new Runner(prepareOptions().mode(Mode.AverageTime).timeUnit(TimeUnit.NANOSECONDS)
+                .include(".*DefaultCommandLatencyCollectorBenchmark.*").addProfiler(GCProfiler.class).build()).run();
+    }
+
     private static ChainedOptionsBuilder prepareOptions() {
         return new OptionsBuilder().forks(1).warmupIterations(5).threads(1).measurementIterations(5)
                 .timeout(TimeValue.seconds(2));